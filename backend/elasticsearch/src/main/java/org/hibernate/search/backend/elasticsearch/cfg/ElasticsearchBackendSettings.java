@@ -11,6 +11,7 @@
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.analysis.ElasticsearchAnalysisConfigurer;
+import org.hibernate.search.backend.elasticsearch.client.CompressionName;
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.mapping.TypeNameMappingStrategyName;
 import org.hibernate.search.backend.elasticsearch.multitenancy.MultiTenancyStrategyName;
@@ -148,6 +149,21 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_CONNECTIONS_PER_ROUTE = "max_connections_per_route";
 
+	/**
+	 * The compression to apply to HTTP traffic between Hibernate Search and the Elasticsearch cluster.
+	 * <p>
+	 * When enabled, request bodies are compressed on the fly as they are serialized,
+	 * and the Elasticsearch cluster is asked to compress response bodies
+	 * (which requires {@code http.compression} to be enabled on the cluster, which is the default).
+	 * This trades CPU time for network bandwidth, which mostly helps with large bulk requests
+	 * (e.g. during mass indexing) when the network between the application and the cluster is the bottleneck.
+	 * <p>
+	 * Expects a {@link CompressionName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION}.
+	 */
+	public static final String COMPRESSION = "compression";
+
 	/**
 	 * Whether automatic discovery of nodes in the Elasticsearch cluster is enabled.
 	 * <p>
@@ -178,6 +194,20 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String LOG_JSON_PRETTY_PRINTING = "log.json_pretty_printing";
 
+	/**
+	 * How long Elasticsearch should keep the context of a scroll alive between two chunks,
+	 * when scrolling through query results.
+	 * <p>
+	 * If the next chunk is not requested within this time interval,
+	 * the scroll will expire and requesting the next chunk will fail.
+	 * <p>
+	 * Expects a strictly positive Integer value in seconds, such as {@code 60},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SCROLL_TIMEOUT}.
+	 */
+	public static final String SCROLL_TIMEOUT = "scroll_timeout";
+
 	/**
 	 * The multi-tenancy strategy to use.
 	 * <p>
@@ -226,6 +256,95 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String LAYOUT_STRATEGY = "layout.strategy";
 
+	/**
+	 * The size of indexing queues,
+	 * i.e. the maximum number of worksets that can wait to be sent to Elasticsearch
+	 * before threads submitting new worksets get blocked.
+	 * <p>
+	 * Applies to the backend-wide queue used by the mass indexer and search queries,
+	 * as well as to each per-index queue used by automatic indexing.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 5000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the maximum batch size (see {@link #INDEXING_MAX_BATCH_SIZE}).
+	 */
+	public static final String INDEXING_QUEUE_SIZE = "indexing.queue_size";
+
+	/**
+	 * The minimum size of indexing batches,
+	 * i.e. the lowest maximum number of worksets processed by the background thread
+	 * before it waits for all the corresponding requests to complete.
+	 * <p>
+	 * When lower than {@link #INDEXING_MAX_BATCH_SIZE the maximum batch size},
+	 * the actual maximum batch size will adapt to the load:
+	 * it will grow towards {@link #INDEXING_MAX_BATCH_SIZE the maximum batch size} when worksets pile up in the queue,
+	 * and will shrink towards this minimum when the queue is easily drained.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the maximum batch size (see {@link #INDEXING_MAX_BATCH_SIZE}),
+	 * i.e. batch sizes do not adapt to the load by default.
+	 */
+	public static final String INDEXING_MIN_BATCH_SIZE = "indexing.min_batch_size";
+
+	/**
+	 * The maximum size of indexing batches,
+	 * i.e. the maximum number of worksets processed by the background thread
+	 * before it waits for all the corresponding requests to complete.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 5000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to 5000 for the backend-wide queue used by the mass indexer and search queries,
+	 * and to 2500 for each per-index queue used by automatic indexing.
+	 */
+	public static final String INDEXING_MAX_BATCH_SIZE = "indexing.max_batch_size";
+
+	/**
+	 * The maximum number of works in a single bulk request sent to Elasticsearch.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 250},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_SIZE}.
+	 */
+	public static final String INDEXING_MAX_BULK_SIZE = "indexing.max_bulk_size";
+
+	/**
+	 * The maximum size of a single bulk request sent to Elasticsearch, in bytes.
+	 * <p>
+	 * The size of each work is estimated from its JSON representation.
+	 * A bulk is sent as soon as adding another work would exceed this size,
+	 * even if it contains fewer works than {@link #INDEXING_MAX_BULK_SIZE the maximum number of works}.
+	 * A single work larger than this size will still be sent, alone in its bulk.
+	 * <p>
+	 * Expects a strictly positive Long value, such as {@code 10485760},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_BYTES}.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = "indexing.max_bulk_bytes";
+
+	/**
+	 * The maximum number of searches in a single multi-search request sent to Elasticsearch.
+	 * <p>
+	 * Searches submitted concurrently are processed in batches by the backend-wide queue
+	 * (see {@link #INDEXING_MAX_BATCH_SIZE}).
+	 * When this is higher than 1, searches processed in the same batch will be grouped
+	 * into a single request using the Multi Search API,
+	 * which reduces the number of HTTP round-trips under heavy query load.
+	 * Scrolls and searches with a timeout that raises an exception are always sent on their own.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_MAX_MULTI_SEARCH_SIZE},
+	 * i.e. each search is sent in its own request by default.
+	 */
+	public static final String QUERY_MAX_MULTI_SEARCH_SIZE = "query.max_multi_search_size";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -241,11 +360,16 @@ private Defaults() {
 		public static final int CONNECTION_TIMEOUT = 3000;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+		public static final CompressionName COMPRESSION = CompressionName.NONE;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
+		public static final int SCROLL_TIMEOUT = 60;
 		public static final boolean VERSION_CHECK_ENABLED = true;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
 		public static final TypeNameMappingStrategyName MAPPING_TYPE_NAME_STRATEGY = TypeNameMappingStrategyName.DISCRIMINATOR;
+		public static final int INDEXING_MAX_BULK_SIZE = 250;
+		public static final long INDEXING_MAX_BULK_BYTES = 10L * 1024 * 1024;
+		public static final int QUERY_MAX_MULTI_SEARCH_SIZE = 1;
 	}
 }
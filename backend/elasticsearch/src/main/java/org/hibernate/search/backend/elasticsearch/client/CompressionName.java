@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum CompressionName {
+
+	/**
+	 * No compression: request bodies are sent as-is,
+	 * and compressed responses are not requested.
+	 */
+	NONE("none"),
+
+	/**
+	 * Request bodies are compressed using gzip,
+	 * and compressed responses are requested.
+	 */
+	GZIP("gzip"),
+
+	/**
+	 * Request bodies are compressed using deflate (zlib format),
+	 * and compressed responses are requested.
+	 */
+	DEFLATE("deflate");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static CompressionName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				CompressionName.values(),
+				CompressionName::getExternalRepresentation,
+				log::invalidCompressionName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	CompressionName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -0,0 +1,417 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+import org.apache.http.protocol.HTTP;
+
+import org.hibernate.search.backend.elasticsearch.client.CompressionName;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Contracts;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * A variant of {@link GsonHttpEntity} that compresses the JSON content on the fly.
+ * <p>
+ * Just like {@link GsonHttpEntity}, the JSON objects are serialized lazily,
+ * one body part at a time, as the HTTP client's output buffers accept more data:
+ * each body part is serialized into a compressing stream,
+ * whose output is accumulated into small buffer pages
+ * which are then written to the HTTP client's buffers.
+ * When flow control pushes back, we simply stop serializing
+ * and keep the pending pages until we're called again.
+ * <p>
+ * Since the compressor holds onto data until it has enough to produce
+ * a compressed block, the compressed size is only known
+ * when all body parts have been serialized.
+ * Thus, similarly to {@link GsonHttpEntity}, we attempt to compress
+ * small content entirely upfront so that we can report the content length
+ * and avoid chunked encoding; larger content will use chunked encoding.
+ */
+final class CompressedGsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
+
+	private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
+
+	/**
+	 * The size of byte buffer pages holding compressed content.
+	 * Same as in {@link GsonHttpEntity}.
+	 */
+	private static final int BYTE_BUFFER_PAGE_SIZE = 1024;
+
+	/**
+	 * The maximum size of uncompressed content we attempt to compress upfront
+	 * in order to report the content length.
+	 * Compressors typically need a few kilobytes of input before they output anything,
+	 * so this is higher than the page size.
+	 */
+	private static final int ONE_PASS_ENCODING_MAX_UNCOMPRESSED_SIZE = 8 * BYTE_BUFFER_PAGE_SIZE;
+
+	private final Gson gson;
+	private final List<JsonObject> bodyParts;
+	private final CompressionName compression;
+	private final Header contentEncoding;
+
+	/**
+	 * See {@link GsonHttpEntity}.
+	 */
+	private long contentLength;
+
+	/**
+	 * See {@link GsonHttpEntity}.
+	 */
+	private boolean contentlengthWasProvided = false;
+
+	/**
+	 * The next body part to serialize.
+	 * Reset when the content has been fully produced, so that the content is repeatable.
+	 */
+	private int nextBodyToEncodeIndex = 0;
+
+	/**
+	 * The compressed content that was not written to the output yet.
+	 */
+	private PagedByteOutputStream pendingPages;
+
+	/**
+	 * Lazily initialized, since we may never need it
+	 * if the entity is never produced again after it's completed.
+	 */
+	private CountingOutputStream uncompressedCountingStream;
+	private Writer writer;
+
+	private boolean compressionFinished = false;
+
+	public CompressedGsonHttpEntity(Gson gson, List<JsonObject> bodyParts, CompressionName compression)
+			throws IOException {
+		Contracts.assertNotNull( gson, "gson" );
+		Contracts.assertNotNull( bodyParts, "bodyParts" );
+		Contracts.assertNotNull( compression, "compression" );
+		this.gson = gson;
+		this.bodyParts = bodyParts;
+		this.compression = compression;
+		this.contentEncoding = new BasicHeader( HTTP.CONTENT_ENCODING, compression.getExternalRepresentation() );
+		this.contentLength = -1;
+		this.pendingPages = new PagedByteOutputStream( BYTE_BUFFER_PAGE_SIZE );
+		attemptOnePassEncoding();
+	}
+
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	@Override
+	public boolean isChunked() {
+		return false;
+	}
+
+	@Override
+	public long getContentLength() {
+		this.contentlengthWasProvided = true;
+		return this.contentLength;
+	}
+
+	@Override
+	public Header getContentType() {
+		return CONTENT_TYPE;
+	}
+
+	@Override
+	public Header getContentEncoding() {
+		return contentEncoding;
+	}
+
+	@Override
+	public InputStream getContent() {
+		//Same as GsonHttpEntity: we expect content to be produced only through produceContent() or writeTo().
+		throw new UnsupportedOperationException( "Not implemented! Expected to produce content only over produceContent(),"
+				+ " or writeTo(OutputStream) if blocking calls are acceptable for your use case." );
+	}
+
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		/*
+		 * For this method we use no pagination, so ignore the mutable fields.
+		 *
+		 * Note we close the writer in order to finish compression and release the compressor,
+		 * but the stream passed as a parameter is protected from closing.
+		 */
+		CountingOutputStream countingStream = new CountingOutputStream( out );
+		try ( Writer writer = new OutputStreamWriter(
+				createCompressingStream( new NonClosingOutputStream( countingStream ) ), CHARSET ) ) {
+			for ( JsonObject bodyPart : bodyParts ) {
+				gson.toJson( bodyPart, writer );
+				writer.append( '\n' );
+			}
+		}
+		//Now we finally know the content size in bytes:
+		hintContentLength( countingStream.getBytesWritten() );
+	}
+
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+
+	@Override
+	public void consumeContent() {
+		//not used (and deprecated)
+	}
+
+	@Override
+	public void close() throws IOException {
+		//Re-wind the stream so that we can start from the beginning if needed
+		reset();
+	}
+
+	@Override
+	public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
+		Contracts.assertNotNull( encoder, "encoder" );
+		// Warning: this method is possibly invoked multiple times, depending on the output buffers
+		// to have available space !
+		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
+
+		//First write unfinished business from previous attempts
+		if ( !pendingPages.writeTo( encoder ) ) {
+			//Flow control is pushing back: return control to the caller and trust we'll be called again.
+			return;
+		}
+
+		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
+			encodeNextBodyPart();
+			if ( !pendingPages.writeTo( encoder ) ) {
+				//Flow control is pushing back: return control to the caller and trust we'll be called again.
+				return;
+			}
+		}
+
+		if ( !compressionFinished ) {
+			finishCompression();
+			if ( !pendingPages.writeTo( encoder ) ) {
+				//Flow control is pushing back: return control to the caller and trust we'll be called again.
+				return;
+			}
+		}
+
+		// If we haven't aborted yet, we finished!
+		encoder.complete();
+
+		//Allow to repeat the content rendering from the beginning:
+		reset();
+	}
+
+	/**
+	 * Attempt to fully compress small content upfront,
+	 * so that we can hint the client about the {@link #getContentLength()}.
+	 * See {@link GsonHttpEntity}.
+	 *
+	 * @throws IOException This is unlikely to be caused by a real IO operation as there's no output yet,
+	 * but it could also be triggered by the UTF8 encoding operations.
+	 */
+	private void attemptOnePassEncoding() throws IOException {
+		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
+			encodeNextBodyPart();
+			if ( uncompressedCountingStream.getBytesWritten() > ONE_PASS_ENCODING_MAX_UNCOMPRESSED_SIZE ) {
+				// Too large: we'll stream the rest of the content.
+				return;
+			}
+		}
+		finishCompression();
+		// The pending pages hold the full content, as we know the entire content has been compressed already,
+		// and we also know no content was consumed from the pages yet.
+		hintContentLength( pendingPages.size() );
+	}
+
+	private void encodeNextBodyPart() throws IOException {
+		if ( writer == null ) {
+			uncompressedCountingStream = new CountingOutputStream( createCompressingStream( pendingPages ) );
+			writer = new OutputStreamWriter( uncompressedCountingStream, CHARSET );
+		}
+		JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
+		gson.toJson( bodyPart, writer );
+		writer.append( '\n' );
+		// Push the encoded chars to the compressor; it will output compressed bytes when it sees fit.
+		writer.flush();
+	}
+
+	private void finishCompression() throws IOException {
+		// Closing the writer finishes compression, writes trailers to the pending pages
+		// and releases the native resources held by the compressor.
+		writer.close();
+		writer = null;
+		uncompressedCountingStream = null;
+		compressionFinished = true;
+	}
+
+	private void reset() throws IOException {
+		this.nextBodyToEncodeIndex = 0;
+		if ( writer != null ) {
+			// Release the compressor
+			writer.close();
+			writer = null;
+			uncompressedCountingStream = null;
+		}
+		this.compressionFinished = false;
+		//Discard previous buffers as they might contain in-process content:
+		this.pendingPages = new PagedByteOutputStream( BYTE_BUFFER_PAGE_SIZE );
+	}
+
+	private DeflaterOutputStream createCompressingStream(OutputStream out) throws IOException {
+		// Only use constructors that create their own Deflater,
+		// so that the Deflater is released when the stream is closed.
+		switch ( compression ) {
+			case GZIP:
+				return new GZIPOutputStream( out, BYTE_BUFFER_PAGE_SIZE );
+			case DEFLATE:
+				return new DeflaterOutputStream( out );
+			default:
+				throw new AssertionFailure( "Unexpected compression: " + compression );
+		}
+	}
+
+	private void hintContentLength(long contentLength) {
+		if ( !contentlengthWasProvided ) {
+			this.contentLength = contentLength;
+		}
+	}
+
+	/**
+	 * An output stream accumulating content into buffer pages,
+	 * to be written to a {@link ContentEncoder} later.
+	 */
+	private static final class PagedByteOutputStream extends OutputStream {
+
+		private final int pageSize;
+
+		/**
+		 * Filled buffer pages to be written, in write order, already flipped.
+		 */
+		private final Deque<ByteBuffer> needWritingPages = new ArrayDeque<>( 5 );
+
+		/**
+		 * Current buffer page, potentially null,
+		 * which may have some content but isn't full yet.
+		 */
+		private ByteBuffer currentPage;
+
+		private PagedByteOutputStream(int pageSize) {
+			this.pageSize = pageSize;
+		}
+
+		@Override
+		public void write(int b) {
+			currentPage().put( (byte) b );
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			while ( len > 0 ) {
+				ByteBuffer page = currentPage();
+				int toWrite = Math.min( len, page.remaining() );
+				page.put( b, off, toWrite );
+				off += toWrite;
+				len -= toWrite;
+			}
+		}
+
+		/**
+		 * @return The size of content stored in the pages, in bytes.
+		 */
+		int size() {
+			int size = 0;
+			for ( ByteBuffer page : needWritingPages ) {
+				size += page.remaining();
+			}
+			if ( currentPage != null ) {
+				size += currentPage.position();
+			}
+			return size;
+		}
+
+		/**
+		 * Write all pages to the given encoder, even those that are not full yet.
+		 *
+		 * @param encoder The encoder to write to.
+		 * @return {@code true} if all pages were written,
+		 * {@code false} if flow control pushed back, in which case this method should be called again later.
+		 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+		 */
+		boolean writeTo(ContentEncoder encoder) throws IOException {
+			if ( currentPage != null && currentPage.position() > 0 ) {
+				currentPage.flip();
+				needWritingPages.add( currentPage );
+				currentPage = null;
+			}
+			while ( !needWritingPages.isEmpty() ) {
+				ByteBuffer page = needWritingPages.peek();
+				// We should never do 0-length writes, see HSEARCH-2854
+				if ( page.hasRemaining() ) {
+					encoder.write( page );
+				}
+				if ( page.hasRemaining() ) {
+					return false;
+				}
+				needWritingPages.remove();
+			}
+			return true;
+		}
+
+		private ByteBuffer currentPage() {
+			if ( currentPage != null && !currentPage.hasRemaining() ) {
+				currentPage.flip();
+				needWritingPages.add( currentPage );
+				currentPage = null;
+			}
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			return currentPage;
+		}
+	}
+
+	private static final class NonClosingOutputStream extends FilterOutputStream {
+		private NonClosingOutputStream(OutputStream out) {
+			super( out );
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write( b, off, len );
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	}
+
+}
@@ -12,6 +12,7 @@
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.client.CompressionName;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchHttpClientConfigurer;
@@ -106,6 +107,12 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.MAX_CONNECTIONS_PER_ROUTE )
 					.build();
 
+	private static final ConfigurationProperty<CompressionName> COMPRESSION =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION )
+					.as( CompressionName.class, CompressionName::of )
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION )
+					.build();
+
 	private static final ConfigurationProperty<Boolean> DISCOVERY_ENABLED =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.DISCOVERY_ENABLED )
 					.asBoolean()
@@ -136,6 +143,7 @@ public ElasticsearchClientImplementor create(ConfigurationPropertySource propert
 		return new ElasticsearchClientImpl(
 				restClient, sniffer, threadPoolProvider,
 				requestTimeoutMs, TimeUnit.MILLISECONDS,
+				COMPRESSION.get( propertySource ),
 				gsonProvider.getGson(), gsonProvider.getLogHelper()
 		);
 	}
@@ -21,14 +21,19 @@
 import java.util.concurrent.TimeUnit;
 
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.entity.DeflateDecompressingEntity;
+import org.apache.http.client.entity.GzipDecompressingEntity;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.sniff.Sniffer;
 
+import org.hibernate.search.backend.elasticsearch.client.CompressionName;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
@@ -50,6 +55,9 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private static final Log requestLog = LoggerFactory.make( Log.class, ElasticsearchLogCategories.REQUEST );
 
+	private static final String ACCEPT_ENCODING_COMPRESSED = CompressionName.GZIP.getExternalRepresentation()
+			+ ", " + CompressionName.DEFLATE.getExternalRepresentation();
+
 	private final RestClient restClient;
 
 	private final Sniffer sniffer;
@@ -59,18 +67,24 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	private final int globalTimeoutValue;
 	private final TimeUnit globalTimeoutUnit;
 
+	private final CompressionName compression;
+	private final RequestOptions requestOptions;
+
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
 	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			ThreadPoolProvider threadPoolProvider,
 			int globalTimeoutValue, TimeUnit globalTimeoutUnit,
+			CompressionName compression,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = threadPoolProvider.getSharedScheduledThreadPool();
 		this.globalTimeoutValue = globalTimeoutValue;
 		this.globalTimeoutUnit = globalTimeoutUnit;
+		this.compression = compression;
+		this.requestOptions = createRequestOptions( compression );
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
@@ -100,7 +114,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, compression );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -158,8 +172,19 @@ public void onFailure(Exception exception) {
 		return completableFuture;
 	}
 
-	private static Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
+	private static RequestOptions createRequestOptions(CompressionName compression) {
+		if ( CompressionName.NONE.equals( compression ) ) {
+			return RequestOptions.DEFAULT;
+		}
+		// Ask for compressed responses; see parseBody() for decompression.
+		return RequestOptions.DEFAULT.toBuilder()
+				.addHeader( HttpHeaders.ACCEPT_ENCODING, ACCEPT_ENCODING_COMPRESSED )
+				.build();
+	}
+
+	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.getMethod(), elasticsearchRequest.getPath() );
+		request.setOptions( requestOptions );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.getParameters().entrySet() ) {
 			request.addParameter( parameter.getKey(), parameter.getValue() );
@@ -187,11 +212,12 @@ private ElasticsearchResponse convertResponse(Response response) {
 	}
 
 	private JsonObject parseBody(Response response) throws IOException {
-		HttpEntity entity = response.getEntity();
+		HttpEntity entity = decompress( response.getEntity() );
 		if ( entity == null ) {
 			return null;
 		}
 
+		// Parse straight from the (decompressed) stream, without buffering the body first
 		Charset charset = getCharset( entity );
 		try ( InputStream inputStream = entity.getContent();
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
@@ -199,6 +225,26 @@ private JsonObject parseBody(Response response) throws IOException {
 		}
 	}
 
+	private static HttpEntity decompress(HttpEntity entity) {
+		/*
+		 * The RestClient does not decompress responses,
+		 * so we need to do it ourselves when we asked for compressed responses.
+		 */
+		if ( entity == null || entity.getContentEncoding() == null ) {
+			return entity;
+		}
+		String contentEncoding = entity.getContentEncoding().getValue();
+		if ( CompressionName.GZIP.getExternalRepresentation().equalsIgnoreCase( contentEncoding ) ) {
+			return new GzipDecompressingEntity( entity );
+		}
+		else if ( CompressionName.DEFLATE.getExternalRepresentation().equalsIgnoreCase( contentEncoding ) ) {
+			return new DeflateDecompressingEntity( entity );
+		}
+		else {
+			return entity;
+		}
+	}
+
 	private static Charset getCharset(HttpEntity entity) {
 		ContentType contentType = ContentType.get( entity );
 		Charset charset = contentType.getCharset();
@@ -11,6 +11,7 @@
 import java.util.List;
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
+import org.hibernate.search.backend.elasticsearch.client.CompressionName;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
@@ -40,12 +41,18 @@ public static boolean isSuccessCode(int code) {
 		return 200 <= code && code < 300;
 	}
 
-	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, CompressionName compression)
+			throws IOException {
 		final List<JsonObject> bodyParts = request.getBodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		if ( CompressionName.NONE.equals( compression ) ) {
+			return new GsonHttpEntity( gson, bodyParts );
+		}
+		else {
+			return new CompressedGsonHttpEntity( gson, bodyParts, compression );
+		}
 	}
 
 	public static ElasticsearchVersion getElasticsearchVersion(ElasticsearchClient client) {
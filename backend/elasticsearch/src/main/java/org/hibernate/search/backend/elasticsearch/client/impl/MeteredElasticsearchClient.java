@@ -0,0 +1,75 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+
+/**
+ * A client decorator recording the latency of requests, whatever their outcome,
+ * and the number of requests that failed without a response (timeouts, connection failures, ...).
+ * <p>
+ * Requests that got an error response (4xx, 5xx) are not counted as failures here:
+ * whether they are failures or not depends on the work that sent them.
+ */
+public class MeteredElasticsearchClient implements ElasticsearchClientImplementor {
+
+	private static final String PREFIX = "hibernate.search.elasticsearch.";
+
+	public static final String REQUEST_DURATION = PREFIX + "request.duration";
+	public static final String REQUEST_FAILURES = PREFIX + "request.failures";
+
+	public static ElasticsearchClientImplementor create(ElasticsearchClientImplementor delegate,
+			MetricsProvider metricsProvider, String backendName) {
+		Map<String, String> tags = Collections.singletonMap( "backend", backendName );
+		return new MeteredElasticsearchClient( delegate,
+				metricsProvider.timer( REQUEST_DURATION, tags ),
+				metricsProvider.counter( REQUEST_FAILURES, tags ) );
+	}
+
+	private final ElasticsearchClientImplementor delegate;
+	private final Timer requestTimer;
+	private final Counter failureCounter;
+
+	private MeteredElasticsearchClient(ElasticsearchClientImplementor delegate,
+			Timer requestTimer, Counter failureCounter) {
+		this.delegate = delegate;
+		this.requestTimer = requestTimer;
+		this.failureCounter = failureCounter;
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		long startTime = System.nanoTime();
+		return delegate.submit( request ).whenComplete( (response, throwable) -> {
+			requestTimer.record( System.nanoTime() - startTime );
+			if ( throwable != null ) {
+				failureCounter.increment();
+			}
+		} );
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> clientClass) {
+		return delegate.unwrap( clientClass );
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Estimates the size of the compact, UTF-8 encoded JSON representation of a {@link JsonElement}
+ * without actually serializing it.
+ * <p>
+ * The estimate is exact for most documents;
+ * it may be off by a few bytes per string for strings containing characters that Gson escapes.
+ */
+public final class JsonSizeEstimator {
+
+	private static final int NULL_SIZE = "null".length();
+	private static final int TRUE_SIZE = "true".length();
+	private static final int FALSE_SIZE = "false".length();
+
+	private JsonSizeEstimator() {
+		// Private constructor, do not use.
+	}
+
+	/**
+	 * @param element A JSON element, or {@code null}.
+	 * @return The estimated size of the serialized element, in bytes.
+	 */
+	public static long estimate(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return NULL_SIZE;
+		}
+		else if ( element.isJsonObject() ) {
+			return estimate( element.getAsJsonObject() );
+		}
+		else if ( element.isJsonArray() ) {
+			return estimate( element.getAsJsonArray() );
+		}
+		else {
+			return estimate( element.getAsJsonPrimitive() );
+		}
+	}
+
+	private static long estimate(JsonObject object) {
+		// Braces
+		long size = 2;
+		boolean first = true;
+		for ( Map.Entry<String, JsonElement> entry : object.entrySet() ) {
+			if ( !first ) {
+				// Comma
+				++size;
+			}
+			first = false;
+			// Key, then colon, then value
+			size += estimate( entry.getKey() ) + 1 + estimate( entry.getValue() );
+		}
+		return size;
+	}
+
+	private static long estimate(JsonArray array) {
+		// Brackets
+		long size = 2;
+		int elementCount = array.size();
+		for ( int i = 0; i < elementCount; i++ ) {
+			if ( i > 0 ) {
+				// Comma
+				++size;
+			}
+			size += estimate( array.get( i ) );
+		}
+		return size;
+	}
+
+	private static long estimate(JsonPrimitive primitive) {
+		if ( primitive.isString() ) {
+			return estimate( primitive.getAsString() );
+		}
+		else if ( primitive.isBoolean() ) {
+			return primitive.getAsBoolean() ? TRUE_SIZE : FALSE_SIZE;
+		}
+		else {
+			// Numbers: all characters are ASCII
+			return primitive.getAsString().length();
+		}
+	}
+
+	private static long estimate(String string) {
+		// Quotes
+		long size = 2;
+		int length = string.length();
+		int i = 0;
+		while ( i < length ) {
+			char c = string.charAt( i );
+			++i;
+			if ( c < 0x20 || c == '"' || c == '\\' ) {
+				// Escaped: "\n", "\u0001", ... We assume the shortest form.
+				size += 2;
+			}
+			else if ( c < 0x80 ) {
+				size += 1;
+			}
+			else if ( c < 0x800 ) {
+				size += 2;
+			}
+			else if ( Character.isHighSurrogate( c ) ) {
+				// Surrogate pair: 4 bytes for both chars
+				size += 4;
+				++i;
+			}
+			else {
+				size += 3;
+			}
+		}
+		return size;
+	}
+}
@@ -121,7 +121,8 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 
 			ElasticsearchDialectFactory dialectFactory = new ElasticsearchDialectFactory();
 			link = new ElasticsearchLinkImpl(
-					clientFactoryHolder, buildContext.getThreadPoolProvider(), defaultGsonProvider, logPrettyPrinting,
+					clientFactoryHolder, buildContext.getThreadPoolProvider(), buildContext.getMetricsProvider(), name,
+					defaultGsonProvider, logPrettyPrinting,
 					dialectFactory, configuredVersion, versionCheckEnabled
 			);
 
@@ -159,7 +160,9 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 					getMultiTenancyStrategy( name, propertySource ),
 					indexLayoutStrategyHolder,
 					createTypeNameMapping( name, propertySource, indexLayoutStrategyHolder.get() ),
-					buildContext.getFailureHandler()
+					buildContext.getFailureHandler(),
+					buildContext.getMetricsProvider(),
+					propertySource
 			);
 		}
 		catch (RuntimeException e) {
@@ -14,6 +14,7 @@
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
 import org.hibernate.search.backend.elasticsearch.document.impl.DocumentMetadataContributor;
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
@@ -32,8 +33,10 @@
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendStartContext;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -50,6 +53,12 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<Integer> SCROLL_TIMEOUT =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SCROLL_TIMEOUT )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_TIMEOUT )
+					.build();
+
 	private final ElasticsearchLinkImpl link;
 
 	private final String name;
@@ -77,7 +86,9 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 			MultiTenancyStrategy multiTenancyStrategy,
 			BeanHolder<? extends IndexLayoutStrategy> indexLayoutStrategyHolder,
 			TypeNameMapping typeNameMapping,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsProvider metricsProvider,
+			ConfigurationPropertySource propertySource) {
 		this.link = link;
 		this.name = name;
 
@@ -85,7 +96,9 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 				"Elasticsearch parallel work orchestrator for backend " + name,
 				link,
 				threadPoolProvider,
-				failureHandler
+				failureHandler,
+				metricsProvider,
+				propertySource
 		);
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
@@ -103,7 +116,8 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 				indexLayoutStrategyHolder.get(),
 				typeNameMapping,
 				orchestratorProvider,
-				queryOrchestrator
+				queryOrchestrator,
+				SCROLL_TIMEOUT.get( propertySource )
 		);
 		this.indexNamesRegistry = new IndexNamesRegistry();
 	}
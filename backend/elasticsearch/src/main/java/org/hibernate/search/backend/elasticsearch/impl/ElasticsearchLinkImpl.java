@@ -9,6 +9,7 @@
 import com.google.gson.GsonBuilder;
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.impl.MeteredElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
@@ -23,6 +24,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Closer;
@@ -37,6 +39,8 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 
 	private final BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder;
 	private final ThreadPoolProvider threadPoolProvider;
+	private final MetricsProvider metricsProvider;
+	private final String backendName;
 	private final GsonProvider defaultGsonProvider;
 	private final boolean logPrettyPrinting;
 	private final ElasticsearchDialectFactory dialectFactory;
@@ -52,12 +56,15 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	private ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 
 	ElasticsearchLinkImpl(BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder,
-			ThreadPoolProvider threadPoolProvider, GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
+			ThreadPoolProvider threadPoolProvider, MetricsProvider metricsProvider, String backendName,
+			GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
 			ElasticsearchDialectFactory dialectFactory,
 			Optional<ElasticsearchVersion> configuredVersionOptional,
 			boolean versionCheckEnabled) {
 		this.clientFactoryHolder = clientFactoryHolder;
 		this.threadPoolProvider = threadPoolProvider;
+		this.metricsProvider = metricsProvider;
+		this.backendName = backendName;
 		this.defaultGsonProvider = defaultGsonProvider;
 		this.logPrettyPrinting = logPrettyPrinting;
 		this.dialectFactory = dialectFactory;
@@ -108,8 +115,9 @@ ElasticsearchVersion getElasticsearchVersion() {
 
 	void onStart(ConfigurationPropertySource propertySource) {
 		if ( clientImplementor == null ) {
-			clientImplementor = clientFactoryHolder.get().create(
-					propertySource, threadPoolProvider, defaultGsonProvider
+			clientImplementor = MeteredElasticsearchClient.create(
+					clientFactoryHolder.get().create( propertySource, threadPoolProvider, defaultGsonProvider ),
+					metricsProvider, backendName
 			);
 			clientFactoryHolder.close(); // We won't need it anymore
 
@@ -51,6 +51,7 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final IndexLayoutStrategy indexLayoutStrategy;
 	private final ElasticsearchWorkOrchestratorProvider orchestratorProvider;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final String scrollTimeout;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
 
@@ -59,7 +60,8 @@ public IndexManagerBackendContext(EventContext eventContext, ElasticsearchLink l
 			IndexLayoutStrategy indexLayoutStrategy,
 			TypeNameMapping typeNameMapping,
 			ElasticsearchWorkOrchestratorProvider orchestratorProvider,
-			ElasticsearchWorkOrchestrator queryOrchestrator) {
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			int scrollTimeoutInSeconds) {
 		this.eventContext = eventContext;
 		this.link = link;
 		this.userFacingGson = userFacingGson;
@@ -67,6 +69,7 @@ public IndexManagerBackendContext(EventContext eventContext, ElasticsearchLink l
 		this.indexLayoutStrategy = indexLayoutStrategy;
 		this.orchestratorProvider = orchestratorProvider;
 		this.queryOrchestrator = queryOrchestrator;
+		this.scrollTimeout = scrollTimeoutInSeconds + "s";
 
 		this.searchProjectionBackendContext = new SearchProjectionBackendContext(
 				typeNameMapping.getTypeNameExtractionHelper(),
@@ -144,7 +147,7 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
 				link.getWorkBuilderFactory(), link.getSearchResultExtractorFactory(),
-				queryOrchestrator,
+				queryOrchestrator, scrollTimeout,
 				searchContext, sessionContext, loadingContextBuilder, rootProjection
 		);
 	}
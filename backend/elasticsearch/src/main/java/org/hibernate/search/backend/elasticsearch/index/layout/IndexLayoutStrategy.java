@@ -23,6 +23,24 @@ public interface IndexLayoutStrategy {
 	 */
 	String createInitialElasticsearchIndexName(String hibernateSearchIndexName);
 
+	/**
+	 * Generates a non-alias Elasticsearch name for a new index meant to replace an existing one,
+	 * for example a shadow index populated by the mass indexer.
+	 * <p>
+	 * Optional operation: this method only has to be implemented
+	 * when using shadow indexes.
+	 * <p>
+	 * The returned name must be different from {@code currentElasticsearchIndexName}.
+	 *
+	 * @param hibernateSearchIndexName The Hibernate Search name of an index.
+	 * @param currentElasticsearchIndexName The non-alias Elasticsearch name of the index being replaced.
+	 * @return The non-alias Elasticsearch name for the new index.
+	 */
+	default String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * Generates the write alias for an index.
 	 * <p>
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.index.layout.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -20,6 +21,7 @@
  *     <li>Elasticsearch index names follow the format used by Elasticsearch's Rollover API: {@code <hsearchname>-<6 digits>}.
  *     See {@code <target-index>} here:
  *     https://www.elastic.co/guide/en/elasticsearch/reference/master/indices-rollover-index.html#rollover-index-api-path-params
+ *     Shadow indexes get the next number in sequence: {@code <hsearchname>-000002}, ...
  *     </li>
  *     <li>The write alias is {@code <hsearchname>-write}.
  *     <li>The read alias is {@code <hsearchname>-read}.
@@ -31,11 +33,25 @@ public final class DefaultIndexLayoutStrategy implements IndexLayoutStrategy {
 
 	public static final Pattern UNIQUE_KEY_EXTRACTION_PATTERN = Pattern.compile( "(.*)-\\d{6}" );
 
+	private static final Pattern SEQUENCE_NUMBER_EXTRACTION_PATTERN = Pattern.compile( "(.*)-(\\d{6})" );
+	private static final int MAX_SEQUENCE_NUMBER = 999999;
+
 	@Override
 	public String createInitialElasticsearchIndexName(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-000001";
 	}
 
+	@Override
+	public String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		Matcher matcher = SEQUENCE_NUMBER_EXTRACTION_PATTERN.matcher( currentElasticsearchIndexName );
+		if ( !matcher.matches() ) {
+			throw log.invalidIndexPrimaryName( currentElasticsearchIndexName, SEQUENCE_NUMBER_EXTRACTION_PATTERN );
+		}
+		int nextSequenceNumber = Integer.parseInt( matcher.group( 2 ) ) % MAX_SEQUENCE_NUMBER + 1;
+		return String.format( Locale.ROOT, "%s-%06d", hibernateSearchIndexName, nextSequenceNumber );
+	}
+
 	@Override
 	public String createWriteAlias(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-write";
@@ -639,4 +639,47 @@ SearchException elasticsearchIndexNameAndAliasesMatchMultipleIndexes(URLEncodedS
 	@Message(id = ID_OFFSET_3 + 98, value = "The lifecycle strategy cannot be set at the index level anymore."
 			+ " Set the schema management strategy via the property 'hibernate.search.schema_management.strategy' instead.")
 	SearchException lifecycleStrategyMovedToMapper();
+
+	@Message(id = ID_OFFSET_3 + 99, value = "Invalid compression name: '%1$s'."
+			+ " Valid names are: %2$s.")
+	SearchException invalidCompressionName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_3 + 100,
+			value = "Unable to move aliases %1$s from index '%2$s' to index '%3$s'.")
+	SearchException elasticsearchAliasesMoveFailed(Set<String> aliases, URLEncodedString fromIndexName,
+			URLEncodedString toIndexName, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_3 + 101,
+			value = "The index layout strategy does not support generating names for shadow indexes."
+					+ " Implement 'IndexLayoutStrategy.createNextElasticsearchIndexName' to enable shadow indexes.")
+	SearchException shadowIndexNotSupportedByLayoutStrategy(@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_3 + 102,
+			value = "Index alias '%1$s' does not point to any index in the Elasticsearch cluster." )
+	SearchException indexAliasMissing(URLEncodedString alias);
+
+	@Message(id = ID_OFFSET_3 + 103,
+			value = "Index alias '%1$s' was expected to point to a single index,"
+					+ " but it points to multiple distinct indexes: %2$s.")
+	SearchException indexAliasMatchesMultipleIndexes(URLEncodedString alias, Set<String> matchingIndexes);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_3 + 104,
+			value = "Index '%1$s' has the settings used for bulk loading: no periodic refresh, no replica"
+					+ " and asynchronous translog durability."
+					+ " These settings were most likely left behind by a mass indexer that did not terminate properly."
+					+ " They will be reset to the configured settings at the end of the next mass indexing"
+					+ " with bulk-load settings enabled. Alternatively, update the index settings manually.")
+	void leftoverBulkLoadSettings(String indexName);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_3 + 105,
+			value = "Write alias '%1$s' points to shadow index '%2$s', while read alias '%3$s' points to index '%4$s'."
+					+ " This is expected while a mass indexer with shadow indexing enabled is in progress."
+					+ " Otherwise, the shadow index was left behind by a mass indexer that did not terminate properly,"
+					+ " and changes written to it will never be visible to searches."
+					+ " The next mass indexing with shadow indexing enabled will drop it."
+					+ " Alternatively, move the write alias back to index '%4$s' and drop index '%2$s' manually.")
+	void shadowIndexExists(URLEncodedString writeAlias, String shadowIndexName,
+			URLEncodedString readAlias, String readIndexName);
 }
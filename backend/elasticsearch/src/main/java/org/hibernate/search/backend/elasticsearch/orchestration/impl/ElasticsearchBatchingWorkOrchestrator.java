@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 
@@ -33,23 +34,27 @@ class ElasticsearchBatchingWorkOrchestrator extends AbstractElasticsearchWorkOrc
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
 	 * @param processor A work processor to use in the background thread.
 	 * @param threadPoolProvider A provider of thread pools.
+	 * @param minWorksetsPerBatch The minimum value of the maximum number of worksets to
+	 * process in a single batch: the actual maximum will adapt to the load between this value and {@code maxWorksetsPerBatch}.
 	 * @param maxWorksetsPerBatch The maximum number of worksets to
 	 * process in a single batch. Higher values mean lesser chance of transport
 	 * thread starvation, but higher heap consumption.
+	 * @param queueSize The maximum number of worksets that can be queued.
 	 * @param fair if {@code true} worksets are always submitted to the
 	 * delegate in FIFO order, if {@code false} worksets submitted
 	 * when the internal queue is full may be submitted out of order.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsProvider A provider of meters to monitor the background thread.
 	 */
 	ElasticsearchBatchingWorkOrchestrator(
 			String name, ElasticsearchWorkProcessor processor, ThreadPoolProvider threadPoolProvider,
-			int maxWorksetsPerBatch, boolean fair,
-			FailureHandler failureHandler) {
+			int minWorksetsPerBatch, int maxWorksetsPerBatch, int queueSize, boolean fair,
+			FailureHandler failureHandler, MetricsProvider metricsProvider) {
 		super( name );
 		this.threadPoolProvider = threadPoolProvider;
 		this.executor = new BatchingExecutor<>(
-				name, processor, maxWorksetsPerBatch, fair,
-				failureHandler
+				name, processor, minWorksetsPerBatch, maxWorksetsPerBatch, queueSize, fair,
+				failureHandler, metricsProvider
 		);
 	}
 
@@ -25,10 +25,12 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	private final BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory;
 	private final int minBulkSize;
 	private final int maxBulkSize;
+	private final long maxBulkSizeInBytes;
 
 	private final List<BulkableElasticsearchWork<?>> currentBulkItems;
 	private final List<CompletableFuture<?>> currentBulkItemsFutures;
 	private int currentBulkFirstNonAddedItem;
+	private long currentBulkSizeInBytes;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<ElasticsearchWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -44,18 +46,24 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	 * {@link #addWorksToSequence() add the bulk work and work extractions to the sequence}
 	 * and {@link #finalizeBulkWork() finalize the bulk work}
 	 * to the underlying sequence builder.
+	 * @param maxBulkSizeInBytes Maximum (estimated) size of a single bulk, in bytes.
+	 * If adding a work would make the current bulk exceed this size,
+	 * the current bulk will be closed as described above before the work is added to a new bulk.
+	 * A single work larger than this size will still be sent, alone in its bulk.
 	 */
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory,
-			int minBulkSize, int maxBulkSize) {
+			int minBulkSize, int maxBulkSize, long maxBulkSizeInBytes) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.minBulkSize = minBulkSize;
 		this.maxBulkSize = maxBulkSize;
+		this.maxBulkSizeInBytes = maxBulkSizeInBytes;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkItemsFutures = new ArrayList<>();
 		this.currentBulkFirstNonAddedItem = 0;
+		this.currentBulkSizeInBytes = 0L;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
@@ -73,10 +81,19 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		long workSizeInBytes = work.getBulkableActionEstimatedSize();
+		if ( !currentBulkItems.isEmpty() && currentBulkSizeInBytes + workSizeInBytes > maxBulkSizeInBytes ) {
+			// This work would make the bulk too large; close the current bulk and start a new one.
+			addWorksToSequence();
+			finalizeBulkWork();
+			currentBulkRefreshStrategy = workRefreshStrategy;
+		}
+
 		CompletableFuture<T> future = new CompletableFuture<>();
 		currentBulkItems.add( work );
 		currentBulkItemsFutures.add( future );
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		currentBulkSizeInBytes += workSizeInBytes;
+		if ( currentBulkItems.size() >= maxBulkSize || currentBulkSizeInBytes >= maxBulkSizeInBytes ) {
 			addWorksToSequence();
 			finalizeBulkWork();
 		}
@@ -140,6 +157,7 @@ public void reset() {
 		this.currentBulkItems.clear();
 		this.currentBulkItemsFutures.clear();
 		this.currentBulkFirstNonAddedItem = 0;
+		this.currentBulkSizeInBytes = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.impl.Futures;
+
+class ElasticsearchDefaultWorkMultiSearcher implements ElasticsearchWorkMultiSearcher {
+
+	private static final CompletableFuture<Void> SUCCESSFUL_FUTURE = CompletableFuture.completedFuture( null );
+
+	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
+	private final Function<List<? extends MultiSearchableElasticsearchWork<?>>, ElasticsearchWork<MultiSearchResult>> multiSearchWorkFactory;
+	private final int maxMultiSearchSize;
+
+	private final List<MultiSearch> pendingMultiSearches = new ArrayList<>();
+	private MultiSearch currentMultiSearch;
+
+	/**
+	 * @param sequenceBuilder The sequence builder to execute multi-search works with
+	 * @param multiSearchWorkFactory The factory for multi-search works
+	 * @param maxMultiSearchSize Maximum number of works in a single multi-search.
+	 * If a multi-search reaches this size, any work added afterwards will be added to a new multi-search.
+	 */
+	public ElasticsearchDefaultWorkMultiSearcher(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			Function<List<? extends MultiSearchableElasticsearchWork<?>>, ElasticsearchWork<MultiSearchResult>> multiSearchWorkFactory,
+			int maxMultiSearchSize) {
+		this.sequenceBuilder = sequenceBuilder;
+		this.multiSearchWorkFactory = multiSearchWorkFactory;
+		this.maxMultiSearchSize = maxMultiSearchSize;
+	}
+
+	@Override
+	public <T> ElasticsearchWork<T> add(MultiSearchableElasticsearchWork<T> work) {
+		if ( currentMultiSearch == null || currentMultiSearch.works.size() >= maxMultiSearchSize ) {
+			currentMultiSearch = new MultiSearch();
+			pendingMultiSearches.add( currentMultiSearch );
+		}
+		int index = currentMultiSearch.works.size();
+		currentMultiSearch.works.add( work );
+		return new MultiSearchedWork<>( currentMultiSearch, work, index );
+	}
+
+	@Override
+	public CompletableFuture<Void> executeMultiSearches() {
+		List<CompletableFuture<?>> sequenceFutures = new ArrayList<>();
+		for ( MultiSearch multiSearch : pendingMultiSearches ) {
+			if ( multiSearch.works.size() == 1 ) {
+				// No need for a multi-search: the only work will be executed on its own.
+				multiSearch.resultFuture.complete( null );
+				continue;
+			}
+			ElasticsearchWork<MultiSearchResult> multiSearchWork;
+			try {
+				multiSearchWork = multiSearchWorkFactory.apply( multiSearch.works );
+			}
+			catch (RuntimeException e) {
+				// Make sure the multi-searched works won't wait forever
+				multiSearch.resultFuture.completeExceptionally( e );
+				continue;
+			}
+			sequenceBuilder.init( SUCCESSFUL_FUTURE );
+			sequenceBuilder.addNonBulkExecution( multiSearchWork )
+					.whenComplete( Futures.copyHandler( multiSearch.resultFuture ) );
+			sequenceFutures.add( sequenceBuilder.build() );
+		}
+		reset();
+		return CompletableFuture.allOf( sequenceFutures.toArray( new CompletableFuture<?>[0] ) );
+	}
+
+	@Override
+	public void reset() {
+		pendingMultiSearches.clear();
+		currentMultiSearch = null;
+	}
+
+	private static final class MultiSearch {
+		private final List<MultiSearchableElasticsearchWork<?>> works = new ArrayList<>();
+		/*
+		 * Completed with null if the multi-search was not executed,
+		 * meaning the (single) work must be executed on its own.
+		 */
+		private final CompletableFuture<MultiSearchResult> resultFuture = new CompletableFuture<>();
+	}
+
+	private static final class MultiSearchedWork<T> implements ElasticsearchWork<T> {
+		private final MultiSearch multiSearch;
+		private final MultiSearchableElasticsearchWork<T> work;
+		private final int index;
+
+		private MultiSearchedWork(MultiSearch multiSearch, MultiSearchableElasticsearchWork<T> work, int index) {
+			this.multiSearch = multiSearch;
+			this.work = work;
+			this.index = index;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[work = " + work + ", index = " + index + "]";
+		}
+
+		@Override
+		public CompletableFuture<T> execute(ElasticsearchWorkExecutionContext context) {
+			return multiSearch.resultFuture.thenCompose( result -> {
+				if ( result == null ) {
+					return work.execute( context );
+				}
+				else {
+					return CompletableFuture.completedFuture(
+							work.handleMultiSearchResponseItem( context, result.getResponseItem( index ) )
+					);
+				}
+			} );
+		}
+
+		@Override
+		public CompletableFuture<T> aggregate(ElasticsearchWorkAggregator aggregator) {
+			return aggregator.addNonBulkable( this );
+		}
+
+		@Override
+		public Object getInfo() {
+			return work.getInfo();
+		}
+	}
+}
@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
 
 
 /**
@@ -21,22 +22,42 @@
  * Two works will be executed sequentially if they are part of the same workset.
  * Two works from different worksets will be executed in parallel.
  * <p>
+ * If a {@link ElasticsearchWorkMultiSearcher multi-searcher} is provided,
+ * searches starting a workset will be grouped into multi-searches at the end of each batch,
+ * and will thus be sent together in a single request.
+ * <p>
  * This class is mutable and not thread-safe.
  *
  */
 class ElasticsearchParallelWorkProcessor implements ElasticsearchWorkProcessor {
 
 	private final BulkAndSequenceAggregator aggregator;
+	private final ElasticsearchWorkMultiSearcher multiSearcher;
 	private final List<CompletableFuture<?>> sequenceFutures = new ArrayList<>();
 
 	ElasticsearchParallelWorkProcessor(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			ElasticsearchWorkBulker bulker) {
-		this.aggregator = new BulkAndSequenceAggregator( sequenceBuilder, bulker );
+		this( sequenceBuilder, bulker, null );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulker The bulker to aggregate bulkable works with
+	 * @param multiSearcher The multi-searcher to aggregate multi-searchable works with,
+	 * or {@code null} to execute every search in its own request.
+	 */
+	ElasticsearchParallelWorkProcessor(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			ElasticsearchWorkBulker bulker, ElasticsearchWorkMultiSearcher multiSearcher) {
+		this.aggregator = new BulkAndSequenceAggregator( sequenceBuilder, bulker, multiSearcher );
+		this.multiSearcher = multiSearcher;
 	}
 
 	@Override
 	public void beginBatch() {
 		aggregator.reset();
+		if ( multiSearcher != null ) {
+			multiSearcher.reset();
+		}
 		sequenceFutures.clear();
 	}
 
@@ -63,6 +84,10 @@ public CompletableFuture<Void> afterWorkSet() {
 
 	@Override
 	public CompletableFuture<Void> endBatch() {
+		if ( multiSearcher != null ) {
+			// Multi-search failures are reported to each multi-searched work, like sequence failures.
+			sequenceFutures.add( multiSearcher.executeMultiSearches().exceptionally( e -> null ) );
+		}
 		CompletableFuture<Void> future =
 				CompletableFuture.allOf( sequenceFutures.toArray( new CompletableFuture<?>[0] ) );
 		sequenceFutures.clear();
@@ -80,24 +105,29 @@ private static class BulkAndSequenceAggregator implements ElasticsearchWorkAggre
 
 		private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 		private final ElasticsearchWorkBulker bulker;
+		private final ElasticsearchWorkMultiSearcher multiSearcher;
 
 		private CompletableFuture<Void> rootFuture;
 		private boolean currentBulkIsUsableInSameSequence = true;
+		private boolean currentSequenceIsEmpty = true;
 
 		public BulkAndSequenceAggregator(ElasticsearchWorkSequenceBuilder sequenceBuilder,
-				ElasticsearchWorkBulker bulker) {
+				ElasticsearchWorkBulker bulker, ElasticsearchWorkMultiSearcher multiSearcher) {
 			super();
 			this.rootFuture = CompletableFuture.completedFuture( null );
 			this.sequenceBuilder = sequenceBuilder;
 			this.bulker = bulker;
+			this.multiSearcher = multiSearcher;
 		}
 
 		public void initSequence() {
 			sequenceBuilder.init( rootFuture );
+			currentSequenceIsEmpty = true;
 		}
 
 		@Override
 		public <T> CompletableFuture<T> addBulkable(BulkableElasticsearchWork<T> work) {
+			currentSequenceIsEmpty = false;
 			if ( !currentBulkIsUsableInSameSequence ) {
 				bulker.finalizeBulkWork();
 				currentBulkIsUsableInSameSequence = true;
@@ -107,6 +137,7 @@ public <T> CompletableFuture<T> addBulkable(BulkableElasticsearchWork<T> work) {
 
 		@Override
 		public <T> CompletableFuture<T> addNonBulkable(ElasticsearchWork<T> work) {
+			currentSequenceIsEmpty = false;
 			if ( bulker.addWorksToSequence() ) {
 				/*
 				 * A non-bulkable work follows bulked works,
@@ -118,6 +149,19 @@ public <T> CompletableFuture<T> addNonBulkable(ElasticsearchWork<T> work) {
 			return sequenceBuilder.addNonBulkExecution( work );
 		}
 
+		@Override
+		public <T> CompletableFuture<T> addMultiSearchable(MultiSearchableElasticsearchWork<T> work) {
+			if ( multiSearcher == null || !currentSequenceIsEmpty ) {
+				/*
+				 * Multi-searches are executed at the end of the batch, independently from sequences,
+				 * so we can only multi-search works that don't need to wait for previous works.
+				 */
+				return addNonBulkable( work );
+			}
+			currentSequenceIsEmpty = false;
+			return sequenceBuilder.addNonBulkExecution( multiSearcher.add( work ) );
+		}
+
 		public CompletableFuture<Void> buildSequence() {
 			bulker.addWorksToSequence();
 			CompletableFuture<Void> future = sequenceBuilder.build();
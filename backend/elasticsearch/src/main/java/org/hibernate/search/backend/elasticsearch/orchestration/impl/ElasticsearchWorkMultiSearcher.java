@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+
+/**
+ * Aggregates multi-searchable works into multi-searches
+ * and executes each multi-search in its own sequence.
+ * <p>
+ * Implementations are mutable and unlikely to be thread-safe.
+ *
+ */
+public interface ElasticsearchWorkMultiSearcher {
+
+	/**
+	 * @param work A work to add to the current multi-search
+	 * @return A work to add to a sequence in place of the given work.
+	 * Its execution will block until {@link #executeMultiSearches()} has been called.
+	 */
+	<T> ElasticsearchWork<T> add(MultiSearchableElasticsearchWork<T> work);
+
+	/**
+	 * Ensure that the multi-search works (if any) are created and executed,
+	 * each in a new sequence of the underlying sequence builder.
+	 * <p>
+	 * Multi-searches containing a single work will not be executed:
+	 * instead, that work will be executed on its own, in place.
+	 * <p>
+	 * After this method is called, any new work added through {@link #add(MultiSearchableElasticsearchWork)}
+	 * will be added to a new multi-search.
+	 *
+	 * @return A future that will be complete when all the multi-search sequences are complete.
+	 */
+	CompletableFuture<Void> executeMultiSearches();
+
+	/**
+	 * Reset internal state.
+	 */
+	void reset();
+
+}
@@ -6,10 +6,16 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 
@@ -68,6 +74,39 @@
  */
 public class ElasticsearchWorkOrchestratorProvider {
 
+	private static final OptionalConfigurationProperty<Integer> INDEXING_QUEUE_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_QUEUE_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> INDEXING_MIN_BATCH_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MIN_BATCH_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> INDEXING_MAX_BATCH_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_BATCH_SIZE )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BULK_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_BULK_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Long> INDEXING_MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_BULK_BYTES )
+					.asLong()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_BYTES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_MAX_MULTI_SEARCH_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_MAX_MULTI_SEARCH_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_MAX_MULTI_SEARCH_SIZE )
+					.build();
+
 	private static final int SERIAL_MIN_BULK_SIZE = 2;
 	/*
 	 * For parallel orchestrators, we use a minimum bulk size of 1,
@@ -80,7 +119,7 @@ public class ElasticsearchWorkOrchestratorProvider {
 	 * work to bulk), which would result in terrible performance.
 	 */
 	private static final int PARALLEL_MIN_BULK_SIZE = 1;
-	private static final int MAX_BULK_SIZE = 250;
+	private static final int DEFAULT_MAX_BULK_SIZE = ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_SIZE;
 
 	/*
 	 * Setting the following constants involves a bit of guesswork.
@@ -92,23 +131,40 @@ public class ElasticsearchWorkOrchestratorProvider {
 	 * for serial orchestrators, because parallel orchestrators will generally only handle
 	 * single-work worksets, and also because the parallel orchestrators rely on a single
 	 * consumer thread shared between all index managers.
+	 * These are only defaults: users can override them through configuration properties.
 	 */
-	private static final int SERIAL_MAX_WORKSETS_PER_BATCH = 10 * MAX_BULK_SIZE;
-	private static final int PARALLEL_MAX_WORKSETS_PER_BATCH = 20 * MAX_BULK_SIZE;
+	private static final int SERIAL_MAX_WORKSETS_PER_BATCH = 10 * DEFAULT_MAX_BULK_SIZE;
+	private static final int PARALLEL_MAX_WORKSETS_PER_BATCH = 20 * DEFAULT_MAX_BULK_SIZE;
 
 	private final ElasticsearchLink link;
 	private final ThreadPoolProvider threadPoolProvider;
 	private final FailureHandler failureHandler;
+	private final MetricsProvider metricsProvider;
+	private final Optional<Integer> queueSize;
+	private final Optional<Integer> minWorksetsPerBatch;
+	private final Optional<Integer> maxWorksetsPerBatch;
+	private final int maxBulkSize;
+	private final long maxBulkSizeInBytes;
+	private final int maxMultiSearchSize;
 
 	private final ElasticsearchBatchingWorkOrchestrator rootParallelOrchestrator;
 
 	public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName,
 			ElasticsearchLink link,
 			ThreadPoolProvider threadPoolProvider,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsProvider metricsProvider,
+			ConfigurationPropertySource propertySource) {
 		this.link = link;
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
+		this.metricsProvider = metricsProvider;
+		this.queueSize = INDEXING_QUEUE_SIZE.get( propertySource );
+		this.minWorksetsPerBatch = INDEXING_MIN_BATCH_SIZE.get( propertySource );
+		this.maxWorksetsPerBatch = INDEXING_MAX_BATCH_SIZE.get( propertySource );
+		this.maxBulkSize = INDEXING_MAX_BULK_SIZE.get( propertySource );
+		this.maxBulkSizeInBytes = INDEXING_MAX_BULK_BYTES.get( propertySource );
+		this.maxMultiSearchSize = QUERY_MAX_MULTI_SEARCH_SIZE.get( propertySource );
 
 		/*
 		 * The following orchestrator doesn't require a strict execution ordering
@@ -169,11 +225,14 @@ public ElasticsearchWorkOrchestratorImplementor createParallelOrchestrator(Strin
 
 	private ElasticsearchBatchingWorkOrchestrator createBatchingSharedOrchestrator(
 			String name, ElasticsearchWorkProcessor processor,
-			int maxWorksetsPerBatch, boolean fair) {
+			int defaultMaxWorksetsPerBatch, boolean fair) {
+		int max = maxWorksetsPerBatch.orElse( defaultMaxWorksetsPerBatch );
 		return new ElasticsearchBatchingWorkOrchestrator(
 				name, processor, threadPoolProvider,
-				maxWorksetsPerBatch, fair,
-				failureHandler
+				minWorksetsPerBatch.orElse( max ), max, queueSize.orElse( max ),
+				fair,
+				failureHandler,
+				metricsProvider
 		);
 	}
 
@@ -186,7 +245,10 @@ private ElasticsearchWorkProcessor createSerialWorkProcessor() {
 	private ElasticsearchWorkProcessor createParallelWorkProcessor() {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = createSequenceBuilder( this::createRefreshingWorkExecutionContext );
 		ElasticsearchWorkBulker bulker = createBulker( sequenceBuilder, PARALLEL_MIN_BULK_SIZE );
-		return new ElasticsearchParallelWorkProcessor( sequenceBuilder, bulker );
+		// Searches are only submitted to parallel orchestrators, so there's no point in multi-searching elsewhere
+		ElasticsearchWorkMultiSearcher multiSearcher = maxMultiSearchSize > 1
+				? createMultiSearcher( sequenceBuilder ) : null;
+		return new ElasticsearchParallelWorkProcessor( sequenceBuilder, bulker, multiSearcher );
 	}
 
 	private ElasticsearchWorkSequenceBuilder createSequenceBuilder(Supplier<ElasticsearchRefreshableWorkExecutionContext> contextSupplier) {
@@ -200,7 +262,15 @@ private ElasticsearchWorkBulker createBulker(ElasticsearchWorkSequenceBuilder se
 				sequenceBuilder,
 				(worksToBulk, refreshStrategy) ->
 						link.getWorkBuilderFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				minBulkSize, MAX_BULK_SIZE
+				minBulkSize, maxBulkSize, maxBulkSizeInBytes
+				);
+	}
+
+	private ElasticsearchWorkMultiSearcher createMultiSearcher(ElasticsearchWorkSequenceBuilder sequenceBuilder) {
+		return new ElasticsearchDefaultWorkMultiSearcher(
+				sequenceBuilder,
+				worksToMultiSearch -> link.getWorkBuilderFactory().multiSearch( worksToMultiSearch ).build(),
+				maxMultiSearchSize
 				);
 	}
 
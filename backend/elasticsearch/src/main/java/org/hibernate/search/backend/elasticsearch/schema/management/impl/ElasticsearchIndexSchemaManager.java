@@ -6,29 +6,43 @@
  */
 package org.hibernate.search.backend.elasticsearch.schema.management.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class ElasticsearchIndexSchemaManager implements IndexSchemaManager {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchSchemaAccessor schemaAccessor;
 	private final ElasticsearchSchemaCreator schemaCreator;
 	private final ElasticsearchSchemaDropper schemaDropper;
 	private final ElasticsearchSchemaValidator schemaValidator;
 	private final ElasticsearchSchemaMigrator schemaMigrator;
+	private final ElasticsearchSchemaShadowManager schemaShadowManager;
 
 	private final IndexNames indexNames;
 	private final IndexMetadata expectedMetadata;
 	private final ElasticsearchIndexLifecycleExecutionOptions executionOptions;
 
+	private final Object bulkLoadLock = new Object();
+	// The number of bulk loads started and not stopped yet; guarded by bulkLoadLock
+	private int bulkLoadCount = 0;
+	// The settings to restore when the last bulk load stops; guarded by bulkLoadLock
+	private CompletableFuture<SettingsBeforeBulkLoad> settingsBeforeBulkLoad;
+
 	public ElasticsearchIndexSchemaManager(ElasticsearchWorkBuilderFactory workBuilderFactory,
 			ElasticsearchWorkOrchestrator workOrchestrator,
 			IndexLayoutStrategy indexLayoutStrategy,
@@ -40,6 +54,7 @@ public ElasticsearchIndexSchemaManager(ElasticsearchWorkBuilderFactory workBuild
 		this.schemaDropper = new ElasticsearchSchemaDropperImpl( schemaAccessor );
 		this.schemaValidator = new ElasticsearchSchemaValidatorImpl();
 		this.schemaMigrator = new ElasticsearchSchemaMigratorImpl( schemaAccessor, schemaValidator );
+		this.schemaShadowManager = new ElasticsearchSchemaShadowManagerImpl( schemaAccessor, indexLayoutStrategy );
 
 		this.indexNames = indexNames;
 		this.expectedMetadata = expectedMetadata;
@@ -49,6 +64,7 @@ public ElasticsearchIndexSchemaManager(ElasticsearchWorkBuilderFactory workBuild
 	@Override
 	public CompletableFuture<?> createIfMissing() {
 		return schemaCreator.createIndexIfAbsent( indexNames, expectedMetadata )
+				.thenAccept( this::checkNoLeftoverBulkLoadSettings )
 				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) );
 	}
 
@@ -57,6 +73,7 @@ public CompletableFuture<?> createOrValidate(ContextualFailureCollector failureC
 		return schemaCreator.createIndexIfAbsent( indexNames, expectedMetadata )
 				.thenAccept( preExistingIndexMetadata -> {
 					if ( preExistingIndexMetadata != null ) {
+						checkNoLeftoverBulkLoadSettings( preExistingIndexMetadata );
 						schemaValidator.validate(
 								expectedMetadata, preExistingIndexMetadata.getMetadata(),
 								failureCollector
@@ -74,6 +91,7 @@ public CompletableFuture<?> createOrUpdate() {
 		return schemaCreator.createIndexIfAbsent( indexNames, expectedMetadata )
 				.thenCompose( existingIndexMetadata -> {
 					if ( existingIndexMetadata != null ) {
+						checkNoLeftoverBulkLoadSettings( existingIndexMetadata );
 						return schemaMigrator.migrate(
 								URLEncodedString.fromString( existingIndexMetadata.getPrimaryName() ),
 								expectedMetadata, existingIndexMetadata.getMetadata()
@@ -98,16 +116,111 @@ public CompletableFuture<?> dropAndCreate() {
 				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) );
 	}
 
+	@Override
+	public CompletableFuture<?> createShadow() {
+		return schemaShadowManager.createShadow( indexNames, expectedMetadata, executionOptions );
+	}
+
+	@Override
+	public CompletableFuture<?> switchToShadow() {
+		return schemaShadowManager.switchToShadow( indexNames, expectedMetadata );
+	}
+
+	@Override
+	public CompletableFuture<?> dropShadowIfExisting() {
+		return schemaShadowManager.dropShadowIfExisting( indexNames, expectedMetadata );
+	}
+
+	@Override
+	public CompletableFuture<?> startBulkLoad() {
+		synchronized ( bulkLoadLock ) {
+			++bulkLoadCount;
+			if ( settingsBeforeBulkLoad == null ) {
+				// Target the index being written to, which may be a shadow index
+				settingsBeforeBulkLoad = schemaAccessor.getCurrentIndexMetadata( indexNames.getWrite() )
+						.thenCompose( this::doStartBulkLoad );
+			}
+			// Bulk-load settings may already be applied by a concurrent mass indexer:
+			// do not overwrite the original settings, just wait for the settings to be applied.
+			return settingsBeforeBulkLoad;
+		}
+	}
+
+	@Override
+	public CompletableFuture<?> stopBulkLoad() {
+		CompletableFuture<SettingsBeforeBulkLoad> future;
+		synchronized ( bulkLoadLock ) {
+			if ( bulkLoadCount == 0 ) {
+				return CompletableFuture.completedFuture( null );
+			}
+			--bulkLoadCount;
+			if ( bulkLoadCount > 0 ) {
+				// Another mass indexer still needs bulk-load settings: restore them when it stops.
+				return CompletableFuture.completedFuture( null );
+			}
+			future = settingsBeforeBulkLoad;
+			settingsBeforeBulkLoad = null;
+		}
+		return future
+				// If applying bulk-load settings failed, there is nothing to restore
+				.exceptionally( ignored -> null )
+				.thenCompose( settings -> settings == null
+						? CompletableFuture.completedFuture( null )
+						: schemaMigrator.restoreDynamicSettings( settings.indexName, settings.settings )
+				);
+	}
+
 	@Override
 	public CompletableFuture<?> validate(ContextualFailureCollector failureCollector) {
 		return schemaAccessor.getCurrentIndexMetadata( indexNames )
-				.thenAccept( actualIndexMetadata -> schemaValidator.validate(
-						expectedMetadata, actualIndexMetadata.getMetadata(),
-						failureCollector
-				) )
+				.thenAccept( actualIndexMetadata -> {
+					checkNoLeftoverBulkLoadSettings( actualIndexMetadata );
+					schemaValidator.validate(
+							expectedMetadata, actualIndexMetadata.getMetadata(),
+							failureCollector
+					);
+				} )
 				.thenCompose( ignored -> failureCollector.hasFailure()
 						? CompletableFuture.completedFuture( null )
 						: schemaAccessor.waitForIndexStatus( indexNames, executionOptions )
 				);
 	}
+
+	private CompletableFuture<SettingsBeforeBulkLoad> doStartBulkLoad(ExistingIndexMetadata existingIndexMetadata) {
+		URLEncodedString indexName = URLEncodedString.fromString( existingIndexMetadata.getPrimaryName() );
+		IndexSettings originalSettings = existingIndexMetadata.getMetadata().getSettings();
+		if ( isLeftoverBulkLoadSettings( originalSettings ) ) {
+			// The original settings were lost: restore the configured settings instead
+			log.leftoverBulkLoadSettings( existingIndexMetadata.getPrimaryName() );
+			originalSettings = expectedMetadata.getSettings();
+		}
+		SettingsBeforeBulkLoad settingsBeforeBulkLoad = new SettingsBeforeBulkLoad( indexName, originalSettings );
+		return schemaMigrator.applyBulkLoadSettings( indexName )
+				.thenApply( ignored -> settingsBeforeBulkLoad );
+	}
+
+	private void checkNoLeftoverBulkLoadSettings(ExistingIndexMetadata existingIndexMetadata) {
+		if ( existingIndexMetadata != null
+				&& isLeftoverBulkLoadSettings( existingIndexMetadata.getMetadata().getSettings() ) ) {
+			log.leftoverBulkLoadSettings( existingIndexMetadata.getPrimaryName() );
+		}
+	}
+
+	private boolean isLeftoverBulkLoadSettings(IndexSettings actualSettings) {
+		// Bulk-load settings are only expected while a bulk load is in progress,
+		// unless they were configured explicitly.
+		return actualSettings != null
+				&& schemaMigrator.hasBulkLoadSettings( actualSettings )
+				&& !schemaMigrator.hasBulkLoadSettings( expectedMetadata.getSettings() );
+	}
+
+	private static final class SettingsBeforeBulkLoad {
+		private final URLEncodedString indexName;
+		private final IndexSettings settings;
+
+		private SettingsBeforeBulkLoad(URLEncodedString indexName, IndexSettings settings) {
+			this.indexName = indexName;
+			this.settings = settings;
+		}
+	}
 }
@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.elasticsearch.schema.management.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -21,6 +23,7 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexSettingsWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.CreateIndexResult;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
@@ -83,16 +86,7 @@ public CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadataOrNull(In
 	}
 
 	private CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadata(IndexNames indexNames, boolean allowNull) {
-		ElasticsearchWork<List<ExistingIndexMetadata>> work = getWorkFactory().getIndexMetadata()
-				.index( indexNames.getWrite() )
-				.index( indexNames.getRead() )
-				.build();
-		return execute( work )
-				.exceptionally( Futures.handler( e -> {
-					throw log.elasticsearchIndexMetadataRetrievalFailed(
-							Throwables.expectException( e )
-					);
-				} ) )
+		return getAllIndexMetadata( indexNames )
 				.thenApply( list -> {
 					if ( list.isEmpty() ) {
 						if ( allowNull ) {
@@ -103,6 +97,11 @@ private CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadata(IndexNa
 						}
 					}
 					if ( list.size() > 1 ) {
+						ExistingIndexMetadata readIndexMetadata = getReadIndexIfShadowExists( indexNames, list );
+						if ( readIndexMetadata != null ) {
+							// Work on the index that searches target; the shadow index is handled by the mass indexer
+							return readIndexMetadata;
+						}
 						throw log.elasticsearchIndexNameAndAliasesMatchMultipleIndexes(
 								indexNames.getWrite(), indexNames.getRead(),
 								list.stream().map( ExistingIndexMetadata::getPrimaryName ).collect( Collectors.toSet() )
@@ -112,6 +111,78 @@ private CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadata(IndexNa
 				} );
 	}
 
+	/**
+	 * @param indexNames The names of the Hibernate Search index.
+	 * @param list The metadata of all indexes the aliases point to.
+	 * @return The metadata of the index the read alias points to,
+	 * if the write alias points to a distinct (shadow) index. {@code null} otherwise.
+	 */
+	private ExistingIndexMetadata getReadIndexIfShadowExists(IndexNames indexNames, List<ExistingIndexMetadata> list) {
+		if ( list.size() != 2 ) {
+			return null;
+		}
+		ExistingIndexMetadata readIndexMetadata = null;
+		ExistingIndexMetadata writeIndexMetadata = null;
+		for ( ExistingIndexMetadata existingIndexMetadata : list ) {
+			Map<String, ?> aliases = existingIndexMetadata.getMetadata().getAliases();
+			boolean hasReadAlias = aliases.containsKey( indexNames.getRead().original );
+			boolean hasWriteAlias = aliases.containsKey( indexNames.getWrite().original );
+			if ( hasReadAlias && !hasWriteAlias ) {
+				readIndexMetadata = existingIndexMetadata;
+			}
+			else if ( hasWriteAlias && !hasReadAlias ) {
+				writeIndexMetadata = existingIndexMetadata;
+			}
+		}
+		if ( readIndexMetadata == null || writeIndexMetadata == null ) {
+			return null;
+		}
+		log.shadowIndexExists( indexNames.getWrite(), writeIndexMetadata.getPrimaryName(),
+				indexNames.getRead(), readIndexMetadata.getPrimaryName() );
+		return readIndexMetadata;
+	}
+
+	/**
+	 * @param indexNameOrAlias The name of an index, or an alias pointing to a single index.
+	 * @return A future holding the metadata of the index.
+	 */
+	public CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadata(URLEncodedString indexNameOrAlias) {
+		ElasticsearchWork<List<ExistingIndexMetadata>> work = getWorkFactory().getIndexMetadata()
+				.index( indexNameOrAlias )
+				.build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchIndexMetadataRetrievalFailed(
+							Throwables.expectException( e )
+					);
+				} ) )
+				.thenApply( list -> {
+					if ( list.isEmpty() ) {
+						throw log.indexAliasMissing( indexNameOrAlias );
+					}
+					if ( list.size() > 1 ) {
+						throw log.indexAliasMatchesMultipleIndexes(
+								indexNameOrAlias,
+								list.stream().map( ExistingIndexMetadata::getPrimaryName ).collect( Collectors.toSet() )
+						);
+					}
+					return list.get( 0 );
+				} );
+	}
+
+	public CompletableFuture<List<ExistingIndexMetadata>> getAllIndexMetadata(IndexNames indexNames) {
+		ElasticsearchWork<List<ExistingIndexMetadata>> work = getWorkFactory().getIndexMetadata()
+				.index( indexNames.getWrite() )
+				.index( indexNames.getRead() )
+				.build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchIndexMetadataRetrievalFailed(
+							Throwables.expectException( e )
+					);
+				} ) );
+	}
+
 	public CompletableFuture<?> putAliases(URLEncodedString indexName, Map<String, IndexAliasDefinition> aliases) {
 		ElasticsearchWork<?> work = getWorkFactory().putIndexAliases( indexName, aliases ).build();
 		return execute( work )
@@ -122,8 +193,42 @@ public CompletableFuture<?> putAliases(URLEncodedString indexName, Map<String, I
 				} ) );
 	}
 
+	/**
+	 * @param fromIndexName The index to remove the aliases from.
+	 * @param toIndexName The index to add the aliases to.
+	 * @param aliases The aliases to move.
+	 * @return A future. The aliases are moved atomically.
+	 */
+	public CompletableFuture<?> moveAliases(URLEncodedString fromIndexName, URLEncodedString toIndexName,
+			Map<String, IndexAliasDefinition> aliases) {
+		ElasticsearchWork<?> work = getWorkFactory().putIndexAliases( toIndexName, aliases )
+				.removeAliases( fromIndexName, aliases.keySet() )
+				.build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchAliasesMoveFailed(
+							aliases.keySet(), fromIndexName, toIndexName, Throwables.expectException( e )
+					);
+				} ) );
+	}
+
 	public CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSettings settings) {
-		ElasticsearchWork<?> work = getWorkFactory().putIndexSettings( indexName, settings ).build();
+		return updateSettings( indexName, settings, Collections.emptyList() );
+	}
+
+	/**
+	 * @param indexName The name of the index to update.
+	 * @param settings The settings to set.
+	 * @param settingsToReset The names of dynamic settings to reset to their default value.
+	 * @return A future.
+	 */
+	public CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSettings settings,
+			Collection<String> settingsToReset) {
+		PutIndexSettingsWorkBuilder builder = getWorkFactory().putIndexSettings( indexName, settings );
+		for ( String settingName : settingsToReset ) {
+			builder.resetToDefault( settingName );
+		}
+		ElasticsearchWork<?> work = builder.build();
 		return execute( work )
 				.exceptionally( Futures.handler( e -> {
 					throw log.elasticsearchSettingsUpdateFailed(
@@ -143,11 +248,13 @@ public CompletableFuture<?> putMapping(URLEncodedString indexName, RootTypeMappi
 	}
 
 	public CompletableFuture<?> waitForIndexStatus(IndexNames indexNames, ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
+		return waitForIndexStatus( indexNames.getWrite(), executionOptions );
+	}
+
+	public CompletableFuture<?> waitForIndexStatus(URLEncodedString alias, ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
 		IndexStatus requiredIndexStatus = executionOptions.getRequiredStatus();
 		String timeoutAndUnit = executionOptions.getRequiredStatusTimeoutInMs() + "ms";
 
-		URLEncodedString alias = indexNames.getWrite();
-
 		ElasticsearchWork<?> work =
 				getWorkFactory().waitForIndexStatusWork( alias, requiredIndexStatus, timeoutAndUnit )
 						.build();
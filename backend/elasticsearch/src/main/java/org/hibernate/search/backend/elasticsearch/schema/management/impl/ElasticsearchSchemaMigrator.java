@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.util.common.SearchException;
 
@@ -33,4 +34,35 @@ public interface ElasticsearchSchemaMigrator {
 	 */
 	CompletableFuture<?> migrate(URLEncodedString indexName, IndexMetadata expectedIndexMetadata, IndexMetadata actualIndexMetadata);
 
+	/**
+	 * Update the dynamic settings of an existing index to speed up bulk loading:
+	 * disable periodic refreshes, remove replicas and make translog durability asynchronous.
+	 *
+	 * <p>The index is expected to already exist. It is not closed during the update.
+	 *
+	 * @param indexName The name of the index to update.
+	 * @return A future.
+	 * @see #restoreDynamicSettings(URLEncodedString, IndexSettings)
+	 */
+	CompletableFuture<?> applyBulkLoadSettings(URLEncodedString indexName);
+
+	/**
+	 * Restore the dynamic settings changed by {@link #applyBulkLoadSettings(URLEncodedString)}
+	 * to the given values, resetting settings that were not set explicitly to their default value.
+	 *
+	 * <p>The index is expected to already exist. It is not closed during the update.
+	 *
+	 * @param indexName The name of the index to update.
+	 * @param originalSettings The settings of the index before bulk-load settings were applied.
+	 * @return A future.
+	 */
+	CompletableFuture<?> restoreDynamicSettings(URLEncodedString indexName, IndexSettings originalSettings);
+
+	/**
+	 * @param settings The settings of an index.
+	 * @return {@code true} if the given settings are the ones applied by
+	 * {@link #applyBulkLoadSettings(URLEncodedString)}, {@code false} otherwise.
+	 */
+	boolean hasBulkLoadSettings(IndexSettings settings);
+
 }
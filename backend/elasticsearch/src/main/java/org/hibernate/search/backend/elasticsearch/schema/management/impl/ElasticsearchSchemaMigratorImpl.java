@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.elasticsearch.schema.management.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -14,6 +16,7 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.TranslogSettings;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.util.common.impl.Futures;
@@ -28,6 +31,14 @@ public class ElasticsearchSchemaMigratorImpl implements ElasticsearchSchemaMigra
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final String REFRESH_INTERVAL_SETTING = "refresh_interval";
+	private static final String NUMBER_OF_REPLICAS_SETTING = "number_of_replicas";
+	private static final String TRANSLOG_DURABILITY_SETTING = "translog.durability";
+
+	private static final String BULK_LOAD_REFRESH_INTERVAL = "-1";
+	private static final int BULK_LOAD_NUMBER_OF_REPLICAS = 0;
+	private static final String BULK_LOAD_TRANSLOG_DURABILITY = "async";
+
 	private final ElasticsearchSchemaAccessor schemaAccessor;
 	private final ElasticsearchSchemaValidator schemaValidator;
 
@@ -68,6 +79,62 @@ public CompletableFuture<?> migrate(URLEncodedString indexName,
 				} ) );
 	}
 
+	@Override
+	public CompletableFuture<?> applyBulkLoadSettings(URLEncodedString indexName) {
+		IndexSettings settings = new IndexSettings();
+		settings.setRefreshInterval( BULK_LOAD_REFRESH_INTERVAL );
+		settings.setNumberOfReplicas( BULK_LOAD_NUMBER_OF_REPLICAS );
+		TranslogSettings translog = new TranslogSettings();
+		translog.setDurability( BULK_LOAD_TRANSLOG_DURABILITY );
+		settings.setTranslog( translog );
+		// These settings are dynamic: no need to close the index
+		return schemaAccessor.updateSettings( indexName, settings );
+	}
+
+	@Override
+	public CompletableFuture<?> restoreDynamicSettings(URLEncodedString indexName, IndexSettings originalSettings) {
+		IndexSettings settings = new IndexSettings();
+		/*
+		 * Settings that were not set explicitly must be reset rather than set to their default value:
+		 * Elasticsearch behaves differently when some of them (e.g. the refresh interval) are set explicitly.
+		 */
+		List<String> settingsToReset = new ArrayList<>();
+
+		if ( originalSettings.getRefreshInterval() != null ) {
+			settings.setRefreshInterval( originalSettings.getRefreshInterval() );
+		}
+		else {
+			settingsToReset.add( REFRESH_INTERVAL_SETTING );
+		}
+
+		if ( originalSettings.getNumberOfReplicas() != null ) {
+			settings.setNumberOfReplicas( originalSettings.getNumberOfReplicas() );
+		}
+		else {
+			settingsToReset.add( NUMBER_OF_REPLICAS_SETTING );
+		}
+
+		TranslogSettings originalTranslog = originalSettings.getTranslog();
+		if ( originalTranslog != null && originalTranslog.getDurability() != null ) {
+			TranslogSettings translog = new TranslogSettings();
+			translog.setDurability( originalTranslog.getDurability() );
+			settings.setTranslog( translog );
+		}
+		else {
+			settingsToReset.add( TRANSLOG_DURABILITY_SETTING );
+		}
+
+		return schemaAccessor.updateSettings( indexName, settings, settingsToReset );
+	}
+
+	@Override
+	public boolean hasBulkLoadSettings(IndexSettings settings) {
+		TranslogSettings translog = settings.getTranslog();
+		return BULK_LOAD_REFRESH_INTERVAL.equals( settings.getRefreshInterval() )
+				&& Integer.valueOf( BULK_LOAD_NUMBER_OF_REPLICAS ).equals( settings.getNumberOfReplicas() )
+				&& translog != null && BULK_LOAD_TRANSLOG_DURABILITY.equals( translog.getDurability() );
+	}
+
 	private CompletableFuture<?> doMigrateAliases(URLEncodedString indexName, Map<String, IndexAliasDefinition> aliases) {
 		return schemaAccessor.putAliases( indexName, aliases );
 	}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.schema.management.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
+import org.hibernate.search.util.common.SearchException;
+
+/**
+ * An object responsible for managing shadow indexes,
+ * i.e. indexes that the write alias points to while the read alias still points to another index.
+ *
+ */
+public interface ElasticsearchSchemaShadowManager {
+
+	/**
+	 * Creates a new, empty index and moves the write alias to it,
+	 * leaving the read alias on the current index.
+	 *
+	 * <p>If the write alias already pointed to a shadow index, that shadow index is dropped.
+	 *
+	 * @param indexNames The index names.
+	 * @param indexMetadata The expected index metadata.
+	 * @param executionOptions The options for index creation.
+	 * @return A future.
+	 * @throws SearchException If an error occurs.
+	 */
+	CompletableFuture<?> createShadow(IndexNames indexNames, IndexMetadata indexMetadata,
+			ElasticsearchIndexLifecycleExecutionOptions executionOptions);
+
+	/**
+	 * Atomically moves the read alias to the index the write alias points to,
+	 * then drops the index the read alias used to point to.
+	 *
+	 * <p>This method will skip operations silently if the read and write aliases point to the same index.
+	 *
+	 * @param indexNames The index names.
+	 * @param indexMetadata The expected index metadata.
+	 * @return A future.
+	 * @throws SearchException If an error occurs.
+	 */
+	CompletableFuture<?> switchToShadow(IndexNames indexNames, IndexMetadata indexMetadata);
+
+	/**
+	 * Atomically moves the write alias back to the index the read alias points to,
+	 * then drops the index the write alias used to point to.
+	 *
+	 * <p>This method will skip operations silently if the read and write aliases point to the same index.
+	 *
+	 * @param indexNames The index names.
+	 * @param indexMetadata The expected index metadata.
+	 * @return A future.
+	 * @throws SearchException If an error occurs.
+	 */
+	CompletableFuture<?> dropShadowIfExisting(IndexNames indexNames, IndexMetadata indexMetadata);
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.schema.management.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
+import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The default {@link ElasticsearchSchemaShadowManager} implementation.
+ * <p>
+ * Does not keep any state: the shadow index, if any, is the index the write alias points to
+ * when the read alias points to another index.
+ */
+public class ElasticsearchSchemaShadowManagerImpl implements ElasticsearchSchemaShadowManager {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchSchemaAccessor schemaAccessor;
+
+	private final IndexLayoutStrategy indexLayoutStrategy;
+
+	public ElasticsearchSchemaShadowManagerImpl(ElasticsearchSchemaAccessor schemaAccessor,
+			IndexLayoutStrategy indexLayoutStrategy) {
+		this.schemaAccessor = schemaAccessor;
+		this.indexLayoutStrategy = indexLayoutStrategy;
+	}
+
+	@Override
+	public CompletableFuture<?> createShadow(IndexNames indexNames, IndexMetadata indexMetadata,
+			ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
+		return getAliasTargets( indexNames )
+				.thenCompose( targets -> {
+					URLEncodedString shadowIndexName = createShadowIndexName( indexNames, targets.writeIndexName );
+					Map<String, IndexAliasDefinition> writeAlias = getWriteAlias( indexNames, indexMetadata );
+					return schemaAccessor.createIndexAssumeNonExisting(
+							shadowIndexName,
+							Collections.emptyMap(),
+							indexMetadata.getSettings(),
+							indexMetadata.getMapping()
+					)
+							.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( shadowIndexName, executionOptions ) )
+							.thenCompose( ignored -> schemaAccessor.moveAliases(
+									targets.writeIndexName, shadowIndexName, writeAlias
+							) )
+							.thenCompose( ignored -> targets.hasShadow()
+									// Drop the previous shadow index, which no alias points to anymore.
+									? schemaAccessor.dropIndexIfExisting( targets.writeIndexName )
+									: CompletableFuture.completedFuture( null )
+							);
+				} );
+	}
+
+	@Override
+	public CompletableFuture<?> switchToShadow(IndexNames indexNames, IndexMetadata indexMetadata) {
+		return getAliasTargets( indexNames )
+				.thenCompose( targets -> {
+					if ( !targets.hasShadow() ) {
+						return CompletableFuture.completedFuture( null );
+					}
+					return schemaAccessor.moveAliases(
+							targets.readIndexName, targets.writeIndexName, getReadAlias( indexNames, indexMetadata )
+					)
+							.thenCompose( ignored -> schemaAccessor.dropIndexIfExisting( targets.readIndexName ) );
+				} );
+	}
+
+	@Override
+	public CompletableFuture<?> dropShadowIfExisting(IndexNames indexNames, IndexMetadata indexMetadata) {
+		return getAliasTargets( indexNames )
+				.thenCompose( targets -> {
+					if ( !targets.hasShadow() ) {
+						return CompletableFuture.completedFuture( null );
+					}
+					return schemaAccessor.moveAliases(
+							targets.writeIndexName, targets.readIndexName, getWriteAlias( indexNames, indexMetadata )
+					)
+							.thenCompose( ignored -> schemaAccessor.dropIndexIfExisting( targets.writeIndexName ) );
+				} );
+	}
+
+	private CompletableFuture<AliasTargets> getAliasTargets(IndexNames indexNames) {
+		return schemaAccessor.getAllIndexMetadata( indexNames )
+				.thenApply( list -> {
+					URLEncodedString writeIndexName = findIndexWithAlias( list, indexNames.getWrite() );
+					URLEncodedString readIndexName = findIndexWithAlias( list, indexNames.getRead() );
+					if ( writeIndexName == null || readIndexName == null ) {
+						throw log.indexMissing( indexNames.getWrite(), indexNames.getRead() );
+					}
+					return new AliasTargets( writeIndexName, readIndexName );
+				} );
+	}
+
+	private URLEncodedString createShadowIndexName(IndexNames indexNames, URLEncodedString currentIndexName) {
+		String nextName;
+		try {
+			nextName = indexLayoutStrategy.createNextElasticsearchIndexName(
+					indexNames.getHibernateSearch(), currentIndexName.original
+			);
+		}
+		catch (UnsupportedOperationException e) {
+			throw log.shadowIndexNotSupportedByLayoutStrategy( e );
+		}
+		return IndexNames.encodeName( nextName );
+	}
+
+	private static URLEncodedString findIndexWithAlias(List<ExistingIndexMetadata> list, URLEncodedString alias) {
+		for ( ExistingIndexMetadata existingIndexMetadata : list ) {
+			if ( existingIndexMetadata.getMetadata().getAliases().containsKey( alias.original ) ) {
+				return URLEncodedString.fromString( existingIndexMetadata.getPrimaryName() );
+			}
+		}
+		return null;
+	}
+
+	private static Map<String, IndexAliasDefinition> getWriteAlias(IndexNames indexNames, IndexMetadata indexMetadata) {
+		String alias = indexNames.getWrite().original;
+		return Collections.singletonMap( alias, indexMetadata.getAliases().get( alias ) );
+	}
+
+	private static Map<String, IndexAliasDefinition> getReadAlias(IndexNames indexNames, IndexMetadata indexMetadata) {
+		String alias = indexNames.getRead().original;
+		return Collections.singletonMap( alias, indexMetadata.getAliases().get( alias ) );
+	}
+
+	private static final class AliasTargets {
+		private final URLEncodedString writeIndexName;
+		private final URLEncodedString readIndexName;
+
+		private AliasTargets(URLEncodedString writeIndexName, URLEncodedString readIndexName) {
+			this.writeIndexName = writeIndexName;
+			this.readIndexName = readIndexName;
+		}
+
+		boolean hasShadow() {
+			return !writeIndexName.equals( readIndexName );
+		}
+	}
+
+}
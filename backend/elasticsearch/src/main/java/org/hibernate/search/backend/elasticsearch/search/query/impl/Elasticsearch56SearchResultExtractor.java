@@ -36,8 +36,9 @@
 	}
 
 	@Override
-	protected long extractHitCount(JsonObject responseBody) {
-		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+	protected TotalHitCount extractHitCount(JsonObject responseBody) {
+		// Hit counts are always exact before ES7
+		return new TotalHitCount( HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L ), true );
 	}
 
 }
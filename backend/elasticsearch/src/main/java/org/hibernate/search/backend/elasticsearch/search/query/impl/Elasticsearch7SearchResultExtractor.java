@@ -12,6 +12,7 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
@@ -33,9 +34,13 @@
 	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
 			HITS_ACCESSOR.property( "hits" ).asArray();
 
-	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
+	private static final JsonAccessor<Long> HITS_TOTAL_VALUE_ACCESSOR =
 			HITS_ACCESSOR.property( "total" ).property( "value" ).asLong();
 
+	// "gte" when the hit count reached "track_total_hits"
+	private static final JsonAccessor<String> HITS_TOTAL_RELATION_ACCESSOR =
+			HITS_ACCESSOR.property( "total" ).property( "relation" ).asString();
+
 	private static final JsonObjectAccessor AGGREGATIONS_ACCESSOR =
 			JsonAccessor.root().property( "aggregations" ).asObject();
 
@@ -45,6 +50,9 @@
 	private static final JsonAccessor<Boolean> TIMED_OUT_ACCESSOR =
 			JsonAccessor.root().property( "timed_out" ).asBoolean();
 
+	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
+			JsonAccessor.root().property( "_scroll_id" ).asString();
+
 	private final ElasticsearchSearchQueryRequestContext requestContext;
 
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
@@ -60,38 +68,46 @@
 	}
 
 	@Override
-	public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
+	public ElasticsearchLoadableSearchResult<H> extract(ElasticsearchResponse response) {
+		JsonObject responseBody = response.getBody();
+
 		ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext(
-				responseBody
+				response
 		);
 
-		long hitCount = extractHitCount( responseBody );
+		TotalHitCount hitCount = extractHitCount( responseBody );
 
-		final List<Object> extractedHits = hitCount > 0 ?
-				extractHits( extractContext ) : Collections.emptyList();
+		final List<Object> extractedHits = hitCount.value > 0 ?
+				extractHits( extractContext, responseBody ) : Collections.emptyList();
 
 		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
 				Collections.emptyMap() : extractAggregations( extractContext, responseBody );
 
-		Integer took = TOOK_ACCESSOR.get( responseBody ).get();
-		Boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).get();
+		Integer took = TOOK_ACCESSOR.get( responseBody ).orElse( null );
+		Boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).orElse( null );
+		String scrollId = SCROLL_ID_ACCESSOR.get( responseBody ).orElse( null );
 
 		return new ElasticsearchLoadableSearchResult<>(
 				extractContext,
 				rootProjection,
-				hitCount,
+				hitCount.value,
+				hitCount.exact,
 				extractedHits,
 				extractedAggregations,
-				took, timedOut
+				took, timedOut,
+				scrollId
 		);
 	}
 
-	protected long extractHitCount(JsonObject responseBody) {
-		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+	protected TotalHitCount extractHitCount(JsonObject responseBody) {
+		// ES7+: "total": { "value": 42, "relation": "eq" }
+		return new TotalHitCount(
+				HITS_TOTAL_VALUE_ACCESSOR.get( responseBody ).orElse( 0L ),
+				HITS_TOTAL_RELATION_ACCESSOR.get( responseBody ).map( "eq"::equals ).orElse( true )
+		);
 	}
 
-	private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractContext) {
-		JsonObject responseBody = extractContext.getResponseBody();
+	private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractContext, JsonObject responseBody) {
 		ProjectionHitMapper<?, ?> hitMapper = extractContext.getProjectionHitMapper();
 		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
 
@@ -126,4 +142,15 @@ private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractC
 
 		return extractedMap;
 	}
+
+	static final class TotalHitCount {
+
+		final long value;
+		final boolean exact;
+
+		TotalHitCount(long value, boolean exact) {
+			this.value = value;
+			this.exact = exact;
+		}
+	}
 }
@@ -11,6 +11,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
@@ -34,30 +35,60 @@
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 
 	private final long hitCount;
+	private final boolean hitCountExact;
 	private List<Object> extractedHits;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private final Integer took;
 	private final Boolean timedOut;
+	private final String scrollId;
 
 	ElasticsearchLoadableSearchResult(ElasticsearchSearchQueryExtractContext extractContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			long hitCount,
+			long hitCount, boolean hitCountExact,
 			List<Object> extractedHits,
 			Map<AggregationKey<?>, ?> extractedAggregations,
-			Integer took, Boolean timedOut) {
+			Integer took, Boolean timedOut,
+			String scrollId) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
 		this.extractedHits = extractedHits;
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
+		this.scrollId = scrollId;
+	}
+
+	/**
+	 * @return {@code true} if Elasticsearch returned at least one hit, regardless of whether loading succeeds.
+	 * Must be called before {@link #loadBlocking()}.
+	 */
+	boolean hasHits() {
+		return !extractedHits.isEmpty();
+	}
+
+	/**
+	 * @return The identifier of the scroll context, if the search was executed with scrolling, {@code null} otherwise.
+	 */
+	String getScrollId() {
+		return scrollId;
 	}
 
 	ElasticsearchSearchResult<H> loadBlocking() {
-		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
+		return load( extractContext.getProjectionHitMapper().loadBlocking() );
+	}
+
+	/**
+	 * @return A future that will be completed with the search result once loading completes.
+	 * @see org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper#loadAsync()
+	 */
+	CompletableFuture<ElasticsearchSearchResult<H>> loadAsync() {
+		return extractContext.getProjectionHitMapper().loadAsync().thenApply( this::load );
+	}
 
-		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
+	private ElasticsearchSearchResult<H> load(LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		int readIndex = 0;
 		int writeIndex = 0;
@@ -89,8 +120,8 @@ ElasticsearchSearchResult<H> loadBlocking() {
 		extractedHits = null;
 
 		return new ElasticsearchSearchResultImpl<>(
-				extractContext.getResponseBody(),
-				hitCount, loadedHits, extractedAggregations
+				extractContext.getResponse(),
+				hitCount, hitCountExact, loadedHits, extractedAggregations
 		, took, timedOut );
 	}
 }
@@ -50,6 +50,7 @@
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final String scrollTimeout;
 
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
@@ -66,12 +67,14 @@
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
 	private boolean exceptionOnTimeout;
+	private Long totalHitCountThreshold;
 	private ElasticsearchSearchRequestTransformer requestTransformer;
 
 	public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
+			String scrollTimeout,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContextBuilder<?, ?, ?> loadingContextBuilder,
@@ -79,6 +82,7 @@ public ElasticsearchSearchQueryBuilder(
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.scrollTimeout = scrollTimeout;
 
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
@@ -115,6 +119,11 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
 	@Override
 	public ElasticsearchSearchPredicateContext getRootPredicateContext() {
 		return rootPredicateContext;
@@ -209,11 +218,12 @@ public ElasticsearchSearchQuery<H> build() {
 				);
 
 		return new ElasticsearchSearchQueryImpl<>(
-				workFactory, queryOrchestrator,
+				workFactory, queryOrchestrator, scrollTimeout,
 				searchContext, sessionContext, loadingContext, routingKeys,
 				payload, requestTransformer,
 				searchResultExtractor,
-				timeoutValue, timeoutUnit, exceptionOnTimeout
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
+				totalHitCountThreshold
 		);
 	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
@@ -14,8 +15,6 @@
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
 
-import com.google.gson.JsonObject;
-
 /**
  * The context holding all the useful information pertaining to the extraction of data from
  * the response to the Elasticsearch search query.
@@ -26,16 +25,16 @@ class ElasticsearchSearchQueryExtractContext implements AggregationExtractContex
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 	private final FromDocumentFieldValueConvertContext convertContext;
 
-	private final JsonObject responseBody;
+	private final ElasticsearchResponse response;
 
 	ElasticsearchSearchQueryExtractContext(ElasticsearchSearchQueryRequestContext requestContext,
 			BackendSessionContext sessionContext,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
-			JsonObject responseBody) {
+			ElasticsearchResponse response) {
 		this.requestContext = requestContext;
 		this.projectionHitMapper = projectionHitMapper;
 		this.convertContext = new FromDocumentFieldValueConvertContextImpl( sessionContext );
-		this.responseBody = responseBody;
+		this.response = response;
 	}
 
 	@Override
@@ -43,8 +42,8 @@ public FromDocumentFieldValueConvertContext getConvertContext() {
 		return convertContext;
 	}
 
-	JsonObject getResponseBody() {
-		return responseBody;
+	ElasticsearchResponse getResponse() {
+		return response;
 	}
 
 	ProjectionHitMapper<?, ?> getProjectionHitMapper() {
@@ -10,6 +10,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
@@ -29,6 +30,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -50,6 +52,7 @@
 
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final String scrollTimeout;
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
 	private final LoadingContext<?, ?> loadingContext;
@@ -61,9 +64,11 @@
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
 	private boolean exceptionOnTimeout;
+	private final Long totalHitCountThreshold;
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
+			String scrollTimeout,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
@@ -71,9 +76,11 @@
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			Long totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.scrollTimeout = scrollTimeout;
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
@@ -84,6 +91,7 @@
 		this.timeoutValue = timeoutValue;
 		this.timeoutUnit = timeoutUnit;
 		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
 
 	@Override
@@ -105,45 +113,37 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
-		// TODO restore scrolling support. See HSEARCH-3323
-		ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> work = workFactory.search( payload, searchResultExtractor )
-				.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
-				.paging( defaultedLimit( limit, offset ), offset )
-				.routingKeys( routingKeys )
-				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				)
-				.build();
-
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( createSearchWork( offset, limit ) ) )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Asynchronous fetching relies on loadAsync() instead, see fetchAsync().
 				 */
 				.loadBlocking();
 	}
 
+	@Override
+	public CompletableFuture<ElasticsearchSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return Futures.create( () -> queryOrchestrator.submit( createSearchWork( offset, limit ) ) )
+				.thenCompose( ElasticsearchLoadableSearchResult::loadAsync );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
-		JsonObject filteredPayload = new JsonObject();
-		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
-		if ( querySubTree.isPresent() ) {
-			filteredPayload.add( "query", querySubTree.get() );
-		}
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( createCountWork() ) );
+	}
 
-		ElasticsearchWork<Long> work = workFactory.count( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
-				.query( filteredPayload )
-				.routingKeys( routingKeys )
-				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				)
-				.build();
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+	@Override
+	public CompletableFuture<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> queryOrchestrator.submit( createCountWork() ) );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		return new ElasticsearchSearchScroll<>( workFactory, queryOrchestrator, searchContext, routingKeys,
+				payload, requestTransformer, searchResultExtractor,
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
+				scrollTimeout, chunkSize );
 	}
 
 	@Override
@@ -172,6 +172,36 @@ public JsonObject explain(String indexName, String id) {
 		return doExplain( indexReadName, id );
 	}
 
+	private ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> createSearchWork(Integer offset, Integer limit) {
+		return workFactory.search( payload, searchResultExtractor )
+				.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
+				.paging( defaultedLimit( limit, offset ), offset )
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+	}
+
+	private ElasticsearchWork<Long> createCountWork() {
+		JsonObject filteredPayload = new JsonObject();
+		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
+		if ( querySubTree.isPresent() ) {
+			filteredPayload.add( "query", querySubTree.get() );
+		}
+
+		return workFactory.count( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
+				.query( filteredPayload )
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
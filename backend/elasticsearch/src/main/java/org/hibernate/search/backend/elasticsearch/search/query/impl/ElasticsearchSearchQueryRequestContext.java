@@ -9,6 +9,7 @@
 import java.util.Collections;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.DistanceSortKey;
@@ -18,8 +19,6 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.spatial.GeoPoint;
 
-import com.google.gson.JsonObject;
-
 /**
  * The context holding all the useful information pertaining to the Elasticsearch search query,
  * to be used:
@@ -28,7 +27,7 @@
  *     For example distance projections need to inspect distance sorts (if any) for optimization purposes.
  *     ({@link #getDistanceSortIndex(String, GeoPoint)}</li>
  *     <li>When extracting data from the response, to get an "extract" context linked to the session/loading context
- *     ({@link #createExtractContext(JsonObject)}</li>
+ *     ({@link #createExtractContext(ElasticsearchResponse)}</li>
  * </ul>
  */
 class ElasticsearchSearchQueryRequestContext implements SearchProjectionRequestContext, AggregationRequestContext {
@@ -63,12 +62,12 @@ public ElasticsearchSearchSyntax getSearchSyntax() {
 		return searchContext.getSearchSyntax();
 	}
 
-	ElasticsearchSearchQueryExtractContext createExtractContext(JsonObject responseBody) {
+	ElasticsearchSearchQueryExtractContext createExtractContext(ElasticsearchResponse response) {
 		return new ElasticsearchSearchQueryExtractContext(
 				this,
 				sessionContext,
 				loadingContext.getProjectionHitMapper(),
-				responseBody
+				response
 		);
 	}
 
@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
@@ -19,16 +20,18 @@
 class ElasticsearchSearchResultImpl<H> extends SimpleSearchResult<H>
 		implements ElasticsearchSearchResult<H> {
 
-	private final JsonObject responseBody;
+	private final ElasticsearchResponse response;
 
-	ElasticsearchSearchResultImpl(JsonObject responseBody,
-			long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut) {
-		super( hitCount, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut );
-		this.responseBody = responseBody;
+	ElasticsearchSearchResultImpl(ElasticsearchResponse response,
+			long hitCount, boolean hitCountExact, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+			Integer took, Boolean timedOut) {
+		super( hitCount, hitCountExact, hits, aggregationResults,
+				( took == null ) ? null : Duration.ofMillis( took ), timedOut );
+		this.response = response;
 	}
 
 	@Override
 	public JsonObject getResponseBody() {
-		return responseBody;
+		return response.getBody();
 	}
 }
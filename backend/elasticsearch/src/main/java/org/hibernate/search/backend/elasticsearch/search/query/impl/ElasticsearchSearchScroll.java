@@ -0,0 +1,122 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+import org.hibernate.search.util.common.impl.Futures;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A scroll relying on Elasticsearch's scroll API:
+ * the first chunk is fetched by a search request that opens a scroll context,
+ * and the following chunks are fetched using the identifier of that context.
+ * <p>
+ * The scroll context is a snapshot of the index at the time of the first request:
+ * changes to the index after that will not be reflected in the following chunks.
+ *
+ * @param <H> The type of query hits.
+ */
+class ElasticsearchSearchScroll<H> implements SearchScroll<H> {
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchSearchContext searchContext;
+	private final Set<String> routingKeys;
+	private final JsonObject payload;
+	private final ElasticsearchSearchRequestTransformer requestTransformer;
+	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final Long timeoutValue;
+	private final TimeUnit timeoutUnit;
+	private final boolean exceptionOnTimeout;
+	private final String scrollTimeout;
+	private final int chunkSize;
+
+	private boolean started = false;
+	private String scrollId;
+	private long totalHitCount = 0L;
+
+	ElasticsearchSearchScroll(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			ElasticsearchSearchContext searchContext,
+			Set<String> routingKeys,
+			JsonObject payload,
+			ElasticsearchSearchRequestTransformer requestTransformer,
+			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			String scrollTimeout, int chunkSize) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.searchContext = searchContext;
+		this.routingKeys = routingKeys;
+		this.payload = payload;
+		this.requestTransformer = requestTransformer;
+		this.searchResultExtractor = searchResultExtractor;
+		this.timeoutValue = timeoutValue;
+		this.timeoutUnit = timeoutUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.scrollTimeout = scrollTimeout;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void close() {
+		if ( scrollId == null ) {
+			return;
+		}
+		// Release the scroll context on the Elasticsearch side instead of waiting for it to time out.
+		ElasticsearchWork<Void> work = workFactory.clearScroll( scrollId ).build();
+		scrollId = null;
+		Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> work;
+		if ( !started ) {
+			work = workFactory.search( payload, searchResultExtractor )
+					.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
+					.scrolling( chunkSize, scrollTimeout )
+					.routingKeys( routingKeys )
+					.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+					.requestTransformer(
+							ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+					)
+					.build();
+			started = true;
+		}
+		else if ( scrollId != null ) {
+			work = workFactory.scroll( scrollId, scrollTimeout, searchResultExtractor ).build();
+		}
+		else {
+			// The scroll context was released: there is nothing left to fetch.
+			return new SimpleSearchScrollResult<>( false, Collections.emptyList(), totalHitCount );
+		}
+
+		ElasticsearchLoadableSearchResult<H> loadableResult =
+				Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		scrollId = loadableResult.getScrollId();
+		boolean hasHits = loadableResult.hasHits();
+		// WARNING: the following call must run in the user thread.
+		ElasticsearchSearchResult<H> result = loadableResult.loadBlocking();
+		totalHitCount = result.getTotalHitCount();
+		return new SimpleSearchScrollResult<>( hasHits, result.getHits(), totalHitCount );
+	}
+}
@@ -30,6 +30,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenIndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.MergeSegmentsWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexAliasesWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexSettingsWorkBuilder;
@@ -53,6 +54,8 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexTypeMappingWork;
@@ -113,6 +116,11 @@ public BulkWorkBuilder bulk(List<? extends BulkableElasticsearchWork<?>> bulkabl
 		return new BulkWork.Builder( bulkableWorks );
 	}
 
+	@Override
+	public MultiSearchWorkBuilder multiSearch(List<? extends MultiSearchableElasticsearchWork<?>> multiSearchableWorks) {
+		return new MultiSearchWork.Builder( multiSearchableWorks );
+	}
+
 	@Override
 	public <T> SearchWorkBuilder<T> search(JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
 		return SearchWork.Builder.forElasticsearch7AndAbove( payload, searchResultExtractor );
@@ -6,9 +6,22 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.builder.impl;
 
+import java.util.Collection;
+
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 
 
 public interface PutIndexAliasesWorkBuilder extends ElasticsearchWorkBuilder<ElasticsearchWork<Void>> {
 
+	/**
+	 * Removes the given aliases from the given index
+	 * in the same request as the aliases are added, i.e. atomically.
+	 *
+	 * @param indexName The name of the index to remove aliases from.
+	 * @param aliases The aliases to remove.
+	 * @return {@code this}, for method chaining.
+	 */
+	PutIndexAliasesWorkBuilder removeAliases(URLEncodedString indexName, Collection<String> aliases);
+
 }
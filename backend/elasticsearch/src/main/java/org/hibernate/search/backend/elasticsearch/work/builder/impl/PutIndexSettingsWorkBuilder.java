@@ -11,4 +11,10 @@
 
 public interface PutIndexSettingsWorkBuilder extends ElasticsearchWorkBuilder<ElasticsearchWork<Void>> {
 
+	/**
+	 * @param settingName The name of a dynamic setting, e.g. {@code refresh_interval} or {@code translog.durability}.
+	 * @return This builder, for method chaining.
+	 */
+	PutIndexSettingsWorkBuilder resetToDefault(String settingName);
+
 }
@@ -102,7 +102,7 @@ public CompletableFuture<R> aggregate(ElasticsearchWorkAggregator aggregator) {
 		return aggregator.addNonBulkable( this );
 	}
 
-	private R handleResult(ElasticsearchWorkExecutionContext executionContext, ElasticsearchResponse response) {
+	protected final R handleResult(ElasticsearchWorkExecutionContext executionContext, ElasticsearchResponse response) {
 		R result;
 		try {
 			resultAssessor.checkSuccess( response );
@@ -176,6 +176,10 @@ protected static String getTimeoutString(Long timeoutValue, TimeUnit timeoutUnit
 			return builder.toString();
 		}
 
+		protected boolean hasRequestTransformer() {
+			return requestTransformer != null;
+		}
+
 		private ElasticsearchRequest buildRequestAndTransformIfNecessary() {
 			ElasticsearchRequest request = buildRequest();
 			if ( requestTransformer != null ) {
@@ -11,6 +11,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonSizeEstimator;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -72,6 +73,19 @@ public JsonObject getBulkableActionBody() {
 		}
 	}
 
+	@Override
+	public long getBulkableActionEstimatedSize() {
+		// Not computed upfront: this requires walking the whole document,
+		// and is only necessary when the work ends up being bulked.
+		// Each part is followed by a line break in the bulk request
+		long size = JsonSizeEstimator.estimate( bulkableActionMetadata ) + 1;
+		JsonObject body = getBulkableActionBody();
+		if ( body != null ) {
+			size += JsonSizeEstimator.estimate( body ) + 1;
+		}
+		return size;
+	}
+
 	@Override
 	public R handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem) {
 		return handleResult( context, bulkResponseItem );
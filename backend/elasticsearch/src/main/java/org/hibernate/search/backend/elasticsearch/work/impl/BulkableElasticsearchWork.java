@@ -19,6 +19,13 @@
 
 	JsonObject getBulkableActionBody();
 
+	/**
+	 * @return An estimate of the size of this work in a bulk request, in bytes,
+	 * i.e. the size of the serialized metadata and body, including line breaks.
+	 * Computed on each call, by walking the whole document.
+	 */
+	long getBulkableActionEstimatedSize();
+
 	/**
 	 * @param context The execution context
 	 * @param resultItem A future eventually returning the part of the bulk JSON result relevant to this work
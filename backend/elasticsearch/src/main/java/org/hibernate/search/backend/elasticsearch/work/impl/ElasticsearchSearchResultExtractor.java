@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
-import com.google.gson.JsonObject;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 
 public interface ElasticsearchSearchResultExtractor<R> {
 
-	R extract(JsonObject responseBody);
+	/**
+	 * @param response The response to a search request.
+	 * @return The extracted result.
+	 */
+	R extract(ElasticsearchResponse response);
 
 }
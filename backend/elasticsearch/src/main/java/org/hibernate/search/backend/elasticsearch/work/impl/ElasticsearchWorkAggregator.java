@@ -15,4 +15,6 @@ public interface ElasticsearchWorkAggregator {
 
 	<T> CompletableFuture<T> addNonBulkable(ElasticsearchWork<T> work);
 
+	<T> CompletableFuture<T> addMultiSearchable(MultiSearchableElasticsearchWork<T> work);
+
 }
@@ -0,0 +1,143 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+/**
+ * A work sending multiple searches to Elasticsearch in a single request,
+ * using the Multi Search API.
+ * <p>
+ * Each search in the multi-search succeeds or fails independently:
+ * the result of this work only gives access to the response of each search,
+ * and it is up to each {@link MultiSearchableElasticsearchWork} to check that its own search succeeded.
+ */
+public class MultiSearchWork extends AbstractSimpleElasticsearchWork<MultiSearchResult> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
+
+	private static final JsonAccessor<JsonArray> RESPONSES = JsonAccessor.root().property( "responses" ).asArray();
+	private static final JsonAccessor<Integer> RESPONSE_ITEM_STATUS = JsonAccessor.root().property( "status" ).asInteger();
+	private static final JsonAccessor<JsonElement> RESPONSE_ITEM_ERROR = JsonAccessor.root().property( "error" );
+
+	private static final int SUCCESS_STATUS_CODE = 200;
+	private static final int FAILURE_STATUS_CODE = 500;
+
+	private final int searchCount;
+
+	protected MultiSearchWork(Builder builder) {
+		super( builder );
+		this.searchCount = builder.multiSearchableWorks.size();
+	}
+
+	@Override
+	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
+		queryLog.executingElasticsearchQuery(
+				request.getPath(),
+				request.getParameters(),
+				executionContext.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
+				);
+		return super.beforeExecute( executionContext, request );
+	}
+
+	@Override
+	protected MultiSearchResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		List<JsonObject> responseItems = readResponseItems( response );
+		if ( responseItems.size() != searchCount ) {
+			throw new AssertionFailure( "Elasticsearch returned " + responseItems.size() + " responses to a multi-search"
+					+ " of " + searchCount + " searches" );
+		}
+		return new MultiSearchResultImpl( responseItems );
+	}
+
+	private List<JsonObject> readResponseItems(ElasticsearchResponse response) {
+		JsonObject body = response.getBody();
+		JsonArray jsonResponses = body == null ? null : RESPONSES.get( body ).orElse( null );
+		if ( jsonResponses == null ) {
+			return Collections.emptyList();
+		}
+		List<JsonObject> responseItems = new ArrayList<>( jsonResponses.size() );
+		for ( JsonElement jsonResponse : jsonResponses ) {
+			if ( !jsonResponse.isJsonObject() ) {
+				throw log.failedToParseElasticsearchResponse( response.getStatusCode(), response.getStatusMessage(),
+						new JsonParseException( "Expected a JSON object in 'responses' but was " + jsonResponse ) );
+			}
+			responseItems.add( jsonResponse.getAsJsonObject() );
+		}
+		return responseItems;
+	}
+
+	public static class Builder
+			extends AbstractBuilder<Builder>
+			implements MultiSearchWorkBuilder {
+		private final List<? extends MultiSearchableElasticsearchWork<?>> multiSearchableWorks;
+
+		public Builder(List<? extends MultiSearchableElasticsearchWork<?>> multiSearchableWorks) {
+			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.multiSearchableWorks = new ArrayList<>( multiSearchableWorks );
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._MSEARCH );
+
+			for ( MultiSearchableElasticsearchWork<?> work : multiSearchableWorks ) {
+				builder.body( work.getMultiSearchHeader() );
+				builder.body( work.getMultiSearchBody() );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		public MultiSearchWork build() {
+			return new MultiSearchWork( this );
+		}
+	}
+
+	private static class MultiSearchResultImpl implements MultiSearchResult {
+		private final List<JsonObject> responseItems;
+
+		private MultiSearchResultImpl(List<JsonObject> responseItems) {
+			this.responseItems = responseItems;
+		}
+
+		@Override
+		public ElasticsearchResponse getResponseItem(int index) {
+			JsonObject responseItem = responseItems.get( index );
+			// Older versions of Elasticsearch do not include the status of each search in the response
+			int statusCode = RESPONSE_ITEM_STATUS.get( responseItem )
+					.orElseGet( () -> RESPONSE_ITEM_ERROR.get( responseItem ).isPresent()
+							? FAILURE_STATUS_CODE : SUCCESS_STATUS_CODE );
+			return new ElasticsearchResponse( statusCode, null, responseItem );
+		}
+	}
+}
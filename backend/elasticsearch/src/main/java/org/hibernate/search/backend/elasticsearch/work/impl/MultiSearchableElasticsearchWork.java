@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+
+import com.google.gson.JsonObject;
+
+
+public interface MultiSearchableElasticsearchWork<T> extends ElasticsearchWork<T> {
+
+	JsonObject getMultiSearchHeader();
+
+	JsonObject getMultiSearchBody();
+
+	/**
+	 * @param context The execution context
+	 * @param responseItem The part of the multi-search response relevant to this work,
+	 * exposed as if it was the response to an individual search request.
+	 * @return the result of this work
+	 */
+	T handleMultiSearchResponseItem(ElasticsearchWorkExecutionContext context, ElasticsearchResponse responseItem);
+
+}
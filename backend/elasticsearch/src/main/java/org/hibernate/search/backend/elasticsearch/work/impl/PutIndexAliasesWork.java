@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.Collection;
 import java.util.Map;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
@@ -52,6 +53,21 @@ protected ElasticsearchRequest buildRequest() {
 			return builder.build();
 		}
 
+		@Override
+		public Builder removeAliases(URLEncodedString indexName, Collection<String> aliases) {
+			JsonArray actions = payload.getAsJsonArray( "actions" );
+			for ( String alias : aliases ) {
+				JsonObject action = new JsonObject();
+				JsonObject aliasDefinition = new JsonObject();
+				action.add( "remove", aliasDefinition );
+				aliasDefinition.addProperty( "index", indexName.original );
+				aliasDefinition.addProperty( "alias", alias );
+
+				actions.add( action );
+			}
+			return this;
+		}
+
 		@Override
 		public PutIndexAliasesWork build() {
 			return new PutIndexAliasesWork( this );
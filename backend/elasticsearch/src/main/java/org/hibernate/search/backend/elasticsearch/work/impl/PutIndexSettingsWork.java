@@ -15,6 +15,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexSettingsWorkBuilder;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 
 
@@ -48,6 +49,13 @@ public Builder(
 			this.payload = gson.toJsonTree( settings ).getAsJsonObject();
 		}
 
+		@Override
+		public Builder resetToDefault(String settingName) {
+			// An explicit null is the only way to reset a dynamic setting to its default value
+			payload.add( settingName, JsonNull.INSTANCE );
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
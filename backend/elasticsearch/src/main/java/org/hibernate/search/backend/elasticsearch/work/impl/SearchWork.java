@@ -8,7 +8,9 @@
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -21,18 +23,55 @@
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
-public class SearchWork<R> extends AbstractSimpleElasticsearchWork<R> {
+public class SearchWork<R> extends AbstractSimpleElasticsearchWork<R>
+		implements MultiSearchableElasticsearchWork<R> {
 
 	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
+	private final JsonObject multiSearchHeader;
+	private final JsonObject multiSearchBody;
 
 	protected SearchWork(Builder<R> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
+		if ( builder.isMultiSearchable() ) {
+			this.multiSearchHeader = builder.buildMultiSearchHeader();
+			this.multiSearchBody = builder.buildMultiSearchBody();
+		}
+		else {
+			this.multiSearchHeader = null;
+			this.multiSearchBody = null;
+		}
+	}
+
+	@Override
+	public CompletableFuture<R> aggregate(ElasticsearchWorkAggregator aggregator) {
+		if ( multiSearchHeader != null ) {
+			return aggregator.addMultiSearchable( this );
+		}
+		else {
+			return aggregator.addNonBulkable( this );
+		}
+	}
+
+	@Override
+	public JsonObject getMultiSearchHeader() {
+		return multiSearchHeader;
+	}
+
+	@Override
+	public JsonObject getMultiSearchBody() {
+		return multiSearchBody;
+	}
+
+	@Override
+	public R handleMultiSearchResponseItem(ElasticsearchWorkExecutionContext context, ElasticsearchResponse responseItem) {
+		return handleResult( context, responseItem );
 	}
 
 	@Override
@@ -47,8 +86,7 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject body = response.getBody();
-		return resultExtractor.extract( body );
+		return resultExtractor.extract( response );
 	}
 
 	public static class Builder<R>
@@ -59,22 +97,21 @@ public static <T> Builder<T> forElasticsearch62AndBelow(JsonObject payload, Elas
 			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
 			// No "allow_partial_search_results": this parameter does not exist in ES6 and below, and total hits are always tracked
 			// See https://github.com/elastic/elasticsearch/pull/27906
-			return new Builder<>( payload, resultExtractor, null, false );
+			return new Builder<>( payload, resultExtractor, false, false );
 		}
 
 		public static <T> Builder<T> forElasticsearch63to68(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
 			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
-			return new Builder<>( payload, resultExtractor, null, false );
+			return new Builder<>( payload, resultExtractor, false, false );
 		}
 
 		public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
-			// TODO HSEARCH-3517 disable track_total_hits when possible
 			return new Builder<>( payload, resultExtractor, true, false );
 		}
 
 		private final JsonObject payload;
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
-		private final Boolean trackTotalHits;
+		private final boolean trackTotalHitsSupported;
 		private final boolean allowPartialSearchResultsSupported;
 		private final Set<URLEncodedString> indexes = new HashSet<>();
 
@@ -86,13 +123,14 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Long timeoutValue;
 		private TimeUnit timeoutUnit;
 		private boolean exceptionOnTimeout;
+		private Long totalHitCountThreshold;
 
-		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
-				boolean allowPartialSearchResultsSupported) {
+		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor,
+				boolean trackTotalHitsSupported, boolean allowPartialSearchResultsSupported) {
 			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
 			this.payload = payload;
 			this.resultExtractor = resultExtractor;
-			this.trackTotalHits = trackTotalHits;
+			this.trackTotalHitsSupported = trackTotalHitsSupported;
 			this.allowPartialSearchResultsSupported = allowPartialSearchResultsSupported;
 		}
 
@@ -130,6 +168,12 @@ public SearchWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boo
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -155,8 +199,15 @@ protected ElasticsearchRequest buildRequest() {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
-			if ( trackTotalHits != null ) {
-				builder.param( "track_total_hits", trackTotalHits );
+			if ( trackTotalHitsSupported ) {
+				if ( totalHitCountThreshold != null && scrollTimeout == null ) {
+					// Elasticsearch only accepts int thresholds; anything above means "count all hits" anyway.
+					builder.param( "track_total_hits", (int) Math.min( totalHitCountThreshold, Integer.MAX_VALUE ) );
+				}
+				else {
+					// Scrolls do not support partial hit counts, and otherwise ES7 defaults to counting up to 10,000 hits only.
+					builder.param( "track_total_hits", true );
+				}
 			}
 
 			if ( timeoutValue != null && timeoutUnit != null ) {
@@ -188,6 +239,71 @@ protected ElasticsearchRequest buildRequest() {
 			return builder.build();
 		}
 
+		/*
+		 * Scrolls cannot be executed through the Multi Search API,
+		 * custom request transformers expect a standalone search request,
+		 * and a client-side timeout would apply to the whole multi-search.
+		 */
+		private boolean isMultiSearchable() {
+			return scrollTimeout == null && !hasRequestTransformer()
+					&& !( timeoutValue != null && timeoutUnit != null && exceptionOnTimeout );
+		}
+
+		/*
+		 * The Multi Search API only accepts some parameters in the header of each search:
+		 * the others must be moved to the body of each search.
+		 */
+		private JsonObject buildMultiSearchHeader() {
+			JsonObject header = new JsonObject();
+			header.addProperty( "index", indexes.stream().map( index -> index.original )
+					.collect( Collectors.joining( "," ) ) );
+
+			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", String.join( ",", routingKeys ) );
+			}
+
+			if ( timeoutValue != null && timeoutUnit != null && allowPartialSearchResultsSupported ) {
+				// Ask the server to truncate results on timeout; see buildRequest().
+				header.addProperty( "allow_partial_search_results", true );
+			}
+
+			return header;
+		}
+
+		private JsonObject buildMultiSearchBody() {
+			// Copy the payload: it may be shared with other searches.
+			JsonObject body = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				body.add( entry.getKey(), entry.getValue() );
+			}
+
+			if ( from != null ) {
+				body.addProperty( "from", from );
+			}
+
+			if ( size != null ) {
+				body.addProperty( "size", size );
+			}
+
+			if ( trackTotalHitsSupported ) {
+				if ( totalHitCountThreshold != null ) {
+					// Elasticsearch only accepts int thresholds; anything above means "count all hits" anyway.
+					body.addProperty( "track_total_hits", (int) Math.min( totalHitCountThreshold, Integer.MAX_VALUE ) );
+				}
+				else {
+					// ES7 defaults to counting up to 10,000 hits only.
+					body.addProperty( "track_total_hits", true );
+				}
+			}
+
+			if ( timeoutValue != null && timeoutUnit != null ) {
+				// Server-side timeout: the search will truncate results on timeout.
+				body.addProperty( "timeout", getTimeoutString( timeoutValue, timeoutUnit ) );
+			}
+
+			return body;
+		}
+
 		@Override
 		public SearchWork<R> build() {
 			return new SearchWork<>( this );
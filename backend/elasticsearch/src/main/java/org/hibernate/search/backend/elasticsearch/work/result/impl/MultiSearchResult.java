@@ -0,0 +1,20 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.result.impl;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+
+
+public interface MultiSearchResult {
+
+	/**
+	 * @param index The index of a search in the multi-search.
+	 * @return The response to that search, as if it had been sent in an individual search request.
+	 */
+	ElasticsearchResponse getResponseItem(int index);
+
+}
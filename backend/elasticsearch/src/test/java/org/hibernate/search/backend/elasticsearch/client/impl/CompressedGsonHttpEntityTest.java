@@ -0,0 +1,236 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.hibernate.search.backend.elasticsearch.client.CompressionName;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+
+@RunWith(Parameterized.class)
+public class CompressedGsonHttpEntityTest {
+
+	private static final Gson GSON = new Gson();
+
+	@Parameterized.Parameters(name = "{0}")
+	public static Object[][] params() {
+		return new Object[][] {
+				{ CompressionName.GZIP },
+				{ CompressionName.DEFLATE }
+		};
+	}
+
+	private final CompressionName compression;
+
+	public CompressedGsonHttpEntityTest(CompressionName compression) {
+		this.compression = compression;
+	}
+
+	@Test
+	public void contentEncoding() throws IOException {
+		try ( CompressedGsonHttpEntity entity = createEntity( Collections.singletonList( smallObject( 0 ) ) ) ) {
+			assertThat( entity.getContentEncoding().getValue() ).isEqualTo( compression.getExternalRepresentation() );
+			assertThat( entity.getContentType().getValue() ).startsWith( "application/json" );
+		}
+	}
+
+	@Test
+	public void smallContent() throws IOException {
+		List<JsonObject> bodyParts = Arrays.asList( smallObject( 0 ), smallObject( 1 ) );
+		try ( CompressedGsonHttpEntity entity = createEntity( bodyParts ) ) {
+			byte[] compressed = produceContent( entity );
+			assertThat( decompress( compressed ) ).isEqualTo( uncompressed( bodyParts ) );
+			// Small content is compressed upfront, so that the content length is known and chunked encoding is avoided
+			assertThat( entity.getContentLength() ).isEqualTo( compressed.length );
+		}
+	}
+
+	@Test
+	public void largeContent() throws IOException {
+		List<JsonObject> bodyParts = largeBulk();
+		try ( CompressedGsonHttpEntity entity = createEntity( bodyParts ) ) {
+			assertThat( entity.getContentLength() ).isEqualTo( -1L );
+			byte[] compressed = produceContent( entity );
+			assertThat( decompress( compressed ) ).isEqualTo( uncompressed( bodyParts ) );
+			// The content is repetitive, so it should compress well
+			assertThat( compressed.length ).isLessThan( uncompressed( bodyParts ).length / 5 );
+		}
+	}
+
+	@Test
+	public void repeatable() throws IOException {
+		List<JsonObject> bodyParts = largeBulk();
+		try ( CompressedGsonHttpEntity entity = createEntity( bodyParts ) ) {
+			byte[] firstRun = produceContent( entity );
+			byte[] secondRun = produceContent( entity );
+			assertThat( secondRun ).isEqualTo( firstRun );
+
+			// Interrupt production, close the entity, and produce again: we should get the full content
+			HeapContentEncoder interrupted = new HeapContentEncoder();
+			interrupted.setNextAcceptedBytesSize( 10 );
+			entity.produceContent( interrupted, new FakeIOControl() );
+			assertThat( interrupted.isCompleted() ).isFalse();
+			entity.close();
+			byte[] thirdRun = produceContent( entity );
+			assertThat( thirdRun ).isEqualTo( firstRun );
+		}
+	}
+
+	@Test
+	public void writeTo() throws IOException {
+		List<JsonObject> bodyParts = largeBulk();
+		try ( CompressedGsonHttpEntity entity = createEntity( bodyParts ) ) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			entity.writeTo( outputStream );
+			byte[] compressed = outputStream.toByteArray();
+			assertThat( decompress( compressed ) ).isEqualTo( uncompressed( bodyParts ) );
+			// Calling writeTo allows to find out the content length
+			assertThat( entity.getContentLength() ).isEqualTo( compressed.length );
+			assertThat( produceContent( entity ) ).hasSize( compressed.length );
+		}
+	}
+
+	private CompressedGsonHttpEntity createEntity(List<JsonObject> bodyParts) throws IOException {
+		return new CompressedGsonHttpEntity( GSON, bodyParts, compression );
+	}
+
+	private byte[] produceContent(CompressedGsonHttpEntity entity) throws IOException {
+		IOControl fakeIO = new FakeIOControl();
+		HeapContentEncoder sink = new HeapContentEncoder();
+		int loopCounter = 0;
+		while ( !sink.isCompleted() ) {
+			entity.produceContent( sink, fakeIO );
+			// Use small write windows to check that flow control is handled correctly
+			sink.setNextAcceptedBytesSize( loopCounter++ % 200 );
+		}
+		return sink.toByteArray();
+	}
+
+	private byte[] decompress(byte[] compressed) throws IOException {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try ( InputStream inputStream = CompressionName.GZIP.equals( compression )
+				? new GZIPInputStream( new ByteArrayInputStream( compressed ) )
+				: new InflaterInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = inputStream.read( buffer ) ) >= 0 ) {
+				result.write( buffer, 0, read );
+			}
+		}
+		return result.toByteArray();
+	}
+
+	private static byte[] uncompressed(List<JsonObject> bodyParts) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : bodyParts ) {
+			GSON.toJson( bodyPart, builder );
+			builder.append( '\n' );
+		}
+		return builder.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	private static List<JsonObject> largeBulk() {
+		List<JsonObject> list = new ArrayList<>();
+		for ( int i = 0; i < 2000; i++ ) {
+			list.add( smallObject( i ) );
+		}
+		return list;
+	}
+
+	private static JsonObject smallObject(int i) {
+		JsonObject object = new JsonObject();
+		object.addProperty( "id", i );
+		object.addProperty( "text", "Some text with a unicode character: é, number " + i );
+		return object;
+	}
+
+	private static final class HeapContentEncoder implements ContentEncoder {
+
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private int nextWriteAcceptLimit = 0;
+		private boolean completed = false;
+
+		@Override
+		public int write(ByteBuffer byteBuffer) {
+			assertThat( completed ).isFalse();
+			// We should never do 0-length writes, see HSEARCH-2854
+			assertThat( byteBuffer.hasRemaining() ).isTrue();
+			int toRead = Math.min( byteBuffer.remaining(), nextWriteAcceptLimit );
+			byte[] currentRead = new byte[toRead];
+			byteBuffer.get( currentRead );
+			content.write( currentRead, 0, toRead );
+			return toRead;
+		}
+
+		@Override
+		public void complete() {
+			assertThat( completed ).as( "Can't mark it 'complete' multiple times" ).isFalse();
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+
+		void setNextAcceptedBytesSize(int size) {
+			this.nextWriteAcceptLimit = size;
+		}
+
+		byte[] toByteArray() {
+			return content.toByteArray();
+		}
+	}
+
+	private static final class FakeIOControl implements IOControl {
+		@Override
+		public void requestInput() {
+			throw new UnsupportedOperationException( "Should not invoke this" );
+		}
+
+		@Override
+		public void suspendInput() {
+			throw new UnsupportedOperationException( "Should not invoke this" );
+		}
+
+		@Override
+		public void requestOutput() {
+			throw new UnsupportedOperationException( "Should not invoke this" );
+		}
+
+		@Override
+		public void suspendOutput() {
+			throw new UnsupportedOperationException( "Should not invoke this" );
+		}
+
+		@Override
+		public void shutdown() {
+			throw new UnsupportedOperationException( "Should not invoke this" );
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.expect;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.Gauge;
+import org.hibernate.search.engine.environment.metrics.spi.Histogram;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+import org.hibernate.search.util.impl.test.FutureAssert;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import org.easymock.EasyMockSupport;
+
+public class MeteredElasticsearchClientTest extends EasyMockSupport {
+
+	private static final String BACKEND_NAME = "myBackend";
+
+	private final ElasticsearchClientImplementor delegateMock = createStrictMock( ElasticsearchClientImplementor.class );
+	private final StubMetricsProvider metricsProvider = new StubMetricsProvider();
+
+	private final ElasticsearchClientImplementor client =
+			MeteredElasticsearchClient.create( delegateMock, metricsProvider, BACKEND_NAME );
+
+	@Test
+	public void success() {
+		ElasticsearchRequest request = ElasticsearchRequest.get().build();
+		ElasticsearchResponse response = new ElasticsearchResponse( 200, "OK", new JsonObject() );
+
+		resetAll();
+		expect( delegateMock.submit( request ) ).andReturn( CompletableFuture.completedFuture( response ) );
+		replayAll();
+		FutureAssert.assertThat( client.submit( request ) ).isSuccessful( response );
+		verifyAll();
+
+		assertThat( metricsProvider.recorded( MeteredElasticsearchClient.REQUEST_DURATION ) ).hasSize( 1 );
+		assertThat( metricsProvider.recorded( MeteredElasticsearchClient.REQUEST_FAILURES ) ).isEmpty();
+	}
+
+	@Test
+	public void errorResponse() {
+		ElasticsearchRequest request = ElasticsearchRequest.get().build();
+		ElasticsearchResponse response = new ElasticsearchResponse( 500, "Internal Server Error", new JsonObject() );
+
+		resetAll();
+		expect( delegateMock.submit( request ) ).andReturn( CompletableFuture.completedFuture( response ) );
+		replayAll();
+		FutureAssert.assertThat( client.submit( request ) ).isSuccessful( response );
+		verifyAll();
+
+		// Error responses are not failures of the client: the work decides whether they are failures
+		assertThat( metricsProvider.recorded( MeteredElasticsearchClient.REQUEST_DURATION ) ).hasSize( 1 );
+		assertThat( metricsProvider.recorded( MeteredElasticsearchClient.REQUEST_FAILURES ) ).isEmpty();
+	}
+
+	@Test
+	public void failure() {
+		ElasticsearchRequest request = ElasticsearchRequest.get().build();
+		RuntimeException exception = new RuntimeException( "Simulated connection failure" );
+		CompletableFuture<ElasticsearchResponse> failedFuture = new CompletableFuture<>();
+		failedFuture.completeExceptionally( exception );
+
+		resetAll();
+		expect( delegateMock.submit( request ) ).andReturn( failedFuture );
+		replayAll();
+		FutureAssert.assertThat( client.submit( request ) ).isFailed( exception );
+		verifyAll();
+
+		assertThat( metricsProvider.recorded( MeteredElasticsearchClient.REQUEST_DURATION ) ).hasSize( 1 );
+		assertThat( metricsProvider.recorded( MeteredElasticsearchClient.REQUEST_FAILURES ) ).containsExactly( 1L );
+	}
+
+	private static class StubMetricsProvider implements MetricsProvider {
+		private final Map<String, List<Long>> recordedValues = new ConcurrentHashMap<>();
+
+		@Override
+		public Counter counter(String name, Map<String, String> tags) {
+			return recorder( name, tags )::add;
+		}
+
+		@Override
+		public Histogram histogram(String name, Map<String, String> tags) {
+			throw new UnsupportedOperationException( "Unexpected histogram: " + name );
+		}
+
+		@Override
+		public Timer timer(String name, Map<String, String> tags) {
+			return recorder( name, tags )::add;
+		}
+
+		@Override
+		public Gauge gauge(String name, Map<String, String> tags, LongSupplier valueSupplier) {
+			throw new UnsupportedOperationException( "Unexpected gauge: " + name );
+		}
+
+		List<Long> recorded(String name) {
+			return recordedValues.get( name );
+		}
+
+		private List<Long> recorder(String name, Map<String, String> tags) {
+			assertThat( tags ).containsEntry( "backend", BACKEND_NAME );
+			return recordedValues.computeIfAbsent( name, ignored -> new CopyOnWriteArrayList<>() );
+		}
+	}
+}
@@ -36,6 +36,10 @@ public class ElasticsearchDefaultWorkBulkerTest extends EasyMockSupport {
 
 	private static final int DEFAULT_MAX_BULK_SIZE = 10;
 
+	private static final long DEFAULT_MAX_BULK_SIZE_IN_BYTES = 10_000L;
+
+	private static final long DEFAULT_WORK_SIZE = 100L;
+
 	private static final DocumentRefreshStrategy DEFAULT_REFRESH = DocumentRefreshStrategy.NONE;
 
 	private ElasticsearchWorkSequenceBuilder sequenceBuilderMock;
@@ -66,11 +70,12 @@ public void simple() {
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
 				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
-						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE );
+						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE, DEFAULT_MAX_BULK_SIZE_IN_BYTES );
 		verifyAll();
 
 		resetAll();
 		expect( work1.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work1.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		replayAll();
 		work1Future = bulker.add( work1 );
 		verifyAll();
@@ -78,6 +83,7 @@ public void simple() {
 
 		resetAll();
 		expect( work2.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work2.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		replayAll();
 		work2Future = bulker.add( work2 );
 		verifyAll();
@@ -126,11 +132,12 @@ public void noBulkIfBelowThreshold() {
 		ElasticsearchDefaultWorkBulker bulker =
 				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
 						2 /* Mandate minimum 2 works per bulk */,
-						DEFAULT_MAX_BULK_SIZE );
+						DEFAULT_MAX_BULK_SIZE, DEFAULT_MAX_BULK_SIZE_IN_BYTES );
 		verifyAll();
 
 		resetAll();
 		expect( work1.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work1.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		replayAll();
 		work1Future = bulker.add( work1 );
 		verifyAll();
@@ -171,11 +178,12 @@ public void alwaysBulkIfAboveThreshold() {
 		ElasticsearchDefaultWorkBulker bulker =
 				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
 						1 /* No threshold, even 1 work per bulk is okay */,
-						DEFAULT_MAX_BULK_SIZE );
+						DEFAULT_MAX_BULK_SIZE, DEFAULT_MAX_BULK_SIZE_IN_BYTES );
 		verifyAll();
 
 		resetAll();
 		expect( work1.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work1.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		replayAll();
 		bulker.add( work1 );
 		verifyAll();
@@ -217,12 +225,14 @@ public void sameBulkOnFlushBulked() {
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
 				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
-						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE );
+						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE, DEFAULT_MAX_BULK_SIZE_IN_BYTES );
 		verifyAll();
 
 		resetAll();
 		expect( work1.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work1.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		expect( work2.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work2.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		replayAll();
 		bulker.add( work1 );
 		bulker.add( work2 );
@@ -240,7 +250,9 @@ public void sameBulkOnFlushBulked() {
 
 		resetAll();
 		expect( work3.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work3.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		expect( work4.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work4.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		replayAll();
 		bulker.add( work3 );
 		bulker.add( work4 );
@@ -286,12 +298,14 @@ public void newBulkOnFlushBulk() {
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
 				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
-						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE );
+						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE, DEFAULT_MAX_BULK_SIZE_IN_BYTES );
 		verifyAll();
 
 		resetAll();
 		expect( work1.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work1.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		expect( work2.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work2.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		replayAll();
 		bulker.add( work1 );
 		bulker.add( work2 );
@@ -316,7 +330,9 @@ public void newBulkOnFlushBulk() {
 
 		resetAll();
 		expect( work3.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work3.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		expect( work4.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work4.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		replayAll();
 		bulker.add( work3 );
 		bulker.add( work4 );
@@ -366,7 +382,7 @@ public void newBulkOnTooManyBulkedWorks() {
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
 				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
-						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE );
+						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE, DEFAULT_MAX_BULK_SIZE_IN_BYTES );
 		verifyAll();
 
 		resetAll();
@@ -375,6 +391,7 @@ public void newBulkOnTooManyBulkedWorks() {
 		for ( int i = 0 ; i < DEFAULT_MAX_BULK_SIZE ; ++i ) {
 			BulkableElasticsearchWork<Void> work = firstBulkWorks.get( i );
 			expect( work.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+			expect( work.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 			expect( bulkResultExtractionStepMock.add( work, i ) )
 					.andReturn( firstBulkWorksCompletableFuturesFromSequenceBuilder.get( i ) );
 		}
@@ -388,7 +405,9 @@ public void newBulkOnTooManyBulkedWorks() {
 
 		resetAll();
 		expect( additionalWork1.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( additionalWork1.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		expect( additionalWork2.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( additionalWork2.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		replayAll();
 		bulker.add( additionalWork1 );
 		bulker.add( additionalWork2 );
@@ -435,12 +454,14 @@ public void newBulkOnDifferentRefresh() {
 
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
-				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, 2, 10 );
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, 2, 10, DEFAULT_MAX_BULK_SIZE_IN_BYTES );
 		verifyAll();
 
 		resetAll();
 		expect( work1.getRefreshStrategy() ).andReturn( DocumentRefreshStrategy.NONE );
+		expect( work1.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		expect( work2.getRefreshStrategy() ).andReturn( DocumentRefreshStrategy.NONE );
+		expect( work2.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		replayAll();
 		bulker.add( work1 );
 		bulker.add( work2 );
@@ -449,6 +470,7 @@ public void newBulkOnDifferentRefresh() {
 		// ForceRefresh from NONE to FORCE => new bulk
 		resetAll();
 		expect( work3.getRefreshStrategy() ).andReturn( DocumentRefreshStrategy.FORCE );
+		expect( work3.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork1FutureCapture ) ) ).andReturn( bulkWork1ResultFuture );
 		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture ) ).andReturn( bulkResultExtractionStepMock );
 		expect( bulkResultExtractionStepMock.add( work1, 0 ) ).andReturn( work1FutureFromSequenceBuilder );
@@ -461,6 +483,7 @@ public void newBulkOnDifferentRefresh() {
 
 		resetAll();
 		expect( work4.getRefreshStrategy() ).andReturn( DocumentRefreshStrategy.FORCE );
+		expect( work4.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		replayAll();
 		bulker.add( work4 );
 		verifyAll();
@@ -468,6 +491,7 @@ public void newBulkOnDifferentRefresh() {
 		// ForceRefresh from FORCE to NONE => new bulk
 		resetAll();
 		expect( work5.getRefreshStrategy() ).andReturn( DocumentRefreshStrategy.NONE );
+		expect( work5.getBulkableActionEstimatedSize() ).andReturn( DEFAULT_WORK_SIZE );
 		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork2FutureCapture ) ) ).andReturn( bulkWork2ResultFuture );
 		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture ) ).andReturn( bulkResultExtractionStepMock );
 		expect( bulkResultExtractionStepMock.add( work3, 0 ) ).andReturn( work3FutureFromSequenceBuilder );
@@ -490,6 +514,78 @@ public void newBulkOnDifferentRefresh() {
 		verifyAll();
 	}
 
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void newBulkOnMaxSizeInBytes() {
+		BulkableElasticsearchWork<Void> work1 = bulkableWork( 1 );
+		BulkableElasticsearchWork<Void> work2 = bulkableWork( 2 );
+		BulkableElasticsearchWork<Void> work3 = bulkableWork( 3 );
+		BulkableElasticsearchWork<Void> work4 = bulkableWork( 4 );
+		ElasticsearchWork<BulkResult> bulkWork1 = work( 5 );
+		ElasticsearchWork<BulkResult> bulkWork2 = work( 6 );
+		ElasticsearchWork<BulkResult> bulkWork3 = work( 7 );
+
+		CompletableFuture<Void> work1FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work2FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work3FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work4FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork3ResultFuture = new CompletableFuture<>();
+		Capture<CompletableFuture<ElasticsearchWork<BulkResult>>> bulkWork1FutureCapture = newCapture();
+		Capture<CompletableFuture<ElasticsearchWork<BulkResult>>> bulkWork2FutureCapture = newCapture();
+		Capture<CompletableFuture<ElasticsearchWork<BulkResult>>> bulkWork3FutureCapture = newCapture();
+
+		replayAll();
+		ElasticsearchDefaultWorkBulker bulker =
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
+						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE, 1000L );
+		verifyAll();
+
+		resetAll();
+		expect( work1.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work1.getBulkableActionEstimatedSize() ).andReturn( 400L );
+		expect( work2.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work2.getBulkableActionEstimatedSize() ).andReturn( 400L );
+		replayAll();
+		bulker.add( work1 );
+		bulker.add( work2 );
+		verifyAll();
+
+		// Adding work3 would exceed the maximum size in bytes => new bulk
+		resetAll();
+		expect( work3.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work3.getBulkableActionEstimatedSize() ).andReturn( 400L );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork1FutureCapture ) ) ).andReturn( bulkWork1ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture ) ).andReturn( bulkResultExtractionStepMock );
+		expect( bulkResultExtractionStepMock.add( work1, 0 ) ).andReturn( work1FutureFromSequenceBuilder );
+		expect( bulkResultExtractionStepMock.add( work2, 1 ) ).andReturn( work2FutureFromSequenceBuilder );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).andReturn( (ElasticsearchWork) bulkWork1 );
+		replayAll();
+		bulker.add( work3 );
+		verifyAll();
+		assertThat( bulkWork1FutureCapture.getValue() ).isSuccessful( bulkWork1 );
+
+		// work4 alone exceeds the maximum size in bytes => the current bulk is closed,
+		// then work4 is sent alone in its own bulk
+		resetAll();
+		expect( work4.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work4.getBulkableActionEstimatedSize() ).andReturn( 2000L );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork2FutureCapture ) ) ).andReturn( bulkWork2ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture ) ).andReturn( bulkResultExtractionStepMock );
+		expect( bulkResultExtractionStepMock.add( work3, 0 ) ).andReturn( work3FutureFromSequenceBuilder );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).andReturn( (ElasticsearchWork) bulkWork2 );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork3FutureCapture ) ) ).andReturn( bulkWork3ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork3ResultFuture ) ).andReturn( bulkResultExtractionStepMock );
+		expect( bulkResultExtractionStepMock.add( work4, 0 ) ).andReturn( work4FutureFromSequenceBuilder );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work4 ), DEFAULT_REFRESH ) ).andReturn( (ElasticsearchWork) bulkWork3 );
+		replayAll();
+		bulker.add( work4 );
+		verifyAll();
+		assertThat( bulkWork2FutureCapture.getValue() ).isSuccessful( bulkWork2 );
+		assertThat( bulkWork3FutureCapture.getValue() ).isSuccessful( bulkWork3 );
+	}
+
 	private <T> ElasticsearchWork<T> work(int index) {
 		ElasticsearchWork<T> mock = createStrictMock( "work" + index, ElasticsearchWork.class );
 		return mock;
@@ -0,0 +1,211 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.expect;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+
+public class ElasticsearchDefaultWorkMultiSearcherTest extends EasyMockSupport {
+
+	private static final int DEFAULT_MAX_MULTI_SEARCH_SIZE = 10;
+
+	private ElasticsearchWorkSequenceBuilder sequenceBuilderMock;
+	private Function<List<? extends MultiSearchableElasticsearchWork<?>>, ElasticsearchWork<MultiSearchResult>> multiSearchWorkFactoryMock;
+	private ElasticsearchWorkExecutionContext contextMock;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void initMocks() {
+		sequenceBuilderMock = createStrictMock( ElasticsearchWorkSequenceBuilder.class );
+		multiSearchWorkFactoryMock = createStrictMock( Function.class );
+		contextMock = createStrictMock( ElasticsearchWorkExecutionContext.class );
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void simple() {
+		MultiSearchableElasticsearchWork<String> work1 = multiSearchableWork( 1 );
+		MultiSearchableElasticsearchWork<String> work2 = multiSearchableWork( 2 );
+		ElasticsearchWork<MultiSearchResult> multiSearchWork = work( 3 );
+		// Results may be extracted in any order
+		MultiSearchResult multiSearchResultMock = createMock( MultiSearchResult.class );
+		ElasticsearchResponse response1 = new ElasticsearchResponse( 200, null, null );
+		ElasticsearchResponse response2 = new ElasticsearchResponse( 200, null, null );
+
+		CompletableFuture<MultiSearchResult> multiSearchWorkFuture = new CompletableFuture<>();
+		CompletableFuture<Void> sequenceFuture = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchDefaultWorkMultiSearcher multiSearcher =
+				new ElasticsearchDefaultWorkMultiSearcher( sequenceBuilderMock, multiSearchWorkFactoryMock,
+						DEFAULT_MAX_MULTI_SEARCH_SIZE );
+		ElasticsearchWork<String> multiSearchedWork1 = multiSearcher.add( work1 );
+		ElasticsearchWork<String> multiSearchedWork2 = multiSearcher.add( work2 );
+		CompletableFuture<String> work1Future = multiSearchedWork1.execute( contextMock );
+		CompletableFuture<String> work2Future = multiSearchedWork2.execute( contextMock );
+		verifyAll();
+		assertThat( work1Future ).isPending();
+		assertThat( work2Future ).isPending();
+
+		resetAll();
+		expect( multiSearchWorkFactoryMock.apply( Arrays.asList( work1, work2 ) ) ).andReturn( (ElasticsearchWork) multiSearchWork );
+		sequenceBuilderMock.init( anyObject() );
+		expect( sequenceBuilderMock.addNonBulkExecution( multiSearchWork ) ).andReturn( multiSearchWorkFuture );
+		expect( sequenceBuilderMock.build() ).andReturn( sequenceFuture );
+		replayAll();
+		CompletableFuture<Void> futureAll = multiSearcher.executeMultiSearches();
+		verifyAll();
+		assertThat( work1Future ).isPending();
+		assertThat( work2Future ).isPending();
+		assertThat( futureAll ).isPending();
+
+		resetAll();
+		expect( multiSearchResultMock.getResponseItem( 0 ) ).andReturn( response1 );
+		expect( work1.handleMultiSearchResponseItem( contextMock, response1 ) ).andReturn( "result1" );
+		expect( multiSearchResultMock.getResponseItem( 1 ) ).andReturn( response2 );
+		expect( work2.handleMultiSearchResponseItem( contextMock, response2 ) ).andReturn( "result2" );
+		replayAll();
+		multiSearchWorkFuture.complete( multiSearchResultMock );
+		verifyAll();
+		assertThat( work1Future ).isSuccessful( "result1" );
+		assertThat( work2Future ).isSuccessful( "result2" );
+
+		sequenceFuture.complete( null );
+		assertThat( futureAll ).isSuccessful( (Void) null );
+	}
+
+	@Test
+	public void singleWork() {
+		MultiSearchableElasticsearchWork<String> work1 = multiSearchableWork( 1 );
+
+		CompletableFuture<String> work1FutureFromWork = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchDefaultWorkMultiSearcher multiSearcher =
+				new ElasticsearchDefaultWorkMultiSearcher( sequenceBuilderMock, multiSearchWorkFactoryMock,
+						DEFAULT_MAX_MULTI_SEARCH_SIZE );
+		ElasticsearchWork<String> multiSearchedWork1 = multiSearcher.add( work1 );
+		CompletableFuture<String> work1Future = multiSearchedWork1.execute( contextMock );
+		verifyAll();
+		assertThat( work1Future ).isPending();
+
+		// A multi-search with a single work is useless: the work should be executed on its own
+		resetAll();
+		expect( work1.execute( contextMock ) ).andReturn( work1FutureFromWork );
+		replayAll();
+		CompletableFuture<Void> futureAll = multiSearcher.executeMultiSearches();
+		verifyAll();
+		assertThat( futureAll ).isSuccessful( (Void) null );
+		assertThat( work1Future ).isPending();
+
+		work1FutureFromWork.complete( "result1" );
+		assertThat( work1Future ).isSuccessful( "result1" );
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void maxMultiSearchSize() {
+		MultiSearchableElasticsearchWork<String> work1 = multiSearchableWork( 1 );
+		MultiSearchableElasticsearchWork<String> work2 = multiSearchableWork( 2 );
+		MultiSearchableElasticsearchWork<String> work3 = multiSearchableWork( 3 );
+		ElasticsearchWork<MultiSearchResult> multiSearchWork = work( 4 );
+
+		CompletableFuture<MultiSearchResult> multiSearchWorkFuture = new CompletableFuture<>();
+		CompletableFuture<Void> sequenceFuture = new CompletableFuture<>();
+		CompletableFuture<String> work3FutureFromWork = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchDefaultWorkMultiSearcher multiSearcher =
+				new ElasticsearchDefaultWorkMultiSearcher( sequenceBuilderMock, multiSearchWorkFactoryMock, 2 );
+		multiSearcher.add( work1 );
+		multiSearcher.add( work2 );
+		ElasticsearchWork<String> multiSearchedWork3 = multiSearcher.add( work3 );
+		CompletableFuture<String> work3Future = multiSearchedWork3.execute( contextMock );
+		verifyAll();
+
+		resetAll();
+		expect( multiSearchWorkFactoryMock.apply( Arrays.asList( work1, work2 ) ) ).andReturn( (ElasticsearchWork) multiSearchWork );
+		sequenceBuilderMock.init( anyObject() );
+		expect( sequenceBuilderMock.addNonBulkExecution( multiSearchWork ) ).andReturn( multiSearchWorkFuture );
+		expect( sequenceBuilderMock.build() ).andReturn( sequenceFuture );
+		// The third work ended up alone in its multi-search: it should be executed on its own
+		expect( work3.execute( contextMock ) ).andReturn( work3FutureFromWork );
+		replayAll();
+		CompletableFuture<Void> futureAll = multiSearcher.executeMultiSearches();
+		verifyAll();
+		assertThat( futureAll ).isPending();
+		assertThat( work3Future ).isPending();
+
+		work3FutureFromWork.complete( "result3" );
+		assertThat( work3Future ).isSuccessful( "result3" );
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void multiSearchFailure() {
+		MultiSearchableElasticsearchWork<String> work1 = multiSearchableWork( 1 );
+		MultiSearchableElasticsearchWork<String> work2 = multiSearchableWork( 2 );
+		ElasticsearchWork<MultiSearchResult> multiSearchWork = work( 3 );
+
+		CompletableFuture<MultiSearchResult> multiSearchWorkFuture = new CompletableFuture<>();
+		CompletableFuture<Void> sequenceFuture = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchDefaultWorkMultiSearcher multiSearcher =
+				new ElasticsearchDefaultWorkMultiSearcher( sequenceBuilderMock, multiSearchWorkFactoryMock,
+						DEFAULT_MAX_MULTI_SEARCH_SIZE );
+		CompletableFuture<String> work1Future = multiSearcher.add( work1 ).execute( contextMock );
+		CompletableFuture<String> work2Future = multiSearcher.add( work2 ).execute( contextMock );
+		verifyAll();
+
+		resetAll();
+		expect( multiSearchWorkFactoryMock.apply( Arrays.asList( work1, work2 ) ) ).andReturn( (ElasticsearchWork) multiSearchWork );
+		sequenceBuilderMock.init( anyObject() );
+		expect( sequenceBuilderMock.addNonBulkExecution( multiSearchWork ) ).andReturn( multiSearchWorkFuture );
+		expect( sequenceBuilderMock.build() ).andReturn( sequenceFuture );
+		replayAll();
+		multiSearcher.executeMultiSearches();
+		verifyAll();
+
+		MyException exception = new MyException();
+		resetAll();
+		replayAll();
+		multiSearchWorkFuture.completeExceptionally( exception );
+		verifyAll();
+		assertThat( work1Future ).isFailed( exception );
+		assertThat( work2Future ).isFailed( exception );
+	}
+
+	private <T> ElasticsearchWork<T> work(int index) {
+		return createStrictMock( "work" + index, ElasticsearchWork.class );
+	}
+
+	private <T> MultiSearchableElasticsearchWork<T> multiSearchableWork(int index) {
+		return createStrictMock( "multiSearchableWork" + index, MultiSearchableElasticsearchWork.class );
+	}
+
+	private static class MyException extends Exception {
+	}
+}
@@ -16,6 +16,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -36,11 +37,13 @@ private static <T> T unusedReturnValue() {
 
 	private ElasticsearchWorkSequenceBuilder sequenceBuilderMock;
 	private ElasticsearchWorkBulker bulkerMock;
+	private ElasticsearchWorkMultiSearcher multiSearcherMock;
 
 	@Before
 	public void initMocks() {
 		sequenceBuilderMock = createStrictMock( ElasticsearchWorkSequenceBuilder.class );
 		bulkerMock = createStrictMock( ElasticsearchWorkBulker.class );
+		multiSearcherMock = createStrictMock( ElasticsearchWorkMultiSearcher.class );
 	}
 
 	@Test
@@ -399,6 +402,108 @@ public void newBulkIfNonBulkable_differentWorksets() {
 		checkCompleteOrDelay( processor );
 	}
 
+	@Test
+	public void multiSearch() {
+		MultiSearchableElasticsearchWork<Object> work1 = multiSearchableWork( 1 );
+		MultiSearchableElasticsearchWork<Object> work2 = multiSearchableWork( 2 );
+		ElasticsearchWork<Object> multiSearchedWork1 = work( 3 );
+		ElasticsearchWork<Object> multiSearchedWork2 = work( 4 );
+
+		CompletableFuture<Void> sequence1Future = new CompletableFuture<>();
+		CompletableFuture<Void> sequence2Future = new CompletableFuture<>();
+		CompletableFuture<Void> multiSearchesFuture = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchParallelWorkProcessor processor =
+				new ElasticsearchParallelWorkProcessor( sequenceBuilderMock, bulkerMock, multiSearcherMock );
+		verifyAll();
+
+		CompletableFuture<Object> work1Future = new CompletableFuture<>();
+		CompletableFuture<Object> work2Future = new CompletableFuture<>();
+		resetAll();
+		sequenceBuilderMock.init( anyObject() );
+		expect( work1.aggregate( anyObject() ) ).andAnswer( multiSearchableAggregateAnswer( work1 ) );
+		expect( multiSearcherMock.add( work1 ) ).andReturn( multiSearchedWork1 );
+		expect( sequenceBuilderMock.addNonBulkExecution( multiSearchedWork1 ) ).andReturn( work1Future );
+		expect( bulkerMock.addWorksToSequence() ).andReturn( false );
+		expect( sequenceBuilderMock.build() ).andReturn( sequence1Future );
+		sequenceBuilderMock.init( anyObject() );
+		expect( work2.aggregate( anyObject() ) ).andAnswer( multiSearchableAggregateAnswer( work2 ) );
+		expect( multiSearcherMock.add( work2 ) ).andReturn( multiSearchedWork2 );
+		expect( sequenceBuilderMock.addNonBulkExecution( multiSearchedWork2 ) ).andReturn( work2Future );
+		expect( bulkerMock.addWorksToSequence() ).andReturn( false );
+		expect( sequenceBuilderMock.build() ).andReturn( sequence2Future );
+		replayAll();
+		processor.beforeWorkSet();
+		CompletableFuture<Object> returnedWork1Future = processor.submit( work1 );
+		processor.afterWorkSet();
+		processor.beforeWorkSet();
+		CompletableFuture<Object> returnedWork2Future = processor.submit( work2 );
+		processor.afterWorkSet();
+		verifyAll();
+		assertThat( returnedWork1Future ).isSameAs( work1Future );
+		assertThat( returnedWork2Future ).isSameAs( work2Future );
+
+		resetAll();
+		expect( multiSearcherMock.executeMultiSearches() ).andReturn( multiSearchesFuture );
+		bulkerMock.finalizeBulkWork();
+		replayAll();
+		CompletableFuture<Void> futureAll = processor.endBatch();
+		verifyAll();
+		assertThat( futureAll ).isPending();
+		sequence1Future.complete( null );
+		sequence2Future.complete( null );
+		assertThat( futureAll ).isPending();
+		multiSearchesFuture.complete( null );
+		assertThat( futureAll ).isSuccessful( (Void) null );
+
+		checkCompleteOrDelay( processor );
+	}
+
+	@Test
+	public void multiSearch_notFirstInWorkSet() {
+		ElasticsearchWork<Object> work1 = work( 1 );
+		MultiSearchableElasticsearchWork<Object> work2 = multiSearchableWork( 2 );
+
+		CompletableFuture<Void> sequenceFuture = new CompletableFuture<>();
+		CompletableFuture<Void> multiSearchesFuture = CompletableFuture.completedFuture( null );
+
+		replayAll();
+		ElasticsearchParallelWorkProcessor processor =
+				new ElasticsearchParallelWorkProcessor( sequenceBuilderMock, bulkerMock, multiSearcherMock );
+		verifyAll();
+
+		// The multi-searchable work must wait for the previous work: it cannot be multi-searched
+		resetAll();
+		sequenceBuilderMock.init( anyObject() );
+		expect( work1.aggregate( anyObject() ) ).andAnswer( nonBulkableAggregateAnswer( work1 ) );
+		expect( bulkerMock.addWorksToSequence() ).andReturn( false );
+		expect( sequenceBuilderMock.addNonBulkExecution( work1 ) ).andReturn( unusedReturnValue() );
+		expect( work2.aggregate( anyObject() ) ).andAnswer( multiSearchableAggregateAnswer( work2 ) );
+		expect( bulkerMock.addWorksToSequence() ).andReturn( false );
+		expect( sequenceBuilderMock.addNonBulkExecution( work2 ) ).andReturn( unusedReturnValue() );
+		expect( bulkerMock.addWorksToSequence() ).andReturn( false );
+		expect( sequenceBuilderMock.build() ).andReturn( sequenceFuture );
+		replayAll();
+		processor.beforeWorkSet();
+		processor.submit( work1 );
+		processor.submit( work2 );
+		processor.afterWorkSet();
+		verifyAll();
+
+		resetAll();
+		expect( multiSearcherMock.executeMultiSearches() ).andReturn( multiSearchesFuture );
+		bulkerMock.finalizeBulkWork();
+		replayAll();
+		CompletableFuture<Void> futureAll = processor.endBatch();
+		verifyAll();
+		assertThat( futureAll ).isPending();
+		sequenceFuture.complete( null );
+		assertThat( futureAll ).isSuccessful( (Void) null );
+
+		checkCompleteOrDelay( processor );
+	}
+
 	private void checkCompleteOrDelay(ElasticsearchParallelWorkProcessor processor) {
 		resetAll();
 		replayAll();
@@ -414,6 +519,10 @@ private <T> BulkableElasticsearchWork<T> bulkableWork(int index) {
 		return createStrictMock( "bulkableWork" + index, BulkableElasticsearchWork.class );
 	}
 
+	private <T> MultiSearchableElasticsearchWork<T> multiSearchableWork(int index) {
+		return createStrictMock( "multiSearchableWork" + index, MultiSearchableElasticsearchWork.class );
+	}
+
 	private <T> IAnswer<CompletableFuture<T>> nonBulkableAggregateAnswer(ElasticsearchWork<T> mock) {
 		return () -> {
 			ElasticsearchWorkAggregator aggregator = (ElasticsearchWorkAggregator) getCurrentArguments()[0];
@@ -427,4 +536,11 @@ private <T> IAnswer<CompletableFuture<T>> bulkableAggregateAnswer(BulkableElasti
 			return aggregator.addBulkable( mock );
 		};
 	}
+
+	private <T> IAnswer<CompletableFuture<T>> multiSearchableAggregateAnswer(MultiSearchableElasticsearchWork<T> mock) {
+		return () -> {
+			ElasticsearchWorkAggregator aggregator = (ElasticsearchWorkAggregator) getCurrentArguments()[0];
+			return aggregator.addMultiSearchable( mock );
+		};
+	}
 }
@@ -0,0 +1,93 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.expect;
+
+import java.util.Arrays;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.easymock.EasyMockSupport;
+
+public class MultiSearchWorkTest extends EasyMockSupport {
+
+	private static final Gson GSON = new Gson();
+
+	@Test
+	public void generateResult() {
+		MultiSearchWork work = multiSearchWork( 2 );
+
+		MultiSearchResult result = work.generateResult( null, response(
+				"{\"took\":5,\"responses\":["
+						+ "{\"took\":3,\"hits\":{\"hits\":[]},\"status\":200},"
+						+ "{\"error\":{\"type\":\"index_not_found_exception\"},\"status\":404}"
+						+ "]}"
+		) );
+
+		ElasticsearchResponse item1 = result.getResponseItem( 0 );
+		assertThat( item1.getStatusCode() ).isEqualTo( 200 );
+		assertThat( item1.getBody().get( "took" ).getAsInt() ).isEqualTo( 3 );
+
+		ElasticsearchResponse item2 = result.getResponseItem( 1 );
+		assertThat( item2.getStatusCode() ).isEqualTo( 404 );
+		assertThat( item2.getBody().has( "error" ) ).isTrue();
+	}
+
+	@Test
+	public void generateResult_noStatus() {
+		MultiSearchWork work = multiSearchWork( 2 );
+
+		// Older versions of Elasticsearch do not include the status of each search in the response
+		MultiSearchResult result = work.generateResult( null, response(
+				"{\"responses\":[{\"hits\":{\"hits\":[]}},{\"error\":{}}]}"
+		) );
+
+		assertThat( result.getResponseItem( 0 ).getStatusCode() ).isEqualTo( 200 );
+		assertThat( result.getResponseItem( 1 ).getStatusCode() ).isEqualTo( 500 );
+	}
+
+	@Test
+	public void generateResult_invalid() {
+		MultiSearchWork work = multiSearchWork( 1 );
+
+		SearchException exception = null;
+		try {
+			work.generateResult( null, response( "{\"responses\":[42]}" ) );
+		}
+		catch (SearchException e) {
+			exception = e;
+		}
+		assertThat( exception ).isNotNull();
+		assertThat( exception.getMessage() ).contains( "Failed to parse Elasticsearch response" );
+	}
+
+	@SuppressWarnings("unchecked")
+	private MultiSearchWork multiSearchWork(int searchCount) {
+		MultiSearchableElasticsearchWork<?>[] works = new MultiSearchableElasticsearchWork<?>[searchCount];
+		for ( int i = 0; i < searchCount; i++ ) {
+			MultiSearchableElasticsearchWork<Object> work = createMock( MultiSearchableElasticsearchWork.class );
+			expect( work.getMultiSearchHeader() ).andStubReturn( new JsonObject() );
+			expect( work.getMultiSearchBody() ).andStubReturn( new JsonObject() );
+			works[i] = work;
+		}
+		replayAll();
+		return new MultiSearchWork.Builder( Arrays.asList( works ) ).build();
+	}
+
+	private static ElasticsearchResponse response(String body) {
+		return new ElasticsearchResponse( 200, "OK", GSON.fromJson( body, JsonObject.class ) );
+	}
+
+}
@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.query.QueryCachingPolicyName;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
 
 import org.apache.lucene.util.Version;
@@ -114,6 +115,116 @@ private LuceneBackendSettings() {
 	 */
 	public static final String ANALYSIS_CONFIGURER = "analysis.configurer";
 
+	/**
+	 * The number of threads used to execute search queries concurrently on multiple index segments.
+	 * <p>
+	 * When set to a strictly positive integer, each search query
+	 * will be executed concurrently on each index segment (and thus on each shard) by a dedicated thread pool,
+	 * and the results (hits, total hit count and aggregations) will be merged before being returned.
+	 * This mainly makes sense for large, sharded indexes on machines with many cores.
+	 * <p>
+	 * When set to {@code 0}, search queries are executed sequentially in the thread that submitted them.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_THREAD_POOL_SIZE}.
+	 */
+	public static final String QUERY_THREAD_POOL_SIZE = "query.thread_pool.size";
+
+	/**
+	 * The number of threads used to execute search queries fetched asynchronously,
+	 * e.g. through {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchAsync(Integer)}.
+	 * <p>
+	 * When set to a strictly positive integer, asynchronous search queries are executed by a dedicated thread pool,
+	 * so that the thread that submitted them is not blocked.
+	 * <p>
+	 * When set to {@code 0}, asynchronous search queries are executed in the thread that submitted them,
+	 * and the returned {@link java.util.concurrent.CompletionStage} is completed before being returned.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_ASYNC_THREAD_POOL_SIZE}.
+	 */
+	public static final String QUERY_ASYNC_THREAD_POOL_SIZE = "query.async.thread_pool.size";
+
+	/**
+	 * The maximum number of search query results to cache.
+	 * <p>
+	 * When set to a strictly positive integer, the results of search queries
+	 * (total hit count, top documents and data collected for aggregations, but not projections)
+	 * are cached, so that executing the same query again against the same index readers
+	 * does not require going through the index again.
+	 * Cached results are invalidated automatically when index readers are refreshed.
+	 * <p>
+	 * This mainly makes sense for identical queries executed many times between two refreshes,
+	 * such as the queries used to display counts or aggregations on navigation pages.
+	 * <p>
+	 * When set to {@code 0}, search query results are not cached.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_MAX_ENTRIES}.
+	 */
+	public static final String QUERY_RESULT_CACHE_MAX_ENTRIES = "query.result_cache.max_entries";
+
+	/**
+	 * The maximum amount of memory, in bytes, that cached search query results can use.
+	 * <p>
+	 * Only effective if {@link #QUERY_RESULT_CACHE_MAX_ENTRIES the result cache} is enabled.
+	 * Results whose estimated size exceeds this limit are never cached,
+	 * and the least recently used results are evicted when the limit is reached.
+	 * <p>
+	 * Expects a strictly positive Long value, such as {@code 16777216},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_MAX_RAM_BYTES}.
+	 */
+	public static final String QUERY_RESULT_CACHE_MAX_RAM_BYTES = "query.result_cache.max_ram_bytes";
+
+	/**
+	 * The maximum number of filter clauses whose matching documents can be cached by Lucene's query cache.
+	 * <p>
+	 * Lucene caches the documents matching filter clauses (non-scoring clauses, e.g. range or term filters)
+	 * per index segment, so that they can be reused by later queries using the same filters.
+	 * By default, Hibernate Search relies on the query cache that Lucene shares across the whole JVM.
+	 * When this property (or {@link #QUERY_FILTER_CACHE_MAX_RAM_BYTES} or {@link #QUERY_FILTER_CACHE_POLICY})
+	 * is set, a query cache dedicated to this backend is used instead.
+	 * <p>
+	 * When set to {@code 0}, filter clauses are never cached.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_FILTER_CACHE_MAX_QUERIES} if a dedicated query cache is used.
+	 */
+	public static final String QUERY_FILTER_CACHE_MAX_QUERIES = "query.filter_cache.max_queries";
+
+	/**
+	 * The maximum amount of memory, in bytes, that Lucene's query cache can use to cache filter clauses.
+	 * <p>
+	 * See {@link #QUERY_FILTER_CACHE_MAX_QUERIES}.
+	 * <p>
+	 * Expects a strictly positive Long value, such as {@code 33554432},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_FILTER_CACHE_MAX_RAM_BYTES} if a dedicated query cache is used.
+	 */
+	public static final String QUERY_FILTER_CACHE_MAX_RAM_BYTES = "query.filter_cache.max_ram_bytes";
+
+	/**
+	 * The policy deciding which filter clauses get cached by Lucene's query cache.
+	 * <p>
+	 * See {@link #QUERY_FILTER_CACHE_MAX_QUERIES}.
+	 * <p>
+	 * Expects a {@link QueryCachingPolicyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_FILTER_CACHE_POLICY}.
+	 */
+	public static final String QUERY_FILTER_CACHE_POLICY = "query.filter_cache.policy";
+
 	/**
 	 * Configuration property keys for directories without the {@link #DIRECTORY_PREFIX prefix}.
 	 */
@@ -146,5 +257,19 @@ private Defaults() {
 				FileSystemAccessStrategyName.AUTO;
 
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final int QUERY_THREAD_POOL_SIZE = 0;
+
+		public static final int QUERY_ASYNC_THREAD_POOL_SIZE = 0;
+
+		public static final int QUERY_RESULT_CACHE_MAX_ENTRIES = 0;
+
+		public static final long QUERY_RESULT_CACHE_MAX_RAM_BYTES = 16L * 1024 * 1024;
+
+		public static final int QUERY_FILTER_CACHE_MAX_QUERIES = 1000;
+
+		public static final long QUERY_FILTER_CACHE_MAX_RAM_BYTES = 32L * 1024 * 1024;
+
+		public static final QueryCachingPolicyName QUERY_FILTER_CACHE_POLICY = QueryCachingPolicyName.USAGE_TRACKING;
 	}
 }
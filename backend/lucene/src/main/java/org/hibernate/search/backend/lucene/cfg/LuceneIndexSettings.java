@@ -6,6 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.cfg;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.index.IORefreshStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 
 /**
@@ -86,6 +90,164 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * How index readers are refreshed when they become stale.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * With the "on-demand" strategy, the first search query noticing a stale reader re-opens it,
+	 * and concurrent queries wait for the re-opening to complete.
+	 * <p>
+	 * With the "background" strategy, a background task re-opens stale readers every {@link #IO_REFRESH_INTERVAL refresh interval}
+	 * and swaps them in atomically, so that search queries never wait for a re-opening.
+	 * Writes forcing a refresh still re-open readers immediately, on the indexing thread.
+	 * This strategy requires a strictly positive {@link #IO_REFRESH_INTERVAL refresh interval}:
+	 * with a refresh interval of 0, the "on-demand" strategy is used instead.
+	 * <p>
+	 * Expects a {@link IORefreshStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REFRESH_STRATEGY}.
+	 */
+	public static final String IO_REFRESH_STRATEGY = IO_PREFIX + IORadicals.REFRESH_STRATEGY;
+
+	/**
+	 * Whether segments produced by merges should be warmed before they become visible to index readers.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * When enabled, the merge thread loads the data structures of each merged segment
+	 * (terms, norms, doc values, points, stored fields, ...)
+	 * before index readers get re-opened with that segment,
+	 * so that search queries don't pay the cost of paging in the files of merged segments.
+	 * This makes merges slower, but merges happen in the background.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_WARMING_MERGED_SEGMENTS}.
+	 */
+	public static final String IO_WARMING_MERGED_SEGMENTS = IO_PREFIX + IORadicals.WARMING_MERGED_SEGMENTS;
+
+	/**
+	 * The fields to warm in new segments before publishing a re-opened index reader.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * The doc values and norms of the listed fields are loaded for each segment that appeared since the previous index reader,
+	 * before search queries can use the new index reader.
+	 * List the fields used by the most frequent sorts and aggregations,
+	 * so that the first queries after a refresh don't pay the cost of paging in these structures.
+	 * Fields are designated by their absolute path, e.g. {@code myObject.myField}.
+	 * <p>
+	 * Expects either a String containing multiple field paths separated by commas (','),
+	 * or a {@code Collection<String>} containing such field paths.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_WARMING_FIELDS}, i.e. no warming.
+	 */
+	public static final String IO_WARMING_FIELDS = IO_PREFIX + IORadicals.WARMING_FIELDS;
+
+	/**
+	 * The prefix for indexing-related property keys.
+	 */
+	public static final String INDEXING_PREFIX = "indexing.";
+
+	/**
+	 * The size of indexing queues,
+	 * i.e. the maximum number of worksets that can wait to be applied to a given shard
+	 * before threads submitting new worksets get blocked.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the maximum batch size (see {@link #INDEXING_MAX_BATCH_SIZE}).
+	 */
+	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
+
+	/**
+	 * The minimum size of indexing batches,
+	 * i.e. the lowest maximum number of worksets that can be applied to a given shard before a commit.
+	 * <p>
+	 * When lower than {@link #INDEXING_MAX_BATCH_SIZE the maximum batch size},
+	 * the actual maximum batch size will adapt to the load:
+	 * it will grow towards {@link #INDEXING_MAX_BATCH_SIZE the maximum batch size} when worksets pile up in the queue,
+	 * so that commits are less frequent,
+	 * and will shrink towards this minimum when the queue is easily drained,
+	 * so that changes are committed with a lower latency.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the maximum batch size (see {@link #INDEXING_MAX_BATCH_SIZE}),
+	 * i.e. batch sizes do not adapt to the load by default.
+	 */
+	public static final String INDEXING_MIN_BATCH_SIZE = INDEXING_PREFIX + IndexingRadicals.MIN_BATCH_SIZE;
+
+	/**
+	 * The maximum size of indexing batches,
+	 * i.e. the maximum number of worksets that can be applied to a given shard before a commit.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#INDEXING_MAX_BATCH_SIZE}.
+	 */
+	public static final String INDEXING_MAX_BATCH_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BATCH_SIZE;
+
+	/**
+	 * Whether documents added or updated through indexing plans should be built lazily,
+	 * in the background, instead of being built immediately in the thread that adds works to the indexing plan.
+	 * <p>
+	 * When enabled, only the document contributors are retained until the indexing plan is executed,
+	 * and documents are built in the indexing thread of each shard,
+	 * or in a dedicated thread pool if {@link #INDEXING_DOCUMENT_BUILDING_THREAD_POOL_SIZE} is set.
+	 * <p>
+	 * This requires the mapper to allow reading the indexed entities
+	 * after the indexing plan was executed, from a different thread,
+	 * which the JavaBean mapper does.
+	 * Mappers that do not allow it, such as the Hibernate ORM mapper, whose sessions are not thread-safe,
+	 * ignore this setting: documents are built immediately.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#INDEXING_DOCUMENT_BUILDING_DEFERRED}.
+	 */
+	public static final String INDEXING_DOCUMENT_BUILDING_DEFERRED =
+			INDEXING_PREFIX + IndexingRadicals.DOCUMENT_BUILDING_DEFERRED;
+
+	/**
+	 * The size of the thread pool dedicated to building documents, for each shard.
+	 * <p>
+	 * Only effective if {@link #INDEXING_DOCUMENT_BUILDING_DEFERRED deferred document building} is enabled.
+	 * When set to {@code 0}, deferred documents are built in the indexing thread of each shard.
+	 * When set to a strictly positive value, documents are built in parallel in a dedicated thread pool,
+	 * while the indexing thread of the shard applies previously built documents to the index.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#INDEXING_DOCUMENT_BUILDING_THREAD_POOL_SIZE}.
+	 */
+	public static final String INDEXING_DOCUMENT_BUILDING_THREAD_POOL_SIZE =
+			INDEXING_PREFIX + IndexingRadicals.DOCUMENT_BUILDING_THREAD_POOL_SIZE;
+
+	/**
+	 * The number of threads applying changes concurrently to the index writer, for each shard.
+	 * <p>
+	 * When set to {@code 0}, changes are applied in the indexing thread of each shard.
+	 * When set to a strictly positive value, changes that require neither a commit nor a refresh,
+	 * such as changes from the mass indexer, are applied concurrently in a dedicated thread pool,
+	 * while the indexing thread of the shard remains in charge of commits and refreshes.
+	 * Changes to a given document are always applied in order.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#INDEXING_WRITE_THREAD_POOL_SIZE}.
+	 */
+	public static final String INDEXING_WRITE_THREAD_POOL_SIZE =
+			INDEXING_PREFIX + IndexingRadicals.WRITE_THREAD_POOL_SIZE;
+
 	/**
 	 * The prefix for sharding-related property keys.
 	 */
@@ -138,6 +300,25 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String REFRESH_STRATEGY = "refresh_strategy";
+		public static final String WARMING_MERGED_SEGMENTS = "warming.merged_segments";
+		public static final String WARMING_FIELDS = "warming.fields";
+	}
+
+	/**
+	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
+	 */
+	public static final class IndexingRadicals {
+
+		private IndexingRadicals() {
+		}
+
+		public static final String QUEUE_SIZE = "queue_size";
+		public static final String MIN_BATCH_SIZE = "min_batch_size";
+		public static final String MAX_BATCH_SIZE = "max_batch_size";
+		public static final String DOCUMENT_BUILDING_DEFERRED = "document_building.deferred";
+		public static final String DOCUMENT_BUILDING_THREAD_POOL_SIZE = "document_building.thread_pool.size";
+		public static final String WRITE_THREAD_POOL_SIZE = "write.thread_pool.size";
 	}
 
 	/**
@@ -165,5 +346,12 @@ private Defaults() {
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 0;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final IORefreshStrategyName IO_REFRESH_STRATEGY = IORefreshStrategyName.ON_DEMAND;
+		public static final boolean IO_WARMING_MERGED_SEGMENTS = false;
+		public static final List<String> IO_WARMING_FIELDS = Collections.emptyList();
+		public static final int INDEXING_MAX_BATCH_SIZE = 1000;
+		public static final boolean INDEXING_DOCUMENT_BUILDING_DEFERRED = false;
+		public static final int INDEXING_DOCUMENT_BUILDING_THREAD_POOL_SIZE = 0;
+		public static final int INDEXING_WRITE_THREAD_POOL_SIZE = 0;
 	}
 }
@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.document.impl;
+
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
+
+/**
+ * An index entry whose documents are only built when first needed.
+ * <p>
+ * Only the document contributor is retained until then,
+ * and it is released as soon as the documents are built.
+ * <p>
+ * Building may be triggered concurrently from multiple threads
+ * (typically a document building thread and the write thread):
+ * only the first thread will build the documents,
+ * and the others will wait for the result.
+ */
+public final class LuceneDeferredIndexEntry implements Supplier<LuceneIndexEntry> {
+
+	private final LuceneIndexEntryFactory factory;
+	private final String tenantId;
+	private final String id;
+	private final String routingKey;
+
+	private DocumentContributor documentContributor;
+	private LuceneIndexEntry indexEntry;
+	private RuntimeException failure;
+
+	LuceneDeferredIndexEntry(LuceneIndexEntryFactory factory, String tenantId, String id, String routingKey,
+			DocumentContributor documentContributor) {
+		this.factory = factory;
+		this.tenantId = tenantId;
+		this.id = id;
+		this.routingKey = routingKey;
+		this.documentContributor = documentContributor;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[id=" + id + ", built=" + ( documentContributor == null ) + "]";
+	}
+
+	/**
+	 * Build the documents if that wasn't done already.
+	 * <p>
+	 * Failures are not propagated, but will be thrown when calling {@link #get()}.
+	 */
+	public synchronized void build() {
+		if ( documentContributor == null ) {
+			// Already built (or failed)
+			return;
+		}
+		try {
+			indexEntry = factory.create( tenantId, id, routingKey, documentContributor );
+		}
+		catch (RuntimeException e) {
+			failure = e;
+		}
+		finally {
+			documentContributor = null;
+		}
+	}
+
+	/**
+	 * @return The index entry, built in the current thread if that wasn't done already.
+	 * @throws RuntimeException If building the documents failed.
+	 */
+	@Override
+	public synchronized LuceneIndexEntry get() {
+		build();
+		if ( failure != null ) {
+			throw failure;
+		}
+		return indexEntry;
+	}
+}
@@ -33,4 +33,9 @@ public LuceneIndexEntry create(String tenantId, String id, String routingKey,
 		return builder.build( tenantId, id, routingKey );
 	}
 
+	public LuceneDeferredIndexEntry createDeferred(String tenantId, String id, String routingKey,
+			DocumentContributor documentContributor) {
+		return new LuceneDeferredIndexEntry( this, tenantId, id, routingKey, documentContributor );
+	}
+
 }
@@ -20,6 +20,9 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryProviderInitializationContextImpl;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.query.QueryCachingPolicyName;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.AlwaysCacheQueryCachingPolicy;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
@@ -39,6 +42,11 @@
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LRUQueryCache;
+import org.apache.lucene.search.QueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
 import org.apache.lucene.util.Version;
 
 
@@ -63,6 +71,45 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final ConfigurationProperty<Integer> QUERY_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_ASYNC_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_ASYNC_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_ASYNC_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_RESULT_CACHE_MAX_ENTRIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.build();
+
+	private static final ConfigurationProperty<Long> QUERY_RESULT_CACHE_MAX_RAM_BYTES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_RAM_BYTES )
+					.asLong()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_RESULT_CACHE_MAX_RAM_BYTES )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> QUERY_FILTER_CACHE_MAX_QUERIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_FILTER_CACHE_MAX_QUERIES )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> QUERY_FILTER_CACHE_MAX_RAM_BYTES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_FILTER_CACHE_MAX_RAM_BYTES )
+					.asLong()
+					.build();
+
+	private static final OptionalConfigurationProperty<QueryCachingPolicyName> QUERY_FILTER_CACHE_POLICY =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_FILTER_CACHE_POLICY )
+					.as( QueryCachingPolicyName.class, QueryCachingPolicyName::of )
+					.build();
+
 	@Override
 	public BackendImplementor create(String name, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -83,14 +130,62 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 				name,
 				directoryProviderHolder,
 				buildContext.getThreadPoolProvider(),
+				QUERY_THREAD_POOL_SIZE.get( propertySource ),
+				QUERY_ASYNC_THREAD_POOL_SIZE.get( propertySource ),
+				getFilterCache( propertySource ),
+				getFilterCachingPolicy( propertySource ),
+				getQueryResultCache( propertySource ),
 				new LuceneWorkFactoryImpl( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
 				multiTenancyStrategy,
 				new DefaultTimingSource(),
-				buildContext.getFailureHandler()
+				buildContext.getFailureHandler(),
+				buildContext.getMetricsProvider()
 		);
 	}
 
+	private QueryCache getFilterCache(ConfigurationPropertySource propertySource) {
+		Optional<Integer> maxQueriesOptional = QUERY_FILTER_CACHE_MAX_QUERIES.get( propertySource );
+		Optional<Long> maxRamBytesOptional = QUERY_FILTER_CACHE_MAX_RAM_BYTES.get( propertySource );
+		if ( !maxQueriesOptional.isPresent() && !maxRamBytesOptional.isPresent()
+				&& !QUERY_FILTER_CACHE_POLICY.get( propertySource ).isPresent() ) {
+			// Nothing configured: stick to the cache shared across the JVM
+			return IndexSearcher.getDefaultQueryCache();
+		}
+		int maxQueries = maxQueriesOptional.orElse( LuceneBackendSettings.Defaults.QUERY_FILTER_CACHE_MAX_QUERIES );
+		if ( maxQueries <= 0 ) {
+			return null;
+		}
+		long maxRamBytes = maxRamBytesOptional.orElse( LuceneBackendSettings.Defaults.QUERY_FILTER_CACHE_MAX_RAM_BYTES );
+		return new LRUQueryCache( maxQueries, maxRamBytes );
+	}
+
+	private QueryCachingPolicy getFilterCachingPolicy(ConfigurationPropertySource propertySource) {
+		Optional<QueryCachingPolicyName> policyNameOptional = QUERY_FILTER_CACHE_POLICY.get( propertySource );
+		if ( !policyNameOptional.isPresent() ) {
+			return IndexSearcher.getDefaultQueryCachingPolicy();
+		}
+		switch ( policyNameOptional.get() ) {
+			case USAGE_TRACKING:
+				return new UsageTrackingQueryCachingPolicy();
+			case ALWAYS:
+				return AlwaysCacheQueryCachingPolicy.INSTANCE;
+			default:
+				throw new AssertionFailure( String.format(
+						Locale.ROOT, "Unsupported query caching policy '%1$s'.",
+						policyNameOptional.get()
+				) );
+		}
+	}
+
+	private LuceneQueryResultCache getQueryResultCache(ConfigurationPropertySource propertySource) {
+		int maxEntries = QUERY_RESULT_CACHE_MAX_ENTRIES.get( propertySource );
+		if ( maxEntries <= 0 ) {
+			return null;
+		}
+		return new LuceneQueryResultCache( maxEntries, QUERY_RESULT_CACHE_MAX_RAM_BYTES.get( propertySource ) );
+	}
+
 	private Version getLuceneVersion(EventContext backendContext, ConfigurationPropertySource propertySource) {
 		Version luceneVersion;
 		Optional<Version> luceneVersionOptional = LUCENE_VERSION.get( propertySource );
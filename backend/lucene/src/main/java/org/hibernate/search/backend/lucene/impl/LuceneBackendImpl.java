@@ -11,7 +11,9 @@
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.LuceneMetrics;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestratorImplementor;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.backend.Backend;
@@ -28,6 +30,7 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -35,6 +38,9 @@
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.QueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
+
 
 public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 
@@ -56,18 +62,27 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 	LuceneBackendImpl(String name,
 			BeanHolder<? extends DirectoryProvider> directoryProviderHolder,
 			ThreadPoolProvider threadPoolProvider,
+			int queryThreadPoolSize,
+			int queryAsyncThreadPoolSize,
+			QueryCache filterCache,
+			QueryCachingPolicy filterCachingPolicy,
+			LuceneQueryResultCache queryResultCache,
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsProvider metricsProvider) {
 		this.name = name;
 		this.directoryProviderHolder = directoryProviderHolder;
 
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 
 		this.readOrchestrator = new LuceneReadWorkOrchestratorImpl(
-				"Lucene read work orchestrator for backend " + name
+				"Lucene read work orchestrator for backend " + name,
+				threadPoolProvider, queryThreadPoolSize, queryAsyncThreadPoolSize,
+				filterCache, filterCachingPolicy, queryResultCache,
+				metricsProvider.timer( LuceneMetrics.QUERY_DURATION, LuceneMetrics.backendTags( name ) )
 		);
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
@@ -79,6 +94,7 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 				timingSource, analysisDefinitionRegistry,
 				threadPoolProvider,
 				failureHandler,
+				metricsProvider,
 				readOrchestrator
 		);
 	}
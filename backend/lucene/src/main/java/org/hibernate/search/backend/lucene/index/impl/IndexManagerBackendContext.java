@@ -6,12 +6,14 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.util.Map;
 import java.util.Optional;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.LuceneMetrics;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.DebugIOStrategy;
@@ -48,6 +50,8 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -65,6 +69,40 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 					.withDefault( LuceneIndexSettings.Defaults.IO_STRATEGY )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> INDEXING_QUEUE_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> INDEXING_MIN_BATCH_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_MIN_BATCH_SIZE )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BATCH_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_MAX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_MAX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> INDEXING_DOCUMENT_BUILDING_DEFERRED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_DOCUMENT_BUILDING_DEFERRED )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_DOCUMENT_BUILDING_DEFERRED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_DOCUMENT_BUILDING_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_DOCUMENT_BUILDING_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_DOCUMENT_BUILDING_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_WRITE_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_WRITE_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_WRITE_THREAD_POOL_SIZE )
+					.build();
+
 	private final EventContext eventContext;
 
 	private final DirectoryProvider directoryProvider;
@@ -74,6 +112,7 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final ThreadPoolProvider threadPoolProvider;
 	private final FailureHandler failureHandler;
+	private final MetricsProvider metricsProvider;
 	private final LuceneReadWorkOrchestrator readOrchestrator;
 
 	public IndexManagerBackendContext(EventContext eventContext,
@@ -84,6 +123,7 @@ public IndexManagerBackendContext(EventContext eventContext,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			ThreadPoolProvider threadPoolProvider,
 			FailureHandler failureHandler,
+			MetricsProvider metricsProvider,
 			LuceneReadWorkOrchestrator readOrchestrator) {
 		this.eventContext = eventContext;
 		this.directoryProvider = directoryProvider;
@@ -93,6 +133,7 @@ public IndexManagerBackendContext(EventContext eventContext,
 		this.workFactory = workFactory;
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
+		this.metricsProvider = metricsProvider;
 		this.readOrchestrator = readOrchestrator;
 	}
 
@@ -181,15 +222,20 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(String indexName, FacetsCo
 		return new LuceneIndexEntryFactory( multiTenancyStrategy, indexName, facetsConfig );
 	}
 
+	boolean isDocumentBuildingDeferred(ConfigurationPropertySource propertySource) {
+		return INDEXING_DOCUMENT_BUILDING_DEFERRED.get( propertySource );
+	}
+
 	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
-				return DebugIOStrategy.create( directoryProvider, threadPoolProvider, failureHandler );
+				return DebugIOStrategy.create( directoryProvider, threadPoolProvider, failureHandler,
+						metricsProvider );
 			case NEAR_REAL_TIME:
 			default:
 				return NearRealTimeIOStrategy.create(
 						propertySource, directoryProvider,
-						timingSource, threadPoolProvider, failureHandler
+						timingSource, threadPoolProvider, failureHandler, metricsProvider
 				);
 		}
 	}
@@ -198,7 +244,8 @@ LuceneIndexSchemaManager createSchemaManager(SchemaManagementIndexManagerContext
 		return new LuceneIndexSchemaManager( workFactory, context );
 	}
 
-	Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String> shardId) {
+	Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String> shardId,
+			ConfigurationPropertySource propertySource) {
 		LuceneWriteWorkOrchestratorImplementor writeOrchestrator;
 		IndexAccessorImpl indexAccessor = null;
 		String indexName = model.getIndexName();
@@ -209,7 +256,8 @@ Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String
 					indexName, shardEventContext,
 					shardId, model.getScopedAnalyzer()
 			);
-			writeOrchestrator = createWriteOrchestrator( indexName, shardEventContext, indexAccessor );
+			writeOrchestrator = createWriteOrchestrator( indexName, shardEventContext, indexAccessor, propertySource,
+					LuceneMetrics.indexTags( indexName, shardId ) );
 
 			return new Shard( shardEventContext, indexAccessor, writeOrchestrator );
 		}
@@ -222,15 +270,26 @@ Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String
 	}
 
 	private LuceneWriteWorkOrchestratorImplementor createWriteOrchestrator(String indexName,
-			EventContext eventContext, IndexAccessorImpl indexAccessor) {
+			EventContext eventContext, IndexAccessorImpl indexAccessor,
+			ConfigurationPropertySource propertySource, Map<String, String> metricsTags) {
+		int maxBatchSize = INDEXING_MAX_BATCH_SIZE.get( propertySource );
 		return new LuceneBatchingWriteWorkOrchestrator(
 				"Lucene write work orchestrator for " + eventContext.render(),
 				new LuceneWriteWorkProcessor(
 						indexName, eventContext,
-						indexAccessor, failureHandler
+						indexAccessor, failureHandler,
+						metricsProvider, metricsTags
 				),
 				threadPoolProvider,
-				failureHandler
+				INDEXING_MIN_BATCH_SIZE.get( propertySource ).orElse( maxBatchSize ),
+				maxBatchSize,
+				INDEXING_QUEUE_SIZE.get( propertySource ).orElse( maxBatchSize ),
+				isDocumentBuildingDeferred( propertySource )
+						? INDEXING_DOCUMENT_BUILDING_THREAD_POOL_SIZE.get( propertySource )
+						: 0,
+				INDEXING_WRITE_THREAD_POOL_SIZE.get( propertySource ),
+				failureHandler,
+				metricsProvider
 		);
 	}
 }
@@ -39,6 +39,7 @@ class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerC
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
 	private final List<LuceneWriteWorkOrchestrator> writeOrchestrators = new ArrayList<>();
+	private boolean documentBuildingDeferred;
 
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
@@ -54,6 +55,7 @@ void start(IndexManagerStartContext startContext) {
 		ConfigurationPropertySource propertySource = startContext.getConfigurationPropertySource();
 
 		try {
+			documentBuildingDeferred = backendContext.isDocumentBuildingDeferred( propertySource );
 			IOStrategy ioStrategy = backendContext.createIOStrategy( propertySource );
 			ShardingStrategyInitializationContextImpl initializationContext =
 					new ShardingStrategyInitializationContextImpl(
@@ -121,6 +123,11 @@ public String getMappedTypeName() {
 		return model.getMappedTypeName();
 	}
 
+	@Override
+	public boolean isDocumentBuildingDeferred() {
+		return documentBuildingDeferred;
+	}
+
 	@Override
 	public LuceneWriteWorkOrchestrator getWriteOrchestrator(String documentId, String routingKey) {
 		return toShard( documentId, routingKey ).getWriteOrchestrator();
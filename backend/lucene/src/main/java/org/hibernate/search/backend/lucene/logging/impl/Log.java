@@ -611,4 +611,35 @@ SearchException unableToValidateIndexDirectory(String causeMessage,
 			value = "Unable to drop index directory: %1$s")
 	SearchException unableToDropIndexDirectory(String causeMessage,
 			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 112,
+			value = "Invalid I/O refresh strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidIORefreshStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 113,
+			value = "Index reader refresh")
+	String indexReaderRefreshOperation();
+
+	@Message(id = ID_OFFSET_2 + 114,
+			value = "Invalid query caching policy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidQueryCachingPolicyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 115,
+			value = "Index reader warming")
+	String indexReaderWarmingOperation();
+
+	@Message(id = ID_OFFSET_2 + 116,
+			value = "Unable to create shadow index directory: %1$s")
+	SearchException unableToCreateShadowIndexDirectory(String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 117,
+			value = "Unable to switch to shadow index: %1$s")
+	SearchException unableToSwitchToShadowIndex(String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 118,
+			value = "Unable to drop shadow index directory: %1$s")
+	SearchException unableToDropShadowIndexDirectory(String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
 }
@@ -12,7 +12,6 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 
 import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.Query;
 
 public final class CollectorExecutionContext {
 
@@ -20,17 +19,13 @@ public final class CollectorExecutionContext {
 
 	private final IndexSearcher indexSearcher;
 
-	private final Query luceneQuery;
-
 	private final int maxDocs;
 
 	public CollectorExecutionContext(IndexReaderMetadataResolver metadataResolver,
 			IndexSearcher indexSearcher,
-			Query luceneQuery,
 			int maxDocs) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
-		this.luceneQuery = luceneQuery;
 		this.maxDocs = maxDocs;
 	}
 
@@ -43,11 +38,11 @@ public IndexSearcher getIndexSearcher() {
 	}
 
 	public NestedDocsProvider createNestedDocsProvider(String nestedDocumentPath) {
-		return new NestedDocsProvider( nestedDocumentPath, luceneQuery );
+		return new NestedDocsProvider( nestedDocumentPath );
 	}
 
 	public NestedDocsProvider createNestedDocsProvider(Set<String> nestedDocumentPaths) {
-		return new NestedDocsProvider( nestedDocumentPaths, luceneQuery );
+		return new NestedDocsProvider( nestedDocumentPaths );
 	}
 
 	public int getMaxDocs() {
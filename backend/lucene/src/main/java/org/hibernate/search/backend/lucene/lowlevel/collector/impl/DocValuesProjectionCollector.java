@@ -0,0 +1,183 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+
+/**
+ * A {@code Collector} extracting the value of a single-valued field from doc values,
+ * to be used for projections instead of loading (and decompressing) stored fields.
+ * <p>
+ * Meant to be applied to top docs only.
+ *
+ * @param <F> The type of field values.
+ */
+public abstract class DocValuesProjectionCollector<F> implements Collector {
+
+	/*
+	 * The expected hit count is an upper bound that can be as large as the index (e.g. when there is no limit),
+	 * so we don't trust it blindly when pre-sizing the map.
+	 */
+	private static final int MAX_INITIAL_CAPACITY = 1024;
+
+	/**
+	 * @param absoluteFieldPath The absolute path of a field indexed with {@link NumericDocValues}.
+	 * @param decoder A function converting the raw doc value into the field value.
+	 * @param hitsCount The expected number of collected documents.
+	 * @param <F> The type of field values.
+	 * @return A collector.
+	 */
+	public static <F> DocValuesProjectionCollector<F> numeric(String absoluteFieldPath,
+			LongFunction<F> decoder, int hitsCount) {
+		return new NumericDocValuesProjectionCollector<>( absoluteFieldPath, decoder, hitsCount );
+	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of a field indexed with {@link SortedDocValues}
+	 * whose values are not normalized.
+	 * @param hitsCount The expected number of collected documents.
+	 * @return A collector.
+	 */
+	public static DocValuesProjectionCollector<String> sorted(String absoluteFieldPath, int hitsCount) {
+		return new SortedDocValuesProjectionCollector( absoluteFieldPath, hitsCount );
+	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of a field.
+	 * @param <F> The type of field values.
+	 * @return A key allowing to share a single collector across all projections on the same field.
+	 */
+	public static <F> CollectorKey<DocValuesProjectionCollector<F>> key(String absoluteFieldPath) {
+		return new Key<>( absoluteFieldPath );
+	}
+
+	protected final String absoluteFieldPath;
+
+	private final Map<Integer, F> values;
+
+	DocValuesProjectionCollector(String absoluteFieldPath, int hitsCount) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.values = new HashMap<>( Math.min( hitsCount, MAX_INITIAL_CAPACITY ) * 4 / 3 + 1 );
+	}
+
+	/**
+	 * @param docId The (top-level) identifier of a collected document.
+	 * @return The value of the field for that document, or {@code null} if there is no value.
+	 */
+	public F getValue(int docId) {
+		return values.get( docId );
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	abstract class AbstractLeafCollector implements LeafCollector {
+
+		private final int docBase;
+
+		AbstractLeafCollector(int docBase) {
+			this.docBase = docBase;
+		}
+
+		@Override
+		public void setScorer(Scorable scorer) {
+			// we don't need any scorer
+		}
+
+		@Override
+		public void collect(int docId) throws IOException {
+			F value = extract( docId );
+			if ( value != null ) {
+				values.put( docBase + docId, value );
+			}
+		}
+
+		abstract F extract(int docId) throws IOException;
+	}
+
+	private static final class NumericDocValuesProjectionCollector<F> extends DocValuesProjectionCollector<F> {
+
+		private final LongFunction<F> decoder;
+
+		private NumericDocValuesProjectionCollector(String absoluteFieldPath, LongFunction<F> decoder, int hitsCount) {
+			super( absoluteFieldPath, hitsCount );
+			this.decoder = decoder;
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			NumericDocValues docValues = DocValues.getNumeric( context.reader(), absoluteFieldPath );
+			return new AbstractLeafCollector( context.docBase ) {
+				@Override
+				F extract(int docId) throws IOException {
+					return docValues.advanceExact( docId ) ? decoder.apply( docValues.longValue() ) : null;
+				}
+			};
+		}
+	}
+
+	private static final class SortedDocValuesProjectionCollector extends DocValuesProjectionCollector<String> {
+
+		private SortedDocValuesProjectionCollector(String absoluteFieldPath, int hitsCount) {
+			super( absoluteFieldPath, hitsCount );
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			SortedDocValues docValues = DocValues.getSorted( context.reader(), absoluteFieldPath );
+			return new AbstractLeafCollector( context.docBase ) {
+				@Override
+				String extract(int docId) throws IOException {
+					return docValues.advanceExact( docId ) ? docValues.binaryValue().utf8ToString() : null;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Necessary in order to share a single collector if there are multiple projections on the same field.
+	 */
+	private static final class Key<F> implements CollectorKey<DocValuesProjectionCollector<F>> {
+
+		private final String absoluteFieldPath;
+
+		private Key(String absoluteFieldPath) {
+			this.absoluteFieldPath = absoluteFieldPath;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+				return false;
+			}
+			Key<?> other = (Key<?>) obj;
+			return absoluteFieldPath.equals( other.absoluteFieldPath );
+		}
+
+		@Override
+		public int hashCode() {
+			return absoluteFieldPath.hashCode();
+		}
+	}
+}
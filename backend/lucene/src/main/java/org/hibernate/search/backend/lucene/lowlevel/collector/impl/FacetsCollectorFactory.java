@@ -6,9 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
+import java.util.List;
+
 import org.apache.lucene.facet.FacetsCollector;
 
-public class FacetsCollectorFactory implements CollectorFactory<FacetsCollector> {
+public class FacetsCollectorFactory implements MergeableCollectorFactory<FacetsCollector> {
 	public static final CollectorKey<FacetsCollector> KEY = CollectorKey.create();
 
 	public static final CollectorFactory<FacetsCollector> INSTANCE = new FacetsCollectorFactory();
@@ -18,6 +20,17 @@ public FacetsCollector createCollector(CollectorExecutionContext context) {
 		return new FacetsCollector();
 	}
 
+	@Override
+	public FacetsCollector merge(List<FacetsCollector> collectors) {
+		// A facets collector only holds matching docs per segment, and segments are distinct across collectors
+		FacetsCollector merged = new FacetsCollector();
+		List<FacetsCollector.MatchingDocs> mergedMatchingDocs = merged.getMatchingDocs();
+		for ( FacetsCollector collector : collectors ) {
+			mergedMatchingDocs.addAll( collector.getMatchingDocs() );
+		}
+		return merged;
+	}
+
 	@Override
 	public CollectorKey<FacetsCollector> getCollectorKey() {
 		return KEY;
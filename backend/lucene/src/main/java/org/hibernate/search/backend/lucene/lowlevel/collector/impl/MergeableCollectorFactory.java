@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.util.List;
+
+import org.apache.lucene.search.Collector;
+
+/**
+ * A collector factory whose collectors can be merged after collection,
+ * so that each index slice can be collected concurrently by its own collector.
+ *
+ * @param <C> The type of collectors.
+ */
+public interface MergeableCollectorFactory<C extends Collector> extends CollectorFactory<C> {
+
+	/**
+	 * @param collectors Collectors created by this factory, each having collected different index segments.
+	 * @return A collector exposing the results of all the given collectors.
+	 * It will only be used to access results, not to collect.
+	 */
+	C merge(List<C> collectors);
+
+}
@@ -19,10 +19,9 @@
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.DocIdSetIterator;
-import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
-import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSet;
 
 /**
  * Collects stored fields as Document instances.
@@ -49,7 +48,7 @@ public StoredFieldsCollector createCollector(CollectorExecutionContext context)
 					nestedDocsProvider = context.createNestedDocsProvider( requiredNestedDocumentPathsForStoredFields );
 				}
 
-				return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor, context.getIndexSearcher() );
+				return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor );
 			}
 
 			@Override
@@ -60,20 +59,18 @@ public CollectorKey<StoredFieldsCollector> getCollectorKey() {
 	}
 
 	private final NestedDocsProvider nestedDocsProvider;
-	private final Weight childrenWeight;
 	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
 
 	private int currentLeafDocBase;
 	private int currentLeafLastSeenParentDoc;
+	private BitSet currentLeafParentDocs;
 	private DocIdSetIterator currentLeafChildDocs;
 	private LeafReader currentLeafReader;
 
 	private final Map<Integer, Document> documents = new HashMap<>();
 
 	public StoredFieldsCollector(NestedDocsProvider nestedDocsProvider,
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
-			IndexSearcher indexSearcher) throws IOException {
-		this.childrenWeight = nestedDocsProvider == null ? null : nestedDocsProvider.childDocsWeight( indexSearcher );
+			ReusableDocumentStoredFieldVisitor storedFieldVisitor) {
 		this.nestedDocsProvider = nestedDocsProvider;
 		this.storedFieldVisitor = storedFieldVisitor;
 	}
@@ -104,12 +101,14 @@ private void collectChildDocs(int parentDoc) throws IOException {
 			throw new AssertionFailure( "Collector.collect called in unexpected order" );
 		}
 
+		// Child docs include the children of parents that were not collected: skip them.
+		final int prevParentDoc = parentDoc == 0 ? -1 : currentLeafParentDocs.prevSetBit( parentDoc - 1 );
 		final int firstChildDoc;
-		if ( currentLeafChildDocs.docID() > currentLeafLastSeenParentDoc ) {
+		if ( currentLeafChildDocs.docID() > prevParentDoc ) {
 			firstChildDoc = currentLeafChildDocs.docID();
 		}
 		else {
-			firstChildDoc = currentLeafChildDocs.advance( currentLeafLastSeenParentDoc + 1 );
+			firstChildDoc = currentLeafChildDocs.advance( prevParentDoc + 1 );
 		}
 		currentLeafLastSeenParentDoc = parentDoc;
 
@@ -138,6 +137,14 @@ protected void doSetNextReader(LeafReaderContext context) throws IOException {
 		this.currentLeafLastSeenParentDoc = -1;
 		this.currentLeafReader = context.reader();
 
-		this.currentLeafChildDocs = nestedDocsProvider == null ? null : nestedDocsProvider.childDocs( childrenWeight, context );
+		if ( nestedDocsProvider == null ) {
+			this.currentLeafParentDocs = null;
+			this.currentLeafChildDocs = null;
+		}
+		else {
+			this.currentLeafParentDocs = nestedDocsProvider.parentDocs( context );
+			// Without parents, there cannot be any child to collect
+			this.currentLeafChildDocs = currentLeafParentDocs == null ? null : nestedDocsProvider.childDocs( context );
+		}
 	}
 }
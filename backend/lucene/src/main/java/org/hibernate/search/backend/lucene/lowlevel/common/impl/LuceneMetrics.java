@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.common.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Names and tags of the meters registered by the Lucene backend.
+ *
+ * @see org.hibernate.search.engine.environment.metrics.spi.MetricsProvider
+ */
+public final class LuceneMetrics {
+
+	private static final String PREFIX = "hibernate.search.lucene.";
+
+	public static final String WRITE_WORKS = PREFIX + "write.works";
+	public static final String WRITE_FAILURES = PREFIX + "write.failures";
+	public static final String COMMIT_DURATION = PREFIX + "commit.duration";
+	public static final String REFRESH_DURATION = PREFIX + "refresh.duration";
+	public static final String QUERY_DURATION = PREFIX + "query.duration";
+
+	public static final String TAG_BACKEND = "backend";
+	public static final String TAG_INDEX = "index";
+	public static final String TAG_SHARD = "shard";
+
+	private LuceneMetrics() {
+	}
+
+	public static Map<String, String> backendTags(String backendName) {
+		return Collections.singletonMap( TAG_BACKEND, backendName );
+	}
+
+	public static Map<String, String> indexTags(String indexName, Optional<String> shardId) {
+		if ( !shardId.isPresent() ) {
+			return Collections.singletonMap( TAG_INDEX, indexName );
+		}
+		Map<String, String> tags = new LinkedHashMap<>();
+		tags.put( TAG_INDEX, indexName );
+		tags.put( TAG_SHARD, shardId.get() );
+		return Collections.unmodifiableMap( tags );
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum IORefreshStrategyName {
+
+	/**
+	 * The default, on-demand strategy,
+	 * where stale index readers are re-opened by the first search query that notices they are stale.
+	 */
+	ON_DEMAND( "on-demand" ),
+	/**
+	 * The background strategy,
+	 * where index readers are re-opened periodically by a background task
+	 * and search queries never wait for a re-opening, except when forced by a write.
+	 */
+	BACKGROUND( "background" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static IORefreshStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				IORefreshStrategyName.values(),
+				IORefreshStrategyName::getExternalRepresentation,
+				log::invalidIORefreshStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	IORefreshStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -6,11 +6,15 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.LuceneMetrics;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -20,30 +24,32 @@
 public class DebugIOStrategy extends IOStrategy {
 
 	public static DebugIOStrategy create(DirectoryProvider directoryProvider, ThreadPoolProvider threadPoolProvider,
-			FailureHandler failureHandler) {
-		return new DebugIOStrategy( directoryProvider, threadPoolProvider, failureHandler );
+			FailureHandler failureHandler, MetricsProvider metricsProvider) {
+		return new DebugIOStrategy( directoryProvider, threadPoolProvider, failureHandler, metricsProvider );
 	}
 
 	private DebugIOStrategy(DirectoryProvider directoryProvider, ThreadPoolProvider threadPoolProvider,
-			FailureHandler failureHandler) {
-		super( directoryProvider, threadPoolProvider, failureHandler );
+			FailureHandler failureHandler, MetricsProvider metricsProvider) {
+		super( directoryProvider, threadPoolProvider, failureHandler, metricsProvider );
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext, Analyzer analyzer,
-			DirectoryHolder directoryHolder) {
+			DirectoryHolder directoryHolder, Map<String, String> metricsTags) {
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, analyzer,
 				null, 0,
 				threadPoolProvider.getThreadProvider(),
-				failureHandler
+				failureHandler,
+				null,
+				metricsProvider.timer( LuceneMetrics.COMMIT_DURATION, metricsTags )
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(String indexName, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, Map<String, String> metricsTags) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
 
@@ -6,14 +6,17 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.util.Map;
 import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.LuceneMetrics;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryCreationContextImpl;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -24,15 +27,22 @@
 
 public abstract class IOStrategy {
 
+	/**
+	 * The suffix appended to the index name to get the name of the sibling directory for shadow indexes.
+	 */
+	private static final String SHADOW_INDEX_NAME_SUFFIX = ".shadow";
+
 	private final DirectoryProvider directoryProvider;
 	final ThreadPoolProvider threadPoolProvider;
 	final FailureHandler failureHandler;
+	final MetricsProvider metricsProvider;
 
 	protected IOStrategy(DirectoryProvider directoryProvider, ThreadPoolProvider threadPoolProvider,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler, MetricsProvider metricsProvider) {
 		this.directoryProvider = directoryProvider;
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
+		this.metricsProvider = metricsProvider;
 	}
 
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
@@ -44,14 +54,18 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 				shardId
 		);
 		directoryHolder = directoryProvider.createDirectoryHolder( context );
+		Map<String, String> metricsTags = LuceneMetrics.indexTags( indexName, shardId );
 		IndexWriterProvider indexWriterProvider = null;
 		IndexReaderProvider indexReaderProvider = null;
 		try {
-			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, analyzer, directoryHolder );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, analyzer, directoryHolder,
+					metricsTags );
+			indexReaderProvider = createIndexReaderProvider( indexName, directoryHolder, indexWriterProvider,
+					metricsTags );
 			return new IndexAccessorImpl(
 					eventContext,
-					directoryHolder, indexWriterProvider, indexReaderProvider
+					directoryHolder, indexWriterProvider, indexReaderProvider,
+					() -> createShadowIndex( indexName, eventContext, shardId, analyzer, metricsTags )
 			);
 		}
 		catch (RuntimeException e) {
@@ -63,10 +77,32 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 		}
 	}
 
+	private ShadowIndex createShadowIndex(String indexName, EventContext eventContext,
+			Optional<String> shardId, Analyzer analyzer, Map<String, String> metricsTags) {
+		DirectoryCreationContext context = new DirectoryCreationContextImpl(
+				shardId.isPresent() ? EventContexts.fromShardId( shardId.get() ) : null,
+				indexName + SHADOW_INDEX_NAME_SUFFIX,
+				shardId
+		);
+		DirectoryHolder directoryHolder = directoryProvider.createDirectoryHolder( context );
+		// Shadow indexes are tuned for bulk loading:
+		// they are only committed explicitly, and no reader is opened on them, so merged segments need no warming.
+		IndexWriterProvider indexWriterProvider = new IndexWriterProvider(
+				indexName, eventContext,
+				directoryHolder, analyzer,
+				null, 0,
+				threadPoolProvider.getThreadProvider(),
+				failureHandler,
+				null,
+				metricsProvider.timer( LuceneMetrics.COMMIT_DURATION, metricsTags )
+		);
+		return new ShadowIndex( directoryHolder, indexWriterProvider );
+	}
+
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext, Analyzer analyzer,
-			DirectoryHolder directoryHolder);
+			DirectoryHolder directoryHolder, Map<String, String> metricsTags);
 
-	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider);
+	abstract IndexReaderProvider createIndexReaderProvider(String indexName, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, Map<String, String> metricsTags);
 
 }
@@ -42,7 +42,26 @@ public interface IndexAccessor {
 	void dropIndexIfExisting();
 
 	/**
-	 * Commits the underlying index writer, if any.
+	 * Creates an empty shadow index in a sibling directory and redirects all writes to it,
+	 * while readers keep reading from the index.
+	 * <p>
+	 * Drops any pre-existing shadow index first.
+	 */
+	void createShadow();
+
+	/**
+	 * Replaces the content of the index with the content of the shadow index, if any, in a single commit,
+	 * then drops the shadow index and redirects writes back to the index.
+	 */
+	void switchToShadow();
+
+	/**
+	 * Drops the shadow index, if any, and redirects writes back to the index.
+	 */
+	void dropShadowIfExisting();
+
+	/**
+	 * Commits the underlying index writer, if any, as well as the one of the shadow index, if any.
 	 */
 	void commit();
 
@@ -50,6 +69,9 @@ public interface IndexAccessor {
 	 * Commits the underlying index writer, if any,
 	 * or delay the commit if a commit happened recently
 	 * and configuration requires to wait longer between two commits.
+	 * <p>
+	 * The shadow index, if any, is not committed:
+	 * it is only committed by {@link #commit()}, since it is dropped rather than recovered after a crash anyway.
 	 *
 	 * @return {@code 0} if the commit occurred.
 	 * If the commit was delayed,
@@ -63,7 +85,7 @@ public interface IndexAccessor {
 	void refresh();
 
 	/**
-	 * @return The index writer delegator.
+	 * @return The index writer delegator; the one of the shadow index, if any.
 	 */
 	IndexWriterDelegator getIndexWriterDelegator() throws IOException;
 
@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
@@ -17,6 +18,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -37,13 +39,21 @@ public class IndexAccessorImpl implements AutoCloseable, IndexAccessor {
 	private final DirectoryHolder directoryHolder;
 	private final IndexWriterProvider indexWriterProvider;
 	private final IndexReaderProvider indexReaderProvider;
+	private final Supplier<ShadowIndex> shadowIndexFactory;
+
+	/**
+	 * Current shadow index, or null when writes go to the index directly.
+	 */
+	private volatile ShadowIndex shadowIndex;
 
 	public IndexAccessorImpl(EventContext eventContext, DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider) {
+			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider,
+			Supplier<ShadowIndex> shadowIndexFactory) {
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
 		this.indexWriterProvider = indexWriterProvider;
 		this.indexReaderProvider = indexReaderProvider;
+		this.shadowIndexFactory = shadowIndexFactory;
 	}
 
 	public void start() throws IOException {
@@ -53,6 +63,9 @@ public void start() throws IOException {
 	@Override
 	public void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
+			// A shadow index cannot be resumed after a restart anyway
+			closer.push( ShadowIndex::drop, shadowIndex );
+			shadowIndex = null;
 			closer.push( IndexReaderProvider::clear, indexReaderProvider );
 			closer.push( IndexWriterProvider::clear, indexWriterProvider );
 			closer.push( DirectoryHolder::close, directoryHolder );
@@ -64,6 +77,10 @@ public void reset() throws IOException {
 		log.indexAccessorReset( eventContext );
 		indexWriterProvider.clear();
 		indexReaderProvider.clear();
+		ShadowIndex shadow = shadowIndex;
+		if ( shadow != null ) {
+			shadow.clearWriter();
+		}
 	}
 
 	@Override
@@ -123,6 +140,58 @@ public void dropIndexIfExisting() {
 		}
 	}
 
+	@Override
+	public void createShadow() {
+		dropShadowIfExisting();
+		ShadowIndex shadow = shadowIndexFactory.get();
+		try {
+			shadow.start();
+			// Make sure changes written to the index so far are not left uncommitted.
+			commit();
+		}
+		catch (IOException | RuntimeException e) {
+			new SuppressingCloser( e ).push( ShadowIndex::drop, shadow );
+			throw log.unableToCreateShadowIndexDirectory( e.getMessage(), eventContext, e );
+		}
+		shadowIndex = shadow;
+	}
+
+	@Override
+	public void switchToShadow() {
+		ShadowIndex shadow = shadowIndex;
+		if ( shadow == null ) {
+			return;
+		}
+		try {
+			shadow.commitAndCloseWriter();
+			IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrCreate();
+			// Prevent near-real-time readers from seeing the index after documents were deleted
+			// but before documents from the shadow index were added.
+			indexReaderProvider.refreshAfter( () -> delegator.replaceAllDocuments( shadow.getDirectory() ) );
+		}
+		catch (IOException | RuntimeException e) {
+			// The index writer may have been rolled back and closed:
+			// make sure the next writes and searches use a new writer and a new reader.
+			new SuppressingCloser( e )
+					.push( IndexWriterProvider::clear, indexWriterProvider )
+					.push( IndexReaderProvider::clear, indexReaderProvider );
+			// The shadow index is left as is: writes keep going to the shadow index until it's dropped.
+			throw log.unableToSwitchToShadowIndex( e.getMessage(), eventContext, e );
+		}
+		shadowIndex = null;
+		dropShadow( shadow );
+	}
+
+	@Override
+	public void dropShadowIfExisting() {
+		ShadowIndex shadow = shadowIndex;
+		if ( shadow == null ) {
+			return;
+		}
+		shadowIndex = null;
+		dropShadow( shadow );
+	}
+
 	@Override
 	public void commit() {
 		try {
@@ -130,6 +199,10 @@ public void commit() {
 			if ( delegator != null ) {
 				delegator.commit();
 			}
+			ShadowIndex shadow = shadowIndex;
+			if ( shadow != null ) {
+				shadow.commit();
+			}
 		}
 		catch (RuntimeException | IOException e) {
 			throw log.unableToCommitIndex( eventContext, e );
@@ -164,6 +237,10 @@ public void refresh() {
 
 	@Override
 	public IndexWriterDelegator getIndexWriterDelegator() throws IOException {
+		ShadowIndex shadow = shadowIndex;
+		if ( shadow != null ) {
+			return shadow.getIndexWriterDelegator();
+		}
 		return indexWriterProvider.getOrCreate();
 	}
 
@@ -176,6 +253,15 @@ public Directory getDirectoryForTests() {
 		return directoryHolder.get();
 	}
 
+	private void dropShadow(ShadowIndex shadow) {
+		try {
+			shadow.drop();
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToDropShadowIndexDirectory( e.getMessage(), eventContext, e );
+		}
+	}
+
 	private void initializeDirectory(Directory directory) throws IOException {
 		try {
 			IndexWriterConfig iwriterConfig = new IndexWriterConfig( AnalyzerConstants.KEYWORD_ANALYZER )
@@ -6,20 +6,31 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.LuceneMetrics;
+import org.hibernate.search.backend.lucene.lowlevel.index.IORefreshStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DocValuesIndexReaderWarmer;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.SimpleMergedSegmentWarmer;
+import org.apache.lucene.util.InfoStream;
 
 public class NearRealTimeIOStrategy extends IOStrategy {
 
@@ -35,34 +46,68 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<IORefreshStrategyName> REFRESH_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_STRATEGY )
+					.as( IORefreshStrategyName.class, IORefreshStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> WARMING_MERGED_SEGMENTS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WARMING_MERGED_SEGMENTS )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WARMING_MERGED_SEGMENTS )
+					.build();
+
+	private static final ConfigurationProperty<List<String>> WARMING_FIELDS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WARMING_FIELDS )
+					.asString().multivalued()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WARMING_FIELDS )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			DirectoryProvider directoryProvider, TimingSource timingSource,
-			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler) {
+			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler,
+			MetricsProvider metricsProvider) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		IORefreshStrategyName refreshStrategy = REFRESH_STRATEGY.get( propertySource );
+		IndexWriter.IndexReaderWarmer mergedSegmentWarmer = WARMING_MERGED_SEGMENTS.get( propertySource )
+				? new SimpleMergedSegmentWarmer( InfoStream.NO_OUTPUT ) : null;
+		List<String> warmingFields = WARMING_FIELDS.get( propertySource );
+		IndexWriter.IndexReaderWarmer readerWarmer = warmingFields.isEmpty()
+				? null : new DocValuesIndexReaderWarmer( warmingFields );
 		return new NearRealTimeIOStrategy(
-				directoryProvider, timingSource, commitInterval, refreshInterval,
-				threadPoolProvider, failureHandler
+				directoryProvider, timingSource, commitInterval, refreshInterval, refreshStrategy,
+				mergedSegmentWarmer, readerWarmer,
+				threadPoolProvider, failureHandler, metricsProvider
 		);
 	}
 
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final IORefreshStrategyName refreshStrategy;
+	private final IndexWriter.IndexReaderWarmer mergedSegmentWarmer;
+	private final IndexWriter.IndexReaderWarmer readerWarmer;
 
 	private NearRealTimeIOStrategy(DirectoryProvider directoryProvider,
 			TimingSource timingSource, int commitInterval, int refreshInterval,
+			IORefreshStrategyName refreshStrategy,
+			IndexWriter.IndexReaderWarmer mergedSegmentWarmer, IndexWriter.IndexReaderWarmer readerWarmer,
 			ThreadPoolProvider threadPoolProvider,
-			FailureHandler failureHandler) {
-		super( directoryProvider, threadPoolProvider, failureHandler );
+			FailureHandler failureHandler, MetricsProvider metricsProvider) {
+		super( directoryProvider, threadPoolProvider, failureHandler, metricsProvider );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.refreshStrategy = refreshStrategy;
+		this.mergedSegmentWarmer = mergedSegmentWarmer;
+		this.readerWarmer = readerWarmer;
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext, Analyzer analyzer,
-			DirectoryHolder directoryHolder) {
+			DirectoryHolder directoryHolder, Map<String, String> metricsTags) {
 		if ( commitInterval != 0 ) {
 			timingSource.ensureInitialized();
 		}
@@ -70,17 +115,24 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 				indexName, eventContext,
 				directoryHolder, analyzer,
 				timingSource, commitInterval, threadPoolProvider.getThreadProvider(),
-				failureHandler
+				failureHandler, mergedSegmentWarmer,
+				metricsProvider.timer( LuceneMetrics.COMMIT_DURATION, metricsTags )
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(String indexName, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, Map<String, String> metricsTags) {
+		ScheduledExecutorService backgroundRefreshExecutor = null;
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureInitialized();
+			if ( IORefreshStrategyName.BACKGROUND.equals( refreshStrategy ) ) {
+				backgroundRefreshExecutor = threadPoolProvider.getSharedScheduledThreadPool();
+			}
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider( indexName, indexWriterProvider,
+				timingSource, refreshInterval, backgroundRefreshExecutor, failureHandler, readerWarmer,
+				metricsProvider.timer( LuceneMetrics.REFRESH_DURATION, metricsTags ) );
 	}
 
 }
@@ -0,0 +1,90 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.util.common.impl.Closer;
+
+import org.apache.lucene.store.Directory;
+
+/**
+ * A shadow index: a sibling directory of the actual index, along with its own index writer,
+ * receiving writes until its content replaces the content of the actual index.
+ * <p>
+ * Nothing ever reads from a shadow index, so no index reader is ever opened on it.
+ */
+final class ShadowIndex {
+
+	private final DirectoryHolder directoryHolder;
+	private final IndexWriterProvider indexWriterProvider;
+
+	ShadowIndex(DirectoryHolder directoryHolder, IndexWriterProvider indexWriterProvider) {
+		this.directoryHolder = directoryHolder;
+		this.indexWriterProvider = indexWriterProvider;
+	}
+
+	/**
+	 * Allocates the directory and initializes an empty index in it,
+	 * removing any leftover from a previous shadow index that was not dropped (because of a crash, ...).
+	 */
+	void start() throws IOException {
+		directoryHolder.start();
+		deleteAllFiles();
+		// Commit an empty index so that the content of the shadow index can be read even if nothing was written.
+		indexWriterProvider.getOrCreate().commit();
+	}
+
+	Directory getDirectory() {
+		return directoryHolder.get();
+	}
+
+	IndexWriterDelegatorImpl getIndexWriterDelegator() throws IOException {
+		return indexWriterProvider.getOrCreate();
+	}
+
+	void commit() throws IOException {
+		IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrNull();
+		if ( delegator != null ) {
+			delegator.commit();
+		}
+	}
+
+	/**
+	 * Commits and closes the index writer, so that the directory is no longer locked
+	 * and contains all the documents written to the shadow index.
+	 */
+	void commitAndCloseWriter() throws IOException {
+		commit();
+		indexWriterProvider.clear();
+	}
+
+	void clearWriter() throws IOException {
+		indexWriterProvider.clear();
+	}
+
+	/**
+	 * Closes the index writer and the directory, deleting all files from the directory.
+	 */
+	void drop() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( IndexWriterProvider::clear, indexWriterProvider );
+			closer.push( ShadowIndex::deleteAllFiles, this );
+			closer.push( DirectoryHolder::close, directoryHolder );
+		}
+	}
+
+	private void deleteAllFiles() throws IOException {
+		Directory directory = directoryHolder.get();
+		for ( String file : directory.listAll() ) {
+			directory.deleteFile( file );
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.util.BitDocIdSet;
+import org.apache.lucene.util.BitSet;
+
+/**
+ * A {@link BitSetProducer} that caches the bitsets of a query for each segment,
+ * in a cache shared by all instances.
+ * <p>
+ * {@link org.apache.lucene.search.join.QueryBitSetProducer} caches bitsets per producer instance,
+ * which is useless when a new producer is created for every search query.
+ * Here, bitsets are computed once per segment and per query,
+ * then reused by every search query targeting that segment,
+ * until the segment core is closed, at which point the corresponding entries are dropped.
+ * <p>
+ * Bitsets are computed on the segment core, ignoring deletions,
+ * so this must only be used with queries that do not depend on anything but the indexed terms
+ * of each document, e.g. queries on the type or nested path of documents.
+ * The number of such queries must also be bounded, e.g. by the number of nested paths in the mapping,
+ * since the cache does not have any size limit.
+ */
+public final class CachingBitSetProducer implements BitSetProducer {
+
+	private static final Map<IndexReader.CacheKey, Map<Query, DocIdSet>> CACHE = new ConcurrentHashMap<>();
+
+	private final Query query;
+
+	public CachingBitSetProducer(Query query) {
+		this.query = query;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + query + "]";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		CachingBitSetProducer other = (CachingBitSetProducer) obj;
+		return query.equals( other.query );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( getClass(), query );
+	}
+
+	@Override
+	public BitSet getBitSet(LeafReaderContext context) throws IOException {
+		IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+		if ( cacheHelper == null ) {
+			// This reader cannot be cached (e.g. it filters documents on the fly)
+			return toBitSet( compute( context ) );
+		}
+
+		Map<Query, DocIdSet> segmentCache = getOrCreateSegmentCache( cacheHelper );
+		DocIdSet docIdSet = segmentCache.get( query );
+		if ( docIdSet == null ) {
+			// Concurrent computations of the same bitset are harmless: they will just produce the same result.
+			docIdSet = compute( context );
+			segmentCache.putIfAbsent( query, docIdSet );
+		}
+		return toBitSet( docIdSet );
+	}
+
+	// Exposed for tests
+	static boolean isCached(IndexReader.CacheKey coreKey) {
+		return CACHE.containsKey( coreKey );
+	}
+
+	private static Map<Query, DocIdSet> getOrCreateSegmentCache(IndexReader.CacheHelper cacheHelper) {
+		IndexReader.CacheKey coreKey = cacheHelper.getKey();
+		Map<Query, DocIdSet> segmentCache = CACHE.get( coreKey );
+		if ( segmentCache != null ) {
+			return segmentCache;
+		}
+		segmentCache = new ConcurrentHashMap<>();
+		Map<Query, DocIdSet> previous = CACHE.putIfAbsent( coreKey, segmentCache );
+		if ( previous != null ) {
+			return previous;
+		}
+		// The segment core is being used by the caller, so it cannot have been closed yet.
+		cacheHelper.addClosedListener( CACHE::remove );
+		return segmentCache;
+	}
+
+	private DocIdSet compute(LeafReaderContext context) throws IOException {
+		IndexReaderContext topLevelContext = ReaderUtil.getTopLevelContext( context );
+		IndexSearcher searcher = new IndexSearcher( topLevelContext );
+		searcher.setQueryCache( null );
+		Weight weight = searcher.createWeight( searcher.rewrite( query ), ScoreMode.COMPLETE_NO_SCORES, 1f );
+		Scorer scorer = weight.scorer( context );
+		if ( scorer == null ) {
+			return DocIdSet.EMPTY;
+		}
+		return new BitDocIdSet( BitSet.of( scorer.iterator(), context.reader().maxDoc() ) );
+	}
+
+	private static BitSet toBitSet(DocIdSet docIdSet) {
+		return docIdSet == DocIdSet.EMPTY ? null : ( (BitDocIdSet) docIdSet ).bits();
+	}
+
+}
@@ -12,60 +12,48 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 
-import org.apache.lucene.index.IndexReaderContext;
 import org.apache.lucene.index.LeafReaderContext;
-import org.apache.lucene.index.ReaderUtil;
 import org.apache.lucene.search.DocIdSetIterator;
-import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.Query;
-import org.apache.lucene.search.ScoreMode;
-import org.apache.lucene.search.Scorer;
-import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.join.BitSetProducer;
-import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
 
 /**
- * Provides the {@link #parentDocs(LeafReaderContext)} and {@link #childDocs(LeafReaderContext)},
- * relatives to the current sort.
+ * Provides the {@link #parentDocs(LeafReaderContext)} and {@link #childDocs(LeafReaderContext)}
+ * for a given set of nested document paths.
+ * <p>
+ * Parent documents are all the main documents, and child documents are all the nested documents
+ * with one of the given paths, regardless of the search query:
+ * callers are expected to only look for the children of documents matching the query,
+ * which are located between the previous parent document and the matching document.
+ * Thanks to this, the bitsets are cached per segment and shared between all search queries,
+ * see {@link CachingBitSetProducer}.
  * <p>
  * Copied and adapted from {@code org.elasticsearch.index.fielddata.IndexFieldData.Nested} class
  * of <a href="https://github.com/elastic/elasticsearch">Elasticsearch project</a>.
  */
 public class NestedDocsProvider {
 
-	private final BitSetProducer parentFiler;
-	private final Query childQuery;
+	private static final BitSetProducer PARENT_DOCS = new CachingBitSetProducer( Queries.mainDocumentQuery() );
+
+	private final BitSetProducer childDocs;
 
-	public NestedDocsProvider(String nestedDocumentPath, Query originalParentQuery) {
-		this( Collections.singleton( nestedDocumentPath ), originalParentQuery );
+	public NestedDocsProvider(String nestedDocumentPath) {
+		this( Collections.singleton( nestedDocumentPath ) );
 	}
 
-	public NestedDocsProvider(Set<String> nestedDocumentPaths, Query originalParentQuery) {
-		this.parentFiler = new QueryBitSetProducer( originalParentQuery );
-		this.childQuery = Queries.findChildQuery( nestedDocumentPaths, originalParentQuery );
+	public NestedDocsProvider(Set<String> nestedDocumentPaths) {
+		this.childDocs = new CachingBitSetProducer( Queries.childDocumentsQuery( nestedDocumentPaths ) );
 	}
 
 	public BitSet parentDocs(LeafReaderContext context) throws IOException {
-		return parentFiler.getBitSet( context );
+		return PARENT_DOCS.getBitSet( context );
 	}
 
 	public DocIdSetIterator childDocs(LeafReaderContext context) throws IOException {
-		final IndexReaderContext topLevelCtx = ReaderUtil.getTopLevelContext( context );
-
-		// Maybe we can cache on shard-base. See Elasticsearch code.
-		IndexSearcher indexSearcher = new IndexSearcher( topLevelCtx );
-
-		Weight weight = childDocsWeight( indexSearcher );
-		return childDocs( weight, context );
-	}
-
-	public Weight childDocsWeight(IndexSearcher indexSearcher) throws IOException {
-		return indexSearcher.createWeight( indexSearcher.rewrite( childQuery ), ScoreMode.COMPLETE_NO_SCORES, 1f );
-	}
-
-	public DocIdSetIterator childDocs(Weight weight, LeafReaderContext context) throws IOException {
-		Scorer s = weight.scorer( context );
-		return s == null ? null : s.iterator();
+		BitSet bits = childDocs.getBitSet( context );
+		// Use the size of the bitset as the cost: it is an upper bound of the number of matches,
+		// and unlike the cardinality it does not require scanning the bitset on every search query.
+		return bits == null ? null : new BitSetIterator( bits, bits.length() );
 	}
 }
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum QueryCachingPolicyName {
+
+	/**
+	 * The default Lucene policy,
+	 * which only caches filter clauses that were used multiple times recently
+	 * and that are costly enough to be worth caching.
+	 */
+	USAGE_TRACKING( "usage-tracking" ),
+	/**
+	 * A policy that caches every filter clause,
+	 * which mostly makes sense when the same filters are used over and over again.
+	 */
+	ALWAYS( "always" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static QueryCachingPolicyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				QueryCachingPolicyName.values(),
+				QueryCachingPolicyName::getExternalRepresentation,
+				log::invalidQueryCachingPolicyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	QueryCachingPolicyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
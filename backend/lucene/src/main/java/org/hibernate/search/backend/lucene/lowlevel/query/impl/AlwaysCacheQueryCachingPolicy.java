@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+
+/**
+ * A caching policy that caches every filter clause, regardless of how often it is used.
+ * <p>
+ * Lucene used to provide such a policy, but removed it because it is only useful for specific workloads:
+ * those that keep reusing the same (few) filters.
+ */
+public final class AlwaysCacheQueryCachingPolicy implements QueryCachingPolicy {
+
+	public static final AlwaysCacheQueryCachingPolicy INSTANCE = new AlwaysCacheQueryCachingPolicy();
+
+	private AlwaysCacheQueryCachingPolicy() {
+	}
+
+	@Override
+	public void onUse(Query query) {
+		// Nothing to do
+	}
+
+	@Override
+	public boolean shouldCache(Query query) {
+		return true;
+	}
+}
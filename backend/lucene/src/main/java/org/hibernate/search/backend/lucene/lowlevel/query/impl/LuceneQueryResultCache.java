@@ -0,0 +1,207 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+
+/**
+ * A memory-bounded, least-recently-used cache for the results of queries executed against a given set of index readers.
+ * <p>
+ * Entries are keyed on the {@link IndexReader.CacheKey cache keys} of the targeted index readers
+ * in addition to a query key provided by the caller,
+ * so that a refreshed (re-opened) index reader never sees results cached for a previous reader.
+ * Entries are evicted as soon as one of the index readers they were cached for gets closed,
+ * which happens when index readers are refreshed.
+ * <p>
+ * Query keys must implement {@link Object#equals(Object)} and {@link Object#hashCode()},
+ * and must include everything that may affect the cached result.
+ */
+public final class LuceneQueryResultCache {
+
+	private final int maxEntries;
+	private final long maxRamBytes;
+
+	// Access-ordered, so that iteration starts with the least recently used entry
+	private final Map<Key, Entry> entries = new LinkedHashMap<>( 16, 0.75f, true );
+	private final Set<IndexReader.CacheKey> readersWithClosedListener = new HashSet<>();
+	private long ramBytesUsed = 0L;
+
+	public LuceneQueryResultCache(int maxEntries, long maxRamBytes) {
+		this.maxEntries = maxEntries;
+		this.maxRamBytes = maxRamBytes;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[maxEntries=" + maxEntries + ", maxRamBytes=" + maxRamBytes + "]";
+	}
+
+	/**
+	 * @param indexReader The index reader the query is about to be executed against.
+	 * @param queryKey The key of the query.
+	 * @param <V> The expected type of the cached value.
+	 * @return The cached value, or {@code null} if there is none.
+	 */
+	@SuppressWarnings("unchecked")
+	public <V> V get(IndexReader indexReader, Object queryKey) {
+		List<IndexReader.CacheKey> readerKeys = readerKeysOrNull( indexReader );
+		if ( readerKeys == null ) {
+			return null;
+		}
+		Key key = new Key( readerKeys, queryKey );
+		synchronized ( this ) {
+			Entry entry = entries.get( key );
+			return entry == null ? null : (V) entry.value;
+		}
+	}
+
+	/**
+	 * @param indexReader The index reader the query was executed against.
+	 * Must still be open.
+	 * @param queryKey The key of the query.
+	 * @param value The result of the query. Must be immutable, or at least must not be mutated after this call.
+	 * @param valueRamBytes The estimated size of the value in memory, in bytes.
+	 */
+	public void put(IndexReader indexReader, Object queryKey, Object value, long valueRamBytes) {
+		if ( valueRamBytes > maxRamBytes ) {
+			// Never cache a value that would evict the whole cache
+			return;
+		}
+		List<IndexReader.CacheKey> readerKeys = readerKeysOrNull( indexReader );
+		if ( readerKeys == null ) {
+			return;
+		}
+		Key key = new Key( readerKeys, queryKey );
+		synchronized ( this ) {
+			registerClosedListeners( indexReader );
+			Entry previous = entries.put( key, new Entry( value, valueRamBytes ) );
+			if ( previous != null ) {
+				ramBytesUsed -= previous.ramBytes;
+			}
+			ramBytesUsed += valueRamBytes;
+			evictIfNecessary();
+		}
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		ramBytesUsed = 0L;
+	}
+
+	synchronized int size() {
+		return entries.size();
+	}
+
+	private void evictIfNecessary() {
+		Iterator<Entry> iterator = entries.values().iterator();
+		while ( iterator.hasNext() && ( entries.size() > maxEntries || ramBytesUsed > maxRamBytes ) ) {
+			Entry eldest = iterator.next();
+			ramBytesUsed -= eldest.ramBytes;
+			iterator.remove();
+		}
+	}
+
+	private void registerClosedListeners(IndexReader indexReader) {
+		for ( IndexReader reader : cacheableReaders( indexReader ) ) {
+			IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+			IndexReader.CacheKey readerKey = cacheHelper.getKey();
+			if ( readersWithClosedListener.add( readerKey ) ) {
+				cacheHelper.addClosedListener( this::onReaderClosed );
+			}
+		}
+	}
+
+	private synchronized void onReaderClosed(IndexReader.CacheKey readerKey) {
+		readersWithClosedListener.remove( readerKey );
+		Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+		while ( iterator.hasNext() ) {
+			Map.Entry<Key, Entry> mapEntry = iterator.next();
+			if ( mapEntry.getKey().readerKeys.contains( readerKey ) ) {
+				ramBytesUsed -= mapEntry.getValue().ramBytes;
+				iterator.remove();
+			}
+		}
+	}
+
+	private static List<IndexReader.CacheKey> readerKeysOrNull(IndexReader indexReader) {
+		List<IndexReader> readers = cacheableReaders( indexReader );
+		List<IndexReader.CacheKey> readerKeys = new ArrayList<>( readers.size() );
+		for ( IndexReader reader : readers ) {
+			IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				// This reader cannot notify us when it's closed: we can't cache anything safely.
+				return null;
+			}
+			readerKeys.add( cacheHelper.getKey() );
+		}
+		return readerKeys;
+	}
+
+	/*
+	 * The top-level reader is generally a MultiReader created for each query,
+	 * so we rely on the (shared, refreshed) readers it's composed of.
+	 */
+	private static List<IndexReader> cacheableReaders(IndexReader indexReader) {
+		List<IndexReaderContext> children = indexReader.getContext().children();
+		if ( children == null ) {
+			return Collections.singletonList( indexReader );
+		}
+		List<IndexReader> readers = new ArrayList<>( children.size() );
+		for ( IndexReaderContext child : children ) {
+			readers.add( child.reader() );
+		}
+		return readers;
+	}
+
+	private static final class Key {
+		private final List<IndexReader.CacheKey> readerKeys;
+		private final Object queryKey;
+
+		private Key(List<IndexReader.CacheKey> readerKeys, Object queryKey) {
+			this.readerKeys = readerKeys;
+			this.queryKey = queryKey;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return readerKeys.equals( other.readerKeys ) && queryKey.equals( other.queryKey );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( readerKeys, queryKey );
+		}
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private final long ramBytes;
+
+		private Entry(Object value, long ramBytes) {
+			this.value = value;
+			this.ramBytes = ramBytes;
+		}
+	}
+}
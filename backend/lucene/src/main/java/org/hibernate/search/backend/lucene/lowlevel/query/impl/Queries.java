@@ -16,8 +16,6 @@
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
-import org.apache.lucene.search.join.QueryBitSetProducer;
-import org.apache.lucene.search.join.ToChildBlockJoinQuery;
 
 public class Queries {
 
@@ -75,17 +73,8 @@ public static Query anyTerm(String absoluteFieldPath, Set<String> values) {
 		return queryBuilder.build();
 	}
 
-	public static BooleanQuery findChildQuery(Set<String> nestedDocumentPaths, Query originalParentQuery) {
-		QueryBitSetProducer parentsFilter = new QueryBitSetProducer( mainDocumentQuery() );
-		return findChildQuery( nestedDocumentPaths, originalParentQuery, parentsFilter );
-	}
-
-	public static BooleanQuery findChildQuery(Set<String> nestedDocumentPaths, Query originalParentQuery,
-			QueryBitSetProducer parentsFilter) {
-		ToChildBlockJoinQuery parentQuery = new ToChildBlockJoinQuery( originalParentQuery, parentsFilter );
-
+	public static BooleanQuery childDocumentsQuery(Set<String> nestedDocumentPaths) {
 		return new BooleanQuery.Builder()
-				.add( parentQuery, Occur.MUST )
 				.add( createNestedDocumentPathSubQuery( nestedDocumentPaths ), Occur.FILTER )
 				.add( childDocumentQuery(), Occur.FILTER )
 				.build();
@@ -0,0 +1,116 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+
+/**
+ * Loads the doc values and norms of a given set of fields for each segment,
+ * so that the first sorts, aggregations and scoring on these fields
+ * don't have to page in the corresponding files.
+ * <p>
+ * Fields that don't exist in a segment, or that don't have doc values or norms, are ignored.
+ */
+public final class DocValuesIndexReaderWarmer implements IndexWriter.IndexReaderWarmer {
+
+	private final List<String> absoluteFieldPaths;
+
+	public DocValuesIndexReaderWarmer(List<String> absoluteFieldPaths) {
+		this.absoluteFieldPaths = new ArrayList<>( absoluteFieldPaths );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[absoluteFieldPaths=" + absoluteFieldPaths + "]";
+	}
+
+	@Override
+	public void warm(LeafReader reader) throws IOException {
+		for ( String absoluteFieldPath : absoluteFieldPaths ) {
+			FieldInfo fieldInfo = reader.getFieldInfos().fieldInfo( absoluteFieldPath );
+			if ( fieldInfo == null ) {
+				continue;
+			}
+			warmDocValues( reader, fieldInfo );
+			if ( fieldInfo.hasNorms() ) {
+				NumericDocValues norms = reader.getNormValues( absoluteFieldPath );
+				while ( norms.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+					norms.longValue();
+				}
+			}
+		}
+	}
+
+	private static void warmDocValues(LeafReader reader, FieldInfo fieldInfo) throws IOException {
+		String name = fieldInfo.name;
+		switch ( fieldInfo.getDocValuesType() ) {
+			case NUMERIC: {
+				NumericDocValues values = DocValues.getNumeric( reader, name );
+				while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+					values.longValue();
+				}
+				break;
+			}
+			case SORTED_NUMERIC: {
+				SortedNumericDocValues values = DocValues.getSortedNumeric( reader, name );
+				while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+					for ( int i = 0; i < values.docValueCount(); i++ ) {
+						values.nextValue();
+					}
+				}
+				break;
+			}
+			case BINARY: {
+				BinaryDocValues values = DocValues.getBinary( reader, name );
+				while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+					values.binaryValue();
+				}
+				break;
+			}
+			case SORTED: {
+				SortedDocValues values = DocValues.getSorted( reader, name );
+				while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+					values.ordValue();
+				}
+				// Also load the terms dictionary, used when collecting terms for aggregations.
+				for ( int ord = 0; ord < values.getValueCount(); ord++ ) {
+					values.lookupOrd( ord );
+				}
+				break;
+			}
+			case SORTED_SET: {
+				SortedSetDocValues values = DocValues.getSortedSet( reader, name );
+				while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+					long ord = values.nextOrd();
+					while ( ord != SortedSetDocValues.NO_MORE_ORDS ) {
+						ord = values.nextOrd();
+					}
+				}
+				for ( long ord = 0; ord < values.getValueCount(); ord++ ) {
+					values.lookupOrd( ord );
+				}
+				break;
+			}
+			case NONE:
+			default:
+				break;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+
+/**
+ * An {@link IndexSearcher} that may search index segments concurrently using an executor,
+ * and that reports failures of concurrent searches as if the search had been executed sequentially.
+ * <p>
+ * When searching with an executor, Lucene wraps any exception thrown while searching one slice of the index
+ * into a {@link RuntimeException} wrapping an {@link ExecutionException}.
+ * This searcher unwraps such exceptions, so that callers can handle
+ * timeouts and I/O failures the same way regardless of concurrency.
+ */
+public class HibernateSearchIndexSearcher extends IndexSearcher {
+
+	/**
+	 * @param reader The index reader to search.
+	 * @param executor The executor to use to search index segments concurrently,
+	 * or {@code null} to search them sequentially in the current thread.
+	 */
+	public HibernateSearchIndexSearcher(IndexReader reader, Executor executor) {
+		super( reader, executor );
+	}
+
+	@Override
+	public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager)
+			throws IOException {
+		try {
+			return super.search( query, collectorManager );
+		}
+		catch (RuntimeException e) {
+			Throwable cause = e.getCause();
+			if ( !( cause instanceof ExecutionException ) ) {
+				throw e;
+			}
+			Throwable sliceFailure = cause.getCause();
+			if ( sliceFailure instanceof RuntimeException ) {
+				throw (RuntimeException) sliceFailure;
+			}
+			else if ( sliceFailure instanceof IOException ) {
+				throw (IOException) sliceFailure;
+			}
+			else if ( sliceFailure instanceof Error ) {
+				throw (Error) sliceFailure;
+			}
+			throw e;
+		}
+	}
+}
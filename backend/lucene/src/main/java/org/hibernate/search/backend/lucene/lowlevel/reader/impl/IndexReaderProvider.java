@@ -33,4 +33,22 @@ public interface IndexReaderProvider {
 	 */
 	DirectoryReader getOrCreate() throws IOException;
 
+	/**
+	 * Executes the given action while preventing new index readers from being published,
+	 * then makes sure the index reader returned by the next call to {@link #getOrCreate()}
+	 * will return an up-to-date view of the index.
+	 * <p>
+	 * Index readers returned by {@link #getOrCreate()} will thus reflect the state of the index
+	 * either before the action or after the action, but never an intermediate state.
+	 * Calls to {@link #getOrCreate()} do not wait for the action to complete.
+	 *
+	 * @param action The action to execute, typically changes to the index followed by a commit.
+	 */
+	void refreshAfter(IOAction action) throws IOException;
+
+	@FunctionalInterface
+	interface IOAction {
+		void run() throws IOException;
+	}
+
 }
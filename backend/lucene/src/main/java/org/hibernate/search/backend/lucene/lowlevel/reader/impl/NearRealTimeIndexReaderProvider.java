@@ -7,11 +7,26 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.IndexFailureContext;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
 
 /**
  * A index reader holder that opens an index reader from the index writer,
@@ -22,29 +37,79 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * When a background refresh executor is provided,
+ * stale index readers are re-opened by a periodic background task instead of by search queries,
+ * so that search queries only ever acquire an index reader that is ready to use.
+ * <p>
+ * When a warmer is provided, segments that were not part of the previous index reader
+ * are warmed before the new index reader is published,
+ * so that search queries don't have to page in the files of new segments.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String indexName;
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final ScheduledExecutorService backgroundRefreshExecutor;
+	private final FailureHandler failureHandler;
+	private final IndexWriter.IndexReaderWarmer warmer;
+	private final Timer refreshTimer;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
-	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+	/**
+	 * Whether new index readers must not be published, see {@link #refreshAfter(IOAction)}.
+	 */
+	private volatile boolean refreshSuspended = false;
+
+	/**
+	 * Periodic background refresh task, or null when not using background refresh or when closed.
+	 */
+	private Future<?> backgroundRefreshFuture = null;
+
+	/**
+	 * @param indexName The name of the index, for failure reports.
+	 * @param indexWriterProvider The provider of index writers to open readers from.
+	 * @param timingSource A timing source.
+	 * @param refreshInterval The refresh interval, in milliseconds.
+	 * Must be strictly positive if {@code backgroundRefreshExecutor} is non-null.
+	 * @param backgroundRefreshExecutor The executor to run the periodic background refresh on,
+	 * or {@code null} to refresh index readers on demand.
+	 * @param failureHandler The handler for failures occurring during background refreshes or warming.
+	 * @param warmer The warmer to apply to new segments before publishing a new index reader,
+	 * or {@code null} to publish new index readers immediately.
+	 * @param refreshTimer The timer recording how long it takes to re-open (and warm) index readers,
+	 * only when a new index reader is published.
+	 */
+	public NearRealTimeIndexReaderProvider(String indexName, IndexWriterProvider indexWriterProvider,
+			TimingSource timingSource, int refreshInterval,
+			ScheduledExecutorService backgroundRefreshExecutor, FailureHandler failureHandler,
+			IndexWriter.IndexReaderWarmer warmer, Timer refreshTimer) {
+		this.indexName = indexName;
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefreshExecutor = backgroundRefreshExecutor;
+		this.failureHandler = failureHandler;
+		this.warmer = warmer;
+		this.refreshTimer = refreshTimer;
 	}
 
 	@Override
 	public synchronized void clear() throws IOException {
+		if ( backgroundRefreshFuture != null ) {
+			backgroundRefreshFuture.cancel( false );
+			backgroundRefreshFuture = null;
+		}
 		setCurrentReaderEntry( null );
 	}
 
@@ -52,20 +117,52 @@ public synchronized void clear() throws IOException {
 	public void refresh() throws IOException {
 		IndexReaderEntry entry = currentReaderEntry;
 
-		if ( entry != null ) {
+		if ( entry == null ) {
+			return;
+		}
+
+		if ( backgroundRefreshExecutor != null ) {
+			// Re-open the reader right now, on the calling (indexing) thread,
+			// so that search queries never have to.
+			refreshEntry( false );
+		}
+		else {
 			entry.forceRefresh();
 		}
 	}
 
+	@Override
+	public void refreshAfter(IOAction action) throws IOException {
+		synchronized ( this ) {
+			// Make sure there is a reader to return while refreshes are suspended:
+			// opening one from the index writer in the meantime could expose an intermediate state.
+			refreshEntry( true );
+			refreshSuspended = true;
+		}
+		// Do not hold the monitor while the action executes, since it may take a long time.
+		// The flag is enough to prevent any re-opening of the reader (see refreshEntry):
+		// callers of getOrCreate will simply get the current, stale reader.
+		try {
+			action.run();
+		}
+		finally {
+			refreshSuspended = false;
+		}
+		refresh();
+	}
+
 	@Override
 	public DirectoryReader getOrCreate() throws IOException {
 		IndexReaderEntry entry = currentReaderEntry;
 
 		// Optimistic locking and checks to avoid synchronization
 		if ( entry != null && entry.reader.tryIncRef() ) {
-			// Do this *after* tryIncRef,
+			// With background refresh, any reader we get hold of is fresh enough:
+			// the background task (or a forced refresh) will swap it when necessary.
+			// The same goes while refreshes are suspended.
+			// Otherwise, check freshness *after* tryIncRef,
 			// otherwise the reader could get closed between the call to isFresh and the return
-			if ( entry.isFresh() ) {
+			if ( backgroundRefreshExecutor != null || refreshSuspended || entry.isFresh() ) {
 				return entry.reader;
 			}
 			else {
@@ -77,11 +174,40 @@ public DirectoryReader getOrCreate() throws IOException {
 	}
 
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
+		IndexReaderEntry freshEntry = refreshEntry( true );
+
+		// At this point the reference count is at least one, for the holder.
+		// Let's also increment the reference for the caller.
+		freshEntry.reader.incRef();
+
+		return freshEntry;
+	}
+
+	/**
+	 * Re-opens the current index reader if it changed, and swaps it in.
+	 *
+	 * @param createIfMissing Whether a reader should be opened if there isn't any.
+	 * @return The fresh entry, or {@code null} if there wasn't any and {@code createIfMissing} is {@code false}.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	private synchronized IndexReaderEntry refreshEntry(boolean createIfMissing) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
+		if ( refreshSuspended && oldEntry != null ) {
+			// The index is being changed, see refreshAfter: keep the old reader until the change is complete.
+			return oldEntry;
+		}
 		IndexReaderEntry freshEntry;
+		if ( oldEntry == null ) {
+			if ( !createIfMissing ) {
+				return null;
+			}
+		}
+		long startTime = System.nanoTime();
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
+			warm( newReader, null );
 			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+			startBackgroundRefreshIfNecessary();
 		}
 		else {
 			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
@@ -90,21 +216,99 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 				freshEntry = oldEntry;
 			}
 			else {
+				warm( newReaderOrNull, oldEntry.reader );
 				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
 			}
 		}
 
 		if ( oldEntry != freshEntry ) {
 			setCurrentReaderEntry( freshEntry );
+			// Only record actual refreshes: checks that found no change would skew the timer
+			refreshTimer.record( System.nanoTime() - startTime );
 		}
 
-		// At this point the reference count is at least one, for the holder.
-		// Let's also increment the reference for the caller.
-		freshEntry.reader.incRef();
-
 		return freshEntry;
 	}
 
+	/**
+	 * Warms the segments of the new reader that were not part of the old reader.
+	 * <p>
+	 * Failures are reported to the failure handler, but do not prevent the new reader from being published:
+	 * warming is just an optimization.
+	 */
+	private void warm(DirectoryReader newReader, DirectoryReader oldReaderOrNull) {
+		if ( warmer == null ) {
+			return;
+		}
+		try {
+			Set<IndexReader.CacheKey> oldSegmentKeys = new HashSet<>();
+			if ( oldReaderOrNull != null ) {
+				for ( LeafReaderContext leafContext : oldReaderOrNull.leaves() ) {
+					IndexReader.CacheHelper cacheHelper = leafContext.reader().getCoreCacheHelper();
+					if ( cacheHelper != null ) {
+						oldSegmentKeys.add( cacheHelper.getKey() );
+					}
+				}
+			}
+			for ( LeafReaderContext leafContext : newReader.leaves() ) {
+				LeafReader leafReader = leafContext.reader();
+				IndexReader.CacheHelper cacheHelper = leafReader.getCoreCacheHelper();
+				// Segments whose only change is deletions share their core with the old reader
+				if ( cacheHelper == null || !oldSegmentKeys.contains( cacheHelper.getKey() ) ) {
+					warmer.warm( leafReader );
+				}
+			}
+		}
+		catch (RuntimeException | IOException e) {
+			IndexFailureContext.Builder contextBuilder = IndexFailureContext.builder();
+			contextBuilder.indexName( indexName );
+			contextBuilder.throwable( e );
+			contextBuilder.failingOperation( log.indexReaderWarmingOperation() );
+			failureHandler.handle( contextBuilder.build() );
+		}
+	}
+
+	private void startBackgroundRefreshIfNecessary() {
+		if ( backgroundRefreshExecutor == null || backgroundRefreshFuture != null ) {
+			return;
+		}
+		backgroundRefreshFuture = backgroundRefreshExecutor.scheduleWithFixedDelay(
+				this::refreshInBackground, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS
+		);
+	}
+
+	private void refreshInBackground() {
+		if ( refreshSuspended ) {
+			// Do not hold a thread of the shared pool: the suspending thread will refresh when done.
+			return;
+		}
+		try {
+			IndexReaderEntry entry = currentReaderEntry;
+			if ( entry == null || !entry.reader.tryIncRef() ) {
+				// Cleared or swapped concurrently: nothing to do.
+				return;
+			}
+			boolean fresh;
+			try {
+				fresh = entry.isFresh();
+			}
+			finally {
+				entry.reader.decRef();
+			}
+			if ( !fresh ) {
+				refreshEntry( false );
+			}
+		}
+		catch (RuntimeException | IOException e) {
+			// Do not propagate: this would prevent further executions of the background task.
+			IndexFailureContext.Builder contextBuilder = IndexFailureContext.builder();
+			contextBuilder.indexName( indexName );
+			contextBuilder.throwable( e );
+			contextBuilder.failingOperation( log.indexReaderRefreshOperation() );
+			failureHandler.handle( contextBuilder.build() );
+		}
+	}
+
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
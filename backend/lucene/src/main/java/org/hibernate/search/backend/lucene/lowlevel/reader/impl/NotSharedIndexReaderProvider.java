@@ -39,4 +39,10 @@ public DirectoryReader getOrCreate() throws IOException {
 		return DirectoryReader.open( directoryHolder.get() );
 	}
 
+	@Override
+	public void refreshAfter(IOAction action) throws IOException {
+		// Index readers are opened from the last commit, so they never see an intermediate state.
+		action.run();
+	}
+
 }
@@ -9,12 +9,15 @@
 import java.io.IOException;
 
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -24,13 +27,16 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final IndexWriter delegate;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final Timer commitTimer;
 
 	private long commitExpiration;
 
-	public IndexWriterDelegatorImpl(IndexWriter delegate, TimingSource timingSource, int commitInterval) {
+	public IndexWriterDelegatorImpl(IndexWriter delegate, TimingSource timingSource, int commitInterval,
+			Timer commitTimer) {
 		this.delegate = delegate;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.commitTimer = commitTimer;
 		updateCommitExpiration();
 	}
 
@@ -75,6 +81,28 @@ public long commitOrDelay() throws IOException {
 		}
 	}
 
+	/**
+	 * Replaces all documents in the index with the documents from the given directory, then commits.
+	 * <p>
+	 * Readers opened from the directory will see either the old or the new documents, never a mix,
+	 * but near-real-time readers opened from this writer before the commit may see an intermediate state.
+	 *
+	 * On failure, the index writer is rolled back and closed, so that the deletion is never committed.
+	 *
+	 * @param source A directory containing a committed index and not locked by any writer.
+	 */
+	public void replaceAllDocuments(Directory source) throws IOException {
+		try {
+			delegate.deleteAll();
+			delegate.addIndexes( source );
+			doCommit();
+		}
+		catch (IOException | RuntimeException e) {
+			new SuppressingCloser( e ).push( IndexWriter::rollback, delegate );
+			throw e;
+		}
+	}
+
 	public DirectoryReader openReader() throws IOException {
 		return DirectoryReader.open( delegate );
 	}
@@ -88,7 +116,9 @@ void close() throws IOException {
 	}
 
 	private void doCommit() throws IOException {
+		long startTime = System.nanoTime();
 		delegate.commit();
+		commitTimer.record( System.nanoTime() - startTime );
 		updateCommitExpiration();
 	}
 
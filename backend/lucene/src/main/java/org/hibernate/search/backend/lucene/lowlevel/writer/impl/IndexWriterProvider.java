@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -40,6 +41,8 @@ public class IndexWriterProvider {
 	private final int commitInterval;
 	private final ThreadProvider threadProvider;
 	private final FailureHandler failureHandler;
+	private final IndexWriter.IndexReaderWarmer mergedSegmentWarmer;
+	private final Timer commitTimer;
 
 	/* TODO HSEARCH-3776 re-allow configuring index writers
 	private final Similarity similarity;
@@ -61,7 +64,9 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, Analyzer analyzer,
 			TimingSource timingSource, int commitInterval,
 			ThreadProvider threadProvider,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			IndexWriter.IndexReaderWarmer mergedSegmentWarmer,
+			Timer commitTimer) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
@@ -70,6 +75,8 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 		this.commitInterval = commitInterval;
 		this.threadProvider = threadProvider;
 		this.failureHandler = failureHandler;
+		this.mergedSegmentWarmer = mergedSegmentWarmer;
+		this.commitTimer = commitTimer;
 		/* TODO HSEARCH-3776 re-allow configuring index writers
 		this.luceneParameters = indexManager.getIndexingParameters();
 		this.indexParameters = luceneParameters.getIndexParameters();
@@ -113,7 +120,8 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 				indexWriterDelegator = currentWriter.get();
 				if ( indexWriterDelegator == null ) {
 					IndexWriter indexWriter = createNewIndexWriter();
-					indexWriterDelegator = new IndexWriterDelegatorImpl( indexWriter, timingSource, commitInterval );
+					indexWriterDelegator = new IndexWriterDelegatorImpl( indexWriter, timingSource, commitInterval,
+							commitTimer );
 					log.trace( "IndexWriter opened" );
 					currentWriter.set( indexWriterDelegator );
 				}
@@ -147,6 +155,10 @@ private IndexWriterConfig createWriterConfig() {
 		);
 		writerConfig.setMergeScheduler( mergeScheduler );
 		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
+		if ( mergedSegmentWarmer != null ) {
+			// Warm merged segments before they are made visible to near-real-time readers
+			writerConfig.setMergedSegmentWarmer( mergedSegmentWarmer );
+		}
 		return writerConfig;
 	}
 
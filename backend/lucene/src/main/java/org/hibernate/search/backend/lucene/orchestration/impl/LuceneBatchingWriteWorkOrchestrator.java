@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 
@@ -20,40 +24,77 @@
  * in a separate thread.
  * This allows to process multiple worksets and only commit once,
  * potentially reducing the frequency of commits.
+ * <p>
+ * Optionally, works from worksets that require neither a commit nor a refresh
+ * can be applied concurrently to the index writer by a pool of write threads,
+ * which {@link org.apache.lucene.index.IndexWriter} supports.
  */
 public class LuceneBatchingWriteWorkOrchestrator
 		extends AbstractWorkOrchestrator<LuceneWriteWorkSet>
 		implements LuceneWriteWorkOrchestratorImplementor {
 
-	// TODO HSEARCH‌-3575 allow to configure this value
-	private static final int MAX_WORKSETS_PER_BATCH = 1000;
-
 	private final ThreadPoolProvider threadPoolProvider;
+	private final LuceneWriteWorkProcessor processor;
 	private final BatchingExecutor<LuceneWriteWorkSet, LuceneWriteWorkProcessor> executor;
+	private final int documentBuildingThreadPoolSize;
+	private final int writeThreadPoolSize;
+
+	private ThreadPoolExecutor documentBuildingExecutor;
+	private List<ThreadPoolExecutor> writeExecutors;
 
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
 	 * @param threadPoolProvider A provider of thread pools.
 	 * @param processor A processor to use in the background thread.
+	 * @param minWorksetsPerBatch The minimum value of the maximum number of worksets to process in a single batch.
+	 * @param maxWorksetsPerBatch The maximum number of worksets to process in a single batch.
+	 * @param queueSize The maximum number of worksets that can be queued.
+	 * @param documentBuildingThreadPoolSize The number of threads dedicated to building deferred documents,
+	 * or {@code 0} to build them in the orchestrator thread.
+	 * @param writeThreadPoolSize The number of threads dedicated to applying works concurrently to the index writer,
+	 * or {@code 0} to apply them in the orchestrator thread.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsProvider A provider of meters to monitor the background thread.
 	 */
 	public LuceneBatchingWriteWorkOrchestrator(
 			String name, LuceneWriteWorkProcessor processor,
 			ThreadPoolProvider threadPoolProvider,
-			FailureHandler failureHandler) {
+			int minWorksetsPerBatch, int maxWorksetsPerBatch, int queueSize,
+			int documentBuildingThreadPoolSize, int writeThreadPoolSize,
+			FailureHandler failureHandler, MetricsProvider metricsProvider) {
 		super( name );
 		this.threadPoolProvider = threadPoolProvider;
+		this.processor = processor;
+		this.documentBuildingThreadPoolSize = documentBuildingThreadPoolSize;
+		this.writeThreadPoolSize = writeThreadPoolSize;
 		this.executor = new BatchingExecutor<>(
 				name,
 				processor,
-				MAX_WORKSETS_PER_BATCH,
+				minWorksetsPerBatch, maxWorksetsPerBatch, queueSize,
 				true,
-				failureHandler
+				failureHandler,
+				metricsProvider
 		);
 	}
 
 	@Override
 	protected void doStart() {
+		if ( documentBuildingThreadPoolSize > 0 ) {
+			documentBuildingExecutor = threadPoolProvider.newFixedThreadPool(
+					documentBuildingThreadPoolSize, getName() + " - Document building"
+			);
+			// The executor thread is started below, so it will see this
+			processor.documentBuildingExecutor( documentBuildingExecutor );
+		}
+		if ( writeThreadPoolSize > 0 ) {
+			writeExecutors = new ArrayList<>( writeThreadPoolSize );
+			// One single-threaded executor per write thread, so that works on a given document are applied in order
+			for ( int i = 0; i < writeThreadPoolSize; i++ ) {
+				writeExecutors.add( threadPoolProvider.newFixedThreadPool( 1, getName() + " - Write " + i ) );
+			}
+			// The executor thread is started below, so it will see this
+			processor.writeExecutors( writeExecutors );
+		}
 		executor.start( threadPoolProvider );
 	}
 
@@ -70,6 +111,18 @@ protected CompletableFuture<?> getCompletion() {
 	@Override
 	protected void doStop() {
 		executor.stop();
+		if ( documentBuildingExecutor != null ) {
+			// Any document that wasn't built yet will not be needed anymore
+			documentBuildingExecutor.shutdownNow();
+			documentBuildingExecutor = null;
+		}
+		if ( writeExecutors != null ) {
+			// The processor waits for concurrent works at the end of each batch, so there's nothing left to apply
+			for ( ThreadPoolExecutor writeExecutor : writeExecutors ) {
+				writeExecutor.shutdownNow();
+			}
+			writeExecutors = null;
+		}
 	}
 
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
@@ -17,4 +18,29 @@ public interface LuceneReadWorkOrchestrator {
 	<T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, LuceneReadWork<T> work);
 
+	/**
+	 * Submits a work for asynchronous execution.
+	 * <p>
+	 * Depending on configuration, the work may be executed in a dedicated thread pool,
+	 * or synchronously in the current thread.
+	 *
+	 * @return A future that will be completed with the result of the work once it has been executed.
+	 */
+	<T> CompletableFuture<T> submitAsync(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, LuceneReadWork<T> work);
+
+	/**
+	 * Opens index readers once, to execute multiple works against the same version of the indexes.
+	 * <p>
+	 * Lucene document IDs are only meaningful for a given index reader:
+	 * works that rely on the results of a previous work, e.g. each chunk of a scroll,
+	 * must be submitted to such a context.
+	 *
+	 * @return A context to submit works to, holding index readers open until it is closed.
+	 */
+	LuceneReadWorkPinnedContext openPinnedContext(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys);
+
 }
@@ -10,20 +10,30 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.LuceneQueryResultCache;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchIndexSearcher;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.QueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
 
 /**
  * An orchestrator that executes read works synchronously in the current thread.
@@ -31,6 +41,13 @@
  * For now this implementation is very simple,
  * but we might one day need to execute queries asynchronously,
  * in which case thing will get slightly more complex.
+ * <p>
+ * If a query thread pool size was configured, the works may still use a thread pool
+ * to execute queries concurrently on multiple index segments,
+ * but the orchestrator will always wait for this execution to complete before returning.
+ * <p>
+ * Works submitted through {@link #submitAsync(Set, Set, Set, LuceneReadWork)} are the exception:
+ * if an asynchronous query thread pool size was configured, they are executed in a dedicated thread pool.
  */
 public class LuceneReadWorkOrchestratorImpl
 		extends AbstractWorkOrchestrator<LuceneReadWorkOrchestratorImpl.ReadTask<?>>
@@ -38,20 +55,55 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	public LuceneReadWorkOrchestratorImpl(String name) {
+	private final ThreadPoolProvider threadPoolProvider;
+	private final int queryThreadPoolSize;
+	private final int queryAsyncThreadPoolSize;
+	private final QueryCache filterCache;
+	private final QueryCachingPolicy filterCachingPolicy;
+	private final LuceneQueryResultCache resultCache;
+	private final Timer queryTimer;
+
+	private ExecutorService queryExecutor;
+	private ExecutorService queryAsyncExecutor;
+
+	/**
+	 * @param name The name of this orchestrator, also used as a prefix for the names of its threads.
+	 * @param threadPoolProvider A provider of thread pools.
+	 * @param queryThreadPoolSize The number of threads used to search index segments concurrently,
+	 * or {@code 0} to search them sequentially.
+	 * @param queryAsyncThreadPoolSize The number of threads used to execute asynchronous queries,
+	 * or {@code 0} to execute them in the calling thread.
+	 * @param filterCache The Lucene query cache to use for filter clauses, or {@code null} to disable it.
+	 * @param filterCachingPolicy The policy deciding which filter clauses get cached.
+	 * @param resultCache The cache for query results, or {@code null} to disable it.
+	 * @param queryTimer The timer recording how long it takes to execute works, including opening index readers.
+	 */
+	public LuceneReadWorkOrchestratorImpl(String name, ThreadPoolProvider threadPoolProvider,
+			int queryThreadPoolSize, int queryAsyncThreadPoolSize,
+			QueryCache filterCache, QueryCachingPolicy filterCachingPolicy,
+			LuceneQueryResultCache resultCache, Timer queryTimer) {
 		super( name );
-		start(); // Nothing to start, just force the superclass to go to the right state.
+		Contracts.assertPositiveOrZero( queryThreadPoolSize, "queryThreadPoolSize" );
+		Contracts.assertPositiveOrZero( queryAsyncThreadPoolSize, "queryAsyncThreadPoolSize" );
+		this.threadPoolProvider = threadPoolProvider;
+		this.queryThreadPoolSize = queryThreadPoolSize;
+		this.queryAsyncThreadPoolSize = queryAsyncThreadPoolSize;
+		this.filterCache = filterCache;
+		this.filterCachingPolicy = filterCachingPolicy;
+		this.resultCache = resultCache;
+		this.queryTimer = queryTimer;
+		start(); // Force the superclass to go to the right state.
 	}
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, LuceneReadWork<T> work) {
-		ReadTask<T> task = new ReadTask<>( indexNames, indexManagerContexts, routingKeys, work );
+		long startTime = System.nanoTime();
+		ReadContext context = new ReadContext( indexNames, indexManagerContexts, routingKeys, queryExecutor,
+				filterCache, filterCachingPolicy, resultCache );
 		Throwable throwable = null;
 		try {
-			submit( task );
-			// If we get there, the task succeeded and we are sure there is a result.
-			return task.getResult();
+			return execute( context, work );
 		}
 		catch (Throwable t) {
 			// Just remember something went wrong
@@ -60,19 +112,55 @@ public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContex
 		}
 		finally {
 			if ( throwable == null ) {
-				task.close();
+				context.close();
 			}
 			else {
 				// Take care not to erase the main error if closing the context fails: use addSuppressed() instead
 				new SuppressingCloser( throwable )
-						.push( task );
+						.push( context );
 			}
+			queryTimer.record( System.nanoTime() - startTime );
+		}
+	}
+
+	@Override
+	public LuceneReadWorkPinnedContext openPinnedContext(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys) {
+		return new PinnedReadContext( this, indexNames, indexManagerContexts, routingKeys, queryExecutor,
+				filterCache, filterCachingPolicy, resultCache );
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submitAsync(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, LuceneReadWork<T> work) {
+		if ( queryAsyncExecutor == null ) {
+			return Futures.create(
+					() -> CompletableFuture.completedFuture( submit( indexNames, indexManagerContexts, routingKeys, work ) )
+			);
 		}
+		return CompletableFuture.supplyAsync(
+				() -> submit( indexNames, indexManagerContexts, routingKeys, work ),
+				queryAsyncExecutor
+		);
 	}
 
 	@Override
 	protected void doStart() {
-		// Nothing to do
+		if ( queryThreadPoolSize > 0 ) {
+			queryExecutor = threadPoolProvider.newFixedThreadPool( queryThreadPoolSize, getName() );
+		}
+		if ( queryAsyncThreadPoolSize > 0 ) {
+			queryAsyncExecutor = threadPoolProvider.newFixedThreadPool( queryAsyncThreadPoolSize,
+					getName() + " - Async" );
+		}
+	}
+
+	private <T> T execute(ReadContext context, LuceneReadWork<T> work) {
+		ReadTask<T> task = new ReadTask<>( context, work );
+		submit( task );
+		// If we get there, the task succeeded and we are sure there is a result.
+		return task.getResult();
 	}
 
 	@Override
@@ -88,21 +176,57 @@ protected CompletableFuture<?> getCompletion() {
 
 	@Override
 	protected void doStop() {
-		// Nothing to do
+		if ( queryExecutor != null ) {
+			queryExecutor.shutdownNow();
+			queryExecutor = null;
+		}
+		if ( queryAsyncExecutor != null ) {
+			queryAsyncExecutor.shutdownNow();
+			queryAsyncExecutor = null;
+		}
+		if ( resultCache != null ) {
+			resultCache.clear();
+		}
 	}
 
-	static class ReadTask<T> implements AutoCloseable, LuceneReadWorkExecutionContext {
-		private final Set<String> indexNames;
-		private final HibernateSearchMultiReader indexReader;
+	static class ReadTask<T> {
+		private final ReadContext context;
 		private final LuceneReadWork<T> work;
 
 		private T result;
 
-		ReadTask(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, LuceneReadWork<T> work) {
+		ReadTask(ReadContext context, LuceneReadWork<T> work) {
+			this.context = context;
+			this.work = work;
+		}
+
+		public void execute() {
+			result = work.execute( context );
+		}
+
+		public T getResult() {
+			return result;
+		}
+	}
+
+	static class ReadContext implements AutoCloseable, LuceneReadWorkExecutionContext {
+		private final Set<String> indexNames;
+		private final HibernateSearchMultiReader indexReader;
+		private final ExecutorService queryExecutor;
+		private final QueryCache filterCache;
+		private final QueryCachingPolicy filterCachingPolicy;
+		private final LuceneQueryResultCache resultCache;
+
+		ReadContext(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
+				Set<String> routingKeys, ExecutorService queryExecutor,
+				QueryCache filterCache, QueryCachingPolicy filterCachingPolicy,
+				LuceneQueryResultCache resultCache) {
 			this.indexNames = indexNames;
 			this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
-			this.work = work;
+			this.queryExecutor = queryExecutor;
+			this.filterCache = filterCache;
+			this.filterCachingPolicy = filterCachingPolicy;
+			this.resultCache = resultCache;
 		}
 
 		@Override
@@ -111,21 +235,26 @@ public IndexReader getIndexReader() {
 		}
 
 		@Override
-		public IndexReaderMetadataResolver getIndexReaderMetadataResolver() {
-			return indexReader.getMetadataResolver();
+		public IndexSearcher createIndexSearcher() {
+			IndexSearcher indexSearcher = new HibernateSearchIndexSearcher( indexReader, queryExecutor );
+			indexSearcher.setQueryCache( filterCache );
+			indexSearcher.setQueryCachingPolicy( filterCachingPolicy );
+			return indexSearcher;
 		}
 
 		@Override
-		public EventContext getEventContext() {
-			return EventContexts.fromIndexNames( indexNames );
+		public IndexReaderMetadataResolver getIndexReaderMetadataResolver() {
+			return indexReader.getMetadataResolver();
 		}
 
-		public void execute() {
-			result = work.execute( this );
+		@Override
+		public LuceneQueryResultCache getQueryResultCache() {
+			return resultCache;
 		}
 
-		public T getResult() {
-			return result;
+		@Override
+		public EventContext getEventContext() {
+			return EventContexts.fromIndexNames( indexNames );
 		}
 
 		@Override
@@ -139,4 +268,43 @@ public void close() {
 		}
 	}
 
+	/**
+	 * A context whose index readers, and index searcher, are reused for every submitted work,
+	 * so that all works see the same version of the indexes
+	 * and Lucene document IDs remain valid from one work to the next.
+	 */
+	static class PinnedReadContext extends ReadContext implements LuceneReadWorkPinnedContext {
+		private final LuceneReadWorkOrchestratorImpl orchestrator;
+
+		private IndexSearcher indexSearcher;
+
+		PinnedReadContext(LuceneReadWorkOrchestratorImpl orchestrator,
+				Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
+				Set<String> routingKeys, ExecutorService queryExecutor,
+				QueryCache filterCache, QueryCachingPolicy filterCachingPolicy,
+				LuceneQueryResultCache resultCache) {
+			super( indexNames, indexManagerContexts, routingKeys, queryExecutor,
+					filterCache, filterCachingPolicy, resultCache );
+			this.orchestrator = orchestrator;
+		}
+
+		@Override
+		public IndexSearcher createIndexSearcher() {
+			if ( indexSearcher == null ) {
+				indexSearcher = super.createIndexSearcher();
+			}
+			return indexSearcher;
+		}
+
+		@Override
+		public <T> T submit(LuceneReadWork<T> work) {
+			long startTime = System.nanoTime();
+			try {
+				return orchestrator.execute( this, work );
+			}
+			finally {
+				orchestrator.queryTimer.record( System.nanoTime() - startTime );
+			}
+		}
+	}
 }
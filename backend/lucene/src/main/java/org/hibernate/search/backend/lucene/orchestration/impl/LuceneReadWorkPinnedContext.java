@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
+
+/**
+ * A context holding index readers open,
+ * so that multiple read works can be executed against the same version of the indexes.
+ *
+ * @see LuceneReadWorkOrchestrator#openPinnedContext(java.util.Set, java.util.Set, java.util.Set)
+ */
+public interface LuceneReadWorkPinnedContext extends AutoCloseable {
+
+	/**
+	 * Executes a work synchronously, in the current thread, against the index readers of this context.
+	 *
+	 * @param work The work to execute.
+	 * @param <T> The type of the result of the work.
+	 * @return The result of the work.
+	 */
+	<T> T submit(LuceneReadWork<T> work);
+
+	/**
+	 * Releases the index readers held by this context.
+	 */
+	@Override
+	void close();
+
+}
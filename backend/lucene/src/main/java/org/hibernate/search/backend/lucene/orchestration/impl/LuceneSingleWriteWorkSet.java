@@ -8,9 +8,11 @@
 
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.work.impl.LuceneSingleDocumentWriteWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWork;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.impl.Futures;
 
 class LuceneSingleWriteWorkSet<T> implements LuceneWriteWorkSet {
 	private final LuceneWriteWork<T> work;
@@ -27,7 +29,16 @@
 	}
 
 	@Override
+	@SuppressWarnings("unchecked") // The work is a LuceneWriteWork<T>, hence a LuceneSingleDocumentWriteWork<T>
 	public void submitTo(LuceneWriteWorkProcessor processor) {
+		if ( work instanceof LuceneSingleDocumentWriteWork
+				&& processor.canSubmitConcurrently( commitStrategy, refreshStrategy ) ) {
+			// Typically works from the mass indexer: apply them in parallel with the next worksets
+			processor.submitConcurrently( (LuceneSingleDocumentWriteWork<T>) work )
+					.whenComplete( Futures.copyHandler( future ) );
+			return;
+		}
+
 		processor.beforeWorkSet( commitStrategy, refreshStrategy );
 		try {
 			T result = processor.submit( work );
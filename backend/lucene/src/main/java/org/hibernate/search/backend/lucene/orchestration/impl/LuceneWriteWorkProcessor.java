@@ -10,24 +10,40 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.hibernate.search.backend.lucene.document.impl.LuceneDeferredIndexEntry;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.LuceneMetrics;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.work.impl.LuceneSchemaManagementWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneSingleDocumentWriteWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWork;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.reporting.IndexFailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 /**
  * A thread-unsafe component responsible for applying write works to an index writer.
  * <p>
+ * Works are applied in the processor thread, unless {@link #writeExecutors(List) write executors} were set,
+ * in which case the works of worksets that require neither a commit nor a refresh
+ * may be applied concurrently in those executors.
+ * The processor thread waits for concurrent works to complete before any commit, refresh
+ * or other work, so that the processor remains in charge of commit and refresh coordination.
+ * <p>
  * Ported from Search 5's LuceneBackendQueueTask, in particular.
  */
 public class LuceneWriteWorkProcessor implements BatchingExecutor.WorkProcessor {
@@ -39,6 +55,14 @@ public class LuceneWriteWorkProcessor implements BatchingExecutor.WorkProcessor
 	private final IndexAccessor indexAccessor;
 	private final LuceneWriteWorkExecutionContextImpl context;
 	private final FailureHandler failureHandler;
+	private final Counter workCounter;
+	private final Counter failureCounter;
+
+	private ThreadPoolExecutor documentBuildingExecutor;
+	private List<ThreadPoolExecutor> writeExecutors;
+
+	private final List<CompletableFuture<?>> concurrentWorkFutures = new ArrayList<>();
+	private final AtomicReference<Throwable> concurrentWorkFailure = new AtomicReference<>();
 
 	private List<LuceneWriteWork<?>> previousWorkSetsUncommittedWorks = new ArrayList<>();
 
@@ -48,12 +72,31 @@ public class LuceneWriteWorkProcessor implements BatchingExecutor.WorkProcessor
 	private boolean workSetHasFailure;
 
 	public LuceneWriteWorkProcessor(String indexName, EventContext eventContext,
-			IndexAccessor indexAccessor, FailureHandler failureHandler) {
+			IndexAccessor indexAccessor, FailureHandler failureHandler,
+			MetricsProvider metricsProvider, Map<String, String> metricsTags) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.indexAccessor = indexAccessor;
 		this.context = new LuceneWriteWorkExecutionContextImpl( eventContext, indexAccessor );
 		this.failureHandler = failureHandler;
+		this.workCounter = metricsProvider.counter( LuceneMetrics.WRITE_WORKS, metricsTags );
+		this.failureCounter = metricsProvider.counter( LuceneMetrics.WRITE_FAILURES, metricsTags );
+	}
+
+	/**
+	 * @param documentBuildingExecutor An executor to build deferred documents in parallel,
+	 * or {@code null} to build them in the processor thread.
+	 */
+	void documentBuildingExecutor(ThreadPoolExecutor documentBuildingExecutor) {
+		this.documentBuildingExecutor = documentBuildingExecutor;
+	}
+
+	/**
+	 * @param writeExecutors Single-threaded executors to apply works concurrently to the index writer,
+	 * or {@code null} to apply works in the processor thread.
+	 */
+	void writeExecutors(List<ThreadPoolExecutor> writeExecutors) {
+		this.writeExecutors = writeExecutors;
 	}
 
 	@Override
@@ -63,6 +106,7 @@ public void beginBatch() {
 
 	@Override
 	public CompletableFuture<?> endBatch() {
+		awaitConcurrentWorks();
 		if ( !previousWorkSetsUncommittedWorks.isEmpty() ) {
 			try {
 				tryCommitOrDelay();
@@ -78,6 +122,7 @@ public CompletableFuture<?> endBatch() {
 
 	@Override
 	public long completeOrDelay() {
+		awaitConcurrentWorks();
 		if ( previousWorkSetsUncommittedWorks.isEmpty() ) {
 			// Nothing to commit
 			return 0L;
@@ -96,12 +141,37 @@ public long completeOrDelay() {
 	}
 
 	public void beforeWorkSet(DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		// Works of this workset must be applied after (and committed/refreshed along with) previous works
+		awaitConcurrentWorks();
 		workSetForcesCommit = DocumentCommitStrategy.FORCE.equals( commitStrategy );
 		workSetForcesRefresh = DocumentRefreshStrategy.FORCE.equals( refreshStrategy );
 		workSetUncommittedWorks.clear();
 		workSetHasFailure = false;
 	}
 
+	/**
+	 * Start building the given deferred index entries in the background, if possible.
+	 * <p>
+	 * Entries that could not be handed over to the document building executor
+	 * will simply be built in the processor thread when the corresponding works are executed.
+	 *
+	 * @param indexEntries The index entries that will be needed by the works of the current workset.
+	 */
+	public void startDocumentBuilding(List<LuceneDeferredIndexEntry> indexEntries) {
+		if ( documentBuildingExecutor == null ) {
+			return;
+		}
+		for ( LuceneDeferredIndexEntry indexEntry : indexEntries ) {
+			// Never block the processor thread: we'd rather build the remaining documents ourselves.
+			// This check is safe because this thread is the only one submitting tasks to the executor.
+			if ( documentBuildingExecutor.isShutdown()
+					|| documentBuildingExecutor.getQueue().remainingCapacity() == 0 ) {
+				return;
+			}
+			documentBuildingExecutor.execute( indexEntry::build );
+		}
+	}
+
 	/**
 	 * This bypasses the normal {@link #submit(LuceneWriteWork)} method in order
 	 * to avoid appending works to {@link #workSetUncommittedWorks},
@@ -109,6 +179,7 @@ public void beforeWorkSet(DocumentCommitStrategy commitStrategy, DocumentRefresh
 	 * which would be pointless in this case.
 	 */
 	public <T> T submit(LuceneSchemaManagementWork<T> work) {
+		awaitConcurrentWorks();
 		try {
 			return work.execute( indexAccessor );
 		}
@@ -127,6 +198,7 @@ public <T> T submit(LuceneWriteWork<T> work) {
 		}
 		try {
 			workSetUncommittedWorks.add( work );
+			workCounter.increment();
 			return work.execute( context );
 		}
 		catch (RuntimeException e) {
@@ -135,6 +207,70 @@ public <T> T submit(LuceneWriteWork<T> work) {
 		}
 	}
 
+	/**
+	 * @param commitStrategy The commit strategy of a workset.
+	 * @param refreshStrategy The refresh strategy of a workset.
+	 * @return {@code true} if the works of that workset can be submitted through
+	 * {@link #submitConcurrently(List)} or {@link #submitConcurrently(LuceneSingleDocumentWriteWork)},
+	 * {@code false} if they must be submitted one by one
+	 * between {@link #beforeWorkSet(DocumentCommitStrategy, DocumentRefreshStrategy)}
+	 * and {@link #afterSuccessfulWorkSet()}.
+	 */
+	public boolean canSubmitConcurrently(DocumentCommitStrategy commitStrategy,
+			DocumentRefreshStrategy refreshStrategy) {
+		return writeExecutors != null
+				&& DocumentCommitStrategy.NONE.equals( commitStrategy )
+				&& DocumentRefreshStrategy.NONE.equals( refreshStrategy );
+	}
+
+	/**
+	 * Apply the given works to the index writer concurrently, in the write executors.
+	 * <p>
+	 * Works affecting the same entity are always applied by the same executor,
+	 * in submission order, so the relative order of changes to a given document is preserved.
+	 * <p>
+	 * Failures are handled (and the index writer reset) in the processor thread,
+	 * once all concurrent works have completed.
+	 *
+	 * @param works The works of a single workset.
+	 * @return A future that will be completed when all the given works have been applied to the index writer.
+	 */
+	public CompletableFuture<?> submitConcurrently(List<? extends LuceneSingleDocumentWriteWork<?>> works) {
+		CompletableFuture<?>[] futures = new CompletableFuture[works.size()];
+		for ( int i = 0; i < futures.length; i++ ) {
+			futures[i] = submitConcurrently( works.get( i ) );
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	/**
+	 * Apply the given work to the index writer concurrently, in the write executors.
+	 * <p>
+	 * Same as {@link #submitConcurrently(List)}, for worksets composed of a single work.
+	 *
+	 * @param work The single work of a workset.
+	 * @param <T> The type of the work result.
+	 * @return A future that will be completed with the result of the work when it has been applied to the index writer.
+	 */
+	public <T> CompletableFuture<T> submitConcurrently(LuceneSingleDocumentWriteWork<T> work) {
+		ThreadPoolExecutor writeExecutor = writeExecutors.get(
+				Math.floorMod( Objects.hashCode( work.getEntityIdentifier() ), writeExecutors.size() )
+		);
+		// We'll consider this work uncommitted until the next commit, whether it fails or not
+		previousWorkSetsUncommittedWorks.add( work );
+		workCounter.increment();
+		CompletableFuture<T> future = CompletableFuture.supplyAsync( () -> work.execute( context ), writeExecutor )
+				// Track the future returned by whenComplete, not the original one,
+				// so that awaitConcurrentWorks() only returns once the failure, if any, was recorded.
+				.whenComplete( Futures.handler( (ignored, throwable) -> {
+					if ( throwable != null ) {
+						concurrentWorkFailure.compareAndSet( null, throwable );
+					}
+				} ) );
+		concurrentWorkFutures.add( future );
+		return future;
+	}
+
 	public void afterSuccessfulWorkSet() {
 		if ( workSetForcesCommit ) {
 			try {
@@ -163,6 +299,23 @@ public void afterSuccessfulWorkSet() {
 		}
 	}
 
+	private void awaitConcurrentWorks() {
+		if ( concurrentWorkFutures.isEmpty() ) {
+			return;
+		}
+		// Failures are handled below
+		CompletableFuture.allOf( concurrentWorkFutures.toArray( new CompletableFuture<?>[0] ) )
+				.handle( (ignored, throwable) -> null )
+				.join();
+		concurrentWorkFutures.clear();
+
+		Throwable failure = concurrentWorkFailure.getAndSet( null );
+		if ( failure != null ) {
+			// The failure was already reported to the worksets; just clean up and warn about other affected works
+			cleanUpAfterFailure( failure, "Concurrent index works" );
+		}
+	}
+
 	private long tryCommitOrDelay() {
 		long timeToCommit = indexAccessor.commitOrDelay();
 
@@ -176,6 +329,7 @@ private long tryCommitOrDelay() {
 	}
 
 	private void cleanUpAfterFailure(Throwable throwable, Object failingOperation) {
+		failureCounter.increment();
 		try {
 			/*
 			 * Note this will close the index writer,
@@ -54,6 +54,32 @@ public CompletableFuture<?> dropAndCreate() {
 				.thenCompose( ignored -> doSubmit( luceneWorkFactory.createIndexIfMissing() ) );
 	}
 
+	@Override
+	public CompletableFuture<?> createShadow() {
+		return doSubmit( luceneWorkFactory.createShadow() );
+	}
+
+	@Override
+	public CompletableFuture<?> switchToShadow() {
+		return doSubmit( luceneWorkFactory.switchToShadow() );
+	}
+
+	@Override
+	public CompletableFuture<?> dropShadowIfExisting() {
+		return doSubmit( luceneWorkFactory.dropShadowIfExisting() );
+	}
+
+	@Override
+	public CompletableFuture<?> startBulkLoad() {
+		// Nothing to do: commits and refreshes are already under the control of Hibernate Search
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> stopBulkLoad() {
+		return CompletableFuture.completedFuture( null );
+	}
+
 	@Override
 	public CompletableFuture<?> validate(ContextualFailureCollector failureCollector) {
 		// We only check that the index exists, and we throw an exception if it doesn't.
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+
+/**
+ * The result of collecting all documents matching a query,
+ * i.e. what {@link LuceneCollectors} produces before applying collectors to top documents.
+ * <p>
+ * Immutable, so that it can be cached and reused by other executions of the same query
+ * against the same index readers.
+ */
+final class CollectedResult {
+
+	private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance( CollectedResult.class );
+	private static final long SCORE_DOC_SIZE = RamUsageEstimator.shallowSizeOfInstance( FieldDoc.class )
+			+ RamUsageEstimator.NUM_BYTES_OBJECT_REF;
+	// Rough estimate of a boxed numeric sort value, including the reference to it
+	private static final long SORT_VALUE_SIZE = 24 + RamUsageEstimator.NUM_BYTES_OBJECT_REF;
+
+	final long totalHitCount;
+	final boolean totalHitCountExact;
+	final TopDocs topDocs;
+	final CollectorSet collectorsForAllMatchingDocs;
+	private final long ramBytesUsed;
+
+	/**
+	 * @param collectorsForAllMatchingDocsRamBytesUsed The estimated size of {@code collectorsForAllMatchingDocs}.
+	 */
+	CollectedResult(long totalHitCount, boolean totalHitCountExact, TopDocs topDocs,
+			CollectorSet collectorsForAllMatchingDocs, long collectorsForAllMatchingDocsRamBytesUsed) {
+		this.totalHitCount = totalHitCount;
+		this.totalHitCountExact = totalHitCountExact;
+		this.topDocs = topDocs;
+		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.ramBytesUsed = SHALLOW_SIZE + collectorsForAllMatchingDocsRamBytesUsed + topDocsRamBytesUsed( topDocs );
+	}
+
+	long ramBytesUsed() {
+		return ramBytesUsed;
+	}
+
+	private static long topDocsRamBytesUsed(TopDocs topDocs) {
+		if ( topDocs == null ) {
+			return 0L;
+		}
+		long result = RamUsageEstimator.NUM_BYTES_ARRAY_HEADER;
+		for ( ScoreDoc scoreDoc : topDocs.scoreDocs ) {
+			result += SCORE_DOC_SIZE;
+			if ( scoreDoc instanceof FieldDoc ) {
+				Object[] fields = ( (FieldDoc) scoreDoc ).fields;
+				result += RamUsageEstimator.NUM_BYTES_ARRAY_HEADER;
+				for ( Object field : fields ) {
+					result += SORT_VALUE_SIZE;
+					if ( field instanceof BytesRef ) {
+						result += ( (BytesRef) field ).bytes.length;
+					}
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -22,6 +23,24 @@
 
 public class CollectorSet {
 
+	private static final CollectorSet EMPTY = new CollectorSet( null, Collections.emptyMap() );
+
+	/**
+	 * @return An empty collector set, whose {@link #getComposed() composed collector} is {@code null}.
+	 */
+	static CollectorSet empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * @param components The collectors, already used for collection.
+	 * @return A collector set containing the given collectors,
+	 * and no composed collector: it can only be used to access results after collection.
+	 */
+	static CollectorSet ofCollected(Map<CollectorKey<?>, Collector> components) {
+		return components.isEmpty() ? EMPTY : new CollectorSet( null, components );
+	}
+
 	private final Collector composed;
 	private final Map<CollectorKey<?>, Collector> components;
 
@@ -39,6 +58,27 @@ public <C extends Collector> C get(CollectorKey<C> key) {
 		return (C) components.get( key );
 	}
 
+	/**
+	 * @param collectorFactories The factories of the collectors to retain.
+	 * @return A collector set containing only the collectors created by the given factories,
+	 * and no composed collector: it can only be used to access results after collection.
+	 */
+	CollectorSet retainOnly(Set<CollectorFactory<?>> collectorFactories) {
+		if ( collectorFactories.isEmpty() ) {
+			return EMPTY;
+		}
+		Map<CollectorKey<?>, Collector> retained = new LinkedHashMap<>();
+		for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
+			CollectorKey<?> key = collectorFactory.getCollectorKey();
+			retained.put( key, components.get( key ) );
+		}
+		return new CollectorSet( null, retained );
+	}
+
+	Iterable<Collector> getComponents() {
+		return components.values();
+	}
+
 	public static class Builder {
 
 		private final CollectorExecutionContext executionContext;
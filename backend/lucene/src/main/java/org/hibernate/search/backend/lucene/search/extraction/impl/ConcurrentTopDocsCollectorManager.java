@@ -0,0 +1,218 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.MergeableCollectorFactory;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TimeLimitingCollector;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
+
+/**
+ * A collector manager that collects top docs, the total hit count
+ * and/or the results of {@link MergeableCollectorFactory mergeable collectors} (e.g. for aggregations)
+ * with one set of collectors per index slice,
+ * so that an {@link org.apache.lucene.search.IndexSearcher} with an executor can collect slices concurrently.
+ * <p>
+ * Results from each slice are merged after the search.
+ * <p>
+ * Timeouts do not abort the search: a slice that times out simply stops collecting,
+ * so that the partial results of every slice can still be merged safely
+ * once all slices have been collected.
+ */
+final class ConcurrentTopDocsCollectorManager implements CollectorManager<Collector, Void> {
+
+	private final CollectorExecutionContext executionContext;
+	private final TimeoutManager timeoutManager;
+	private final Sort sort;
+	private final int maxDocs;
+	private final Supplier<TopDocsCollector<?>> topDocsCollectorFactory;
+	private final boolean countHits;
+	private final Set<CollectorFactory<?>> mergeableCollectorFactories;
+
+	// newCollector() is always called from the thread that submitted the search, so no need for synchronization
+	private final List<SliceCollector> sliceCollectors = new ArrayList<>();
+
+	/**
+	 * @param topDocsCollectorFactory A factory for top docs collectors, or {@code null} not to collect top docs.
+	 * @param countHits Whether total hits should be counted exactly using a {@link TotalHitCountCollector}.
+	 * @param mergeableCollectorFactories Factories of other collectors to apply to all matching docs.
+	 * Every factory must be a {@link MergeableCollectorFactory}.
+	 */
+	ConcurrentTopDocsCollectorManager(CollectorExecutionContext executionContext, TimeoutManager timeoutManager,
+			Sort sort, int maxDocs, Supplier<TopDocsCollector<?>> topDocsCollectorFactory, boolean countHits,
+			Set<CollectorFactory<?>> mergeableCollectorFactories) {
+		this.executionContext = executionContext;
+		this.timeoutManager = timeoutManager;
+		this.sort = sort;
+		this.maxDocs = maxDocs;
+		this.topDocsCollectorFactory = topDocsCollectorFactory;
+		this.countHits = countHits;
+		this.mergeableCollectorFactories = mergeableCollectorFactories;
+	}
+
+	static boolean canMerge(Set<CollectorFactory<?>> collectorFactories) {
+		for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
+			if ( !( collectorFactory instanceof MergeableCollectorFactory ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public Collector newCollector() throws IOException {
+		CollectorSet.Builder builder = new CollectorSet.Builder( executionContext, timeoutManager );
+		if ( topDocsCollectorFactory != null ) {
+			builder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollectorFactory.get() );
+		}
+		if ( countHits ) {
+			builder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, new TotalHitCountCollector() );
+		}
+		builder.addAll( mergeableCollectorFactories );
+		SliceCollector sliceCollector = new SliceCollector( builder.build() );
+		sliceCollectors.add( sliceCollector );
+		return sliceCollector;
+	}
+
+	@Override
+	public Void reduce(Collection<Collector> collectors) {
+		// Results are merged on demand, see the getters.
+		return null;
+	}
+
+	boolean hasTopDocs() {
+		return topDocsCollectorFactory != null;
+	}
+
+	boolean countsHits() {
+		return countHits;
+	}
+
+	boolean isTimedOut() {
+		for ( SliceCollector sliceCollector : sliceCollectors ) {
+			if ( sliceCollector.timedOut ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	TopDocs mergeTopDocs(int offset, Integer limit) {
+		int topN = limit == null ? Math.max( 0, maxDocs - offset ) : limit;
+		if ( sort == null ) {
+			TopDocs[] sliceTopDocs = new TopDocs[sliceCollectors.size()];
+			for ( int i = 0; i < sliceTopDocs.length; i++ ) {
+				sliceTopDocs[i] = sliceCollectors.get( i ).collectors.get( LuceneCollectors.TOP_DOCS_KEY ).topDocs();
+			}
+			// Setting the shard index ensures ties are broken according to slice order, i.e. doc ID order,
+			// just like when searching sequentially.
+			return TopDocs.merge( offset, topN, sliceTopDocs, true );
+		}
+		else {
+			TopFieldDocs[] sliceTopDocs = new TopFieldDocs[sliceCollectors.size()];
+			for ( int i = 0; i < sliceTopDocs.length; i++ ) {
+				sliceTopDocs[i] = (TopFieldDocs) sliceCollectors.get( i ).collectors.get( LuceneCollectors.TOP_DOCS_KEY )
+						.topDocs();
+			}
+			return TopDocs.merge( sort, offset, topN, sliceTopDocs, true );
+		}
+	}
+
+	int getTotalHitCount() {
+		int totalHitCount = 0;
+		for ( SliceCollector sliceCollector : sliceCollectors ) {
+			totalHitCount += sliceCollector.collectors.get( LuceneCollectors.TOTAL_HIT_COUNT_KEY ).getTotalHits();
+		}
+		return totalHitCount;
+	}
+
+	/**
+	 * @return A collector set containing the merged results of the mergeable collectors of every slice.
+	 */
+	CollectorSet mergeCollectors() {
+		Map<CollectorKey<?>, Collector> merged = new LinkedHashMap<>();
+		for ( CollectorFactory<?> collectorFactory : mergeableCollectorFactories ) {
+			merged.put( collectorFactory.getCollectorKey(),
+					merge( (MergeableCollectorFactory<?>) collectorFactory ) );
+		}
+		return CollectorSet.ofCollected( merged );
+	}
+
+	private <C extends Collector> C merge(MergeableCollectorFactory<C> collectorFactory) {
+		List<C> sliceResults = new ArrayList<>( sliceCollectors.size() );
+		for ( SliceCollector sliceCollector : sliceCollectors ) {
+			sliceResults.add( sliceCollector.collectors.get( collectorFactory.getCollectorKey() ) );
+		}
+		return collectorFactory.merge( sliceResults );
+	}
+
+	private static final class SliceCollector extends FilterCollector {
+
+		private final CollectorSet collectors;
+
+		// Only accessed from the thread collecting this slice, then read after the search completed.
+		private boolean timedOut = false;
+
+		private SliceCollector(CollectorSet collectors) {
+			super( collectors.getComposed() );
+			this.collectors = collectors;
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			if ( timedOut ) {
+				throw new CollectionTerminatedException();
+			}
+			LeafCollector delegate;
+			try {
+				delegate = super.getLeafCollector( context );
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				// The segment started after the deadline: stop collecting this slice.
+				timedOut = true;
+				throw new CollectionTerminatedException();
+			}
+			return new FilterLeafCollector( delegate ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					try {
+						super.collect( doc );
+					}
+					catch (TimeLimitingCollector.TimeExceededException e) {
+						timedOut = true;
+						// Just stop collecting this slice; the index searcher will move on to the next segment.
+						throw new CollectionTerminatedException();
+					}
+				}
+			};
+		}
+	}
+}
@@ -10,16 +10,21 @@
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TopDocsCollector;
@@ -36,35 +41,42 @@ public final class ExtractionRequirements {
 	private final boolean requireScore;
 	private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories;
 	private final Set<CollectorFactory<?>> requiredCollectorForTopDocsFactories;
+	private final int totalHitCountThreshold;
 
 	private ExtractionRequirements(Builder builder) {
 		requireScore = builder.requireScore;
+		totalHitCountThreshold = builder.totalHitCountThreshold;
 		requiredCollectorForAllMatchingDocsFactories = builder.requiredCollectorForAllMatchingDocsFactories;
 		requiredCollectorForTopDocsFactories = builder.requiredCollectorForTopDocsFactories;
 	}
 
+	/**
+	 * @param after The last hit of a previous search with the same query and sort,
+	 * so that only hits sorted after that one are collected, or {@code null} to collect from the first hit.
+	 * When {@code sort} is not {@code null}, this must be a {@link FieldDoc}.
+	 * @param countTotalHits Whether the total hit count is needed.
+	 * If {@code false}, hits are not counted beyond what is necessary to collect top docs,
+	 * and the resulting total hit count is only a lower bound.
+	 * @param resultCache The cache to retrieve collected results from and to put collected results into,
+	 * or {@code null} to always collect results.
+	 * Ignored when {@code after} is not {@code null}.
+	 */
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager)
+			IndexReaderMetadataResolver metadataResolver, ScoreDoc after, boolean countTotalHits,
+			int maxDocs, TimeoutManager timeoutManager,
+			LuceneQueryResultCache resultCache)
 			throws IOException {
-		TopDocsCollector<?> topDocsCollector;
+		int effectiveTotalHitCountThreshold = countTotalHits ? totalHitCountThreshold : 0;
+		Supplier<TopDocsCollector<?>> topDocsCollectorFactory = null;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
 
 		CollectorExecutionContext executionContext =
-				new CollectorExecutionContext( metadataResolver, indexSearcher, luceneQuery, maxDocs );
-
-		CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
-				new CollectorSet.Builder( executionContext, timeoutManager );
+				new CollectorExecutionContext( metadataResolver, indexSearcher, maxDocs );
 
 		if ( maxDocs > 0 ) {
 			if ( sort == null ) {
-				topDocsCollector = TopScoreDocCollector.create(
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
+				topDocsCollectorFactory = () -> TopScoreDocCollector.create( maxDocs, after, effectiveTotalHitCountThreshold );
 			}
 			else {
 				if ( requireScore ) {
@@ -75,23 +87,56 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luce
 					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
 					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 				}
-				topDocsCollector = TopFieldCollector.create(
-						sort,
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
+				FieldDoc afterFieldDoc = (FieldDoc) after;
+				topDocsCollectorFactory = () -> TopFieldCollector.create( sort, maxDocs, afterFieldDoc,
+						effectiveTotalHitCountThreshold );
 			}
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
 		}
 
-		TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-		collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+		/*
+		 * The top docs collector counts hits exactly up to the threshold,
+		 * and beyond that it allows the scorer to skip non-competitive documents.
+		 * That only works if the top docs collector is used on its own:
+		 * MultiCollector ignores the minimum competitive score of its components.
+		 * So when there is no threshold, when we don't collect top docs at all,
+		 * or when we need to go through all matching documents anyway (e.g. for aggregations),
+		 * we might as well count hits exactly.
+		 */
+		boolean requireTotalHitCountCollector = maxDocs <= 0 || effectiveTotalHitCountThreshold == Integer.MAX_VALUE
+				|| !requiredCollectorForAllMatchingDocsFactories.isEmpty();
+
+		CollectorSet collectorsForAllMatchingDocs;
+		ConcurrentTopDocsCollectorManager concurrentTopDocsCollectorManager = null;
+		if ( ConcurrentTopDocsCollectorManager.canMerge( requiredCollectorForAllMatchingDocsFactories )
+				&& indexSearcher.getExecutor() != null && indexSearcher.getSlices().length > 1 ) {
+			/*
+			 * Top docs, hit counts and the results of mergeable collectors (e.g. for aggregations)
+			 * can be merged across index slices, so we can collect slices concurrently.
+			 */
+			concurrentTopDocsCollectorManager = new ConcurrentTopDocsCollectorManager(
+					executionContext, timeoutManager, sort, maxDocs,
+					topDocsCollectorFactory, requireTotalHitCountCollector,
+					requiredCollectorForAllMatchingDocsFactories
+			);
+			collectorsForAllMatchingDocs = CollectorSet.empty();
+		}
+		else {
+			CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
+					new CollectorSet.Builder( executionContext, timeoutManager );
+			if ( topDocsCollectorFactory != null ) {
+				collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollectorFactory.get() );
+			}
+			if ( requireTotalHitCountCollector ) {
+				collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, new TotalHitCountCollector() );
+			}
+			collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
+			collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
+		}
 
-		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
-		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
+		// Results are not cached when scrolling, since each chunk is only requested once
+		LuceneQueryResultCache effectiveResultCache = after == null ? resultCache : null;
+		ResultCacheKey resultCacheKey = effectiveResultCache == null ? null
+				: createResultCacheKey( luceneQuery, sort, maxDocs );
 
 		return new LuceneCollectors(
 				metadataResolver,
@@ -99,11 +144,23 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luce
 				luceneQuery,
 				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
 				collectorsForAllMatchingDocs,
+				requiredCollectorForAllMatchingDocsFactories,
+				concurrentTopDocsCollectorManager,
 				requiredCollectorForTopDocsFactories,
-				timeoutManager
+				timeoutManager,
+				effectiveResultCache, resultCacheKey
 		);
 	}
 
+	private ResultCacheKey createResultCacheKey(Query luceneQuery, Sort sort, int maxDocs) {
+		Set<CollectorKey<?>> collectorForAllMatchingDocsKeys = new HashSet<>();
+		for ( CollectorFactory<?> factory : requiredCollectorForAllMatchingDocsFactories ) {
+			collectorForAllMatchingDocsKeys.add( factory.getCollectorKey() );
+		}
+		return new ResultCacheKey( luceneQuery, sort, maxDocs, requireScore, totalHitCountThreshold,
+				collectorForAllMatchingDocsKeys );
+	}
+
 	private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 		SortField[] sortFields = sort.getSort();
 		for ( int i = 0; i < sortFields.length; i++ ) {
@@ -118,6 +175,7 @@ private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 	public static class Builder {
 
 		private boolean requireScore;
+		private int totalHitCountThreshold = Integer.MAX_VALUE;
 		private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
 		private final Set<CollectorFactory<?>> requiredCollectorForTopDocsFactories = new LinkedHashSet<>();
 
@@ -129,6 +187,11 @@ public void requireScore() {
 			this.requireScore = true;
 		}
 
+		public void totalHitCountThreshold(long totalHitCountThreshold) {
+			// Lucene only accepts int thresholds, and anything above Integer.MAX_VALUE means "count all hits".
+			this.totalHitCountThreshold = (int) Math.min( totalHitCountThreshold, Integer.MAX_VALUE );
+		}
+
 		public <C extends Collector> void requireCollectorForAllMatchingDocs(CollectorFactory<C> collectorFactory) {
 			requiredCollectorForAllMatchingDocsFactories.add( collectorFactory );
 		}
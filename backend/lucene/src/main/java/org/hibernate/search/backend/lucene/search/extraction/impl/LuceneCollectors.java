@@ -13,9 +13,11 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExplicitDocIdsQuery;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 
+import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
@@ -26,6 +28,8 @@
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.Accountable;
 
 public class LuceneCollectors {
 
@@ -41,27 +45,42 @@ public class LuceneCollectors {
 	private final Integer scoreSortFieldIndexForRescoring;
 
 	private final CollectorSet collectorsForAllMatchingDocs;
+	private final Set<CollectorFactory<?>> collectorsForAllMatchingDocsFactories;
+	private final ConcurrentTopDocsCollectorManager concurrentTopDocsCollectorManager;
 	private final Set<CollectorFactory<?>> collectorsForTopDocsFactories;
 	private CollectorSet collectorsForTopDocs;
 
 	private final TimeoutManager timeoutManager;
 
+	private final LuceneQueryResultCache resultCache;
+	private final ResultCacheKey resultCacheKey;
+
+	private CollectorSet collectedForAllMatchingDocs;
 	private long totalHitCount = 0;
+	private boolean totalHitCountExact = true;
 	private TopDocs topDocs = null;
 
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher, Query luceneQuery,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
 			CollectorSet collectorsForAllMatchingDocs,
+			Set<CollectorFactory<?>> collectorsForAllMatchingDocsFactories,
+			ConcurrentTopDocsCollectorManager concurrentTopDocsCollectorManager,
 			Set<CollectorFactory<?>> collectorsForTopDocsFactories,
-			TimeoutManager timeoutManager) {
+			TimeoutManager timeoutManager,
+			LuceneQueryResultCache resultCache, ResultCacheKey resultCacheKey) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
 		this.luceneQuery = luceneQuery;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
 		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.collectorsForAllMatchingDocsFactories = collectorsForAllMatchingDocsFactories;
+		this.collectedForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.concurrentTopDocsCollectorManager = concurrentTopDocsCollectorManager;
 		this.collectorsForTopDocsFactories = collectorsForTopDocsFactories;
 		this.timeoutManager = timeoutManager;
+		this.resultCache = resultCache;
+		this.resultCacheKey = resultCacheKey;
 	}
 
 	public void collect(int offset, Integer limit) throws IOException {
@@ -70,7 +89,40 @@ public void collect(int offset, Integer limit) throws IOException {
 			return;
 		}
 
-		// Phase 1: collect top docs and aggregations
+		// Phase 1: collect top docs and aggregations, unless a previous execution did that already
+		ResultCacheKey pageResultCacheKey = resultCache == null ? null : resultCacheKey.forPage( offset, limit );
+		if ( !restoreFromResultCache( pageResultCacheKey ) ) {
+			if ( concurrentTopDocsCollectorManager != null ) {
+				collectConcurrently( offset, limit );
+			}
+			else {
+				collectSequentially( offset, limit );
+			}
+
+			if ( topDocs != null && requireFieldDocRescoring ) {
+				handleRescoring( indexSearcher, luceneQuery );
+			}
+
+			putInResultCache( pageResultCacheKey );
+		}
+
+		if ( topDocs == null ) {
+			return;
+		}
+
+		// Phase 2: apply collectors to top docs
+		if ( collectorsForTopDocsFactories.isEmpty() ) {
+			return;
+		}
+		try {
+			applyCollectorsToTopDocs();
+		}
+		catch (TimeLimitingCollector.TimeExceededException e) {
+			timeoutManager.forceTimedOut();
+		}
+	}
+
+	private void collectSequentially(int offset, Integer limit) throws IOException {
 		try {
 			indexSearcher.search( luceneQuery, collectorsForAllMatchingDocs.getComposed() );
 		}
@@ -78,32 +130,48 @@ public void collect(int offset, Integer limit) throws IOException {
 			timeoutManager.forceTimedOut();
 		}
 
-		this.totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
-
+		TotalHitCountCollector totalHitCountCollector = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
 		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
 		if ( topDocsCollector == null ) {
+			this.totalHitCount = totalHitCountCollector.getTotalHits();
 			return;
 		}
 
 		extractTopDocs( topDocsCollector, offset, limit );
-		if ( requireFieldDocRescoring ) {
-			handleRescoring( indexSearcher, luceneQuery );
+		if ( totalHitCountCollector != null ) {
+			this.totalHitCount = totalHitCountCollector.getTotalHits();
+		}
+		else {
+			extractTotalHitCountFromTopDocs();
 		}
+	}
 
-		// Phase 2: apply collectors to top docs
-		if ( collectorsForTopDocsFactories.isEmpty() ) {
-			return;
+	private void collectConcurrently(int offset, Integer limit) throws IOException {
+		indexSearcher.search( luceneQuery, concurrentTopDocsCollectorManager );
+		if ( concurrentTopDocsCollectorManager.isTimedOut() ) {
+			timeoutManager.forceTimedOut();
 		}
-		try {
-			applyCollectorsToTopDocs();
+
+		this.collectedForAllMatchingDocs = concurrentTopDocsCollectorManager.mergeCollectors();
+		if ( concurrentTopDocsCollectorManager.hasTopDocs() ) {
+			topDocs = concurrentTopDocsCollectorManager.mergeTopDocs( offset, limit );
 		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
-			timeoutManager.forceTimedOut();
+		if ( concurrentTopDocsCollectorManager.countsHits() ) {
+			this.totalHitCount = concurrentTopDocsCollectorManager.getTotalHitCount();
+		}
+		else {
+			extractTotalHitCountFromTopDocs();
 		}
 	}
 
+	private void extractTotalHitCountFromTopDocs() {
+		// The hit count was tracked by the top docs collector, up to the total hit count threshold
+		this.totalHitCount = topDocs.totalHits.value;
+		this.totalHitCountExact = TotalHits.Relation.EQUAL_TO.equals( topDocs.totalHits.relation );
+	}
+
 	public CollectorSet getCollectorsForAllMatchingDocs() {
-		return collectorsForAllMatchingDocs;
+		return collectedForAllMatchingDocs;
 	}
 
 	public CollectorSet getCollectorsForTopDocs() {
@@ -114,6 +182,14 @@ public long getTotalHitCount() {
 		return totalHitCount;
 	}
 
+	/**
+	 * @return {@code true} if {@link #getTotalHitCount()} is exact,
+	 * {@code false} if it is a lower bound because the total hit count threshold was reached.
+	 */
+	public boolean isTotalHitCountExact() {
+		return totalHitCountExact;
+	}
+
 	public TopDocs getTopDocs() {
 		return topDocs;
 	}
@@ -142,13 +218,65 @@ private void handleRescoring(IndexSearcher indexSearcher, Query luceneQuery) thr
 		}
 	}
 
+	private boolean restoreFromResultCache(ResultCacheKey pageResultCacheKey) {
+		if ( resultCache == null ) {
+			return false;
+		}
+		CollectedResult cached = resultCache.get( indexSearcher.getIndexReader(), pageResultCacheKey );
+		if ( cached == null ) {
+			return false;
+		}
+		this.totalHitCount = cached.totalHitCount;
+		this.totalHitCountExact = cached.totalHitCountExact;
+		this.topDocs = cached.topDocs;
+		this.collectedForAllMatchingDocs = cached.collectorsForAllMatchingDocs;
+		return true;
+	}
+
+	private void putInResultCache(ResultCacheKey pageResultCacheKey) {
+		if ( resultCache == null || timeoutManager.isTimedOut() ) {
+			// Never cache partial results
+			return;
+		}
+		CollectorSet retainedCollectors = collectedForAllMatchingDocs.retainOnly( collectorsForAllMatchingDocsFactories );
+		long retainedCollectorsRamBytesUsed = 0L;
+		for ( Collector collector : retainedCollectors.getComponents() ) {
+			long collectorRamBytesUsed = ramBytesUsed( collector );
+			if ( collectorRamBytesUsed < 0 ) {
+				// We can't estimate the memory footprint of this collector: don't cache anything.
+				return;
+			}
+			retainedCollectorsRamBytesUsed += collectorRamBytesUsed;
+		}
+		CollectedResult result = new CollectedResult( totalHitCount, totalHitCountExact, topDocs,
+				retainedCollectors, retainedCollectorsRamBytesUsed );
+		resultCache.put( indexSearcher.getIndexReader(), pageResultCacheKey, result, result.ramBytesUsed() );
+	}
+
+	private static long ramBytesUsed(Collector collector) {
+		if ( collector instanceof FacetsCollector ) {
+			long result = 0L;
+			for ( FacetsCollector.MatchingDocs matchingDocs : ( (FacetsCollector) collector ).getMatchingDocs() ) {
+				result += matchingDocs.bits.ramBytesUsed();
+				if ( matchingDocs.scores != null ) {
+					result += (long) Float.BYTES * matchingDocs.scores.length;
+				}
+			}
+			return result;
+		}
+		else if ( collector instanceof Accountable ) {
+			return ( (Accountable) collector ).ramBytesUsed();
+		}
+		else {
+			return -1L;
+		}
+	}
+
 	private void applyCollectorsToTopDocs() throws IOException {
 		ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( topDocs.scoreDocs );
 
 		CollectorExecutionContext executionContext = new CollectorExecutionContext(
 				metadataResolver, indexSearcher,
-				// Only join nested documents for the top documents (not for all documents matching this.luceneQuery).
-				topDocsQuery,
 				// Allocate just enough memory to handle the top documents.
 				topDocs.scoreDocs.length
 		);
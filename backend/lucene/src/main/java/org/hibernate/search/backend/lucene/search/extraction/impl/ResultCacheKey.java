@@ -0,0 +1,84 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+
+/**
+ * The key of a {@link CollectedResult} in the query result cache.
+ * <p>
+ * Includes everything that may affect the collected result.
+ * Projections are not included, because they are extracted from the top documents
+ * after the collected result is retrieved from the cache.
+ */
+final class ResultCacheKey {
+
+	private final Query luceneQuery;
+	private final Sort sort;
+	private final int maxDocs;
+	private final int offset;
+	private final Integer limit;
+	private final boolean requireScore;
+	private final int totalHitCountThreshold;
+	private final Set<CollectorKey<?>> collectorForAllMatchingDocsKeys;
+
+	ResultCacheKey(Query luceneQuery, Sort sort, int maxDocs,
+			boolean requireScore, int totalHitCountThreshold,
+			Set<CollectorKey<?>> collectorForAllMatchingDocsKeys) {
+		this( luceneQuery, sort, maxDocs, 0, null, requireScore, totalHitCountThreshold,
+				collectorForAllMatchingDocsKeys );
+	}
+
+	private ResultCacheKey(Query luceneQuery, Sort sort, int maxDocs, int offset, Integer limit,
+			boolean requireScore, int totalHitCountThreshold,
+			Set<CollectorKey<?>> collectorForAllMatchingDocsKeys) {
+		this.luceneQuery = luceneQuery;
+		this.sort = sort;
+		this.maxDocs = maxDocs;
+		this.offset = offset;
+		this.limit = limit;
+		this.requireScore = requireScore;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.collectorForAllMatchingDocsKeys = collectorForAllMatchingDocsKeys;
+	}
+
+	ResultCacheKey forPage(int offset, Integer limit) {
+		return new ResultCacheKey( luceneQuery, sort, maxDocs, offset, limit, requireScore, totalHitCountThreshold,
+				collectorForAllMatchingDocsKeys );
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		ResultCacheKey other = (ResultCacheKey) obj;
+		return maxDocs == other.maxDocs
+				&& offset == other.offset
+				&& requireScore == other.requireScore
+				&& totalHitCountThreshold == other.totalHitCountThreshold
+				&& Objects.equals( limit, other.limit )
+				&& luceneQuery.equals( other.luceneQuery )
+				&& Objects.equals( sort, other.sort )
+				&& collectorForAllMatchingDocsKeys.equals( other.collectorForAllMatchingDocsKeys );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( luceneQuery, sort, maxDocs, offset, limit, requireScore, totalHitCountThreshold,
+				collectorForAllMatchingDocsKeys );
+	}
+}
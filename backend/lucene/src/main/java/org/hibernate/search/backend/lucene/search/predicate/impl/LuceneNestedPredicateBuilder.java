@@ -6,13 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.CachingBitSetProducer;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.engine.search.predicate.spi.NestedPredicateBuilder;
 
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
-import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.search.join.ScoreMode;
 import org.apache.lucene.search.join.ToParentBlockJoinQuery;
 
@@ -52,6 +52,6 @@ protected Query doBuild(LuceneSearchPredicateContext context) {
 		}
 
 		// TODO HSEARCH-3090 at some point we should have a parameter for the score mode
-		return new ToParentBlockJoinQuery( childQueryBuilder.build(), new QueryBitSetProducer( parentQuery ), ScoreMode.Avg );
+		return new ToParentBlockJoinQuery( childQueryBuilder.build(), new CachingBitSetProducer( parentQuery ), ScoreMode.Avg );
 	}
 }
@@ -8,6 +8,10 @@
 
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.DocValuesProjectionCollector;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
@@ -15,7 +19,8 @@
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
 
-class LuceneFieldProjection<F, V> implements LuceneSearchProjection<F, V> {
+class LuceneFieldProjection<F, V> implements LuceneSearchProjection<F, V>,
+		CollectorFactory<DocValuesProjectionCollector<F>> {
 
 	private final Set<String> indexNames;
 	private final String absoluteFieldPath;
@@ -25,6 +30,8 @@
 
 	private final ProjectionConverter<? super F, V> converter;
 
+	private final CollectorKey<DocValuesProjectionCollector<F>> docValuesCollectorKey;
+
 	LuceneFieldProjection(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
 			LuceneFieldCodec<F> codec, ProjectionConverter<? super F, V> converter) {
 		this.indexNames = indexNames;
@@ -32,17 +39,49 @@
 		this.nestedDocumentPath = nestedDocumentPath;
 		this.codec = codec;
 		this.converter = converter;
+		/*
+		 * Reading values from doc values is cheaper than loading stored fields,
+		 * but is only possible for single-valued, non-nested fields whose doc values can be decoded losslessly.
+		 * We also stick to stored fields when targeting multiple indexes,
+		 * since the way doc values are indexed may differ from one index to another (e.g. normalizers).
+		 */
+		if ( nestedDocumentPath == null && indexNames.size() == 1 && codec.canDecodeFromDocValues() ) {
+			this.docValuesCollectorKey = DocValuesProjectionCollector.key( absoluteFieldPath );
+		}
+		else {
+			this.docValuesCollectorKey = null;
+		}
 	}
 
 	@Override
 	public void request(SearchProjectionRequestContext context) {
-		codec.contributeStoredFields( absoluteFieldPath, nestedDocumentPath, context::requireStoredField );
+		if ( docValuesCollectorKey != null ) {
+			context.requireCollector( this );
+		}
+		else {
+			codec.contributeStoredFields( absoluteFieldPath, nestedDocumentPath, context::requireStoredField );
+		}
 	}
 
 	@Override
 	public F extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
-		return codec.decode( documentResult.getDocument(), absoluteFieldPath );
+		if ( docValuesCollectorKey != null ) {
+			return context.getCollector( docValuesCollectorKey ).getValue( documentResult.getDocId() );
+		}
+		else {
+			return codec.decode( documentResult.getDocument(), absoluteFieldPath );
+		}
+	}
+
+	@Override
+	public DocValuesProjectionCollector<F> createCollector(CollectorExecutionContext context) {
+		return codec.createDocValuesProjectionCollector( absoluteFieldPath, context.getMaxDocs() );
+	}
+
+	@Override
+	public CollectorKey<DocValuesProjectionCollector<F>> getCollectorKey() {
+		return docValuesCollectorKey;
 	}
 
 	@Override
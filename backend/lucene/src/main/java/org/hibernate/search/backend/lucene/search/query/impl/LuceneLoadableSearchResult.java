@@ -12,6 +12,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionTransformContext;
@@ -19,6 +20,8 @@
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
 
+import org.apache.lucene.search.ScoreDoc;
+
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
@@ -35,6 +38,8 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 
 	private final long hitCount;
+	private final boolean hitCountExact;
+	private final ScoreDoc lastScoreDoc;
 	private List<Object> extractedData;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private Duration took;
@@ -42,22 +47,42 @@
 
 	LuceneLoadableSearchResult(LuceneSearchQueryExtractContext extractContext,
 			LuceneSearchProjection<?, H> rootProjection,
-			long hitCount, List<Object> extractedData,
+			long hitCount, boolean hitCountExact, ScoreDoc lastScoreDoc, List<Object> extractedData,
 			Map<AggregationKey<?>, ?> extractedAggregations,
 			Duration took, boolean timedOut) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
+		this.lastScoreDoc = lastScoreDoc;
 		this.extractedData = extractedData;
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
 	}
 
+	/**
+	 * @return The raw Lucene hit of the last extracted document, to be used as a starting point for the next chunk
+	 * when scrolling, or {@code null} if no document was extracted.
+	 */
+	ScoreDoc getLastScoreDoc() {
+		return lastScoreDoc;
+	}
+
 	LuceneSearchResult<H> loadBlocking() {
-		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
+		return load( extractContext.getProjectionHitMapper().loadBlocking() );
+	}
+
+	/**
+	 * @return A future that will be completed with the search result once loading completes.
+	 * @see org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper#loadAsync()
+	 */
+	CompletableFuture<LuceneSearchResult<H>> loadAsync() {
+		return extractContext.getProjectionHitMapper().loadAsync().thenApply( this::load );
+	}
 
-		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
+	private LuceneSearchResult<H> load(LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		int readIndex = 0;
 		int writeIndex = 0;
@@ -88,6 +113,6 @@ LuceneSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new LuceneSearchResultImpl<>( hitCount, loadedHits, extractedAggregations, took, timedOut );
+		return new LuceneSearchResultImpl<>( hitCount, hitCountExact, loadedHits, extractedAggregations, took, timedOut );
 	}
 }
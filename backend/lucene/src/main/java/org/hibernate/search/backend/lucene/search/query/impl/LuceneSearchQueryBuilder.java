@@ -29,7 +29,6 @@
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionRequestContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
-import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
@@ -60,14 +59,13 @@
 	private final LoadingContextBuilder<?, ?, ?> loadingContextBuilder;
 	private final LuceneSearchProjection<?, H> rootProjection;
 
-	private List<LuceneFieldComparatorSource> nestedFieldSorts;
-
 	private Query luceneQuery;
 	private List<SortField> sortFields;
 	private Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private Long timeout;
 	private TimeUnit timeUnit;
 	private boolean exceptionOnTimeout;
+	private Long totalHitCountThreshold;
 
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
@@ -113,6 +111,11 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
 	@Override
 	public void collectPredicate(Query luceneQuery) {
 		this.luceneQuery = luceneQuery;
@@ -126,19 +129,6 @@ public void collectSortField(SortField sortField) {
 		sortFields.add( sortField );
 	}
 
-	@Override
-	public void collectSortField(SortField sortField, LuceneFieldComparatorSource nestedFieldSort) {
-		collectSortField( sortField );
-		if ( nestedFieldSort == null ) {
-			return;
-		}
-
-		if ( nestedFieldSorts == null ) {
-			nestedFieldSorts = new ArrayList<>( 5 );
-		}
-		nestedFieldSorts.add( nestedFieldSort );
-	}
-
 	@Override
 	public void collectSortFields(SortField[] sortFields) {
 		if ( sortFields == null || sortFields.length == 0 ) {
@@ -186,17 +176,14 @@ public LuceneSearchQuery<H> build() {
 			luceneSort = new Sort( sortFields.toArray( new SortField[0] ) );
 		}
 
-		if ( nestedFieldSorts != null ) {
-			for ( LuceneFieldComparatorSource nestedField : nestedFieldSorts ) {
-				nestedField.setOriginalParentQuery( definitiveLuceneQuery );
-			}
-		}
-
 		LuceneSearchQueryRequestContext requestContext = new LuceneSearchQueryRequestContext(
 				sessionContext, loadingContext, definitiveLuceneQuery, luceneSort
 		);
 
 		ExtractionRequirements.Builder extractionRequirementsBuilder = new ExtractionRequirements.Builder();
+		if ( totalHitCountThreshold != null ) {
+			extractionRequirementsBuilder.totalHitCountThreshold( totalHitCountThreshold );
+		}
 		SearchProjectionRequestContext projectionRequestContext =
 				new SearchProjectionRequestContext( extractionRequirementsBuilder );
 		rootProjection.request( projectionRequestContext );
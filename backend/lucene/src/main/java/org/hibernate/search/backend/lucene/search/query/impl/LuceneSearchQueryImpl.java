@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -24,6 +25,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -93,16 +95,23 @@ public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
 		LuceneSearchResult<H> result = doSubmit( work )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Asynchronous fetching relies on loadAsync() instead, see fetchAsync().
 				 */
 				.loadBlocking();
 		timeoutManager.stop();
 		return result;
 	}
 
+	@Override
+	public CompletableFuture<LuceneSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		TimeoutManager currentTimeoutManager = timeoutManager;
+		currentTimeoutManager.start();
+		LuceneReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit );
+		return doSubmitAsync( work )
+				.thenCompose( LuceneLoadableSearchResult::loadAsync )
+				.whenComplete( (result, throwable) -> currentTimeoutManager.stop() );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		timeoutManager.start();
@@ -112,6 +121,23 @@ public long fetchTotalHitCount() {
 		return result;
 	}
 
+	@Override
+	public CompletableFuture<Long> fetchTotalHitCountAsync() {
+		TimeoutManager currentTimeoutManager = timeoutManager;
+		currentTimeoutManager.start();
+		LuceneReadWork<Integer> work = workFactory.count( searcher );
+		return doSubmitAsync( work )
+				.<Long>thenApply( Integer::longValue )
+				.whenComplete( (result, throwable) -> currentTimeoutManager.stop() );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		return new LuceneSearchScroll<>( queryOrchestrator, workFactory, searchContext, routingKeys,
+				timeoutManager, searcher, chunkSize );
+	}
+
 	@Override
 	public Explanation explain(String id) {
 		Contracts.assertNotNull( id, "id" );
@@ -146,6 +172,15 @@ private <T> T doSubmit(LuceneReadWork<T> work) {
 		);
 	}
 
+	private <T> CompletableFuture<T> doSubmitAsync(LuceneReadWork<T> work) {
+		return queryOrchestrator.submitAsync(
+				searchContext.getIndexNames(),
+				searchContext.getIndexManagerContexts(),
+				routingKeys,
+				work
+		);
+	}
+
 	private Explanation doExplain(String indexName, String id) {
 		timeoutManager.start();
 		Query filter = searchContext.getFilterOrNull( sessionContext.getTenantIdentifier() );
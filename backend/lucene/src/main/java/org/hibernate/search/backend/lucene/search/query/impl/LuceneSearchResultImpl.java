@@ -16,8 +16,8 @@
 
 class LuceneSearchResultImpl<H> extends SimpleSearchResult<H>
 		implements LuceneSearchResult<H> {
-	LuceneSearchResultImpl(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
-			Duration took, Boolean timedOut) {
-		super( hitCount, hits, aggregationResults, took, timedOut );
+	LuceneSearchResultImpl(long hitCount, boolean hitCountExact, List<H> hits,
+			Map<AggregationKey<?>, ?> aggregationResults, Duration took, Boolean timedOut) {
+		super( hitCount, hitCountExact, hits, aggregationResults, took, timedOut );
 	}
 }
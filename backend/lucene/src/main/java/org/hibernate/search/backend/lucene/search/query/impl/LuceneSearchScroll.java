@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkPinnedContext;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * A scroll relying on Lucene's "search after" feature:
+ * each chunk is collected by a separate search that skips every hit sorted before the last hit of the previous chunk,
+ * so that memory usage is bounded by the chunk size, regardless of how far we scrolled.
+ * <p>
+ * Index readers are opened when the first chunk is requested, then used for every chunk until the scroll is closed:
+ * the last hit of a chunk is identified by a Lucene document ID, which is only meaningful for a given index reader.
+ * As a result, changes to the index after the first chunk are not reflected in the results.
+ *
+ * @param <H> The type of query hits.
+ */
+class LuceneSearchScroll<H> implements SearchScroll<H> {
+
+	private final LuceneReadWorkOrchestrator queryOrchestrator;
+	private final LuceneWorkFactory workFactory;
+	private final LuceneSearchContext searchContext;
+	private final Set<String> routingKeys;
+	private final TimeoutManager timeoutManager;
+	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
+	private final int chunkSize;
+
+	private LuceneReadWorkPinnedContext readContext;
+	private ScoreDoc lastScoreDoc;
+	private long totalHitCount;
+
+	LuceneSearchScroll(LuceneReadWorkOrchestrator queryOrchestrator,
+			LuceneWorkFactory workFactory, LuceneSearchContext searchContext,
+			Set<String> routingKeys,
+			TimeoutManager timeoutManager,
+			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher,
+			int chunkSize) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.searchContext = searchContext;
+		this.routingKeys = routingKeys;
+		this.timeoutManager = timeoutManager;
+		this.searcher = searcher;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void close() {
+		if ( readContext != null ) {
+			readContext.close();
+			readContext = null;
+		}
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		timeoutManager.start();
+		if ( readContext == null ) {
+			readContext = queryOrchestrator.openPinnedContext(
+					searchContext.getIndexNames(),
+					searchContext.getIndexManagerContexts(),
+					routingKeys
+			);
+		}
+		LuceneReadWork<LuceneLoadableSearchResult<H>> work = workFactory.scroll( searcher, lastScoreDoc, chunkSize );
+		LuceneLoadableSearchResult<H> loadableResult = readContext.submit( work );
+		ScoreDoc newLastScoreDoc = loadableResult.getLastScoreDoc();
+		// WARNING: the following call must run in the user thread.
+		LuceneSearchResult<H> result = loadableResult.loadBlocking();
+		timeoutManager.stop();
+
+		if ( lastScoreDoc == null ) {
+			// Hits are only counted for the first chunk, see LuceneSearcher#scroll
+			totalHitCount = result.getTotalHitCount();
+		}
+		boolean hasHits = newLastScoreDoc != null;
+		if ( hasHits ) {
+			lastScoreDoc = newLastScoreDoc;
+		}
+		return new SimpleSearchScrollResult<>( hasHits, result.getHits(), totalHitCount );
+	}
+}
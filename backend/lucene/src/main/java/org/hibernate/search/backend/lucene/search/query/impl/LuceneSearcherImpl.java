@@ -16,6 +16,7 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TimeoutCountCollectorManager;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
@@ -75,11 +76,33 @@ public String toString() {
 
 	@Override
 	public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver,
+			IndexReaderMetadataResolver metadataResolver, LuceneQueryResultCache resultCache,
 			int offset, Integer limit) throws IOException {
+		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
+		return doSearch( indexSearcher, metadataResolver, resultCache, null, true, maxDocs, offset, limit );
+	}
+
+	@Override
+	public LuceneLoadableSearchResult<H> scroll(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver,
+			ScoreDoc after, int chunkSize) throws IOException {
+		// Hits before "after" are skipped by the collector itself,
+		// so we only need to allocate data structures for one chunk.
+		int maxDocs = Math.min( chunkSize, indexSearcher.getIndexReader().maxDoc() );
+		// The scroll only needs the total hit count once: don't count hits again for each chunk.
+		boolean countTotalHits = after == null;
+		return doSearch( indexSearcher, metadataResolver, null, after, countTotalHits, maxDocs, 0, chunkSize );
+	}
+
+	private LuceneLoadableSearchResult<H> doSearch(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver, LuceneQueryResultCache resultCache,
+			ScoreDoc after, boolean countTotalHits, int maxDocs, int offset, Integer limit) throws IOException {
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
 
-		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit );
+		LuceneCollectors luceneCollectors = extractionRequirements.createCollectors(
+				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
+				metadataResolver, after, countTotalHits, maxDocs, timeoutManager, resultCache
+		);
 
 		luceneCollectors.collect( offset, limit );
 
@@ -95,6 +118,8 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 		return new LuceneLoadableSearchResult<>(
 				extractContext, rootProjection,
 				luceneCollectors.getTotalHitCount(),
+				luceneCollectors.isTotalHitCountExact(),
+				getLastExtractedScoreDoc( extractContext, extractedData ),
 				extractedData,
 				extractedAggregations,
 				timeoutManager.getTookTime(),
@@ -103,7 +128,25 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 	}
 
 	@Override
-	public int count(IndexSearcher indexSearcher) throws IOException {
+	public int count(IndexSearcher indexSearcher, LuceneQueryResultCache resultCache) throws IOException {
+		if ( resultCache != null ) {
+			CountCacheKey cacheKey = new CountCacheKey( requestContext.getLuceneQuery() );
+			Integer cached = resultCache.get( indexSearcher.getIndexReader(), cacheKey );
+			if ( cached != null ) {
+				return cached;
+			}
+			int count = doCount( indexSearcher );
+			if ( timeoutManager.isTimedOut() ) {
+				// Never cache partial results
+				return count;
+			}
+			resultCache.put( indexSearcher.getIndexReader(), cacheKey, count, CountCacheKey.VALUE_RAM_BYTES );
+			return count;
+		}
+		return doCount( indexSearcher );
+	}
+
+	private int doCount(IndexSearcher indexSearcher) throws IOException {
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
 
 		// Handling the hard timeout.
@@ -131,20 +174,9 @@ public void setTimeoutManager(TimeoutManager timeoutManager) {
 		this.timeoutManager = timeoutManager;
 	}
 
-	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit) throws IOException {
-		// TODO HSEARCH-3323 this is very naive for now, we will probably need to implement some scrolling in the collector
-		//  as it is done in Search 5.
-		//  Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
-		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
-
-		return extractionRequirements.createCollectors(
-				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, timeoutManager
-		);
-	}
-
 	private int getMaxDocs(IndexReader reader, int offset, Integer limit) {
+		// Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+		// Use scroll() to go through large result sets.
 		if ( limit == null ) {
 			return reader.maxDoc();
 		}
@@ -156,6 +188,43 @@ else if ( limit.equals( 0 ) ) {
 		}
 	}
 
+	private static ScoreDoc getLastExtractedScoreDoc(LuceneSearchQueryExtractContext extractContext,
+			List<Object> extractedData) {
+		if ( extractedData.isEmpty() ) {
+			return null;
+		}
+		// Extraction may have stopped early because of a timeout:
+		// only consider the hits that were actually extracted.
+		return extractContext.getTopDocs().scoreDocs[extractedData.size() - 1];
+	}
+
+	private static final class CountCacheKey {
+		// Rough estimate of the size of an entry for a count: key + boxed integer
+		static final long VALUE_RAM_BYTES = 64L;
+
+		private final Query luceneQuery;
+
+		private CountCacheKey(Query luceneQuery) {
+			this.luceneQuery = luceneQuery;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			return luceneQuery.equals( ( (CountCacheKey) obj ).luceneQuery );
+		}
+
+		@Override
+		public int hashCode() {
+			return luceneQuery.hashCode();
+		}
+	}
+
 	private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext) {
 		ProjectionHitMapper<?, ?> projectionHitMapper = extractContext.getProjectionHitMapper();
 
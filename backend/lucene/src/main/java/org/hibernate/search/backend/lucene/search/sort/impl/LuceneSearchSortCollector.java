@@ -6,8 +6,6 @@
  */
 package org.hibernate.search.backend.lucene.search.sort.impl;
 
-import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
-
 import org.apache.lucene.search.SortField;
 
 
@@ -23,8 +21,6 @@ public interface LuceneSearchSortCollector {
 
 	void collectSortField(SortField sortField);
 
-	void collectSortField(SortField sortField, LuceneFieldComparatorSource nestedFieldSort);
-
 	void collectSortFields(SortField[] sortFields);
 
 }
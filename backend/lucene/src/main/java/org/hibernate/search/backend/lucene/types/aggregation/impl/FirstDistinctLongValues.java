@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.util.Arrays;
+
+import org.apache.lucene.util.ArrayUtil;
+
+/**
+ * Keeps track of the first distinct long values, in ascending or descending order,
+ * without boxing and without retaining more than {@code limit} values at any time.
+ * <p>
+ * Values are kept in a sorted array: once the array is full,
+ * most values can be rejected with a single comparison against the last retained value,
+ * which is by far the most common case when scanning large amounts of doc values.
+ */
+final class FirstDistinctLongValues {
+
+	private static final int INITIAL_CAPACITY = 128;
+
+	private final boolean descending;
+	private final int limit;
+
+	private long[] values;
+	private int size = 0;
+
+	FirstDistinctLongValues(boolean descending, int limit) {
+		this.descending = descending;
+		this.limit = limit;
+		this.values = new long[Math.min( limit, INITIAL_CAPACITY )];
+	}
+
+	void add(long value) {
+		if ( size == limit && !isBefore( value, values[size - 1] ) ) {
+			// Either already retained, or after all retained values.
+			return;
+		}
+
+		int low = 0;
+		int high = size;
+		while ( low < high ) {
+			int middle = ( low + high ) >>> 1;
+			long middleValue = values[middle];
+			if ( middleValue == value ) {
+				// Already retained.
+				return;
+			}
+			else if ( isBefore( middleValue, value ) ) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+
+		if ( size < limit ) {
+			if ( size == values.length ) {
+				values = ArrayUtil.grow( values, size + 1 );
+			}
+			System.arraycopy( values, low, values, low + 1, size - low );
+			++size;
+		}
+		else {
+			// Drop the last value to make room for the new one
+			System.arraycopy( values, low, values, low + 1, size - low - 1 );
+		}
+		values[low] = value;
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return The retained values, sorted in the requested order.
+	 */
+	long[] toArray() {
+		return Arrays.copyOf( values, size );
+	}
+
+	private boolean isBefore(long left, long right) {
+		return descending ? left > right : left < right;
+	}
+}
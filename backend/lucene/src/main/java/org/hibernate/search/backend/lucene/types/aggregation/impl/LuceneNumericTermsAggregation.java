@@ -8,8 +8,8 @@
 
 import java.io.IOException;
 import java.util.Comparator;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
@@ -52,11 +52,11 @@ FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
 	}
 
 	@Override
-	SortedSet<Long> collectFirstTerms(IndexReader reader, boolean descending, int limit)
+	Set<Long> collectFirstTerms(IndexReader reader, boolean descending, int limit)
 			throws IOException {
-		// TODO HSEARCH-1927 when we switch to Sorted/SortedSetDocValues, this can be implemented in a much more efficient way
-		//  since docvalues will be sorted. See the same method in LuceneTextTermsAggregation.
-		TreeSet<Long> collectedTerms = new TreeSet<>( descending ? LONG_COMPARATOR.reversed() : LONG_COMPARATOR );
+		// Numeric doc values are not sorted, so we have to scan them all,
+		// but we can at least avoid boxing and reject most values with a single comparison.
+		FirstDistinctLongValues firstValues = new FirstDistinctLongValues( descending, limit );
 		for ( LeafReaderContext leaf : reader.leaves() ) {
 			final LeafReader atomicReader = leaf.reader();
 			NumericDocValues docValues = atomicReader.getNumericDocValues( absoluteFieldPath );
@@ -64,14 +64,15 @@ SortedSet<Long> collectFirstTerms(IndexReader reader, boolean descending, int li
 				continue;
 			}
 			while ( docValues.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
-				Long term = docValues.longValue();
-				collectedTerms.add( term );
-				// Try not to keep too many terms in memory
-				if ( collectedTerms.size() > limit ) {
-					collectedTerms.remove( collectedTerms.last() );
-				}
+				firstValues.add( docValues.longValue() );
 			}
 		}
+
+		// LinkedHashSet to preserve ordering
+		Set<Long> collectedTerms = new LinkedHashSet<>( firstValues.size() * 2 );
+		for ( long value : firstValues.toArray() ) {
+			collectedTerms.add( value );
+		}
 		return collectedTerms;
 	}
 
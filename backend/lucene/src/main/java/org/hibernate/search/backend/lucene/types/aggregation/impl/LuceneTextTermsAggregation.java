@@ -8,8 +8,12 @@
 
 import java.io.IOException;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
@@ -17,12 +21,15 @@
 import org.apache.lucene.facet.FacetResult;
 import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.facet.FacetsConfig;
-import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
-import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
-import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
-import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState.OrdRange;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
 
 /**
  * @param <K> The type of keys in the returned map. It can be {@code String}
@@ -33,51 +40,179 @@
 
 	private static final Comparator<String> STRING_COMPARATOR = Comparator.naturalOrder();
 
+	/*
+	 * FacetsConfig stores all facet values in the same field, as "<dimension><delimiter><value>".
+	 * The delimiter is FacetsConfig.DELIM_CHAR, which unfortunately is not public.
+	 */
+	private static final char FACET_PATH_DELIMITER = '\u001F';
+
+	private static final Comparator<LabelAndValue> COUNT_ASC_THEN_LABEL_DESC =
+			Comparator.<LabelAndValue>comparingInt( labelAndValue -> (Integer) labelAndValue.value )
+					.thenComparing( labelAndValue -> labelAndValue.label, STRING_COMPARATOR.reversed() );
+
+	private final BytesRef dimensionStart;
+	private final BytesRef dimensionEnd;
+
 	private LuceneTextTermsAggregation(Builder<K> builder) {
 		super( builder );
+		// All the values of this dimension, and only those, are in the range [dimensionStart, dimensionEnd)
+		this.dimensionStart = new BytesRef( absoluteFieldPath + FACET_PATH_DELIMITER );
+		this.dimensionEnd = new BytesRef( absoluteFieldPath + (char) ( FACET_PATH_DELIMITER + 1 ) );
 	}
 
+	/*
+	 * We don't rely on SortedSetDocValuesFacetCounts here,
+	 * because it requires building an OrdinalMap over the values of *all* dimensions in *all* segments
+	 * (through DefaultSortedSetDocValuesReaderState), for each query,
+	 * and then counts the values of all dimensions.
+	 * Instead, we count per segment, in a primitive array covering only the ordinals of this dimension,
+	 * and only then merge the non-zero counts of each segment.
+	 */
 	@Override
 	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector, int limit)
 			throws IOException {
-		// May throw IllegalArgumentException
-		SortedSetDocValuesReaderState docValuesReaderState = new DefaultSortedSetDocValuesReaderState( reader );
+		Map<String, Integer> counts = new HashMap<>();
+		for ( FacetsCollector.MatchingDocs hits : facetsCollector.getMatchingDocs() ) {
+			countSegment( hits, counts );
+		}
 
-		SortedSetDocValuesFacetCounts facetCounts = new SortedSetDocValuesFacetCounts(
-				docValuesReaderState, facetsCollector
+		if ( counts.isEmpty() ) {
+			return null;
+		}
+
+		// Bounded min-heap: the head is the "worst" of the top buckets
+		PriorityQueue<LabelAndValue> topChildren = new PriorityQueue<>(
+				Math.min( limit, counts.size() ), COUNT_ASC_THEN_LABEL_DESC
 		);
+		int totalCount = 0;
+		for ( Map.Entry<String, Integer> entry : counts.entrySet() ) {
+			totalCount += entry.getValue();
+			LabelAndValue candidate = new LabelAndValue( entry.getKey(), entry.getValue() );
+			if ( topChildren.size() < limit ) {
+				topChildren.add( candidate );
+			}
+			else if ( COUNT_ASC_THEN_LABEL_DESC.compare( candidate, topChildren.peek() ) > 0 ) {
+				topChildren.poll();
+				topChildren.add( candidate );
+			}
+		}
 
-		// May throw IllegalArgumentException
-		return facetCounts.getTopChildren( limit, absoluteFieldPath );
+		// Facet results are expected in descending count order
+		LabelAndValue[] labelValues = new LabelAndValue[topChildren.size()];
+		for ( int i = labelValues.length - 1; i >= 0; i-- ) {
+			labelValues[i] = topChildren.poll();
+		}
+		return new FacetResult( absoluteFieldPath, new String[0], totalCount, labelValues, counts.size() );
 	}
 
 	@Override
 	Set<String> collectFirstTerms(IndexReader reader, boolean descending, int limit)
 			throws IOException {
-		Set<String> collectedTerms = new LinkedHashSet<>();
+		TreeSet<String> collectedTerms = new TreeSet<>( descending ? STRING_COMPARATOR.reversed() : STRING_COMPARATOR );
+
+		// Doc values are sorted: we only need to look at the first (or last) ordinals of this dimension in each segment
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			SortedSetDocValues docValues = leaf.reader().getSortedSetDocValues( FacetsConfig.DEFAULT_INDEX_FIELD_NAME );
+			if ( docValues == null ) {
+				continue;
+			}
+			long[] ordRange = getOrdRange( docValues );
+			if ( ordRange == null ) {
+				continue;
+			}
+			long start = ordRange[0];
+			long end = ordRange[1];
+			if ( descending ) {
+				for ( long ord = end - 1; ord >= Math.max( start, end - limit ); --ord ) {
+					collectedTerms.add( lookupOrd( docValues, ord ) );
+				}
+			}
+			else {
+				for ( long ord = start; ord < Math.min( end, start + limit ); ++ord ) {
+					collectedTerms.add( lookupOrd( docValues, ord ) );
+				}
+			}
+			// Try not to keep too many terms in memory
+			while ( collectedTerms.size() > limit ) {
+				collectedTerms.pollLast();
+			}
+		}
+
+		return new LinkedHashSet<>( collectedTerms );
+	}
 
-		SortedSetDocValuesReaderState docValuesReaderState = new DefaultSortedSetDocValuesReaderState( reader );
-		OrdRange ordRange = docValuesReaderState.getOrdRange( absoluteFieldPath );
-		SortedSetDocValues docValues = docValuesReaderState.getDocValues();
+	private void countSegment(FacetsCollector.MatchingDocs hits, Map<String, Integer> counts) throws IOException {
+		SortedSetDocValues docValues = hits.context.reader().getSortedSetDocValues( FacetsConfig.DEFAULT_INDEX_FIELD_NAME );
+		if ( docValues == null || hits.totalHits == 0 ) {
+			return;
+		}
+		long[] ordRange = getOrdRange( docValues );
+		if ( ordRange == null ) {
+			return;
+		}
+		long start = ordRange[0];
+		long end = ordRange[1];
+		DocIdSetIterator docs = hits.bits.iterator();
+		if ( docs == null ) {
+			return;
+		}
 
-		// Note ordRange.end is inclusive, hence the weird index operations.
-		if ( descending ) {
-			int start = Math.max( ordRange.start, ordRange.end - limit + 1 );
-			for ( int i = ordRange.end; i >= start ; --i ) {
-				collectedTerms.add( lookupOrd( docValues, i ) );
+		int[] segmentCounts = new int[Math.toIntExact( end - start )];
+		SortedDocValues singleValuedDocValues = DocValues.unwrapSingleton( docValues );
+		if ( singleValuedDocValues != null ) {
+			for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
+				if ( singleValuedDocValues.advanceExact( doc ) ) {
+					int ord = singleValuedDocValues.ordValue();
+					if ( start <= ord && ord < end ) {
+						++segmentCounts[(int) ( ord - start )];
+					}
+				}
 			}
 		}
 		else {
-			int end = Math.min( ordRange.start + limit - 1, ordRange.end );
-			for ( int i = ordRange.start; i <= end; ++i ) {
-				collectedTerms.add( lookupOrd( docValues, i ) );
+			for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
+				if ( docValues.advanceExact( doc ) ) {
+					// Ordinals are returned in ascending order
+					for ( long ord = docValues.nextOrd(); ord != SortedSetDocValues.NO_MORE_ORDS && ord < end;
+							ord = docValues.nextOrd() ) {
+						if ( start <= ord ) {
+							++segmentCounts[(int) ( ord - start )];
+						}
+					}
+				}
 			}
 		}
 
-		return collectedTerms;
+		for ( int i = 0; i < segmentCounts.length; i++ ) {
+			int count = segmentCounts[i];
+			if ( count > 0 ) {
+				counts.merge( lookupOrd( docValues, start + i ), count, Integer::sum );
+			}
+		}
+	}
+
+	/**
+	 * @return The range of ordinals of this dimension in the given doc values,
+	 * as a two-element array (start inclusive, end exclusive),
+	 * or {@code null} if this dimension has no value in these doc values.
+	 */
+	private long[] getOrdRange(SortedSetDocValues docValues) throws IOException {
+		TermsEnum termsEnum = docValues.termsEnum();
+		if ( termsEnum.seekCeil( dimensionStart ) == TermsEnum.SeekStatus.END ) {
+			return null;
+		}
+		long start = termsEnum.ord();
+		long end;
+		if ( termsEnum.seekCeil( dimensionEnd ) == TermsEnum.SeekStatus.END ) {
+			end = docValues.getValueCount();
+		}
+		else {
+			end = termsEnum.ord();
+		}
+		return start < end ? new long[] { start, end } : null;
 	}
 
-	private String lookupOrd(SortedSetDocValues docValues, int ord) throws IOException {
+	private String lookupOrd(SortedSetDocValues docValues, long ord) throws IOException {
 		String pathAsString = docValues.lookupOrd( ord ).utf8ToString();
 		// FacetsConfig does not store the term directly: it prepends the field name
 		String[] pathAsComponents = FacetsConfig.stringToPath( pathAsString );
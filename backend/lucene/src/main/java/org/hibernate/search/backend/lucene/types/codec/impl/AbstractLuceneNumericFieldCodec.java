@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.DocValuesProjectionCollector;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 
@@ -64,6 +65,18 @@ public final void encode(LuceneDocumentBuilder documentBuilder, String absoluteF
 		}
 	}
 
+	@Override
+	public boolean canDecodeFromDocValues() {
+		return ( sortable || aggregable ) && isEncodingLossless();
+	}
+
+	@Override
+	public DocValuesProjectionCollector<F> createDocValuesProjectionCollector(String absoluteFieldPath, int hitsCount) {
+		LuceneNumericDomain<E> domain = getDomain();
+		return DocValuesProjectionCollector.numeric( absoluteFieldPath,
+				docValue -> decode( domain.fromDocValue( docValue ) ), hitsCount );
+	}
+
 	@Override
 	public Query createExistsQuery(String absoluteFieldPath) {
 		if ( sortable || aggregable ) {
@@ -93,6 +106,15 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return {@code true} if {@link #decode(Number)} restores exactly the value that was passed to
+	 * {@link #encode(Object)}, {@code false} if some information is lost in the process (precision, time zone, ...).
+	 * When information is lost, projections must rely on stored fields rather than doc values.
+	 */
+	boolean isEncodingLossless() {
+		return false;
+	}
+
 	abstract void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
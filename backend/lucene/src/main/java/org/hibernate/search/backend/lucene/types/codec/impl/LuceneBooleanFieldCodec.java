@@ -21,6 +21,11 @@ public LuceneBooleanFieldCodec(boolean projectable, boolean searchable, boolean
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Boolean value,
 			Integer encodedValue) {
@@ -21,6 +21,11 @@ public LuceneByteFieldCodec(boolean projectable, boolean searchable, boolean sor
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Byte value,
 			Integer encodedValue) {
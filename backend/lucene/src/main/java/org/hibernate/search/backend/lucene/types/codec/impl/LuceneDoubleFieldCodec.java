@@ -21,6 +21,11 @@ public LuceneDoubleFieldCodec(boolean projectable, boolean searchable, boolean s
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Double value,
 			Double encodedValue) {
@@ -9,6 +9,8 @@
 import java.util.function.BiConsumer;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.DocValuesProjectionCollector;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.search.Query;
@@ -54,6 +56,29 @@ default void contributeStoredFields(String absoluteFieldPath, String nestedDocum
 	 */
 	F decode(Document document, String absoluteFieldPath);
 
+	/**
+	 * @return {@code true} if this codec indexes single-valued doc values
+	 * from which the exact value returned by {@link #decode(Document, String)} can be restored,
+	 * {@code false} otherwise.
+	 */
+	default boolean canDecodeFromDocValues() {
+		return false;
+	}
+
+	/**
+	 * Create a collector extracting values from doc values, typically used in projections
+	 * to avoid loading stored fields.
+	 * <p>
+	 * Must only be called if {@link #canDecodeFromDocValues()} returns {@code true}.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param hitsCount The expected number of documents to collect.
+	 * @return A collector of decoded values.
+	 */
+	default DocValuesProjectionCollector<F> createDocValuesProjectionCollector(String absoluteFieldPath, int hitsCount) {
+		throw new AssertionFailure( "Codec " + this + " cannot decode values from doc values" );
+	}
+
 	/**
 	 * Create a {@link Query} that will match every document in which the field with the given path appears.
 	 *
@@ -21,6 +21,11 @@ public LuceneFloatFieldCodec(boolean projectable, boolean searchable, boolean so
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Float value,
 			Float encodedValue) {
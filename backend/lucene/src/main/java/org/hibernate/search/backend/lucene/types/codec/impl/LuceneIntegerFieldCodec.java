@@ -20,6 +20,11 @@ public LuceneIntegerFieldCodec(boolean projectable, boolean searchable, boolean
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Integer value,
 			Integer encodedValue) {
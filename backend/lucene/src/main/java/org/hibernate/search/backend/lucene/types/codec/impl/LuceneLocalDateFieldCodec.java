@@ -35,6 +35,11 @@ public LuceneLocalDateFieldCodec(boolean projectable, boolean searchable, boolea
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, LocalDate value,
 			Long encodedValue) {
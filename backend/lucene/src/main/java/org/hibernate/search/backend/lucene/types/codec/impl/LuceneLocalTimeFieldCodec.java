@@ -44,6 +44,11 @@ public LuceneLocalTimeFieldCodec(boolean projectable, boolean searchable, boolea
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, LocalTime value,
 			Long encodedValue) {
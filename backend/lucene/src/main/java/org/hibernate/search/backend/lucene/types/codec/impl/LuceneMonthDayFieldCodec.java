@@ -38,6 +38,11 @@ public LuceneMonthDayFieldCodec(boolean projectable, boolean searchable, boolean
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, MonthDay value,
 			Integer encodedValue) {
@@ -21,6 +21,11 @@ public LuceneShortFieldCodec(boolean projectable, boolean searchable, boolean so
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Short value,
 			Integer encodedValue) {
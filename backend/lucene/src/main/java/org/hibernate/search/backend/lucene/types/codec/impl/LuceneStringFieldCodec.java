@@ -9,6 +9,7 @@
 import java.util.Objects;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.DocValuesProjectionCollector;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 
@@ -83,6 +84,18 @@ public String decode(Document document, String absoluteFieldPath) {
 		return document.get( absoluteFieldPath );
 	}
 
+	@Override
+	public boolean canDecodeFromDocValues() {
+		// Normalized values are indexed in doc values: we can only use them when there is no normalization
+		return sortable && analyzerOrNormalizer == AnalyzerConstants.KEYWORD_ANALYZER;
+	}
+
+	@Override
+	public DocValuesProjectionCollector<String> createDocValuesProjectionCollector(String absoluteFieldPath,
+			int hitsCount) {
+		return DocValuesProjectionCollector.sorted( absoluteFieldPath, hitsCount );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -23,6 +23,11 @@ public LuceneYearFieldCodec(boolean projectable, boolean searchable, boolean sor
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Year value,
 			Integer encodedValue) {
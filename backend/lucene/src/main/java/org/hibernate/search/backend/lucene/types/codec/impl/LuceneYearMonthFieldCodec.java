@@ -44,6 +44,11 @@ public LuceneYearMonthFieldCodec(boolean projectable, boolean searchable, boolea
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, YearMonth value,
 			Long encodedValue) {
@@ -6,26 +6,45 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 
 import org.apache.lucene.search.FieldComparatorSource;
-import org.apache.lucene.search.Query;
 
 public abstract class LuceneFieldComparatorSource extends FieldComparatorSource {
 
 	private final String nestedDocumentPath;
 
-	protected NestedDocsProvider nestedDocsProvider;
+	protected final NestedDocsProvider nestedDocsProvider;
 
 	public LuceneFieldComparatorSource(String nestedDocumentPath) {
 		this.nestedDocumentPath = nestedDocumentPath;
+		this.nestedDocsProvider = nestedDocumentPath == null ? null : new NestedDocsProvider( nestedDocumentPath );
 	}
 
-	public String getNestedDocumentPath() {
-		return nestedDocumentPath;
+	/*
+	 * Comparator sources are part of sorts, which are part of query result cache keys:
+	 * they must implement equals/hashCode, or queries with field sorts would never hit the cache.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		LuceneFieldComparatorSource other = (LuceneFieldComparatorSource) obj;
+		return Objects.equals( nestedDocumentPath, other.nestedDocumentPath );
 	}
 
-	public void setOriginalParentQuery(Query luceneQuery) {
-		this.nestedDocsProvider = new NestedDocsProvider( nestedDocumentPath, luceneQuery );
+	@Override
+	public int hashCode() {
+		return Objects.hashCode( nestedDocumentPath );
+	}
+
+	public String getNestedDocumentPath() {
+		return nestedDocumentPath;
 	}
 }
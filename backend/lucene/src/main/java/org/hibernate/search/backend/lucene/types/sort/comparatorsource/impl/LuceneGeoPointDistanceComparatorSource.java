@@ -27,6 +27,21 @@ public LuceneGeoPointDistanceComparatorSource(String nestedDocumentPath, double
 		this.longitude = longitude;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneGeoPointDistanceComparatorSource other = (LuceneGeoPointDistanceComparatorSource) obj;
+		return Double.compare( latitude, other.latitude ) == 0
+				&& Double.compare( longitude, other.longitude ) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * ( 31 * super.hashCode() + Double.hashCode( latitude ) ) + Double.hashCode( longitude );
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
 		return new FieldComparator.DoubleComparator( numHits, fieldname, MISSING_VALUE_IMPLICIT_DISTANCE_VALUE ) {
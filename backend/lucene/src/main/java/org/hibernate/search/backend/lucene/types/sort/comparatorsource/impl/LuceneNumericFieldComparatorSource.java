@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
 import org.apache.lucene.search.FieldComparator;
@@ -21,6 +23,21 @@ public LuceneNumericFieldComparatorSource(String nestedDocumentPath, LuceneNumer
 		this.missingValue = missingValue;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericFieldComparatorSource<?> other = (LuceneNumericFieldComparatorSource<?>) obj;
+		return numericDomain.equals( other.numericDomain )
+				&& Objects.equals( missingValue, other.missingValue );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), numericDomain, missingValue );
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
 		return numericDomain.createFieldComparator( fieldname, numHits, missingValue, nestedDocsProvider );
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
 import java.io.IOException;
+import java.util.Objects;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DocValuesJoin;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ReplaceMissingSortedDocValues;
@@ -26,6 +27,20 @@ public LuceneTextFieldComparatorSource(String nestedDocumentPath, Object missing
 		this.missingValue = missingValue;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneTextFieldComparatorSource other = (LuceneTextFieldComparatorSource) obj;
+		return Objects.equals( missingValue, other.missingValue );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hashCode( missingValue );
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
 		final boolean sortMissingLast = missingLast() ^ reversed;
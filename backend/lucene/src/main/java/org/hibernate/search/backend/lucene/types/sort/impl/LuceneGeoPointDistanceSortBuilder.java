@@ -34,6 +34,6 @@ public void buildAndContribute(LuceneSearchSortCollector collector) {
 		LuceneGeoPointDistanceComparatorSource fieldComparatorSource = new LuceneGeoPointDistanceComparatorSource(
 				nestedDocumentPath, location.getLatitude(), location.getLongitude() );
 		SortField sortField = new SortField( absoluteFieldPath, fieldComparatorSource, order == SortOrder.DESC );
-		collector.collectSortField( sortField, ( nestedDocumentPath == null ) ? null : fieldComparatorSource );
+		collector.collectSortField( sortField );
 	}
 }
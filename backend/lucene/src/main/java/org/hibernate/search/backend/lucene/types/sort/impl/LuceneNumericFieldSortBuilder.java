@@ -37,6 +37,6 @@ public void buildAndContribute(LuceneSearchSortCollector collector) {
 				nestedDocumentPath, codec.getDomain(), (E) getEffectiveMissingValue( missingValue, order ) );
 		SortField sortField = new SortField( absoluteFieldPath, fieldComparatorSource, order == SortOrder.DESC );
 
-		collector.collectSortField( sortField, ( nestedDocumentPath != null ) ? fieldComparatorSource : null );
+		collector.collectSortField( sortField );
 	}
 }
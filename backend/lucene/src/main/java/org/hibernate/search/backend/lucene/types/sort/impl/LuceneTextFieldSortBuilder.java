@@ -36,6 +36,6 @@ public void buildAndContribute(LuceneSearchSortCollector collector) {
 		LuceneTextFieldComparatorSource fieldComparatorSource = new LuceneTextFieldComparatorSource( nestedDocumentPath, missingValue );
 		SortField sortField = new SortField( absoluteFieldPath, fieldComparatorSource, order == SortOrder.DESC );
 
-		collector.collectSortField( sortField, ( nestedDocumentPath != null ) ? fieldComparatorSource : null );
+		collector.collectSortField( sortField );
 	}
 }
@@ -52,7 +52,7 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, Doc
 		return orchestrator.submit(
 				factory.add(
 						tenantId, indexManagerContext.getMappedTypeName(), referenceProvider.getEntityIdentifier(),
-						indexEntry
+						() -> indexEntry
 				),
 				commitStrategy,
 				DocumentRefreshStrategy.NONE
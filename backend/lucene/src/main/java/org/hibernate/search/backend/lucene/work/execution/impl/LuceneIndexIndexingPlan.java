@@ -7,11 +7,14 @@
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+import org.hibernate.search.backend.lucene.document.impl.LuceneDeferredIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkOrchestrator;
@@ -35,8 +38,11 @@
 	private final EntityReferenceFactory<R> entityReferenceFactory;
 	private final DocumentCommitStrategy commitStrategy;
 	private final DocumentRefreshStrategy refreshStrategy;
+	private final boolean documentBuildingDeferred;
 
 	private final Map<LuceneWriteWorkOrchestrator, List<LuceneSingleDocumentWriteWork<?>>> worksByOrchestrator = new HashMap<>();
+	private final Map<LuceneWriteWorkOrchestrator, List<LuceneDeferredIndexEntry>> deferredIndexEntriesByOrchestrator =
+			new HashMap<>();
 
 	public LuceneIndexIndexingPlan(LuceneWorkFactory factory,
 			WorkExecutionIndexManagerContext indexManagerContext,
@@ -51,6 +57,9 @@ public LuceneIndexIndexingPlan(LuceneWorkFactory factory,
 		this.entityReferenceFactory = entityReferenceFactory;
 		this.commitStrategy = commitStrategy;
 		this.refreshStrategy = refreshStrategy;
+		// Fall back to building documents immediately if the mapper doesn't allow building them later
+		this.documentBuildingDeferred = indexManagerContext.isDocumentBuildingDeferred()
+				&& sessionContext.isDeferredDocumentBuildingSupported();
 	}
 
 	@Override
@@ -58,12 +67,14 @@ public void add(DocumentReferenceProvider referenceProvider,
 			DocumentContributor documentContributor) {
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
+		LuceneWriteWorkOrchestrator orchestrator = indexManagerContext.getWriteOrchestrator( id, routingKey );
 
-		LuceneIndexEntry indexEntry = indexEntryFactory.create( tenantId, id, routingKey, documentContributor );
+		Supplier<LuceneIndexEntry> indexEntrySupplier =
+				createIndexEntrySupplier( orchestrator, id, routingKey, documentContributor );
 
-		collect( id, routingKey, factory.add(
+		collect( orchestrator, factory.add(
 				tenantId, indexManagerContext.getMappedTypeName(), referenceProvider.getEntityIdentifier(),
-				indexEntry
+				indexEntrySupplier
 		) );
 	}
 
@@ -72,12 +83,14 @@ public void update(DocumentReferenceProvider referenceProvider,
 			DocumentContributor documentContributor) {
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
+		LuceneWriteWorkOrchestrator orchestrator = indexManagerContext.getWriteOrchestrator( id, routingKey );
 
-		LuceneIndexEntry indexEntry = indexEntryFactory.create( tenantId, id, routingKey, documentContributor );
+		Supplier<LuceneIndexEntry> indexEntrySupplier =
+				createIndexEntrySupplier( orchestrator, id, routingKey, documentContributor );
 
-		collect( id, routingKey, factory.update(
+		collect( orchestrator, factory.update(
 				tenantId, indexManagerContext.getMappedTypeName(), referenceProvider.getEntityIdentifier(),
-				id, indexEntry
+				id, indexEntrySupplier
 		) );
 	}
 
@@ -86,7 +99,7 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
 
-		collect( id, routingKey, factory.delete(
+		collect( indexManagerContext.getWriteOrchestrator( id, routingKey ), factory.delete(
 				tenantId, indexManagerContext.getMappedTypeName(), referenceProvider.getEntityIdentifier(),
 				id
 		) );
@@ -105,8 +118,12 @@ public CompletableFuture<IndexIndexingPlanExecutionReport<R>> executeAndReport()
 				LuceneWriteWorkOrchestrator orchestrator = entry.getKey();
 				List<LuceneSingleDocumentWriteWork<?>> works = entry.getValue();
 				CompletableFuture<IndexIndexingPlanExecutionReport<R>> shardReportFuture = new CompletableFuture<>();
+				List<LuceneDeferredIndexEntry> deferredIndexEntries = deferredIndexEntriesByOrchestrator.getOrDefault(
+						orchestrator, Collections.emptyList()
+				);
 				orchestrator.submit( new LuceneIndexingPlanWriteWorkSet<>(
 						works,
+						deferredIndexEntries,
 						entityReferenceFactory,
 						shardReportFuture, commitStrategy, refreshStrategy
 				) );
@@ -116,18 +133,32 @@ public CompletableFuture<IndexIndexingPlanExecutionReport<R>> executeAndReport()
 		}
 		finally {
 			worksByOrchestrator.clear();
+			deferredIndexEntriesByOrchestrator.clear();
 		}
 	}
 
 	@Override
 	public void discard() {
 		worksByOrchestrator.clear();
+		deferredIndexEntriesByOrchestrator.clear();
 	}
 
-	private void collect(String documentId, String routingKey, LuceneSingleDocumentWriteWork<?> work) {
-		// Route the work to the appropriate shard
-		LuceneWriteWorkOrchestrator orchestrator = indexManagerContext.getWriteOrchestrator( documentId, routingKey );
+	private Supplier<LuceneIndexEntry> createIndexEntrySupplier(LuceneWriteWorkOrchestrator orchestrator,
+			String id, String routingKey, DocumentContributor documentContributor) {
+		if ( !documentBuildingDeferred ) {
+			LuceneIndexEntry indexEntry = indexEntryFactory.create( tenantId, id, routingKey, documentContributor );
+			return () -> indexEntry;
+		}
+
+		// Only keep the document contributor for now: documents will be built when the plan is executed.
+		LuceneDeferredIndexEntry deferredIndexEntry =
+				indexEntryFactory.createDeferred( tenantId, id, routingKey, documentContributor );
+		deferredIndexEntriesByOrchestrator.computeIfAbsent( orchestrator, ignored -> new ArrayList<>() )
+				.add( deferredIndexEntry );
+		return deferredIndexEntry;
+	}
 
+	private void collect(LuceneWriteWorkOrchestrator orchestrator, LuceneSingleDocumentWriteWork<?> work) {
 		List<LuceneSingleDocumentWriteWork<?>> works = worksByOrchestrator.get( orchestrator );
 		if ( works == null ) {
 			works = new ArrayList<>();
@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.document.impl.LuceneDeferredIndexEntry;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkProcessor;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkSet;
 import org.hibernate.search.backend.lucene.work.impl.LuceneSingleDocumentWriteWork;
@@ -18,19 +19,23 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.util.common.impl.Futures;
 
 class LuceneIndexingPlanWriteWorkSet<R> implements LuceneWriteWorkSet {
 	private final List<LuceneSingleDocumentWriteWork<?>> works;
+	private final List<LuceneDeferredIndexEntry> deferredIndexEntries;
 	private final EntityReferenceFactory<R> entityReferenceFactory;
 	private final CompletableFuture<IndexIndexingPlanExecutionReport<R>> indexingPlanFuture;
 	private final DocumentCommitStrategy commitStrategy;
 	private final DocumentRefreshStrategy refreshStrategy;
 
 	LuceneIndexingPlanWriteWorkSet(List<LuceneSingleDocumentWriteWork<?>> works,
+			List<LuceneDeferredIndexEntry> deferredIndexEntries,
 			EntityReferenceFactory<R> entityReferenceFactory,
 			CompletableFuture<IndexIndexingPlanExecutionReport<R>> indexingPlanFuture,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
 		this.works = new ArrayList<>( works );
+		this.deferredIndexEntries = new ArrayList<>( deferredIndexEntries );
 		this.entityReferenceFactory = entityReferenceFactory;
 		this.indexingPlanFuture = indexingPlanFuture;
 		this.commitStrategy = commitStrategy;
@@ -39,10 +44,20 @@
 
 	@Override
 	public void submitTo(LuceneWriteWorkProcessor processor) {
+		if ( processor.canSubmitConcurrently( commitStrategy, refreshStrategy ) ) {
+			submitConcurrentlyTo( processor );
+			return;
+		}
+
 		IndexIndexingPlanExecutionReport.Builder<R> reportBuilder = IndexIndexingPlanExecutionReport.builder();
 
 		processor.beforeWorkSet( commitStrategy, refreshStrategy );
 
+		if ( !deferredIndexEntries.isEmpty() ) {
+			// Build documents in parallel while the first works are being applied
+			processor.startDocumentBuilding( deferredIndexEntries );
+		}
+
 		Throwable throwable = null;
 
 		for ( LuceneWriteWork<?> work : works ) {
@@ -67,20 +82,37 @@ public void submitTo(LuceneWriteWorkProcessor processor) {
 		}
 
 		if ( throwable != null ) {
-			// Even if some works succeeded, there's no guarantee they were actually committed to the index.
-			// Report all works as uncommitted.
-			for ( LuceneSingleDocumentWriteWork<?> work : works ) {
-				reportBuilder.failingEntityReference(
-						entityReferenceFactory,
-						work.getEntityTypeName(),
-						work.getEntityIdentifier()
-				);
-			}
+			reportAllWorksAsFailing( reportBuilder );
 		}
 
 		indexingPlanFuture.complete( reportBuilder.build() );
 	}
 
+	private void submitConcurrentlyTo(LuceneWriteWorkProcessor processor) {
+		// Deferred documents will be built by the write executors, in parallel
+		processor.submitConcurrently( works )
+				.whenComplete( Futures.handler( (ignored, throwable) -> {
+					IndexIndexingPlanExecutionReport.Builder<R> reportBuilder = IndexIndexingPlanExecutionReport.builder();
+					if ( throwable != null ) {
+						reportBuilder.throwable( throwable );
+						reportAllWorksAsFailing( reportBuilder );
+					}
+					indexingPlanFuture.complete( reportBuilder.build() );
+				} ) );
+	}
+
+	private void reportAllWorksAsFailing(IndexIndexingPlanExecutionReport.Builder<R> reportBuilder) {
+		// Even if some works succeeded, there's no guarantee they were actually committed to the index.
+		// Report all works as uncommitted.
+		for ( LuceneSingleDocumentWriteWork<?> work : works ) {
+			reportBuilder.failingEntityReference(
+					entityReferenceFactory,
+					work.getEntityTypeName(),
+					work.getEntityIdentifier()
+			);
+		}
+	}
+
 	@Override
 	public void markAsFailed(Throwable t) {
 		indexingPlanFuture.completeExceptionally( t );
@@ -28,6 +28,12 @@ public interface WorkExecutionIndexManagerContext {
 
 	String getMappedTypeName();
 
+	/**
+	 * @return {@code true} if indexing plans should defer the building of documents
+	 * until they are applied to the index, {@code false} to build documents immediately.
+	 */
+	boolean isDocumentBuildingDeferred();
+
 	LuceneWriteWorkOrchestrator getWriteOrchestrator(String documentId, String routingKey);
 
 	Collection<LuceneWriteWorkOrchestrator> getWriteOrchestrators(Set<String> routingKeys);
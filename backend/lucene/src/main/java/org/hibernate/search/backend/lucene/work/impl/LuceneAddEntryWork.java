@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -19,16 +20,18 @@ public class LuceneAddEntryWork extends AbstractLuceneSingleDocumentWriteWork<Lo
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private final LuceneIndexEntry indexEntry;
+	private final Supplier<LuceneIndexEntry> indexEntrySupplier;
 
 	LuceneAddEntryWork(String tenantId, String entityTypeName, Object entityIdentifier,
-			LuceneIndexEntry indexEntry) {
+			Supplier<LuceneIndexEntry> indexEntrySupplier) {
 		super( "addEntry", tenantId, entityTypeName, entityIdentifier );
-		this.indexEntry = indexEntry;
+		this.indexEntrySupplier = indexEntrySupplier;
 	}
 
 	@Override
 	public Long execute(LuceneWriteWorkExecutionContext context) {
+		// Retrieve the index entry first: documents may not have been built yet.
+		LuceneIndexEntry indexEntry = indexEntrySupplier.get();
 		try {
 			IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
 			return indexWriterDelegator.addDocuments( indexEntry );
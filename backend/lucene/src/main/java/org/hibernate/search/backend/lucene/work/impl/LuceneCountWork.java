@@ -28,9 +28,9 @@ public class LuceneCountWork implements LuceneReadWork<Integer> {
 	@Override
 	public Integer execute(LuceneReadWorkExecutionContext context) {
 		try {
-			IndexSearcher indexSearcher = new IndexSearcher( context.getIndexReader() );
+			IndexSearcher indexSearcher = context.createIndexSearcher();
 
-			return searcher.count( indexSearcher );
+			return searcher.count( indexSearcher, context.getQueryResultCache() );
 		}
 		catch (IOException e) {
 			throw log.ioExceptionOnQueryExecution( searcher.getLuceneQueryForExceptions(), context.getEventContext(), e );
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+
+public class LuceneCreateShadowWork implements LuceneSchemaManagementWork<Void> {
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public Void execute(IndexAccessor indexAccessor) {
+		indexAccessor.createShadow();
+		return null;
+	}
+
+	@Override
+	public Object getInfo() {
+		return this;
+	}
+}
@@ -6,18 +6,31 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
 
 
 public interface LuceneReadWorkExecutionContext {
 
 	IndexReader getIndexReader();
 
+	/**
+	 * @return A new index searcher for the {@link #getIndexReader() index reader},
+	 * able to search multiple index segments concurrently if a query thread pool was configured.
+	 */
+	IndexSearcher createIndexSearcher();
+
 	IndexReaderMetadataResolver getIndexReaderMetadataResolver();
 
+	/**
+	 * @return The cache for query results, or {@code null} if query results should not be cached.
+	 */
+	LuceneQueryResultCache getQueryResultCache();
+
 	EventContext getEventContext();
 
 }
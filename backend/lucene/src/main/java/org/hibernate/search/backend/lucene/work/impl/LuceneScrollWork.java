@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+
+
+public class LuceneScrollWork<R> implements LuceneReadWork<R> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneSearcher<R> searcher;
+
+	private final ScoreDoc after;
+	private final int chunkSize;
+
+	LuceneScrollWork(LuceneSearcher<R> searcher, ScoreDoc after, int chunkSize) {
+		this.searcher = searcher;
+		this.after = after;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public R execute(LuceneReadWorkExecutionContext context) {
+		try {
+			IndexSearcher indexSearcher = context.createIndexSearcher();
+
+			return searcher.scroll(
+					indexSearcher, context.getIndexReaderMetadataResolver(), after, chunkSize
+			);
+		}
+		catch (IOException e) {
+			throw log.ioExceptionOnQueryExecution( searcher.getLuceneQueryForExceptions(), context.getEventContext(), e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "searcher=" ).append( searcher )
+				.append( ", after=" ).append( after )
+				.append( ", chunkSize=" ).append( chunkSize )
+				.append( "]" );
+		return sb.toString();
+	}
+}
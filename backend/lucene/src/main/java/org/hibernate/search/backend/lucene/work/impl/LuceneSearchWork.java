@@ -35,10 +35,11 @@
 	@Override
 	public R execute(LuceneReadWorkExecutionContext context) {
 		try {
-			IndexSearcher indexSearcher = new IndexSearcher( context.getIndexReader() );
+			IndexSearcher indexSearcher = context.createIndexSearcher();
 
 			return searcher.search(
-					indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit
+					indexSearcher, context.getIndexReaderMetadataResolver(), context.getQueryResultCache(),
+					offset, limit
 			);
 		}
 		catch (IOException e) {
@@ -8,19 +8,50 @@
 
 import java.io.IOException;
 
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public interface LuceneSearcher<R> {
 
+	/**
+	 * @param indexSearcher The index searcher.
+	 * @param metadataResolver The metadata resolver.
+	 * @param resultCache The cache for query results, or {@code null} to not use any cache.
+	 * @param offset The offset of the first hit to fetch.
+	 * @param limit The maximum number of hits to fetch, or {@code null} to fetch all hits.
+	 * @return The hits.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
 	R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
+			LuceneQueryResultCache resultCache,
 			int offset, Integer limit) throws IOException;
 
-	int count(IndexSearcher indexSearcher) throws IOException;
+	/**
+	 * @param indexSearcher The index searcher.
+	 * @param metadataResolver The metadata resolver.
+	 * @param after The last hit of the previous chunk, or {@code null} to fetch the first chunk.
+	 * @param chunkSize The maximum number of hits to fetch.
+	 * @return The chunk of hits following {@code after}.
+	 * The total hit count is only computed for the first chunk, i.e. when {@code after} is {@code null}:
+	 * for other chunks, it is a lower bound.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	R scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
+			ScoreDoc after, int chunkSize) throws IOException;
+
+	/**
+	 * @param indexSearcher The index searcher.
+	 * @param resultCache The cache for query results, or {@code null} to not use any cache.
+	 * @return The total hit count.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	int count(IndexSearcher indexSearcher, LuceneQueryResultCache resultCache) throws IOException;
 
 	Explanation explain(IndexSearcher indexSearcher, int luceneDocId) throws IOException;
 
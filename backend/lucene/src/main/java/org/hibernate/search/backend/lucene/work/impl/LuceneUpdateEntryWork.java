@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -28,18 +29,20 @@ public class LuceneUpdateEntryWork extends AbstractLuceneSingleDocumentWriteWork
 	private final String documentIdentifier;
 	private final Query filter;
 
-	private final LuceneIndexEntry indexEntry;
+	private final Supplier<LuceneIndexEntry> indexEntrySupplier;
 
 	LuceneUpdateEntryWork(String tenantId, String entityTypeName, Object entityIdentifier,
-			String documentIdentifier, Query filter, LuceneIndexEntry indexEntry) {
+			String documentIdentifier, Query filter, Supplier<LuceneIndexEntry> indexEntrySupplier) {
 		super( "updateEntry", tenantId, entityTypeName, entityIdentifier );
 		this.documentIdentifier = documentIdentifier;
 		this.filter = filter;
-		this.indexEntry = indexEntry;
+		this.indexEntrySupplier = indexEntrySupplier;
 	}
 
 	@Override
 	public Long execute(LuceneWriteWorkExecutionContext context) {
+		// Retrieve the index entry first: documents may not have been built yet.
+		LuceneIndexEntry indexEntry = indexEntrySupplier.get();
 		try {
 			IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
 			Term idTerm = new Term( MetadataFields.idFieldName(), documentIdentifier );
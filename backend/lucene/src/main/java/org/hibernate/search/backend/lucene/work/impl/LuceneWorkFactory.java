@@ -7,11 +7,13 @@
 package org.hibernate.search.backend.lucene.work.impl;
 
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 
 public interface LuceneWorkFactory {
@@ -22,11 +24,17 @@ public interface LuceneWorkFactory {
 
 	LuceneSchemaManagementWork<Void> validateIndexExists();
 
+	LuceneSchemaManagementWork<Void> createShadow();
+
+	LuceneSchemaManagementWork<Void> switchToShadow();
+
+	LuceneSchemaManagementWork<Void> dropShadowIfExisting();
+
 	LuceneSingleDocumentWriteWork<?> add(String tenantId, String entityTypeName, Object entityIdentifier,
-			LuceneIndexEntry indexEntry);
+			Supplier<LuceneIndexEntry> indexEntrySupplier);
 
 	LuceneSingleDocumentWriteWork<?> update(String tenantId, String entityTypeName, Object entityIdentifier,
-			String documentIdentifier, LuceneIndexEntry indexEntry);
+			String documentIdentifier, Supplier<LuceneIndexEntry> indexEntrySupplier);
 
 	LuceneSingleDocumentWriteWork<?> delete(String tenantId, String entityTypeName, Object entityIdentifier, String id);
 
@@ -38,6 +46,8 @@ LuceneSingleDocumentWriteWork<?> update(String tenantId, String entityTypeName,
 
 	<R> LuceneReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit);
 
+	<R> LuceneReadWork<R> scroll(LuceneSearcher<R> searcher, ScoreDoc after, int chunkSize);
+
 	LuceneReadWork<Integer> count(LuceneSearcher<?> searcher);
 
 	LuceneReadWork<Explanation> explain(LuceneSearcher<?> searcher,
@@ -9,6 +9,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
@@ -18,6 +19,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public class LuceneWorkFactoryImpl implements LuceneWorkFactory {
 
@@ -42,18 +44,33 @@ public LuceneSchemaManagementWork<Void> validateIndexExists() {
 		return new LuceneValidateIndexExistsWork();
 	}
 
+	@Override
+	public LuceneSchemaManagementWork<Void> createShadow() {
+		return new LuceneCreateShadowWork();
+	}
+
+	@Override
+	public LuceneSchemaManagementWork<Void> switchToShadow() {
+		return new LuceneSwitchToShadowWork();
+	}
+
+	@Override
+	public LuceneSchemaManagementWork<Void> dropShadowIfExisting() {
+		return new LuceneDropShadowIfExistingWork();
+	}
+
 	@Override
 	public LuceneSingleDocumentWriteWork<?> add(String tenantId, String entityTypeName, Object entityIdentifier,
-			LuceneIndexEntry indexEntry) {
-		return new LuceneAddEntryWork( tenantId, entityTypeName, entityIdentifier, indexEntry );
+			Supplier<LuceneIndexEntry> indexEntrySupplier) {
+		return new LuceneAddEntryWork( tenantId, entityTypeName, entityIdentifier, indexEntrySupplier );
 	}
 
 	@Override
 	public LuceneSingleDocumentWriteWork<?> update(String tenantId, String entityTypeName, Object entityIdentifier,
-			String documentIdentifier, LuceneIndexEntry indexEntry) {
+			String documentIdentifier, Supplier<LuceneIndexEntry> indexEntrySupplier) {
 		Query filter = multiTenancyStrategy.getFilterOrNull( tenantId );
 		return new LuceneUpdateEntryWork( tenantId, entityTypeName, entityIdentifier,
-				documentIdentifier, filter, indexEntry );
+				documentIdentifier, filter, indexEntrySupplier );
 	}
 
 	@Override
@@ -92,6 +109,11 @@ public <R> LuceneReadWork<R> search(LuceneSearcher<R> searcher, Integer offset,
 		return new LuceneSearchWork<>( searcher, offset, limit );
 	}
 
+	@Override
+	public <R> LuceneReadWork<R> scroll(LuceneSearcher<R> searcher, ScoreDoc after, int chunkSize) {
+		return new LuceneScrollWork<>( searcher, after, chunkSize );
+	}
+
 	@Override
 	public LuceneReadWork<Integer> count(LuceneSearcher<?> searcher) {
 		return new LuceneCountWork( searcher );
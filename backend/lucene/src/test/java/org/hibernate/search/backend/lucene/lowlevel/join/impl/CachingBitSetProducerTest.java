@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BitSet;
+
+public class CachingBitSetProducerTest {
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void sharedBetweenInstances() throws IOException {
+		addDocument( "child" );
+		addDocument( "child" );
+		addDocument( "main" );
+		indexWriter.commit();
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LeafReaderContext leaf = reader.leaves().get( 0 );
+
+			BitSet bitSet = new CachingBitSetProducer( typeQuery( "main" ) ).getBitSet( leaf );
+			assertThat( bitSet ).isNotNull();
+			assertThat( bitSet.cardinality() ).isEqualTo( 1 );
+			assertThat( bitSet.get( 2 ) ).isTrue();
+
+			// Another producer for the same query, e.g. for another search query, must reuse the bitset
+			assertThat( new CachingBitSetProducer( typeQuery( "main" ) ).getBitSet( leaf ) ).isSameAs( bitSet );
+
+			BitSet otherBitSet = new CachingBitSetProducer( typeQuery( "child" ) ).getBitSet( leaf );
+			assertThat( otherBitSet ).isNotSameAs( bitSet );
+			assertThat( otherBitSet.cardinality() ).isEqualTo( 2 );
+		}
+	}
+
+	@Test
+	public void noMatch() throws IOException {
+		addDocument( "main" );
+		indexWriter.commit();
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LeafReaderContext leaf = reader.leaves().get( 0 );
+			CachingBitSetProducer producer = new CachingBitSetProducer( typeQuery( "unknown" ) );
+			assertThat( producer.getBitSet( leaf ) ).isNull();
+			// Also from the cache
+			assertThat( producer.getBitSet( leaf ) ).isNull();
+		}
+	}
+
+	@Test
+	public void evictedOnSegmentCoreClose() throws IOException {
+		addDocument( "main" );
+		indexWriter.commit();
+
+		IndexReader.CacheKey coreKey;
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LeafReaderContext leaf = reader.leaves().get( 0 );
+			coreKey = leaf.reader().getCoreCacheHelper().getKey();
+			assertThat( CachingBitSetProducer.isCached( coreKey ) ).isFalse();
+
+			assertThat( new CachingBitSetProducer( typeQuery( "main" ) ).getBitSet( leaf ) ).isNotNull();
+			assertThat( CachingBitSetProducer.isCached( coreKey ) ).isTrue();
+		}
+
+		// Closing the only reader closes the segment core: the cached bitsets must be dropped
+		assertThat( CachingBitSetProducer.isCached( coreKey ) ).isFalse();
+	}
+
+	@Test
+	public void equalsHashCode() {
+		assertThat( new CachingBitSetProducer( typeQuery( "main" ) ) )
+				.isEqualTo( new CachingBitSetProducer( typeQuery( "main" ) ) )
+				.hasSameHashCodeAs( new CachingBitSetProducer( typeQuery( "main" ) ) )
+				.isNotEqualTo( new CachingBitSetProducer( typeQuery( "child" ) ) );
+	}
+
+	private void addDocument(String type) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( "type", type, Field.Store.NO ) );
+		indexWriter.addDocument( document );
+	}
+
+	private static TermQuery typeQuery(String type) {
+		return new TermQuery( new Term( "type", type ) );
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class LuceneQueryResultCacheTest {
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+	private DirectoryReader directoryReader;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+		addDocument( "1" );
+		directoryReader = DirectoryReader.open( indexWriter );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		directoryReader.close();
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void getAndPut() throws IOException {
+		LuceneQueryResultCache cache = new LuceneQueryResultCache( 10, 1024L );
+		// Top-level readers are created for each query: only the readers they are composed of matter
+		try ( MultiReader firstQueryReader = multiReader();
+				MultiReader secondQueryReader = multiReader() ) {
+			assertThat( (Object) cache.get( firstQueryReader, "query1" ) ).isNull();
+			cache.put( firstQueryReader, "query1", "result1", 10L );
+			assertThat( (Object) cache.get( secondQueryReader, "query1" ) ).isEqualTo( "result1" );
+			assertThat( (Object) cache.get( secondQueryReader, "query2" ) ).isNull();
+		}
+	}
+
+	@Test
+	public void invalidation_readerClosed() throws IOException {
+		LuceneQueryResultCache cache = new LuceneQueryResultCache( 10, 1024L );
+		try ( MultiReader queryReader = multiReader() ) {
+			cache.put( queryReader, "query1", "result1", 10L );
+		}
+		assertThat( cache.size() ).isEqualTo( 1 );
+
+		addDocument( "2" );
+		DirectoryReader refreshedReader = DirectoryReader.openIfChanged( directoryReader );
+		assertThat( refreshedReader ).isNotNull();
+		directoryReader.close();
+		directoryReader = refreshedReader;
+
+		assertThat( cache.size() ).isEqualTo( 0 );
+		try ( MultiReader queryReader = multiReader() ) {
+			assertThat( (Object) cache.get( queryReader, "query1" ) ).isNull();
+		}
+	}
+
+	@Test
+	public void eviction_maxEntries() throws IOException {
+		LuceneQueryResultCache cache = new LuceneQueryResultCache( 2, 1024L );
+		try ( MultiReader queryReader = multiReader() ) {
+			cache.put( queryReader, "query1", "result1", 10L );
+			cache.put( queryReader, "query2", "result2", 10L );
+			// Access query1 so that query2 becomes the least recently used entry
+			assertThat( (Object) cache.get( queryReader, "query1" ) ).isEqualTo( "result1" );
+			cache.put( queryReader, "query3", "result3", 10L );
+
+			assertThat( cache.size() ).isEqualTo( 2 );
+			assertThat( (Object) cache.get( queryReader, "query1" ) ).isEqualTo( "result1" );
+			assertThat( (Object) cache.get( queryReader, "query2" ) ).isNull();
+			assertThat( (Object) cache.get( queryReader, "query3" ) ).isEqualTo( "result3" );
+		}
+	}
+
+	@Test
+	public void eviction_maxRamBytes() throws IOException {
+		LuceneQueryResultCache cache = new LuceneQueryResultCache( 10, 100L );
+		try ( MultiReader queryReader = multiReader() ) {
+			cache.put( queryReader, "query1", "result1", 60L );
+			cache.put( queryReader, "query2", "result2", 60L );
+			assertThat( (Object) cache.get( queryReader, "query1" ) ).isNull();
+			assertThat( (Object) cache.get( queryReader, "query2" ) ).isEqualTo( "result2" );
+
+			// Values larger than the cache itself are never cached
+			cache.put( queryReader, "query3", "result3", 101L );
+			assertThat( (Object) cache.get( queryReader, "query3" ) ).isNull();
+			assertThat( (Object) cache.get( queryReader, "query2" ) ).isEqualTo( "result2" );
+		}
+	}
+
+	private MultiReader multiReader() throws IOException {
+		// Do not close sub-readers when the MultiReader is closed
+		return new MultiReader( new IndexReader[] { directoryReader }, false );
+	}
+
+	private void addDocument(String id) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.NO ) );
+		indexWriter.addDocument( document );
+	}
+}
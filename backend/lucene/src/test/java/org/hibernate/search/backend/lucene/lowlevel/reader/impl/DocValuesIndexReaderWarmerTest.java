@@ -0,0 +1,175 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.BinaryDocValuesField;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+
+public class DocValuesIndexReaderWarmerTest {
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void allDocValuesTypes() throws IOException {
+		addDocument( "1", 1L, "a" );
+		addDocument( "2", 2L, "b" );
+		// A document without doc values: warming must skip it
+		Document document = new Document();
+		document.add( new StringField( "id", "3", Field.Store.NO ) );
+		indexWriter.addDocument( document );
+
+		DocValuesIndexReaderWarmer warmer = new DocValuesIndexReaderWarmer( Arrays.asList(
+				"numeric", "sortedNumeric", "binary", "sorted", "sortedSet", "text"
+		) );
+
+		try ( DirectoryReader reader = DirectoryReader.open( indexWriter ) ) {
+			assertThat( reader.leaves() ).hasSize( 1 );
+			RecordingLeafReader recordingReader = new RecordingLeafReader( reader.leaves().get( 0 ).reader() );
+			warmer.warm( recordingReader );
+			assertThat( recordingReader.loadedDocValues ).containsExactly(
+					"numeric", "sortedNumeric", "binary", "sorted", "sortedSet"
+			);
+			assertThat( recordingReader.loadedNorms ).containsExactly( "text" );
+		}
+	}
+
+	@Test
+	public void unknownField() throws IOException {
+		addDocument( "1", 1L, "a" );
+
+		DocValuesIndexReaderWarmer warmer = new DocValuesIndexReaderWarmer( Arrays.asList(
+				"unknown", "id"
+		) );
+
+		try ( DirectoryReader reader = DirectoryReader.open( indexWriter ) ) {
+			assertThat( reader.leaves() ).hasSize( 1 );
+			RecordingLeafReader recordingReader = new RecordingLeafReader( reader.leaves().get( 0 ).reader() );
+			warmer.warm( recordingReader );
+			// "id" exists, but has neither doc values nor norms
+			assertThat( recordingReader.loadedDocValues ).isEmpty();
+			assertThat( recordingReader.loadedNorms ).isEmpty();
+		}
+	}
+
+	private void addDocument(String id, long number, String string) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.NO ) );
+		document.add( new NumericDocValuesField( "numeric", number ) );
+		document.add( new SortedNumericDocValuesField( "sortedNumeric", number ) );
+		document.add( new SortedNumericDocValuesField( "sortedNumeric", number + 1 ) );
+		document.add( new BinaryDocValuesField( "binary", new BytesRef( string ) ) );
+		document.add( new SortedDocValuesField( "sorted", new BytesRef( string ) ) );
+		document.add( new SortedSetDocValuesField( "sortedSet", new BytesRef( string ) ) );
+		document.add( new SortedSetDocValuesField( "sortedSet", new BytesRef( string + string ) ) );
+		document.add( new TextField( "text", string, Field.Store.NO ) );
+		indexWriter.addDocument( document );
+	}
+
+	/**
+	 * Records the fields whose doc values or norms were loaded,
+	 * so that tests fail if the warmer does not actually load anything.
+	 */
+	private static class RecordingLeafReader extends FilterLeafReader {
+		private final List<String> loadedDocValues = new ArrayList<>();
+		private final List<String> loadedNorms = new ArrayList<>();
+
+		private RecordingLeafReader(LeafReader in) {
+			super( in );
+		}
+
+		@Override
+		public NumericDocValues getNumericDocValues(String field) throws IOException {
+			loadedDocValues.add( field );
+			return super.getNumericDocValues( field );
+		}
+
+		@Override
+		public BinaryDocValues getBinaryDocValues(String field) throws IOException {
+			loadedDocValues.add( field );
+			return super.getBinaryDocValues( field );
+		}
+
+		@Override
+		public SortedDocValues getSortedDocValues(String field) throws IOException {
+			loadedDocValues.add( field );
+			return super.getSortedDocValues( field );
+		}
+
+		@Override
+		public SortedNumericDocValues getSortedNumericDocValues(String field) throws IOException {
+			loadedDocValues.add( field );
+			return super.getSortedNumericDocValues( field );
+		}
+
+		@Override
+		public SortedSetDocValues getSortedSetDocValues(String field) throws IOException {
+			loadedDocValues.add( field );
+			return super.getSortedSetDocValues( field );
+		}
+
+		@Override
+		public NumericDocValues getNormValues(String field) throws IOException {
+			loadedNorms.add( field );
+			return super.getNormValues( field );
+		}
+
+		@Override
+		public CacheHelper getCoreCacheHelper() {
+			return in.getCoreCacheHelper();
+		}
+
+		@Override
+		public CacheHelper getReaderCacheHelper() {
+			return in.getReaderCacheHelper();
+		}
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.capture;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.search.timeout.impl.DefaultTimingSource;
+import org.hibernate.search.engine.environment.metrics.impl.NoOpMetricsProvider;
+import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.IndexFailureContext;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.easymock.Capture;
+import org.easymock.EasyMockSupport;
+
+public class NearRealTimeIndexReaderProviderTest extends EasyMockSupport {
+
+	private static final String INDEX_NAME = "SomeIndexName";
+
+	private final FailureHandler failureHandlerMock = createStrictMock( FailureHandler.class );
+	private final RecordingWarmer warmer = new RecordingWarmer();
+	private final List<Long> refreshDurations = new ArrayList<>();
+
+	private Directory directory;
+	private IndexWriterProvider indexWriterProvider;
+	private NearRealTimeIndexReaderProvider indexReaderProvider;
+
+	@Before
+	public void setup() {
+		directory = new ByteBuffersDirectory();
+		indexWriterProvider = new IndexWriterProvider( INDEX_NAME, EventContexts.fromIndexName( INDEX_NAME ),
+				new SimpleDirectoryHolder( directory ), new KeywordAnalyzer(),
+				new DefaultTimingSource(), 0, new DefaultThreadProvider(), failureHandlerMock,
+				null, NoOpMetricsProvider.INSTANCE.timer( "commit", Collections.emptyMap() ) );
+		indexReaderProvider = new NearRealTimeIndexReaderProvider( INDEX_NAME, indexWriterProvider,
+				new DefaultTimingSource(), 0, null, failureHandlerMock, warmer,
+				refreshDurations::add );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		indexReaderProvider.clear();
+		indexWriterProvider.clear();
+		directory.close();
+	}
+
+	@Test
+	public void warmOnlyNewSegments() throws IOException {
+		replayAll();
+
+		addDocument( "1" );
+		addDocument( "2" );
+		List<String> firstSegments = currentSegmentNames();
+		assertThat( firstSegments ).hasSize( 1 );
+		assertThat( warmer.warmedSegmentNames ).containsExactlyElementsOf( firstSegments );
+
+		// New documents end up in a new segment: only that segment must be warmed
+		addDocument( "3" );
+		indexReaderProvider.refresh();
+		List<String> secondSegments = currentSegmentNames();
+		assertThat( secondSegments ).hasSize( 2 ).containsAll( firstSegments );
+		assertThat( warmer.warmedSegmentNames ).containsExactlyInAnyOrderElementsOf( secondSegments );
+
+		// No change: no new reader, nothing to warm
+		indexReaderProvider.refresh();
+		assertThat( currentSegmentNames() ).isEqualTo( secondSegments );
+		assertThat( warmer.warmedSegmentNames ).containsExactlyInAnyOrderElementsOf( secondSegments );
+
+		// Deletions only: the segment core is shared with the previous reader, nothing to warm
+		indexWriterProvider.getOrCreate().deleteDocuments( new Term( "id", "1" ) );
+		indexReaderProvider.refresh();
+		try ( AutoCloseableReader reader = new AutoCloseableReader( indexReaderProvider.getOrCreate() ) ) {
+			assertThat( reader.reader.numDocs() ).isEqualTo( 2 );
+		}
+		assertThat( currentSegmentNames() ).isEqualTo( secondSegments );
+		assertThat( warmer.warmedSegmentNames ).containsExactlyInAnyOrderElementsOf( secondSegments );
+
+		verifyAll();
+	}
+
+	@Test
+	public void refreshTimer() throws IOException {
+		replayAll();
+
+		addDocument( "1" );
+		assertThat( currentSegmentNames() ).hasSize( 1 );
+		assertThat( refreshDurations ).hasSize( 1 );
+
+		// No change: no new reader, nothing to record
+		indexReaderProvider.refresh();
+		assertThat( currentSegmentNames() ).hasSize( 1 );
+		assertThat( refreshDurations ).hasSize( 1 );
+
+		addDocument( "2" );
+		indexReaderProvider.refresh();
+		assertThat( currentSegmentNames() ).hasSize( 2 );
+		assertThat( refreshDurations ).hasSize( 2 )
+				.allSatisfy( duration -> assertThat( duration ).isGreaterThanOrEqualTo( 0L ) );
+
+		verifyAll();
+	}
+
+	@Test
+	public void warmerFailure() throws IOException {
+		replayAll();
+		addDocument( "1" );
+		assertThat( currentSegmentNames() ).hasSize( 1 );
+		verifyAll();
+
+		resetAll();
+		IOException simulatedFailure = new IOException( "Simulated warming failure" );
+		warmer.failure = simulatedFailure;
+		Capture<IndexFailureContext> failureContextCapture = Capture.newInstance();
+		failureHandlerMock.handle( capture( failureContextCapture ) );
+		replayAll();
+		addDocument( "2" );
+		// The failure must be reported, but must not prevent the refresh
+		indexReaderProvider.refresh();
+		try ( AutoCloseableReader reader = new AutoCloseableReader( indexReaderProvider.getOrCreate() ) ) {
+			assertThat( reader.reader.numDocs() ).isEqualTo( 2 );
+			assertThat( reader.reader.leaves() ).hasSize( 2 );
+		}
+		verifyAll();
+
+		IndexFailureContext failureContext = failureContextCapture.getValue();
+		assertThat( failureContext.getIndexName() ).isEqualTo( INDEX_NAME );
+		assertThat( failureContext.getThrowable() ).isSameAs( simulatedFailure );
+		assertThat( String.valueOf( failureContext.getFailingOperation() ) ).contains( "Index reader warming" );
+	}
+
+	private void addDocument(String id) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.NO ) );
+		indexWriterProvider.getOrCreate().addDocuments( Collections.singletonList( document ) );
+	}
+
+	private List<String> currentSegmentNames() throws IOException {
+		List<String> segmentNames = new ArrayList<>();
+		try ( AutoCloseableReader reader = new AutoCloseableReader( indexReaderProvider.getOrCreate() ) ) {
+			for ( LeafReaderContext leafContext : reader.reader.leaves() ) {
+				segmentNames.add( segmentName( leafContext.reader() ) );
+			}
+		}
+		return segmentNames;
+	}
+
+	private static String segmentName(LeafReader reader) {
+		return ( (SegmentReader) reader ).getSegmentName();
+	}
+
+	private static class RecordingWarmer implements IndexWriter.IndexReaderWarmer {
+		private final List<String> warmedSegmentNames = new ArrayList<>();
+		private IOException failure;
+
+		@Override
+		public void warm(LeafReader reader) throws IOException {
+			if ( failure != null ) {
+				throw failure;
+			}
+			warmedSegmentNames.add( segmentName( reader ) );
+		}
+	}
+
+	private static class AutoCloseableReader implements AutoCloseable {
+		private final DirectoryReader reader;
+
+		private AutoCloseableReader(DirectoryReader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		public void close() throws IOException {
+			// Release the reference acquired through getOrCreate
+			reader.decRef();
+		}
+	}
+
+	private static class SimpleDirectoryHolder implements DirectoryHolder {
+		private final Directory directory;
+
+		private SimpleDirectoryHolder(Directory directory) {
+			this.directory = directory;
+		}
+
+		@Override
+		public void start() {
+			// Nothing to do
+		}
+
+		@Override
+		public void close() {
+			// The directory is closed by the test
+		}
+
+		@Override
+		public Directory get() {
+			return directory;
+		}
+	}
+}
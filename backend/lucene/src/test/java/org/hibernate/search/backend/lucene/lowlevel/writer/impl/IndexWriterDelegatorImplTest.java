@@ -0,0 +1,96 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class IndexWriterDelegatorImplTest {
+
+	private static final int COMMIT_INTERVAL = 1000;
+
+	private final StubTimingSource timingSource = new StubTimingSource();
+	private final List<Long> commitDurations = new ArrayList<>();
+
+	private Directory directory;
+	private IndexWriterDelegatorImpl indexWriterDelegator;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		IndexWriter indexWriter = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+		indexWriterDelegator = new IndexWriterDelegatorImpl( indexWriter, timingSource, COMMIT_INTERVAL,
+				commitDurations::add );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		indexWriterDelegator.close();
+		directory.close();
+	}
+
+	@Test
+	public void commitTimer() throws IOException {
+		addDocument( "1" );
+		indexWriterDelegator.commit();
+		assertThat( commitDurations ).hasSize( 1 );
+
+		// Delayed commits must not be recorded
+		addDocument( "2" );
+		assertThat( indexWriterDelegator.commitOrDelay() ).isGreaterThan( 0L );
+		assertThat( commitDurations ).hasSize( 1 );
+
+		timingSource.time += COMMIT_INTERVAL + 1;
+		assertThat( indexWriterDelegator.commitOrDelay() ).isEqualTo( 0L );
+		assertThat( commitDurations ).hasSize( 2 )
+				.allSatisfy( duration -> assertThat( duration ).isGreaterThanOrEqualTo( 0L ) );
+	}
+
+	private void addDocument(String id) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.NO ) );
+		indexWriterDelegator.addDocuments( Collections.singletonList( document ) );
+	}
+
+	private static class StubTimingSource implements TimingSource {
+		private long time = 0L;
+
+		@Override
+		public long getMonotonicTimeEstimate() {
+			return time;
+		}
+
+		@Override
+		public void stop() {
+			// Nothing to do
+		}
+
+		@Override
+		public void ensureInitialized() {
+			// Nothing to do
+		}
+	}
+}
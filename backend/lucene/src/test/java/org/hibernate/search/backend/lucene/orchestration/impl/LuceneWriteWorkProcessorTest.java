@@ -13,20 +13,40 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.LuceneMetrics;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneSingleDocumentWriteWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWorkExecutionContext;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.environment.metrics.impl.NoOpMetricsProvider;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.Gauge;
+import org.hibernate.search.engine.environment.metrics.spi.Histogram;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.engine.reporting.IndexFailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.impl.test.SubTest;
 
+import org.junit.After;
 import org.junit.Test;
 
 import org.assertj.core.api.Assertions;
@@ -45,11 +65,21 @@ public class LuceneWriteWorkProcessorTest extends EasyMockSupport {
 
 	private LuceneWriteWorkProcessor processor = new LuceneWriteWorkProcessor(
 			INDEX_NAME, indexEventContext,
-			indexAccessorMock, failureHandlerMock
+			indexAccessorMock, failureHandlerMock,
+			NoOpMetricsProvider.INSTANCE, Collections.emptyMap()
 	);
 
 	private List<LuceneWriteWork<?>> workMocks = new ArrayList<>();
 
+	private final List<ThreadPoolExecutor> writeExecutors = new ArrayList<>();
+
+	@After
+	public void shutdownWriteExecutors() {
+		for ( ThreadPoolExecutor writeExecutor : writeExecutors ) {
+			writeExecutor.shutdownNow();
+		}
+	}
+
 	@Test
 	public void immediateCommitStrategy() throws IOException {
 		resetAll();
@@ -815,6 +845,206 @@ public void error_batchCommitAndForceLockRelease() throws IOException {
 		checkCompleteOrDelayWithNothingToCommit();
 	}
 
+	@Test
+	public void concurrentWrites() throws IOException {
+		enableConcurrentWrites( 3 );
+
+		assertThat( processor.canSubmitConcurrently( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE ) )
+				.isTrue();
+		assertThat( processor.canSubmitConcurrently( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE ) )
+				.isFalse();
+		assertThat( processor.canSubmitConcurrently( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE ) )
+				.isFalse();
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		// Each workset affects every entity: changes to a given entity must be applied in workset order
+		Map<Object, List<Integer>> appliedWorkSets = new ConcurrentHashMap<>();
+		List<CompletableFuture<?>> workSetFutures = new ArrayList<>();
+		for ( int workSet = 0; workSet < 20; workSet++ ) {
+			List<RecordingWork> works = new ArrayList<>();
+			for ( int entityId = 0; entityId < 10; entityId++ ) {
+				works.add( new RecordingWork( "work_" + workSet + "_" + entityId, entityId, workSet, appliedWorkSets ) );
+			}
+			resetAll();
+			replayAll();
+			workSetFutures.add( processor.submitConcurrently( works ) );
+			verifyAll();
+		}
+
+		// A workset that cannot be submitted concurrently must wait for concurrent works
+		resetAll();
+		replayAll();
+		processor.beforeWorkSet( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		verifyAll();
+		assertThat( workSetFutures ).allSatisfy( future -> assertThat( future ).isCompleted() );
+
+		resetAll();
+		indexAccessorMock.commit();
+		replayAll();
+		processor.afterSuccessfulWorkSet();
+		verifyAll();
+
+		resetAll();
+		// The last workset triggered a commit: no need for a commit here
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+
+		assertThat( appliedWorkSets ).hasSize( 10 );
+		for ( List<Integer> workSetsForEntity : appliedWorkSets.values() ) {
+			assertThat( workSetsForEntity ).isSorted().hasSize( 20 );
+		}
+
+		checkCompleteOrDelayWithNothingToCommit();
+	}
+
+	@Test
+	public void concurrentWrites_endBatchCommit() throws IOException {
+		enableConcurrentWrites( 2 );
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		CompletableFuture<?> workSetFuture = processor.submitConcurrently( Arrays.asList(
+				new RecordingWork( "work_0", 0, 0, new ConcurrentHashMap<>() ),
+				new RecordingWork( "work_1", 1, 0, new ConcurrentHashMap<>() )
+		) );
+		verifyAll();
+
+		resetAll();
+		// Concurrent works were not committed yet: there must be a commit here
+		expect( indexAccessorMock.commitOrDelay() ).andReturn( 0L );
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+
+		assertThat( workSetFuture ).isCompleted();
+
+		checkCompleteOrDelayWithNothingToCommit();
+	}
+
+	@Test
+	public void concurrentWrites_singleWork() throws IOException {
+		enableConcurrentWrites( 2 );
+
+		Map<Object, List<Integer>> appliedWorkSets = new ConcurrentHashMap<>();
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		CompletableFuture<Object> firstWorkSetFuture =
+				processor.submitConcurrently( new RecordingWork( "work_0", 0, 0, appliedWorkSets ) );
+		CompletableFuture<Object> secondWorkSetFuture =
+				processor.submitConcurrently( new RecordingWork( "work_1", 0, 1, appliedWorkSets ) );
+		verifyAll();
+
+		resetAll();
+		// Concurrent works were not committed yet: there must be a commit here
+		expect( indexAccessorMock.commitOrDelay() ).andReturn( 0L );
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+
+		assertThat( firstWorkSetFuture ).isCompleted();
+		assertThat( secondWorkSetFuture ).isCompleted();
+		assertThat( appliedWorkSets.get( 0 ) ).containsExactly( 0, 1 );
+
+		checkCompleteOrDelayWithNothingToCommit();
+	}
+
+	@Test
+	public void error_concurrentWrites() throws IOException {
+		RuntimeException workException = new RuntimeException( "Some message" );
+		enableConcurrentWrites( 2 );
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		CompletableFuture<?> successfulWorkSetFuture = processor.submitConcurrently( Arrays.asList(
+				new RecordingWork( "work_0", 0, 0, new ConcurrentHashMap<>() ),
+				new RecordingWork( "work_1", 1, 0, new ConcurrentHashMap<>() )
+		) );
+		RecordingWork failingWork = new RecordingWork( "work_2", 2, 1, new ConcurrentHashMap<>() );
+		failingWork.failure = workException;
+		CompletableFuture<?> failingWorkSetFuture = processor.submitConcurrently( Collections.singletonList( failingWork ) );
+		verifyAll();
+
+		// Clean up once concurrent works are complete, and warn about uncommitted works
+		Capture<IndexFailureContext> failureContextCapture = Capture.newInstance();
+		resetAll();
+		indexAccessorMock.reset();
+		failureHandlerMock.handle( capture( failureContextCapture ) );
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+
+		assertThat( successfulWorkSetFuture ).isCompleted();
+		assertThat( failingWorkSetFuture ).isCompletedExceptionally();
+		SubTest.expectException( () -> failingWorkSetFuture.join() )
+				.assertThrown()
+				.hasCause( workException );
+
+		IndexFailureContext failureContext = failureContextCapture.getValue();
+		assertThat( failureContext.getIndexName() ).isEqualTo( INDEX_NAME );
+		assertThat( failureContext.getThrowable() ).isSameAs( workException );
+		assertThat( failureContext.getFailingOperation() ).asString()
+				.contains( "Concurrent index works" );
+		Assertions.<Object>assertThat( failureContext.getUncommittedOperations() )
+				.containsExactly( "work_0", "work_1", "work_2" );
+
+		checkCompleteOrDelayWithNothingToCommit();
+	}
+
+	@Test
+	public void metrics() throws IOException {
+		StubMetricsProvider metricsProvider = new StubMetricsProvider();
+		Map<String, String> metricsTags = LuceneMetrics.indexTags( INDEX_NAME, Optional.empty() );
+		processor = new LuceneWriteWorkProcessor(
+				INDEX_NAME, indexEventContext,
+				indexAccessorMock, failureHandlerMock,
+				metricsProvider, metricsTags
+		);
+		assertThat( metricsProvider.tags ).containsOnlyKeys( LuceneMetrics.WRITE_WORKS, LuceneMetrics.WRITE_FAILURES )
+				.allSatisfy( (name, tags) -> assertThat( tags ).isEqualTo( metricsTags ) );
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		testSuccessfulWorkSet( 3, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false, false );
+		assertThat( metricsProvider.count( LuceneMetrics.WRITE_WORKS ) ).isEqualTo( 3L );
+		assertThat( metricsProvider.count( LuceneMetrics.WRITE_FAILURES ) ).isEqualTo( 0L );
+
+		testWorkSetBeginning( 1, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+
+		RuntimeException workException = new RuntimeException( "Some message" );
+		LuceneWriteWork<Object> failingWork = createWorkMock();
+		resetAll();
+		expect( failingWork.execute( EasyMock.anyObject() ) ).andThrow( workException );
+		indexAccessorMock.reset();
+		expectWorkGetInfo( 0, 1, 2, 4 );
+		failureHandlerMock.handle( EasyMock.anyObject( IndexFailureContext.class ) );
+		replayAll();
+		SubTest.expectException( () -> processor.submit( failingWork ) )
+				.assertThrown().isSameAs( workException );
+		verifyAll();
+
+		// Failing works are counted as works too
+		assertThat( metricsProvider.count( LuceneMetrics.WRITE_WORKS ) ).isEqualTo( 5L );
+		assertThat( metricsProvider.count( LuceneMetrics.WRITE_FAILURES ) ).isEqualTo( 1L );
+	}
+
+	private void enableConcurrentWrites(int threadCount) {
+		for ( int i = 0; i < threadCount; i++ ) {
+			writeExecutors.add( new ThreadPoolExecutor( 1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>() ) );
+		}
+		processor.writeExecutors( writeExecutors );
+	}
+
 	private void testSuccessfulWorkSet(int workCount,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
 			boolean expectCommit, boolean expectRefresh) throws IOException {
@@ -898,4 +1128,74 @@ private String workInfo(int index) {
 		return "work_" + index;
 	}
 
-}
\ No newline at end of file
+
+	private static class RecordingWork implements LuceneSingleDocumentWriteWork<Object> {
+		private final String info;
+		private final Object entityIdentifier;
+		private final int workSet;
+		private final Map<Object, List<Integer>> appliedWorkSets;
+		private RuntimeException failure;
+
+		RecordingWork(String info, Object entityIdentifier, int workSet, Map<Object, List<Integer>> appliedWorkSets) {
+			this.info = info;
+			this.entityIdentifier = entityIdentifier;
+			this.workSet = workSet;
+			this.appliedWorkSets = appliedWorkSets;
+		}
+
+		@Override
+		public Object execute(LuceneWriteWorkExecutionContext context) {
+			if ( failure != null ) {
+				throw failure;
+			}
+			appliedWorkSets.computeIfAbsent( entityIdentifier, ignored -> Collections.synchronizedList( new ArrayList<>() ) )
+					.add( workSet );
+			return null;
+		}
+
+		@Override
+		public Object getInfo() {
+			return info;
+		}
+
+		@Override
+		public String getEntityTypeName() {
+			return "SomeEntity";
+		}
+
+		@Override
+		public Object getEntityIdentifier() {
+			return entityIdentifier;
+		}
+	}
+
+	private static class StubMetricsProvider implements MetricsProvider {
+		private final Map<String, Map<String, String>> tags = new ConcurrentHashMap<>();
+		private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+		@Override
+		public Counter counter(String name, Map<String, String> tags) {
+			this.tags.put( name, tags );
+			return counts.computeIfAbsent( name, ignored -> new LongAdder() )::add;
+		}
+
+		@Override
+		public Histogram histogram(String name, Map<String, String> tags) {
+			throw new UnsupportedOperationException( "Unexpected histogram: " + name );
+		}
+
+		@Override
+		public Timer timer(String name, Map<String, String> tags) {
+			throw new UnsupportedOperationException( "Unexpected timer: " + name );
+		}
+
+		@Override
+		public Gauge gauge(String name, Map<String, String> tags, LongSupplier valueSupplier) {
+			throw new UnsupportedOperationException( "Unexpected gauge: " + name );
+		}
+
+		long count(String name) {
+			return counts.get( name ).sum();
+		}
+	}
+}
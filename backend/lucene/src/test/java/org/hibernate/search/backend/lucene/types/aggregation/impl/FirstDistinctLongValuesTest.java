@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+public class FirstDistinctLongValuesTest {
+
+	@Test
+	public void ascending() {
+		FirstDistinctLongValues values = new FirstDistinctLongValues( false, 3 );
+		for ( long value : new long[] { 5L, 2L, 5L, 9L, -1L, 2L, 7L, Long.MIN_VALUE, 3L } ) {
+			values.add( value );
+		}
+		assertThat( values.toArray() ).containsExactly( Long.MIN_VALUE, -1L, 2L );
+	}
+
+	@Test
+	public void descending() {
+		FirstDistinctLongValues values = new FirstDistinctLongValues( true, 3 );
+		for ( long value : new long[] { 5L, 2L, 5L, 9L, -1L, 9L, 7L, Long.MAX_VALUE, 3L } ) {
+			values.add( value );
+		}
+		assertThat( values.toArray() ).containsExactly( Long.MAX_VALUE, 9L, 7L );
+	}
+
+	@Test
+	public void lessValuesThanLimit() {
+		FirstDistinctLongValues values = new FirstDistinctLongValues( false, Integer.MAX_VALUE );
+		for ( long value : new long[] { 5L, 2L, 5L, 9L } ) {
+			values.add( value );
+		}
+		assertThat( values.size() ).isEqualTo( 3 );
+		assertThat( values.toArray() ).containsExactly( 2L, 5L, 9L );
+	}
+
+	@Test
+	public void random() {
+		Random random = new Random( 42L );
+		int limit = 200;
+		FirstDistinctLongValues values = new FirstDistinctLongValues( false, limit );
+		TreeSet<Long> expected = new TreeSet<>();
+		for ( int i = 0; i < 10_000; i++ ) {
+			long value = random.nextInt( 5_000 );
+			values.add( value );
+			expected.add( value );
+		}
+		assertThat( values.toArray() )
+				.containsExactly( expected.stream().limit( limit ).mapToLong( Long::longValue ).toArray() );
+	}
+}
@@ -11,10 +11,15 @@
 import static org.easymock.EasyMock.expectLastCall;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.document.impl.LuceneDeferredIndexEntry;
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
+import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkProcessor;
 import org.hibernate.search.backend.lucene.work.impl.LuceneSingleDocumentWriteWork;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
@@ -29,6 +34,7 @@
 import org.assertj.core.api.SoftAssertions;
 import org.easymock.EasyMock;
 import org.easymock.EasyMockSupport;
+import org.apache.lucene.facet.FacetsConfig;
 
 /**
  * Test worksets produced by indexing plans.
@@ -64,7 +70,7 @@ private void doTestSuccess(DocumentCommitStrategy commitStrategy, DocumentRefres
 				new CompletableFuture<>();
 
 		LuceneIndexingPlanWriteWorkSet<StubEntityReference> workSet = new LuceneIndexingPlanWriteWorkSet<>(
-				createWorkMocks( 3 ), entityReferenceFactoryMock, workSetFuture,
+				createWorkMocks( 3 ), Collections.emptyList(), entityReferenceFactoryMock, workSetFuture,
 				commitStrategy, refreshStrategy
 		);
 
@@ -89,13 +95,52 @@ private void doTestSuccess(DocumentCommitStrategy commitStrategy, DocumentRefres
 		} );
 	}
 
+	@Test
+	public void success_deferredDocumentBuilding() {
+		CompletableFuture<IndexIndexingPlanExecutionReport<StubEntityReference>> workSetFuture =
+				new CompletableFuture<>();
+
+		LuceneIndexEntryFactory indexEntryFactory =
+				new LuceneIndexEntryFactory( new NoMultiTenancyStrategy(), "SomeIndexName", new FacetsConfig() );
+		List<LuceneDeferredIndexEntry> deferredIndexEntries = Arrays.asList(
+				indexEntryFactory.createDeferred( null, "0", null, document -> { } ),
+				indexEntryFactory.createDeferred( null, "1", null, document -> { } )
+		);
+
+		LuceneIndexingPlanWriteWorkSet<StubEntityReference> workSet = new LuceneIndexingPlanWriteWorkSet<>(
+				createWorkMocks( 2 ), deferredIndexEntries, entityReferenceFactoryMock, workSetFuture,
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		);
+
+		FutureAssert.assertThat( workSetFuture ).isPending();
+
+		resetAll();
+		processorMock.beforeWorkSet( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		// Document building should start before any work is executed
+		processorMock.startDocumentBuilding( deferredIndexEntries );
+		expect( processorMock.submit( workMocks.get( 0 ) ) ).andReturn( null );
+		expect( processorMock.submit( workMocks.get( 1 ) ) ).andReturn( null );
+		processorMock.afterSuccessfulWorkSet();
+		replayAll();
+		workSet.submitTo( processorMock );
+		verifyAll();
+
+		FutureAssert.assertThat( workSetFuture ).isSuccessful( report -> {
+			assertThat( report ).isNotNull();
+			SoftAssertions.assertSoftly( softly -> {
+				softly.assertThat( report.getThrowable() ).isEmpty();
+				softly.assertThat( report.getFailingEntityReferences() ).isEmpty();
+			} );
+		} );
+	}
+
 	@Test
 	public void markAsFailed() {
 		CompletableFuture<IndexIndexingPlanExecutionReport<StubEntityReference>> workSetFuture =
 				new CompletableFuture<>();
 
 		LuceneIndexingPlanWriteWorkSet<StubEntityReference> workSet = new LuceneIndexingPlanWriteWorkSet<>(
-				createWorkMocks( 3 ), entityReferenceFactoryMock, workSetFuture,
+				createWorkMocks( 3 ), Collections.emptyList(), entityReferenceFactoryMock, workSetFuture,
 				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
 		);
 
@@ -117,7 +162,7 @@ public void failure_work() {
 				new CompletableFuture<>();
 
 		LuceneIndexingPlanWriteWorkSet<StubEntityReference> workSet = new LuceneIndexingPlanWriteWorkSet<>(
-				createWorkMocks( 3 ), entityReferenceFactoryMock, workSetFuture,
+				createWorkMocks( 3 ), Collections.emptyList(), entityReferenceFactoryMock, workSetFuture,
 				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
 		);
 
@@ -152,7 +197,7 @@ public void failure_commit() {
 				new CompletableFuture<>();
 
 		LuceneIndexingPlanWriteWorkSet<StubEntityReference> workSet = new LuceneIndexingPlanWriteWorkSet<>(
-				createWorkMocks( 3 ), entityReferenceFactoryMock, workSetFuture,
+				createWorkMocks( 3 ), Collections.emptyList(), entityReferenceFactoryMock, workSetFuture,
 				DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE
 		);
 
@@ -191,7 +236,7 @@ public void failure_workAndCreateEntityReference() {
 				new CompletableFuture<>();
 
 		LuceneIndexingPlanWriteWorkSet<StubEntityReference> workSet = new LuceneIndexingPlanWriteWorkSet<>(
-				createWorkMocks( 3 ), entityReferenceFactoryMock, workSetFuture,
+				createWorkMocks( 3 ), Collections.emptyList(), entityReferenceFactoryMock, workSetFuture,
 				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
 		);
 
@@ -34,6 +34,13 @@ public String createInitialElasticsearchIndexName(String hibernateSearchIndexNam
 				+ INDEX_SUFFIX_FORMATTER.format( Instant.now( clock ) );
 	}
 
+	@Override
+	public String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		// The timestamp makes the name different from the current one
+		return createInitialElasticsearchIndexName( hibernateSearchIndexName );
+	}
+
 	@Override
 	public String createWriteAlias(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-write";
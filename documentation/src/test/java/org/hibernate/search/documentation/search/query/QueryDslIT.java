@@ -9,6 +9,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,8 @@
 import org.hibernate.search.documentation.testsupport.LuceneBackendConfiguration;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.automaticindexing.session.AutomaticIndexingSynchronizationStrategyNames;
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
@@ -195,6 +198,22 @@ public void fetchingBasics() {
 			assertThat( totalHitCount ).isEqualTo( 4 );
 		} );
 
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::fetching-totalHitCountThreshold[]
+			SearchResult<Book> result = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.totalHitCountThreshold( 1000 ) // <1>
+					.fetch( 20 );
+
+			long totalHitCount = result.getTotalHitCount(); // <2>
+			boolean totalHitCountExact = result.isTotalHitCountExact(); // <3>
+			// end::fetching-totalHitCountThreshold[]
+
+			assertThat( totalHitCount ).isEqualTo( 4 );
+			assertThat( totalHitCountExact ).isTrue();
+		} );
+
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
 			SearchSession searchSession = Search.session( entityManager );
 			// tag::fetching-hits[]
@@ -279,6 +298,34 @@ public void pagination() {
 		} );
 	}
 
+	@Test
+	public void scrolling() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			List<Integer> scrolledIds = new ArrayList<>();
+			// tag::fetching-scrolling[]
+			try ( SearchScroll<Book> scroll = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.scroll( 20 ) ) { // <1>
+				for ( SearchScrollResult<Book> chunk = scroll.next(); // <2>
+						chunk.hasHits(); chunk = scroll.next() ) { // <3>
+					for ( Book hit : chunk.getHits() ) {
+						// ... do something with the hits ...
+						// end::fetching-scrolling[]
+						scrolledIds.add( hit.getId() );
+						// tag::fetching-scrolling[]
+					}
+
+					entityManager.clear(); // <4>
+				}
+			}
+			// end::fetching-scrolling[]
+
+			assertThat( scrolledIds )
+					.containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+		} );
+	}
+
 	@Test
 	public void searchQuery() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
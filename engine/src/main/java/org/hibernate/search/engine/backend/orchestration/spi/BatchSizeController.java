@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+/**
+ * Decides how many worksets a {@link BatchingExecutor} should process in its next batch,
+ * based on the observed processing time and queue depth.
+ * <p>
+ * When the queue holds more worksets than a single batch can process (bursts),
+ * the batch size grows, up to the maximum, so that per-batch costs (commits, bulk requests, ...)
+ * are amortized over more worksets,
+ * but only as long as larger batches do not increase the processing time per workset.
+ * When the queue is drained by small batches (light traffic),
+ * the batch size shrinks, down to the minimum, so that the next burst starts with small, low-latency batches.
+ * <p>
+ * When the minimum and maximum are equal, the batch size is fixed.
+ * <p>
+ * Not thread-safe: expected to be used from the executor's processing thread only.
+ */
+final class BatchSizeController {
+
+	/**
+	 * How much the processing time per workset may degrade when the batch size grows
+	 * before we consider that larger batches no longer pay off.
+	 */
+	private static final double PROCESSING_TIME_TOLERANCE = 1.1;
+
+	private final int minBatchSize;
+	private final int maxBatchSize;
+
+	private int currentBatchSize;
+	/**
+	 * The processing time per workset in the last full batch, in nanoseconds,
+	 * or a negative number if unknown.
+	 */
+	private double previousProcessingTimePerWorkset = -1;
+
+	BatchSizeController(int minBatchSize, int maxBatchSize) {
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+		this.currentBatchSize = minBatchSize;
+	}
+
+	/**
+	 * @return The maximum number of worksets to process in the next batch.
+	 */
+	int getBatchSize() {
+		return currentBatchSize;
+	}
+
+	/**
+	 * @param processedWorksets The number of worksets processed in the batch.
+	 * @param processingTimeNanos The time it took to process the batch, in nanoseconds.
+	 * @param remainingWorksets The number of worksets remaining in the queue after the batch was processed.
+	 */
+	void onBatchProcessed(int processedWorksets, long processingTimeNanos, int remainingWorksets) {
+		if ( minBatchSize == maxBatchSize || processedWorksets == 0 ) {
+			return;
+		}
+
+		double processingTimePerWorkset = (double) processingTimeNanos / processedWorksets;
+
+		if ( processedWorksets >= currentBatchSize && remainingWorksets >= currentBatchSize ) {
+			// There is a backlog: optimize for throughput.
+			if ( previousProcessingTimePerWorkset < 0
+					|| processingTimePerWorkset <= previousProcessingTimePerWorkset * PROCESSING_TIME_TOLERANCE ) {
+				// Larger batches still pay off: try even larger batches.
+				currentBatchSize = (int) Math.min( maxBatchSize, 2L * currentBatchSize );
+				previousProcessingTimePerWorkset = processingTimePerWorkset;
+			}
+			else {
+				// Larger batches made things worse: step back, and forget about the previous measurement.
+				currentBatchSize = Math.max( minBatchSize, currentBatchSize / 2 );
+				previousProcessingTimePerWorkset = -1;
+			}
+		}
+		else if ( remainingWorksets == 0 && processedWorksets <= currentBatchSize / 2 ) {
+			// The queue was drained easily: optimize for latency.
+			currentBatchSize = Math.max( minBatchSize, currentBatchSize / 2 );
+			previousProcessingTimePerWorkset = -1;
+		}
+	}
+
+}
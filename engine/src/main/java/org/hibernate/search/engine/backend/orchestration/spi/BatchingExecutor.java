@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
@@ -18,11 +19,18 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.hibernate.search.engine.environment.metrics.impl.NoOpMetricsProvider;
+import org.hibernate.search.engine.environment.metrics.spi.EngineMetrics;
+import org.hibernate.search.engine.environment.metrics.spi.Gauge;
+import org.hibernate.search.engine.environment.metrics.spi.Histogram;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -42,7 +50,11 @@
 
 	private final P processor;
 	private final FailureHandler failureHandler;
-	private final int maxTasksPerBatch;
+	private final BatchSizeController batchSizeController;
+	private final MetricsProvider metricsProvider;
+	private final Map<String, String> metricsTags;
+	private final Histogram batchSizeHistogram;
+	private final Timer batchDurationTimer;
 
 	private final BlockingQueue<W> workQueue;
 	private final List<W> workBuffer;
@@ -52,6 +64,7 @@
 	private ScheduledExecutorService scheduledExecutorService;
 	private volatile CompletableFuture<?> completionFuture;
 	private volatile ScheduledFuture<?> scheduledNextProcessing;
+	private Gauge queueSizeGauge;
 
 	/**
 	 * @param name The name of the executor thread (and of this executor when reporting errors)
@@ -66,12 +79,63 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler) {
+		this( name, processor, maxTasksPerBatch, maxTasksPerBatch, maxTasksPerBatch, fair, failureHandler );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param minTasksPerBatch The minimum value of the maximum number of tasks to process in a single batch.
+	 * The actual maximum will adapt between {@code minTasksPerBatch} and {@code maxTasksPerBatch}
+	 * based on the observed processing time and queue depth: see {@link BatchSizeController}.
+	 * Lower values mean lower latency when the executor is not under heavy load.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param queueSize The maximum number of tasks that can be queued before {@link #submit(WorkSet)} blocks.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int minTasksPerBatch, int maxTasksPerBatch, int queueSize, boolean fair,
+			FailureHandler failureHandler) {
+		this( name, processor, minTasksPerBatch, maxTasksPerBatch, queueSize, fair, failureHandler,
+				NoOpMetricsProvider.INSTANCE );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param minTasksPerBatch The minimum value of the maximum number of tasks to process in a single batch.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * @param queueSize The maximum number of tasks that can be queued before {@link #submit(WorkSet)} blocks.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsProvider A provider of meters to expose the queue size, batch sizes and batch durations,
+	 * tagged with the name of this executor.
+	 * @see #BatchingExecutor(String, WorkProcessor, int, int, int, boolean, FailureHandler)
+	 */
+	public BatchingExecutor(String name,
+			P processor, int minTasksPerBatch, int maxTasksPerBatch, int queueSize, boolean fair,
+			FailureHandler failureHandler, MetricsProvider metricsProvider) {
+		Contracts.assertStrictlyPositive( minTasksPerBatch, "minTasksPerBatch" );
+		Contracts.assertStrictlyPositive( queueSize, "queueSize" );
+		if ( maxTasksPerBatch < minTasksPerBatch ) {
+			throw log.invalidBatchSizeBounds( minTasksPerBatch, maxTasksPerBatch );
+		}
 		this.name = name;
 		this.processor = processor;
 		this.failureHandler = failureHandler;
-		this.maxTasksPerBatch = maxTasksPerBatch;
-		workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		workBuffer = new ArrayList<>( maxTasksPerBatch );
+		this.batchSizeController = new BatchSizeController( minTasksPerBatch, maxTasksPerBatch );
+		this.metricsProvider = metricsProvider;
+		this.metricsTags = EngineMetrics.executorTags( name );
+		this.batchSizeHistogram = metricsProvider.histogram( EngineMetrics.EXECUTOR_BATCH_SIZE, metricsTags );
+		this.batchDurationTimer = metricsProvider.timer( EngineMetrics.EXECUTOR_BATCH_DURATION, metricsTags );
+		workQueue = new ArrayBlockingQueue<>( queueSize, fair );
+		workBuffer = new ArrayList<>( Math.min( maxTasksPerBatch, queueSize ) );
 		processingStatus = new AtomicReference<>( ProcessingStatus.IDLE );
 	}
 
@@ -85,6 +149,7 @@ public synchronized void start(ThreadPoolProvider threadPoolProvider) {
 		log.startingExecutor( name );
 		executorService = threadPoolProvider.newFixedThreadPool( 1, name );
 		scheduledExecutorService = threadPoolProvider.getSharedScheduledThreadPool();
+		queueSizeGauge = metricsProvider.gauge( EngineMetrics.EXECUTOR_QUEUE_SIZE, metricsTags, workQueue::size );
 	}
 
 	/**
@@ -100,6 +165,8 @@ public synchronized void stop() {
 			// scheduledExecutorService is not ours to close: it's shared
 			closer.push( ExecutorService::shutdownNow, executorService );
 			executorService = null;
+			closer.push( Gauge::close, queueSizeGauge );
+			queueSizeGauge = null;
 			workQueue.clear();
 			// It's possible that processing was successfully scheduled in the executor service but had no chance to run,
 			// so we need to release waiting threads:
@@ -199,10 +266,15 @@ private void ensureProcessingRunning() {
 	private void process() {
 		try {
 			workBuffer.clear();
-			workQueue.drainTo( workBuffer, maxTasksPerBatch );
+			workQueue.drainTo( workBuffer, batchSizeController.getBatchSize() );
 
 			if ( !workBuffer.isEmpty() ) {
+				long startTime = System.nanoTime();
 				processBatch( workBuffer );
+				long duration = System.nanoTime() - startTime;
+				batchSizeController.onBatchProcessed( workBuffer.size(), duration, workQueue.size() );
+				batchSizeHistogram.record( workBuffer.size() );
+				batchDurationTimer.record( duration );
 			}
 		}
 		catch (Throwable e) {
@@ -73,6 +73,69 @@ public interface IndexSchemaManager {
 	 */
 	CompletableFuture<?> dropAndCreate();
 
+	/**
+	 * Creates an empty shadow index next to the existing index, with the schema expected by the mapper,
+	 * and redirects all subsequent writes to that shadow index.
+	 * <p>
+	 * Searches keep targeting the existing index until {@link #switchToShadow()} is called,
+	 * so the existing index remains fully searchable while the shadow index is being populated.
+	 * Conversely, changes written while the shadow index exists will only become visible
+	 * after the switch.
+	 * <p>
+	 * Any pre-existing shadow index is dropped first.
+	 *
+	 * @return A future.
+	 */
+	CompletableFuture<?> createShadow();
+
+	/**
+	 * Atomically switches searches to the shadow index created by {@link #createShadow()},
+	 * then drops the index that was previously searched.
+	 * <p>
+	 * After this method returns, the shadow index has become the (only) index.
+	 * <p>
+	 * Does not change anything if there is no shadow index.
+	 *
+	 * @return A future.
+	 */
+	CompletableFuture<?> switchToShadow();
+
+	/**
+	 * Drops the shadow index created by {@link #createShadow()}, if it exists,
+	 * and redirects all subsequent writes back to the existing index.
+	 * <p>
+	 * The existing index is left untouched, but changes written to the shadow index are lost.
+	 * <p>
+	 * Does not change anything if there is no shadow index.
+	 *
+	 * @return A future.
+	 */
+	CompletableFuture<?> dropShadowIfExisting();
+
+	/**
+	 * Temporarily changes the configuration of the index currently being written to
+	 * (the shadow index, if any) so as to speed up bulk loading,
+	 * at the cost of search freshness and resilience.
+	 * <p>
+	 * For example, backends may disable periodic refreshes or replication
+	 * until {@link #stopBulkLoad()} is called.
+	 * Backends that do not support such tuning simply do nothing.
+	 * <p>
+	 * Does not change anything if bulk loading was already started.
+	 *
+	 * @return A future.
+	 */
+	CompletableFuture<?> startBulkLoad();
+
+	/**
+	 * Restores the configuration changed by {@link #startBulkLoad()}.
+	 * <p>
+	 * Does not change anything if bulk loading was not started.
+	 *
+	 * @return A future.
+	 */
+	CompletableFuture<?> stopBulkLoad();
+
 	/**
 	 * Validates the existing schema against requirements expressed by the mapper.
 	 * <p>
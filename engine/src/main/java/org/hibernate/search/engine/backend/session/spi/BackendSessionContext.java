@@ -19,4 +19,16 @@ public interface BackendSessionContext {
 
 	String getTenantIdentifier();
 
+	/**
+	 * @return {@code true} if the backend may build documents from the entities of this session
+	 * later than when works are added to an indexing plan, and from another thread,
+	 * {@code false} if documents must be built in the thread adding works to the indexing plan,
+	 * before that method returns.
+	 * Mappers whose entities depend on a context that is not thread-safe,
+	 * such as a Hibernate ORM session for lazy loading, must return {@code false}.
+	 */
+	default boolean isDeferredDocumentBuildingSupported() {
+		return false;
+	}
+
 }
@@ -11,6 +11,7 @@
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 
 /**
  * A build context for backends.
@@ -27,4 +28,6 @@ public interface BackendBuildContext {
 
 	FailureHandler getFailureHandler();
 
+	MetricsProvider getMetricsProvider();
+
 }
@@ -12,6 +12,8 @@
 import org.hibernate.search.engine.cfg.EngineSettings;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
+import org.hibernate.search.engine.environment.metrics.impl.NoOpMetricsProvider;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 
@@ -49,6 +51,15 @@ private EngineSpiSettings() {
 	 */
 	public static final String THREAD_PROVIDER = PREFIX + Radicals.THREAD_PROVIDER;
 
+	/**
+	 * The {@link MetricsProvider} used to expose metrics about background processing and query execution.
+	 * <p>
+	 * Expects a reference to a bean of type {@link MetricsProvider}.
+	 * <p>
+	 * Defaults to {@link Defaults#METRICS_PROVIDER}, which ignores all metrics.
+	 */
+	public static final String METRICS_PROVIDER = PREFIX + Radicals.METRICS_PROVIDER;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -59,6 +70,7 @@ private Radicals() {
 
 		public static final String BEAN_CONFIGURERS = "bean_configurers";
 		public static final String THREAD_PROVIDER = "thread_provider";
+		public static final String METRICS_PROVIDER = "metrics_provider";
 	}
 
 	/**
@@ -72,5 +84,7 @@ private Defaults() {
 		public static final List<BeanReference<? extends BeanConfigurer>> BEAN_CONFIGURERS = Collections.emptyList();
 		public static final BeanReference<? extends ThreadProvider> THREAD_PROVIDER =
 				BeanReference.of( DefaultThreadProvider.class );
+		public static final BeanReference<? extends MetricsProvider> METRICS_PROVIDER =
+				BeanReference.of( NoOpMetricsProvider.class );
 	}
 }
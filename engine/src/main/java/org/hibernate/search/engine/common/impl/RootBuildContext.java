@@ -12,6 +12,7 @@
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.reporting.spi.FailureCollector;
 
 class RootBuildContext {
@@ -25,12 +26,14 @@ class RootBuildContext {
 	private final FailureCollector failureCollector;
 	private final ThreadPoolProvider threadPoolProvider;
 	private final FailureHandler failureHandler;
+	private final MetricsProvider metricsProvider;
 
 	RootBuildContext(ConfigurationPropertySource propertySource,
 			ClassResolver classResolver, ResourceResolver resourceResolver,
 			BeanResolver beanResolver,
 			FailureCollector failureCollector,
-			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler) {
+			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler,
+			MetricsProvider metricsProvider) {
 		this.propertySource = propertySource;
 		this.classResolver = classResolver;
 		this.resourceResolver = resourceResolver;
@@ -38,6 +41,7 @@ class RootBuildContext {
 		this.failureCollector = failureCollector;
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
+		this.metricsProvider = metricsProvider;
 	}
 
 	ConfigurationPropertySource getConfigurationPropertySource() {
@@ -67,4 +71,8 @@ ThreadPoolProvider getThreadPoolProvider() {
 	FailureHandler getFailureHandler() {
 		return failureHandler;
 	}
+
+	MetricsProvider getMetricsProvider() {
+		return metricsProvider;
+	}
 }
@@ -42,6 +42,7 @@
 import org.hibernate.search.engine.environment.classpath.spi.DefaultServiceResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ServiceResolver;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappedIndexManagerFactory;
 import org.hibernate.search.engine.mapper.mapping.building.spi.Mapper;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingAbortedException;
@@ -76,6 +77,12 @@ public class SearchIntegrationBuilderImpl implements SearchIntegrationBuilder {
 					.withDefault( EngineSpiSettings.Defaults.THREAD_PROVIDER )
 					.build();
 
+	private static final ConfigurationProperty<BeanReference<? extends MetricsProvider>> METRICS_PROVIDER =
+			ConfigurationProperty.forKey( EngineSpiSettings.Radicals.METRICS_PROVIDER )
+					.asBeanReference( MetricsProvider.class )
+					.withDefault( EngineSpiSettings.Defaults.METRICS_PROVIDER )
+					.build();
+
 	private final ConfigurationPropertyChecker propertyChecker;
 	private final ConfigurationPropertySource propertySource;
 	private final Map<MappingKey<?, ?>, MappingInitiator<?, ?>> mappingInitiators = new LinkedHashMap<>();
@@ -149,6 +156,7 @@ public <PBM extends MappingPartialBuildState> SearchIntegrationBuilder addMappin
 	public SearchIntegrationPartialBuildState prepareBuild() {
 		BeanHolder<? extends FailureHandler> failureHandlerHolder = null;
 		BeanHolder<? extends ThreadProvider> threadProviderHolder = null;
+		BeanHolder<? extends MetricsProvider> metricsProviderHolder = null;
 		IndexManagerBuildingStateHolder indexManagerBuildingStateHolder = null;
 		// Use a LinkedHashMap for deterministic iteration
 		List<MappingBuildingState<?, ?>> mappingBuildingStates = new ArrayList<>();
@@ -195,10 +203,13 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			threadProviderHolder = THREAD_PROVIDER.getAndTransform( propertySource, beanResolver::resolve );
 			ThreadPoolProviderImpl threadPoolProvider = new ThreadPoolProviderImpl( threadProviderHolder );
 
+			metricsProviderHolder = METRICS_PROVIDER.getAndTransform( propertySource, beanResolver::resolve );
+
 			RootBuildContext rootBuildContext = new RootBuildContext(
 					propertySource,
 					classResolver, resourceResolver, beanResolver,
-					failureCollector, threadPoolProvider, failureHandler
+					failureCollector, threadPoolProvider, failureHandler,
+					metricsProviderHolder.get()
 			);
 
 			indexManagerBuildingStateHolder = new IndexManagerBuildingStateHolder( beanResolver, propertySource, rootBuildContext );
@@ -263,6 +274,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 					beanProvider, beanResolver,
 					failureHandlerHolder,
 					threadPoolProvider,
+					metricsProviderHolder,
 					partiallyBuiltMappings,
 					indexManagerBuildingStateHolder.getBackendNonStartedStates(),
 					indexManagerBuildingStateHolder.getIndexManagersNonStartedStates(),
@@ -306,6 +318,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			closer.pushAll( holder -> holder.closeOnFailure( closer ), indexManagerBuildingStateHolder );
 			// Close environment resources before aborting
 			closer.pushAll( BeanHolder::close, threadProviderHolder );
+			closer.pushAll( BeanHolder::close, metricsProviderHolder );
 			closer.pushAll( BeanProvider::close, beanProvider );
 
 			throw rethrownException;
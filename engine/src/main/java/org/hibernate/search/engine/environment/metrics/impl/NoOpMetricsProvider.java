@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.impl;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.Gauge;
+import org.hibernate.search.engine.environment.metrics.spi.Histogram;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+
+/**
+ * A metrics provider that ignores all metrics.
+ * <p>
+ * All meters are shared, stateless no-op instances,
+ * so that instrumented code has virtually no overhead when metrics are disabled.
+ */
+public final class NoOpMetricsProvider implements MetricsProvider {
+
+	public static final NoOpMetricsProvider INSTANCE = new NoOpMetricsProvider();
+
+	private static final Counter COUNTER = amount -> { };
+	private static final Histogram HISTOGRAM = value -> { };
+	private static final Timer TIMER = durationNanos -> { };
+	private static final Gauge GAUGE = () -> { };
+
+	@Override
+	public Counter counter(String name, Map<String, String> tags) {
+		return COUNTER;
+	}
+
+	@Override
+	public Histogram histogram(String name, Map<String, String> tags) {
+		return HISTOGRAM;
+	}
+
+	@Override
+	public Timer timer(String name, Map<String, String> tags) {
+		return TIMER;
+	}
+
+	@Override
+	public Gauge gauge(String name, Map<String, String> tags, LongSupplier valueSupplier) {
+		return GAUGE;
+	}
+}
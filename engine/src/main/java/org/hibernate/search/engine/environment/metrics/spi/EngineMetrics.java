@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.spi;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Names and tags of the meters registered by the engine.
+ *
+ * @see MetricsProvider
+ */
+public final class EngineMetrics {
+
+	private static final String PREFIX = "hibernate.search.executor.";
+
+	public static final String EXECUTOR_QUEUE_SIZE = PREFIX + "queue.size";
+	public static final String EXECUTOR_BATCH_SIZE = PREFIX + "batch.size";
+	public static final String EXECUTOR_BATCH_DURATION = PREFIX + "batch.duration";
+
+	public static final String TAG_EXECUTOR = "executor";
+
+	private EngineMetrics() {
+	}
+
+	public static Map<String, String> executorTags(String executorName) {
+		return Collections.singletonMap( TAG_EXECUTOR, executorName );
+	}
+
+}
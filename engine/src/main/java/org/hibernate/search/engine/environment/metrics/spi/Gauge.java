@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.spi;
+
+/**
+ * A handle to a registered gauge.
+ *
+ * @see MetricsProvider#gauge(String, java.util.Map, java.util.function.LongSupplier)
+ */
+public interface Gauge extends AutoCloseable {
+
+	/**
+	 * Unregister the gauge, so that its value supplier is no longer called.
+	 */
+	@Override
+	void close();
+
+}
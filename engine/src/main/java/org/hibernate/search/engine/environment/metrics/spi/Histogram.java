@@ -0,0 +1,21 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.spi;
+
+/**
+ * A recorder of the distribution of (non-temporal) values, e.g. batch sizes.
+ *
+ * @see MetricsProvider#histogram(String, java.util.Map)
+ */
+public interface Histogram {
+
+	/**
+	 * @param value The value to record. Must be positive or zero.
+	 */
+	void record(long value);
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.spi;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * A provider of meters, allowing Hibernate Search to expose metrics
+ * about its background processing (queue depth, batch sizes, commit and refresh latency, ...)
+ * and about query execution.
+ * <p>
+ * Meters are created once, typically when a component starts,
+ * and are then updated from the hot path (indexing, searching) by the component.
+ * Implementations must thus make sure that updating a meter is thread-safe, cheap and allocation-free:
+ * typically this means relying on {@link java.util.concurrent.atomic.LongAdder} for counters
+ * and on pre-allocated buckets or recorders for histograms.
+ * <p>
+ * Meters are identified by a name, e.g. {@code hibernate.search.lucene.commit.duration},
+ * and by tags, e.g. {@code index=myIndex}, which can be used as dimensions when exposing the metrics.
+ * The same name and tags may be requested multiple times, e.g. once per mass indexing:
+ * implementations are expected to return the same meter (or a meter sharing the same values) every time.
+ */
+public interface MetricsProvider {
+
+	/**
+	 * @param name The name of the counter.
+	 * @param tags The tags of the counter.
+	 * @return A counter, i.e. a monotonically increasing value.
+	 */
+	Counter counter(String name, Map<String, String> tags);
+
+	/**
+	 * @param name The name of the histogram.
+	 * @param tags The tags of the histogram.
+	 * @return A histogram recording the distribution of (non-temporal) values, e.g. batch sizes.
+	 */
+	Histogram histogram(String name, Map<String, String> tags);
+
+	/**
+	 * @param name The name of the timer.
+	 * @param tags The tags of the timer.
+	 * @return A timer recording the distribution of durations, e.g. commit latency.
+	 */
+	Timer timer(String name, Map<String, String> tags);
+
+	/**
+	 * Register a gauge, i.e. a value that can go up and down and is sampled when metrics are collected.
+	 *
+	 * @param name The name of the gauge.
+	 * @param tags The tags of the gauge.
+	 * @param valueSupplier A supplier of the current value of the gauge.
+	 * Will be called from the thread collecting metrics, so it must be thread-safe.
+	 * @return A handle allowing to unregister the gauge when the component it monitors stops.
+	 */
+	Gauge gauge(String name, Map<String, String> tags, LongSupplier valueSupplier);
+
+}
@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.spi;
+
+/**
+ * A recorder of the distribution of durations, e.g. commit latency.
+ *
+ * @see MetricsProvider#timer(String, java.util.Map)
+ */
+public interface Timer {
+
+	/**
+	 * @param durationNanos The duration to record, in nanoseconds,
+	 * typically computed from two calls to {@link System#nanoTime()}.
+	 */
+	void record(long durationNanos);
+
+}
@@ -309,4 +309,13 @@ void configurationPropertyTrackingUnusedProperties(Set<String> propertyKeys, Str
 			value = "The background failure handler threw an exception while handling a previous failure."
 					+ " The failure may not have been reported.")
 	void failureInFailureHandler(@Cause Throwable t);
+
+	@Message(id = ID_OFFSET_2 + 70,
+			value = "Invalid batch size bounds: the minimum batch size (%1$s) must be lower than or equal to the maximum batch size (%2$s).")
+	SearchException invalidBatchSizeBounds(int minBatchSize, int maxBatchSize);
+
+	@Message(id = ID_OFFSET_2 + 71,
+			value = "Unable to load entities asynchronously: the mapper can only load entities by blocking the current thread."
+					+ " Either fetch the results synchronously, or use projections that do not require entity loading.")
+	SearchException cannotLoadEntitiesAsynchronously();
 }
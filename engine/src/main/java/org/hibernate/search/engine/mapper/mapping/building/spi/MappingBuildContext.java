@@ -11,6 +11,7 @@
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
@@ -46,6 +47,8 @@ public interface MappingBuildContext {
 
 	ThreadPoolProvider getThreadPoolProvider();
 
+	MetricsProvider getMetricsProvider();
+
 	ConfigurationPropertySource getConfigurationPropertySource();
 
 }
@@ -6,19 +6,25 @@
  */
 package org.hibernate.search.engine.search.loading.spi;
 
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
+import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.util.common.impl.CollectionHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public final class DefaultProjectionHitMapper<R, E> implements ProjectionHitMapper<R, E> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final DocumentReferenceConverter<R> documentReferenceConverter;
 	private final EntityLoader<R, ? extends E> objectLoader;
 
-	private final List<R> referencesToLoad = new ArrayList<>();
+	private List<R> referencesToLoad = new ArrayList<>();
 
 	public DefaultProjectionHitMapper(DocumentReferenceConverter<R> documentReferenceConverter,
 			EntityLoader<R, ? extends E> objectLoader) {
@@ -39,7 +45,28 @@ public Object planLoading(DocumentReference reference) {
 
 	@Override
 	public LoadingResult<E> loadBlocking() {
-		return new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
+		List<R> references = referencesToLoad;
+		// Make sure the next hits (e.g. the next chunk when scrolling) don't trigger loading of these references again.
+		// Don't clear the list: the loader may return it as is.
+		referencesToLoad = new ArrayList<>();
+		return new DefaultLoadingResult<>( objectLoader.loadBlocking( references ) );
+	}
+
+	@Override
+	public CompletableFuture<LoadingResult<E>> loadAsync() {
+		CompletableFuture<LoadingResult<E>> future = new CompletableFuture<>();
+		if ( !referencesToLoad.isEmpty() && objectLoader.isBlocking() ) {
+			future.completeExceptionally( log.cannotLoadEntitiesAsynchronously() );
+			return future;
+		}
+		// Either there is nothing to load, or loading will not block: we can load right away.
+		try {
+			future.complete( loadBlocking() );
+		}
+		catch (RuntimeException e) {
+			future.completeExceptionally( e );
+		}
+		return future;
 	}
 
 	private static class DefaultLoadingResult<E> implements LoadingResult<E> {
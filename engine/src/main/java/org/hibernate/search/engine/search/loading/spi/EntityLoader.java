@@ -25,6 +25,15 @@
 	 */
 	List<E> loadBlocking(List<R> references);
 
+	/**
+	 * @return {@code true} if {@link #loadBlocking(List)} may block the current thread,
+	 * e.g. to wait for I/O, {@code false} if it can safely be called from any thread without blocking.
+	 * Only non-blocking loaders can be used when fetching results asynchronously.
+	 */
+	default boolean isBlocking() {
+		return true;
+	}
+
 	static <T> EntityLoader<T, T> identity() {
 		return IdentityEntityLoader.get();
 	}
@@ -21,4 +21,9 @@ public static <E> IdentityEntityLoader<E> get() {
 	public List<E> loadBlocking(List<E> references) {
 		return references;
 	}
+
+	@Override
+	public boolean isBlocking() {
+		return false;
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.loading.spi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.backend.common.DocumentReference;
 
 /**
@@ -39,4 +41,12 @@
 	 */
 	LoadingResult<E> loadBlocking();
 
+	/**
+	 * Loads the entities planned for loading in one go, without blocking the current thread.
+	 *
+	 * @return A future that will be completed with the loaded entities,
+	 * or completed exceptionally if loading failed or if the entities cannot be loaded without blocking.
+	 */
+	CompletableFuture<LoadingResult<E>> loadAsync();
+
 }
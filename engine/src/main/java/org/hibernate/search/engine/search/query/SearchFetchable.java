@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
@@ -140,4 +141,83 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the {@link SearchResult}, limiting to {@code limit} hits.
+	 * <p>
+	 * Behaves like {@link #fetch(Integer)}, except that this method does not block the current thread
+	 * while the query is being executed.
+	 * Any failure will be reported by completing the {@link CompletionStage} exceptionally.
+	 * <p>
+	 * Entities are loaded without blocking only if the mapper supports it:
+	 * if it does not, and hits require entity loading,
+	 * the {@link CompletionStage} will be completed exceptionally with a {@link SearchException}.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult}.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the {@link SearchResult}, skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult}.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the hits as a {@link List}, limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the query hits.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the hits as a {@link List}, skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the query hits.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the total hit count.
+	 * <p>
+	 * Behaves like {@link #fetchTotalHitCount()}, except that this method does not block the current thread
+	 * while the query is being executed.
+	 * Any failure will be reported by completing the {@link CompletionStage} exceptionally.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the total number of matching entities,
+	 * ignoring pagination settings.
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
+	/**
+	 * Create a {@link SearchScroll} for this query,
+	 * allowing to retrieve hits chunk by chunk with bounded memory usage.
+	 * <p>
+	 * The returned scroll holds resources and must be {@link SearchScroll#close() closed}
+	 * once it is no longer needed.
+	 *
+	 * @param chunkSize The maximum number of hits to be returned by each call to {@link SearchScroll#next()}.
+	 * Must be strictly positive.
+	 * @return The {@link SearchScroll}.
+	 * @throws IllegalArgumentException If {@code chunkSize} is zero or negative.
+	 */
+	SearchScroll<H> scroll(int chunkSize);
+
 }
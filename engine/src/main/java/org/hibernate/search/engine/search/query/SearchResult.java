@@ -21,6 +21,14 @@
 	 */
 	long getTotalHitCount();
 
+	/**
+	 * @return {@code true} if {@link #getTotalHitCount()} is the exact number of matching entities,
+	 * {@code false} if it is only a lower bound because the
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(long) total hit count threshold}
+	 * was reached.
+	 */
+	boolean isTotalHitCountExact();
+
 	/**
 	 * @return The hits as a {@link List} containing one element for each matched entity.
 	 */
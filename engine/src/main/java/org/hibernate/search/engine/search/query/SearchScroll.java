@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.common.annotaion.Incubating;
+
+/**
+ * A scroll through the hits of a search query,
+ * allowing to retrieve hits chunk by chunk with bounded memory usage.
+ * <p>
+ * Scrolls hold resources and must be {@link #close() closed} once they are no longer needed,
+ * ideally using a try-with-resources block.
+ *
+ * @param <H> The type of query hits.
+ */
+@Incubating
+public interface SearchScroll<H> extends AutoCloseable {
+
+	/**
+	 * Releases the resources held by this scroll.
+	 * <p>
+	 * Calling {@link #next()} after this method was called is not allowed.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Retrieve the next chunk of hits.
+	 *
+	 * @return The next {@link SearchScrollResult}.
+	 * When there are no more hits, the returned result will have {@link SearchScrollResult#hasHits() no hits}.
+	 * @throws SearchException If something goes wrong while executing the query.
+	 * @throws SearchTimeoutException If a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * and was reached while executing the query.
+	 * @throws RuntimeException If something goes wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	SearchScrollResult<H> next();
+
+}
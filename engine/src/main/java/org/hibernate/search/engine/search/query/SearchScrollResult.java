@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.List;
+
+import org.hibernate.search.util.common.annotaion.Incubating;
+
+/**
+ * A chunk of hits returned by a {@link SearchScroll}.
+ *
+ * @param <H> The type of hits.
+ */
+@Incubating
+public interface SearchScrollResult<H> {
+
+	/**
+	 * @return {@code true} if this chunk contains hits, {@code false} if the end of the scroll was reached.
+	 * Note that this method may return {@code true} even though {@link #getHits()} is empty,
+	 * for example when all the entities matching this chunk were deleted before they could be loaded.
+	 */
+	boolean hasHits();
+
+	/**
+	 * @return The hits of this chunk as a {@link List}, containing one element for each matched entity.
+	 */
+	List<H> getHits();
+
+	/**
+	 * @return The total number of matching entities, ignoring chunking.
+	 */
+	long getTotalHitCount();
+
+}
@@ -92,6 +92,23 @@
 	 */
 	S failAfter(long timeout, TimeUnit timeUnit);
 
+	/**
+	 * Allow the backend to stop counting matching documents once it found at least {@code totalHitCountThreshold} of them.
+	 * <p>
+	 * When the total hit count is not needed exactly (e.g. when displaying "more than 1,000 results"),
+	 * this allows backends to skip documents that cannot make it to the top hits,
+	 * which can make queries on large indexes much faster.
+	 * <p>
+	 * When the threshold is reached, {@link org.hibernate.search.engine.search.query.SearchResult#getTotalHitCount()}
+	 * returns a lower bound of the actual count
+	 * and {@link org.hibernate.search.engine.search.query.SearchResult#isTotalHitCountExact()} returns {@code false}.
+	 * Backends may ignore this option and always count hits exactly.
+	 *
+	 * @param totalHitCountThreshold The number of hits to count exactly. Must be positive or zero.
+	 * @return {@code this}, for method chaining.
+	 */
+	S totalHitCountThreshold(long totalHitCountThreshold);
+
 	/**
 	 * Configure entity loading for this query.
 	 * @param loadingOptionsContributor A consumer that will alter the loading options passed in parameter.
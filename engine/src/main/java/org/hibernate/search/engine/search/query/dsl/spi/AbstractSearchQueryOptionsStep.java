@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -36,8 +37,10 @@
 import org.hibernate.search.engine.search.predicate.spi.SearchPredicateBuilderFactory;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.sort.spi.SearchSortBuilderFactory;
+import org.hibernate.search.util.common.impl.Contracts;
 
 public abstract class AbstractSearchQueryOptionsStep<
 				S extends SearchQueryOptionsStep<S, H, LOS, SF, AF>,
@@ -102,6 +105,13 @@ public S failAfter(long timeout, TimeUnit timeUnit) {
 		return thisAsS();
 	}
 
+	@Override
+	public S totalHitCountThreshold(long totalHitCountThreshold) {
+		Contracts.assertPositiveOrZero( totalHitCountThreshold, "totalHitCountThreshold" );
+		searchQueryBuilder.totalHitCountThreshold( totalHitCountThreshold );
+		return thisAsS();
+	}
+
 	@Override
 	public S loading(Consumer<? super LOS> loadingOptionsContributor) {
 		loadingOptionsContributor.accept( loadingContextBuilder.toAPI() );
@@ -189,6 +199,36 @@ public long fetchTotalHitCount() {
 		return toQuery().fetchTotalHitCount();
 	}
 
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return toQuery().fetchAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit) {
+		return toQuery().fetchHitsAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return toQuery().fetchHitsAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return toQuery().fetchTotalHitCountAsync();
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		return toQuery().scroll( chunkSize );
+	}
+
 	private <B> void contribute(SearchPredicateBuilderFactory<? super C, B> factory, SearchPredicate predicate) {
 		factory.contribute( searchQueryBuilder.toQueryElementCollector(), factory.toImplementation( predicate ) );
 	}
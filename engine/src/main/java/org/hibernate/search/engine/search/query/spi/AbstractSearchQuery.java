@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.query.SearchQuery;
@@ -58,6 +59,27 @@ public List<H> fetchHits(Integer offset, Integer limit) {
 		return fetch( offset, limit ).getHits();
 	}
 
+	@Override
+	public CompletableFuture<R> fetchAsync(Integer limit) {
+		return fetchAsync( null, limit );
+	}
+
+	@Override
+	public abstract CompletableFuture<R> fetchAsync(Integer offset, Integer limit);
+
+	@Override
+	public CompletableFuture<List<H>> fetchHitsAsync(Integer limit) {
+		return fetchHitsAsync( null, limit );
+	}
+
+	@Override
+	public CompletableFuture<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return fetchAsync( offset, limit ).thenApply( SearchResult::getHits );
+	}
+
+	@Override
+	public abstract CompletableFuture<Long> fetchTotalHitCountAsync();
+
 	@Override
 	public Optional<H> fetchSingleHit() {
 		// We don't need to fetch more than two elements to detect a problem
@@ -22,6 +22,7 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final long hitCount;
+	private final boolean hitCountExact;
 	private final List<H> hits;
 	private final Map<AggregationKey<?>, ?> aggregationResults;
 	private final Duration took;
@@ -29,7 +30,13 @@
 
 	public SimpleSearchResult(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
 			Duration took, Boolean timedOut) {
+		this( hitCount, true, hits, aggregationResults, took, timedOut );
+	}
+
+	public SimpleSearchResult(long hitCount, boolean hitCountExact, List<H> hits,
+			Map<AggregationKey<?>, ?> aggregationResults, Duration took, Boolean timedOut) {
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
 		this.hits = hits;
 		this.aggregationResults = aggregationResults;
 		this.took = took;
@@ -41,6 +48,11 @@ public long getTotalHitCount() {
 		return hitCount;
 	}
 
+	@Override
+	public boolean isTotalHitCountExact() {
+		return hitCountExact;
+	}
+
 	@Override
 	public List<H> getHits() {
 		return hits;
@@ -70,6 +82,7 @@ public boolean isTimedOut() {
 	public String toString() {
 		return new StringJoiner( ", ", SimpleSearchResult.class.getSimpleName() + "[", "]" )
 				.add( "hitCount=" + hitCount )
+				.add( "hitCountExact=" + hitCountExact )
 				.add( "hits=" + hits )
 				.add( "aggregationResults=" + aggregationResults )
 				.add( "took=" + took )
@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class BatchSizeControllerTest {
+
+	@Test
+	public void fixed() {
+		BatchSizeController controller = new BatchSizeController( 100, 100 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 100 );
+
+		// Backlog
+		controller.onBatchProcessed( 100, 1000L, 1000 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 100 );
+
+		// Light traffic
+		controller.onBatchProcessed( 1, 10L, 0 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void backlog_grows() {
+		BatchSizeController controller = new BatchSizeController( 10, 100 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 10 );
+
+		controller.onBatchProcessed( 10, 10_000L, 1000 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 20 );
+
+		// Same cost per workset: keep growing
+		controller.onBatchProcessed( 20, 20_000L, 1000 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 40 );
+
+		// Lower cost per workset: keep growing
+		controller.onBatchProcessed( 40, 20_000L, 1000 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 80 );
+
+		// Never exceed the maximum
+		controller.onBatchProcessed( 80, 20_000L, 1000 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 100 );
+		controller.onBatchProcessed( 100, 20_000L, 1000 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void backlog_higherCost_shrinks() {
+		BatchSizeController controller = new BatchSizeController( 10, 100 );
+
+		controller.onBatchProcessed( 10, 10_000L, 1000 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 20 );
+
+		// Much higher cost per workset: step back
+		controller.onBatchProcessed( 20, 40_000L, 1000 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void lightTraffic_shrinks() {
+		BatchSizeController controller = new BatchSizeController( 10, 100 );
+		controller.onBatchProcessed( 10, 10_000L, 1000 );
+		controller.onBatchProcessed( 20, 20_000L, 1000 );
+		controller.onBatchProcessed( 40, 40_000L, 1000 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 80 );
+
+		// The queue was drained by a small batch: shrink
+		controller.onBatchProcessed( 5, 5_000L, 0 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 40 );
+		controller.onBatchProcessed( 5, 5_000L, 0 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 20 );
+		controller.onBatchProcessed( 5, 5_000L, 0 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 10 );
+
+		// Never go below the minimum
+		controller.onBatchProcessed( 1, 1_000L, 0 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void steadyTraffic_stable() {
+		BatchSizeController controller = new BatchSizeController( 10, 100 );
+		controller.onBatchProcessed( 10, 10_000L, 1000 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 20 );
+
+		// Full batch, but no significant backlog: keep the current size
+		controller.onBatchProcessed( 20, 20_000L, 5 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 20 );
+
+		// Queue drained, but the batch was not that small: keep the current size
+		controller.onBatchProcessed( 15, 15_000L, 0 );
+		assertThat( controller.getBatchSize() ).isEqualTo( 20 );
+	}
+
+}
@@ -12,10 +12,21 @@
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.expectLastCall;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongSupplier;
 
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.EngineMetrics;
+import org.hibernate.search.engine.environment.metrics.spi.Gauge;
+import org.hibernate.search.engine.environment.metrics.spi.Histogram;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
 import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
 import org.hibernate.search.engine.reporting.FailureContext;
@@ -480,6 +491,55 @@ private void verifyAllAsynchronously() {
 		} );
 	}
 
+	@Test
+	public void metrics() throws InterruptedException {
+		StubMetricsProvider metricsProvider = new StubMetricsProvider();
+		this.executor = new BatchingExecutor<>(
+				NAME, processorMock, 4, 4, 4, true, failureHandlerMock, metricsProvider
+		);
+		resetAll();
+		replayAll();
+		executor.start( threadPoolProvider );
+		verifyAll();
+
+		LongSupplier queueSize = metricsProvider.gauges.get( EngineMetrics.EXECUTOR_QUEUE_SIZE );
+		assertThat( queueSize ).isNotNull();
+		assertThat( queueSize.getAsLong() ).isEqualTo( 0L );
+
+		Runnable unblockExecutorSwitch = blockExecutor();
+
+		StubWorkSet workSet1Mock = createMock( StubWorkSet.class );
+		StubWorkSet workSet2Mock = createMock( StubWorkSet.class );
+		resetAll();
+		replayAll();
+		executor.submit( workSet1Mock );
+		executor.submit( workSet2Mock );
+		verifyAll();
+		assertThat( queueSize.getAsLong() ).isEqualTo( 2L );
+
+		resetAll();
+		processorMock.beginBatch();
+		workSet1Mock.submitTo( processorMock );
+		workSet2Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) CompletableFuture.completedFuture( null ) );
+		expect( processorMock.completeOrDelay() ).andReturn( 0L );
+		replayAll();
+		unblockExecutorSwitch.run();
+		verifyAllAsynchronously();
+
+		await().untilAsserted( () -> {
+			assertThat( metricsProvider.recorded( EngineMetrics.EXECUTOR_BATCH_SIZE ) )
+					.containsExactly( 1L, 2L );
+			assertThat( metricsProvider.recorded( EngineMetrics.EXECUTOR_BATCH_DURATION ) )
+					.hasSize( 2 )
+					.allSatisfy( duration -> assertThat( duration ).isGreaterThanOrEqualTo( 0L ) );
+		} );
+		assertThat( queueSize.getAsLong() ).isEqualTo( 0L );
+
+		executor.stop();
+		assertThat( metricsProvider.gauges ).isEmpty();
+	}
+
 	/*
 	 * Block the executor by submitting a batch that will only complete when the returned runnable is executed.
 	 * Used to give us the time to carefully craft the next batch with a specific sequence of worksets.
@@ -570,4 +630,40 @@ private interface StubCompletionListener {
 
 	private static class SimulatedFailure extends RuntimeException {
 	}
+
+	private static class StubMetricsProvider implements MetricsProvider {
+		private final Map<String, List<Long>> recordedValues = new ConcurrentHashMap<>();
+		private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+		@Override
+		public Counter counter(String name, Map<String, String> tags) {
+			return recorder( name, tags )::add;
+		}
+
+		@Override
+		public Histogram histogram(String name, Map<String, String> tags) {
+			return recorder( name, tags )::add;
+		}
+
+		@Override
+		public Timer timer(String name, Map<String, String> tags) {
+			return recorder( name, tags )::add;
+		}
+
+		@Override
+		public Gauge gauge(String name, Map<String, String> tags, LongSupplier valueSupplier) {
+			assertThat( tags ).containsEntry( EngineMetrics.TAG_EXECUTOR, NAME );
+			gauges.put( name, valueSupplier );
+			return () -> gauges.remove( name );
+		}
+
+		List<Long> recorded(String name) {
+			return recordedValues.get( name );
+		}
+
+		private List<Long> recorder(String name, Map<String, String> tags) {
+			assertThat( tags ).containsEntry( EngineMetrics.TAG_EXECUTOR, NAME );
+			return recordedValues.computeIfAbsent( name, ignored -> new CopyOnWriteArrayList<>() );
+		}
+	}
 }
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.integrationtest.backend.elasticsearch.client;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
@@ -17,7 +20,12 @@
 import static org.hibernate.search.util.impl.test.ExceptionMatcherBuilder.isException;
 import static org.hibernate.search.util.impl.test.JsonHelper.assertJsonEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -27,6 +35,9 @@
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
 import javax.net.ssl.SSLContext;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
@@ -71,6 +82,7 @@
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import com.github.tomakehurst.wiremock.matching.MatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -623,6 +635,95 @@ public void authentication_http_password() throws Exception {
 		}
 	}
 
+	@Test
+	public void compression_gzip() throws Exception {
+		String payload = "{ \"foo\": \"bar\" }";
+		String responseBody = "{ \"foo\": \"baz\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType/_search" ) )
+				.withHeader( "Content-Encoding", equalTo( "gzip" ) )
+				.withHeader( "Accept-Encoding", containing( "gzip" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 )
+						.withHeader( "Content-Encoding", "gzip" )
+						.withBody( gzip( responseBody ) ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient(
+				properties -> properties.accept( ElasticsearchBackendSettings.COMPRESSION, "gzip" )
+		) ) {
+			ElasticsearchResponse result = doPost( client, "/myIndex/myType/_search", payload );
+			assertThat( result.getStatusCode() ).as( "status code" ).isEqualTo( 200 );
+			assertJsonEquals( responseBody, result.getBody().toString() );
+		}
+	}
+
+	@Test
+	public void compression_deflate() throws Exception {
+		String payload = "{ \"foo\": \"bar\" }";
+		String responseBody = "{ \"foo\": \"baz\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType/_search" ) )
+				.withHeader( "Content-Encoding", equalTo( "deflate" ) )
+				.withHeader( "Accept-Encoding", containing( "deflate" ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 )
+						.withHeader( "Content-Encoding", "deflate" )
+						.withBody( deflate( responseBody ) ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient(
+				properties -> properties.accept( ElasticsearchBackendSettings.COMPRESSION, "deflate" )
+		) ) {
+			ElasticsearchResponse result = doPost( client, "/myIndex/myType/_search", payload );
+			assertThat( result.getStatusCode() ).as( "status code" ).isEqualTo( 200 );
+			assertJsonEquals( responseBody, result.getBody().toString() );
+
+			// Wiremock doesn't decompress deflate request bodies, so we need to check the request body ourselves
+			List<LoggedRequest> requests = wireMockRule1.findAll( postRequestedFor( urlPathMatching( "/myIndex/myType/_search" ) ) );
+			assertThat( requests ).hasSize( 1 );
+			assertJsonEquals( payload, inflate( requests.get( 0 ).getBody() ) );
+		}
+	}
+
+	@Test
+	public void compression_none() throws Exception {
+		String payload = "{ \"foo\": \"bar\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType/_search" ) )
+				.withHeader( "Content-Encoding", absent() )
+				.withHeader( "Accept-Encoding", absent() )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient() ) {
+			ElasticsearchResponse result = doPost( client, "/myIndex/myType/_search", payload );
+			assertThat( result.getStatusCode() ).as( "status code" ).isEqualTo( 200 );
+		}
+	}
+
+	private static byte[] gzip(String content) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try ( OutputStream compressingStream = new GZIPOutputStream( outputStream ) ) {
+			compressingStream.write( content.getBytes( StandardCharsets.UTF_8 ) );
+		}
+		return outputStream.toByteArray();
+	}
+
+	private static byte[] deflate(String content) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try ( OutputStream compressingStream = new DeflaterOutputStream( outputStream ) ) {
+			compressingStream.write( content.getBytes( StandardCharsets.UTF_8 ) );
+		}
+		return outputStream.toByteArray();
+	}
+
+	private static String inflate(byte[] compressed) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try ( InputStream decompressingStream = new InflaterInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = decompressingStream.read( buffer ) ) >= 0 ) {
+				outputStream.write( buffer, 0, read );
+			}
+		}
+		return new String( outputStream.toByteArray(), StandardCharsets.UTF_8 );
+	}
+
 	private ElasticsearchClientImplementor createClient() {
 		return createClient( ignored -> { } );
 	}
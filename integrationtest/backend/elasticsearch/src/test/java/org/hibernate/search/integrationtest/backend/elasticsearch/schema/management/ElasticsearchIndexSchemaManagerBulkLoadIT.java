@@ -0,0 +1,154 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.schema.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.rule.TestElasticsearchClient;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests related to bulk-load settings, i.e. temporarily tuning dynamic index settings for mass indexing.
+ */
+public class ElasticsearchIndexSchemaManagerBulkLoadIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TestElasticsearchClient elasticsearchClient = new TestElasticsearchClient();
+
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> {
+							IndexSchemaElement root = ctx.getSchemaElement();
+							root.field( "field", f -> f.asString() )
+									.toReference();
+						},
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void defaultSettings() {
+		String originalReplicas = setting( "index.number_of_replicas" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().startBulkLoad() );
+
+		assertThat( setting( "index.refresh_interval" ) ).isEqualTo( "\"-1\"" );
+		assertThat( setting( "index.number_of_replicas" ) ).isEqualTo( "\"0\"" );
+		assertThat( setting( "index.translog.durability" ) ).isEqualTo( "\"async\"" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().stopBulkLoad() );
+
+		// Settings that were not set explicitly must not be set explicitly after bulk loading
+		assertThat( setting( "index.refresh_interval" ) ).isEqualTo( "{}" );
+		assertThat( setting( "index.translog.durability" ) ).isEqualTo( "{}" );
+		assertThat( setting( "index.number_of_replicas" ) ).isEqualTo( originalReplicas );
+	}
+
+	@Test
+	public void customSettings() {
+		elasticsearchClient.index( INDEX_NAME ).settings( "index.refresh_interval" ).putDynamic( "\"5s\"" );
+		elasticsearchClient.index( INDEX_NAME ).settings( "index.translog.durability" ).putDynamic( "\"request\"" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().startBulkLoad() );
+
+		assertThat( setting( "index.refresh_interval" ) ).isEqualTo( "\"-1\"" );
+		assertThat( setting( "index.translog.durability" ) ).isEqualTo( "\"async\"" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().stopBulkLoad() );
+
+		assertThat( setting( "index.refresh_interval" ) ).isEqualTo( "\"5s\"" );
+		assertThat( setting( "index.translog.durability" ) ).isEqualTo( "\"request\"" );
+	}
+
+	@Test
+	public void stopBulkLoad_notStarted() {
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().stopBulkLoad() );
+
+		// Nothing should have happened
+		assertThat( setting( "index.refresh_interval" ) ).isEqualTo( "{}" );
+	}
+
+	@Test
+	public void concurrentBulkLoads() {
+		elasticsearchClient.index( INDEX_NAME ).settings( "index.refresh_interval" ).putDynamic( "\"5s\"" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().startBulkLoad() );
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().startBulkLoad() );
+
+		assertThat( setting( "index.refresh_interval" ) ).isEqualTo( "\"-1\"" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().stopBulkLoad() );
+
+		// The other bulk load is still in progress
+		assertThat( setting( "index.refresh_interval" ) ).isEqualTo( "\"-1\"" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().stopBulkLoad() );
+
+		assertThat( setting( "index.refresh_interval" ) ).isEqualTo( "\"5s\"" );
+	}
+
+	@Test
+	public void leftoverBulkLoadSettings() {
+		// Simulate a previous bulk load that never stopped, e.g. because the application crashed
+		elasticsearchClient.index( INDEX_NAME ).settings( "index.refresh_interval" ).putDynamic( "\"-1\"" );
+		elasticsearchClient.index( INDEX_NAME ).settings( "index.number_of_replicas" ).putDynamic( "\"0\"" );
+		elasticsearchClient.index( INDEX_NAME ).settings( "index.translog.durability" ).putDynamic( "\"async\"" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().startBulkLoad() );
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().stopBulkLoad() );
+
+		// The original settings were lost: the configured settings must be restored
+		assertThat( setting( "index.refresh_interval" ) ).isEqualTo( "{}" );
+		assertThat( setting( "index.translog.durability" ) ).isEqualTo( "{}" );
+	}
+
+	@Test
+	public void indexingDuringBulkLoad() {
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().startBulkLoad() );
+
+		add( "1" );
+		add( "2" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().stopBulkLoad() );
+		Futures.unwrappedExceptionJoin( indexManager.createWorkspace().refresh() );
+
+		assertThat( indexManager.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	private String setting(String path) {
+		return elasticsearchClient.index( INDEX_NAME ).settings( path ).get();
+	}
+
+	private void add(String id) {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( id ), document -> {
+		} );
+		plan.execute().join();
+	}
+}
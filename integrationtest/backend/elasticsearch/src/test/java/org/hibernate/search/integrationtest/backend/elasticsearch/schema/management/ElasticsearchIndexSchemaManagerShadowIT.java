@@ -0,0 +1,128 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.schema.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultWriteAlias;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.encodeName;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.rule.TestElasticsearchClient;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests related to shadow indexes, i.e. reindexing into a new index behind the write alias.
+ */
+public class ElasticsearchIndexSchemaManagerShadowIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TestElasticsearchClient elasticsearchClient = new TestElasticsearchClient();
+
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> {
+							IndexSchemaElement root = ctx.getSchemaElement();
+							root.field( "field", f -> f.asString() )
+									.toReference();
+						},
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		add( "1" );
+	}
+
+	@Test
+	public void switchToShadow() {
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().createShadow() );
+
+		assertThat( shadowIndex().exists() ).isTrue();
+
+		add( "2" );
+		add( "3" );
+
+		// Searches still target the existing index
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().switchToShadow() );
+
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "2", "3" );
+		assertThat( elasticsearchClient.index( INDEX_NAME ).exists() ).isFalse();
+		assertThat( shadowIndex().exists() ).isTrue();
+
+		// Writes still go to the new index
+		add( "4" );
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "2", "3", "4" );
+	}
+
+	@Test
+	public void switchToShadow_noShadow() {
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().switchToShadow() );
+
+		// Nothing should have happened
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( elasticsearchClient.index( INDEX_NAME ).exists() ).isTrue();
+	}
+
+	@Test
+	public void dropShadowIfExisting() {
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().createShadow() );
+
+		add( "2" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().dropShadowIfExisting() );
+
+		assertThat( shadowIndex().exists() ).isFalse();
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+
+		// Writes go to the existing index again
+		add( "3" );
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1", "3" );
+	}
+
+	private TestElasticsearchClient.IndexClient shadowIndex() {
+		return elasticsearchClient.index(
+				encodeName( INDEX_NAME + "-000002" ),
+				defaultWriteAlias( INDEX_NAME ), defaultReadAlias( INDEX_NAME )
+		);
+	}
+
+	private void add(String id) {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( id ), document -> {
+		} );
+		plan.execute().join();
+	}
+
+	private SearchQuery<DocumentReference> matchAll() {
+		return indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that searches submitted concurrently return the correct results
+ * when they are grouped into multi-search requests.
+ */
+public class ElasticsearchMultiSearchIT {
+
+	private static final String INDEX_NAME = "indexname";
+
+	private static final int DOCUMENT_COUNT = 20;
+	private static final int QUERY_COUNT = 200;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( ElasticsearchBackendSettings.QUERY_MAX_MULTI_SEARCH_SIZE, 10 )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void concurrentSearches() {
+		StubMappingScope scope = indexManager.createScope();
+
+		List<CompletableFuture<List<Integer>>> futures = new ArrayList<>();
+		for ( int i = 0; i < QUERY_COUNT; i++ ) {
+			int value = i % DOCUMENT_COUNT;
+			futures.add( scope.query()
+					.select( f -> f.field( "integer", Integer.class ) )
+					.where( f -> f.match().field( "integer" ).matching( value ) )
+					.fetchHitsAsync( null )
+					.toCompletableFuture() );
+		}
+
+		for ( int i = 0; i < QUERY_COUNT; i++ ) {
+			Assertions.assertThat( futures.get( i ).join() ).containsExactly( i % DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	public void concurrentSearches_paging() {
+		StubMappingScope scope = indexManager.createScope();
+
+		List<CompletableFuture<? extends SearchResult<Integer>>> futures = new ArrayList<>();
+		for ( int i = 0; i < QUERY_COUNT; i++ ) {
+			futures.add( scope.query()
+					.select( f -> f.field( "integer", Integer.class ) )
+					.where( f -> f.matchAll() )
+					.sort( f -> f.field( "integer" ) )
+					.fetchAsync( i % DOCUMENT_COUNT, 1 )
+					.toCompletableFuture() );
+		}
+
+		for ( int i = 0; i < QUERY_COUNT; i++ ) {
+			SearchResult<Integer> result = futures.get( i ).join();
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+			Assertions.assertThat( result.getHits() ).containsExactly( i % DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	public void concurrentSearches_failure() {
+		StubMappingScope scope = indexManager.createScope();
+
+		List<CompletableFuture<List<Integer>>> futures = new ArrayList<>();
+		for ( int i = 0; i < QUERY_COUNT; i++ ) {
+			int value = i % DOCUMENT_COUNT;
+			if ( value == 0 ) {
+				futures.add( scope.query().extension( ElasticsearchExtension.get() )
+						.select( f -> f.field( "integer", Integer.class ) )
+						.where( f -> f.fromJson( "{'invalid_query': {}}" ) )
+						.fetchHitsAsync( null )
+						.toCompletableFuture() );
+			}
+			else {
+				futures.add( scope.query()
+						.select( f -> f.field( "integer", Integer.class ) )
+						.where( f -> f.match().field( "integer" ).matching( value ) )
+						.fetchHitsAsync( null )
+						.toCompletableFuture() );
+			}
+		}
+
+		// A failing search must not affect the other searches in the same multi-search
+		for ( int i = 0; i < QUERY_COUNT; i++ ) {
+			CompletableFuture<List<Integer>> future = futures.get( i );
+			if ( i % DOCUMENT_COUNT == 0 ) {
+				SubTest.expectException( future::join )
+						.assertThrown()
+						.hasCauseInstanceOf( SearchException.class );
+			}
+			else {
+				Assertions.assertThat( future.join() ).containsExactly( i % DOCUMENT_COUNT );
+			}
+		}
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			plan.add( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( indexMapping.integer, value ) );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -161,6 +161,76 @@ public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce() {
 		assertThat( query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void ioStrategyDefault_refreshStrategyBackground_refreshIntervalZero() {
+		setup( null, 0, "background" );
+
+		SearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThat( query ).hasNoHits();
+
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // The refresh should be executed regardless of this parameter
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( indexMapping.textField, "text1" ) );
+		plan.execute().join();
+
+		// Background refresh is ignored with a zero refresh interval:
+		// readers should be up-to-date immediately after indexing finishes
+		assertThat( query ).hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshStrategyBackground_refreshIntervalPositive_refreshStrategyNone() {
+		setup( null, NON_ZERO_DELAY, "background" );
+
+		SearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThat( query ).hasNoHits();
+
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until the background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( indexMapping.textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should *not* be up-to-date immediately after indexing finishes
+		assertThat( query ).hasNoHits();
+
+		// ... but they should be after some time, without any query having to trigger the refresh
+		Awaitility.await().untilAsserted( () -> assertThat( query ).hasTotalHitCount( 1 ) );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshStrategyBackground_refreshIntervalPositive_refreshStrategyForce() {
+		setup( null, NON_ZERO_DELAY, "background" );
+
+		SearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThat( query ).hasNoHits();
+
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.FORCE // This will force a refresh before the next background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( indexMapping.textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should be up-to-date immediately after indexing finishes
+		assertThat( query ).hasTotalHitCount( 1 );
+	}
+
 	@Test
 	public void ioStrategyDebug() {
 		setup( "debug", null );
@@ -184,6 +254,10 @@ public void ioStrategyDebug() {
 	}
 
 	private void setup(String ioStrategyName, Integer refreshIntervalMs) {
+		setup( ioStrategyName, refreshIntervalMs, null );
+	}
+
+	private void setup(String ioStrategyName, Integer refreshIntervalMs, String refreshStrategyName) {
 		setupHelper.start()
 				.withIndex(
 						INDEX_NAME,
@@ -192,6 +266,7 @@ private void setup(String ioStrategyName, Integer refreshIntervalMs) {
 				)
 				.withIndexDefaultsProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
 				.withIndexDefaultsProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, refreshIntervalMs )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_REFRESH_STRATEGY, refreshStrategyName )
 				.withIndexDefaultsProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
 				.setup();
 	}
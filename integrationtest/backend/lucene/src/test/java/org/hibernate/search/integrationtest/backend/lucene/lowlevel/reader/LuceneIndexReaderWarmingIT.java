@@ -0,0 +1,119 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.reader;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that queries return correct results when new segments are warmed before index readers are published,
+ * in particular when segments are added and merged between queries.
+ * <p>
+ * Warming has no visible effect on query results:
+ * checks that warming actually happens, and on which segments, are performed in
+ * {@code NearRealTimeIndexReaderProviderTest} and {@code DocValuesIndexReaderWarmerTest}.
+ */
+public class LuceneIndexReaderWarmingIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int BATCH_COUNT = 20;
+	private static final int BATCH_SIZE = 10;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_WARMING_MERGED_SEGMENTS, true )
+				// Unknown fields and fields without doc values are expected to be ignored
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_WARMING_FIELDS, "integer,modulo,text,unknown" )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void sortAndAggregation() {
+		AggregationKey<Map<Integer, Long>> aggregationKey = AggregationKey.of( "agg" );
+		SearchQuery<Integer> query = indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() )
+				.aggregation( aggregationKey, f -> f.terms().field( "modulo", Integer.class ) )
+				.toQuery();
+
+		// Each batch creates at least one new segment, and eventually triggers merges
+		for ( int batch = 0; batch < BATCH_COUNT; batch++ ) {
+			index( batch * BATCH_SIZE, ( batch + 1 ) * BATCH_SIZE );
+
+			int expectedTotal = ( batch + 1 ) * BATCH_SIZE;
+			SearchResult<Integer> result = query.fetch( 1 );
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( expectedTotal );
+			Assertions.assertThat( result.getHits() ).containsExactly( expectedTotal - 1 );
+			Assertions.assertThat( result.getAggregation( aggregationKey ) )
+					.hasSize( 10 )
+					.containsEntry( 0, (long) expectedTotal / 10 );
+		}
+	}
+
+	private void index(int firstValue, int lastValueExclusive) {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		for ( int i = firstValue; i < lastValueExclusive; i++ ) {
+			int value = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.integer, value );
+				document.addValue( indexMapping.modulo, value % 10 );
+				document.addValue( indexMapping.text, "text " + value );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Integer> modulo;
+		final IndexFieldReference<String> text;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field(
+					"integer",
+					f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES )
+			)
+					.toReference();
+			modulo = root.field( "modulo", f -> f.asInteger().aggregable( Aggregable.YES ) ).toReference();
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
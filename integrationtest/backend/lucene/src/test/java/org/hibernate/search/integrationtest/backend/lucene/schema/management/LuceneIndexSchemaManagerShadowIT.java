@@ -0,0 +1,190 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.schema.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneIndexSchemaManagerShadowIT {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> {
+							IndexSchemaElement root = ctx.getSchemaElement();
+							root.field( "field", f -> f.asString() )
+									.toReference();
+						},
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		add( "1" );
+	}
+
+	@Test
+	public void switchToShadow() throws IOException {
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().createShadow() );
+
+		add( "2" );
+		add( "3" );
+
+		// Searches still target the existing index
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( countDocsOnDisk() ).isEqualTo( 1 );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().switchToShadow() );
+
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "2", "3" );
+		assertThat( countDocsOnDisk() ).isEqualTo( 2 );
+
+		// Writes go to the index again
+		add( "4" );
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "2", "3", "4" );
+	}
+
+	@Test
+	public void switchToShadow_empty() throws IOException {
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().createShadow() );
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().switchToShadow() );
+
+		assertThat( matchAll() ).hasNoHits();
+		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void switchToShadow_noShadow() throws IOException {
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().switchToShadow() );
+
+		// Nothing should have happened
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( countDocsOnDisk() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void switchToShadow_failure() throws IOException {
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().createShadow() );
+
+		add( "2" );
+		// Make sure the shadow index holds no pending changes, so that the switch fails when copying documents
+		indexManager.createWorkspace().flush().join();
+
+		// Populate the near-real-time reader
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+
+		// Trigger failures when reading from the shadow index
+		setupHelper.getBackendAccessor().ensureIndexOperationsFail( INDEX_NAME + ".shadow" );
+
+		SubTest.expectException(
+				() -> Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().switchToShadow() )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to switch to shadow index" );
+
+		// The index is left untouched
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( countDocsOnDisk() ).isEqualTo( 1 );
+
+		try {
+			Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().dropShadowIfExisting() );
+		}
+		catch (SearchException e) {
+			log.debug( "Expected error while dropping the shadow index, caused by the deletion of its files", e );
+		}
+
+		// Writes go to the index again, through a new index writer
+		add( "3" );
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1", "3" );
+		assertThat( countDocsOnDisk() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void dropShadowIfExisting() throws IOException {
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().createShadow() );
+
+		add( "2" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().dropShadowIfExisting() );
+
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+
+		// Writes go to the index again
+		add( "3" );
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1", "3" );
+		assertThat( countDocsOnDisk() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void createShadow_alreadyExists() throws IOException {
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().createShadow() );
+
+		add( "2" );
+
+		// The previous shadow index should be dropped
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().createShadow() );
+
+		add( "3" );
+
+		Futures.unwrappedExceptionJoin( indexManager.getSchemaManager().switchToShadow() );
+
+		assertThat( matchAll() ).hasDocRefHitsAnyOrder( INDEX_NAME, "3" );
+	}
+
+	private void add(String id) {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( id ), document -> {
+		} );
+		plan.execute().join();
+	}
+
+	private SearchQuery<DocumentReference> matchAll() {
+		return indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+	}
+
+	private int countDocsOnDisk() throws IOException {
+		return LuceneIndexContentUtils.readIndex(
+				setupHelper, INDEX_NAME,
+				reader -> reader.getDocCount( MetadataFields.idFieldName() )
+		);
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that search queries fetched asynchronously with an asynchronous query thread pool
+ * yield the same results as queries fetched synchronously.
+ */
+public class LuceneAsyncSearchIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int THREAD_POOL_SIZE = 2;
+	private static final int DOCUMENT_COUNT = 100;
+	private static final int CONCURRENT_QUERY_COUNT = 20;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_ASYNC_THREAD_POOL_SIZE, THREAD_POOL_SIZE )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void fetchAsync() {
+		SearchResult<Integer> result = indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.range().field( "integer" ).lessThan( 50 ) )
+				.sort( f -> f.field( "integer" ).desc() )
+				.fetchAsync( 5, 10 )
+				.toCompletableFuture().join();
+
+		Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( 50 );
+		Assertions.assertThat( result.getHits() ).containsExactly( 44, 43, 42, 41, 40, 39, 38, 37, 36, 35 );
+	}
+
+	@Test
+	public void fetchTotalHitCountAsync() {
+		Assertions.assertThat( indexManager.createScope().query()
+				.where( f -> f.range().field( "integer" ).atLeast( 60 ) )
+				.fetchTotalHitCountAsync()
+				.toCompletableFuture().join() )
+				.isEqualTo( 40L );
+	}
+
+	@Test
+	public void manyConcurrentQueries() {
+		StubMappingScope scope = indexManager.createScope();
+		List<CompletableFuture<List<Integer>>> futures = new ArrayList<>();
+		for ( int i = 0; i < CONCURRENT_QUERY_COUNT; i++ ) {
+			int value = i;
+			futures.add( scope.query()
+					.select( f -> f.field( "integer", Integer.class ) )
+					.where( f -> f.match().field( "integer" ).matching( value ) )
+					.fetchHitsAsync( 10 )
+					.toCompletableFuture() );
+		}
+
+		for ( int i = 0; i < CONCURRENT_QUERY_COUNT; i++ ) {
+			Assertions.assertThat( futures.get( i ).join() ).containsExactly( i );
+		}
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.integer, value );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field(
+					"integer",
+					f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES )
+			)
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that searching multiple shards concurrently, using a query thread pool,
+ * yields the same results as searching them sequentially.
+ */
+public class LuceneConcurrentSearchIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int SHARD_COUNT = 4;
+	private static final int DOCUMENT_COUNT = 200;
+	private static final int THRESHOLD = 20;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_THREAD_POOL_SIZE, SHARD_COUNT )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void sort_offsetAndLimit() {
+		SearchQuery<Integer> query = indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() )
+				.toQuery();
+
+		SearchResult<Integer> result = query.fetch( 10, 20 );
+
+		Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+		Assertions.assertThat( result.getHits() ).containsExactlyElementsOf( range( 189, 170 ) );
+
+		Assertions.assertThat( query.fetchAllHits() ).containsExactlyElementsOf( range( DOCUMENT_COUNT - 1, 0 ) );
+	}
+
+	@Test
+	public void score() {
+		SearchResult<Integer> result = indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.range().field( "integer" ).lessThan( 50 ) )
+				.fetch( 100 );
+
+		Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( 50 );
+		Assertions.assertThat( result.getHits() ).containsExactlyInAnyOrderElementsOf( range( 0, 49 ) );
+	}
+
+	@Test
+	public void count() {
+		Assertions.assertThat( indexManager.createScope().query()
+				.where( f -> f.range().field( "integer" ).atLeast( 150 ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( 50 );
+	}
+
+	@Test
+	public void totalHitCountThreshold() {
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( THRESHOLD )
+				.fetch( 5 );
+
+		Assertions.assertThat( result.getHits() ).hasSize( 5 );
+		Assertions.assertThat( result.getTotalHitCount() ).isBetween( (long) THRESHOLD, (long) DOCUMENT_COUNT );
+		if ( result.isTotalHitCountExact() ) {
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	public void truncateAfter() {
+		// Segments may start being collected after the deadline: this must not fail the query
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.truncateAfter( 1, TimeUnit.NANOSECONDS )
+				.fetchAll();
+
+		Assertions.assertThat( result.isTimedOut() ).isTrue();
+		Assertions.assertThat( result.getTotalHitCount() ).isLessThanOrEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void aggregation_terms() {
+		// Each slice collects its own facets, which are merged after the search
+		AggregationKey<Map<Integer, Long>> aggregationKey = AggregationKey.of( "agg" );
+		SearchResult<Integer> result = indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.aggregation( aggregationKey, f -> f.terms().field( "modulo", Integer.class ) )
+				.fetch( 3 );
+
+		Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.getHits() ).containsExactly( 0, 1, 2 );
+		Assertions.assertThat( result.getAggregation( aggregationKey ) )
+				.hasSize( 10 )
+				.containsEntry( 0, (long) DOCUMENT_COUNT / 10 );
+	}
+
+	@Test
+	public void aggregation_range() {
+		AggregationKey<Map<Range<Integer>, Long>> aggregationKey = AggregationKey.of( "agg" );
+		SearchResult<Integer> result = indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.range().field( "modulo", Integer.class )
+						.range( Range.canonical( 0, 3 ) )
+						.range( Range.canonical( 3, 10 ) )
+				)
+				.fetch( 3 );
+
+		Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.getAggregation( aggregationKey ) )
+				.hasSize( 2 )
+				.containsEntry( Range.canonical( 0, 3 ), (long) DOCUMENT_COUNT * 3 / 10 )
+				.containsEntry( Range.canonical( 3, 10 ), (long) DOCUMENT_COUNT * 7 / 10 );
+	}
+
+	private static List<Integer> range(int first, int last) {
+		List<Integer> result = new ArrayList<>();
+		int step = first <= last ? 1 : -1;
+		for ( int i = first; i != last + step; i += step ) {
+			result.add( i );
+		}
+		return result;
+	}
+
+	private void initData() {
+		// Index documents in multiple batches to get multiple segments per shard
+		for ( int batchStart = 0; batchStart < DOCUMENT_COUNT; batchStart += DOCUMENT_COUNT / 4 ) {
+			IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+			for ( int i = batchStart; i < batchStart + DOCUMENT_COUNT / 4; i++ ) {
+				int value = i;
+				plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+					document.addValue( indexMapping.integer, value );
+					document.addValue( indexMapping.modulo, value % 10 );
+				} );
+			}
+			plan.execute().join();
+		}
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Integer> modulo;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field(
+					"integer",
+					f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES )
+			)
+					.toReference();
+			modulo = root.field( "modulo", f -> f.asInteger().aggregable( Aggregable.YES ) ).toReference();
+		}
+	}
+}
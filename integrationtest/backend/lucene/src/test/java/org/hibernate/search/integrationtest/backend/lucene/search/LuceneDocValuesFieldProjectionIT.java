@@ -0,0 +1,180 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that projections on fields with doc values, which may be extracted from doc values instead of stored fields,
+ * return the exact same values as projections relying on stored fields.
+ */
+public class LuceneDocValuesFieldProjectionIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String EMPTY = "empty";
+
+	private static final Instant INSTANT_WITH_NANOS = Instant.parse( "2018-02-01T10:15:30.000000123Z" );
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void allTypes() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<List<?>> query = scope.query()
+				.select( f -> f.composite(
+						f.field( "integer", Integer.class ),
+						f.field( "double", Double.class ),
+						f.field( "keyword", String.class ),
+						f.field( "normalized", String.class ),
+						f.field( "localDate", LocalDate.class ),
+						f.field( "instant", Instant.class )
+				) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).missing().last() )
+				.toQuery();
+
+		assertThat( query ).hasHitsExactOrder(
+				Arrays.asList( -1, -0.0d, "Some Text", "Some Text", LocalDate.of( 2018, 2, 1 ), INSTANT_WITH_NANOS ),
+				Arrays.asList( 42, 4.2d, "other text", "OTHER text", LocalDate.of( 1970, 1, 1 ), Instant.EPOCH ),
+				Arrays.asList( null, null, null, null, null, null )
+		);
+	}
+
+	@Test
+	public void offsetAndLimit() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<String> query = scope.query()
+				.select( f -> f.field( "keyword", String.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).missing().last() )
+				.toQuery();
+
+		assertThat( query.fetchHits( 1, 1 ) ).hasHitsExactOrder( "other text" );
+		assertThat( query.fetchHits( 0, 2 ) ).hasHitsExactOrder( "Some Text", "other text" );
+		assertThat( query.fetchHits( 1, 2 ) ).hasHitsExactOrder( "other text", null );
+	}
+
+	@Test
+	public void sameFieldMultipleTimes() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<List<?>> query = scope.query()
+				.select( f -> f.composite(
+						f.field( "integer", Integer.class ),
+						f.field( "integer", Integer.class ),
+						f.field( "integer", Object.class, ValueConvert.NO )
+				) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).missing().last() )
+				.toQuery();
+
+		assertThat( query ).hasHitsExactOrder(
+				Arrays.asList( -1, -1, -1 ),
+				Arrays.asList( 42, 42, 42 ),
+				Arrays.asList( null, null, null )
+		);
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			document.addValue( indexMapping.integer, -1 );
+			document.addValue( indexMapping.doubleField, -0.0d );
+			document.addValue( indexMapping.keyword, "Some Text" );
+			document.addValue( indexMapping.normalized, "Some Text" );
+			document.addValue( indexMapping.localDate, LocalDate.of( 2018, 2, 1 ) );
+			document.addValue( indexMapping.instant, INSTANT_WITH_NANOS );
+		} );
+		plan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			document.addValue( indexMapping.integer, 42 );
+			document.addValue( indexMapping.doubleField, 4.2d );
+			document.addValue( indexMapping.keyword, "other text" );
+			document.addValue( indexMapping.normalized, "OTHER text" );
+			document.addValue( indexMapping.localDate, LocalDate.of( 1970, 1, 1 ) );
+			document.addValue( indexMapping.instant, Instant.EPOCH );
+		} );
+		plan.add( referenceProvider( EMPTY ), document -> { } );
+		plan.execute().join();
+
+		// Check that all documents are searchable
+		assertThat( indexManager.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, EMPTY );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Double> doubleField;
+		final IndexFieldReference<String> keyword;
+		final IndexFieldReference<String> normalized;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<Instant> instant;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			doubleField = root.field( "double", f -> f.asDouble().projectable( Projectable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			keyword = root.field( "keyword", f -> f.asString().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			// Doc values hold normalized values: projections must rely on stored fields
+			normalized = root.field( "normalized", f -> f.asString()
+					.normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name )
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			localDate = root.field( "localDate", f -> f.asLocalDate().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			// Doc values hold a truncated value: projections must rely on stored fields
+			instant = root.field( "instant", f -> f.asInstant().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
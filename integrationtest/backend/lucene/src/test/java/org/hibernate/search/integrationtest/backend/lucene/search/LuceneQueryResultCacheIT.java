@@ -0,0 +1,174 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.query.QueryCachingPolicyName;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that queries return correct results when the query result cache and a dedicated filter cache are enabled,
+ * in particular when the same query is executed multiple times, before and after the index changes.
+ */
+public class LuceneQueryResultCacheIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int SHARD_COUNT = 2;
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_ENTRIES, 10 )
+				.withBackendProperty( LuceneBackendSettings.QUERY_FILTER_CACHE_MAX_QUERIES, 10 )
+				.withBackendProperty( LuceneBackendSettings.QUERY_FILTER_CACHE_POLICY, QueryCachingPolicyName.ALWAYS )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		index( 0, DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void sort_offsetAndLimit() {
+		SearchQuery<Integer> query = indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() )
+				.toQuery();
+
+		for ( int i = 0; i < 3; i++ ) {
+			SearchResult<Integer> result = query.fetch( 10, 20 );
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+			Assertions.assertThat( result.getHits() ).containsExactlyElementsOf( range( 89, 70 ) );
+
+			// Another page of the same query must not be served from the same cache entry
+			Assertions.assertThat( query.fetchHits( 0, 5 ) ).containsExactlyElementsOf( range( 99, 95 ) );
+		}
+
+		// Another sort must not be served from the same cache entry
+		Assertions.assertThat( indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.fetchHits( 10, 20 ) )
+				.containsExactlyElementsOf( range( 10, 29 ) );
+	}
+
+	@Test
+	public void aggregation() {
+		AggregationKey<Map<Integer, Long>> aggregationKey = AggregationKey.of( "agg" );
+		SearchQuery<Integer> query = indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.range().field( "integer" ).lessThan( 50 ) )
+				.sort( f -> f.field( "integer" ) )
+				.aggregation( aggregationKey, f -> f.terms().field( "modulo", Integer.class ) )
+				.toQuery();
+
+		for ( int i = 0; i < 3; i++ ) {
+			SearchResult<Integer> result = query.fetch( 3 );
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( 50 );
+			Assertions.assertThat( result.getHits() ).containsExactly( 0, 1, 2 );
+			Assertions.assertThat( result.getAggregation( aggregationKey ) )
+					.hasSize( 10 )
+					.containsEntry( 0, 5L );
+		}
+	}
+
+	@Test
+	public void invalidationOnIndexChange() {
+		SearchQuery<Integer> query = indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.bool()
+						.must( f.matchAll() )
+						.filter( f.range().field( "integer" ).atLeast( DOCUMENT_COUNT - 10 ) ) )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+
+		for ( int i = 0; i < 3; i++ ) {
+			Assertions.assertThat( query.fetchAllHits() ).containsExactlyElementsOf( range( 90, 99 ) );
+			Assertions.assertThat( query.fetchTotalHitCount() ).isEqualTo( 10 );
+		}
+
+		index( DOCUMENT_COUNT, DOCUMENT_COUNT + 5 );
+
+		for ( int i = 0; i < 3; i++ ) {
+			Assertions.assertThat( query.fetchAllHits() ).containsExactlyElementsOf( range( 90, 104 ) );
+			Assertions.assertThat( query.fetchTotalHitCount() ).isEqualTo( 15 );
+		}
+	}
+
+	private static List<Integer> range(int first, int last) {
+		List<Integer> result = new ArrayList<>();
+		int step = first <= last ? 1 : -1;
+		for ( int i = first; i != last + step; i += step ) {
+			result.add( i );
+		}
+		return result;
+	}
+
+	private void index(int firstValue, int lastValueExclusive) {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		for ( int i = firstValue; i < lastValueExclusive; i++ ) {
+			int value = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.integer, value );
+				document.addValue( indexMapping.modulo, value % 10 );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Integer> modulo;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field(
+					"integer",
+					f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES )
+			)
+					.toReference();
+			modulo = root.field( "modulo", f -> f.asInteger().aggregable( Aggregable.YES ) ).toReference();
+		}
+	}
+}
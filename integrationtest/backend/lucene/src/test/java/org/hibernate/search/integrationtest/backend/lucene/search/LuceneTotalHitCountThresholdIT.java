@@ -0,0 +1,110 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class LuceneTotalHitCountThresholdIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 500;
+	private static final int THRESHOLD = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void noThreshold() {
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetch( 5 );
+
+		Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+	}
+
+	@Test
+	public void thresholdReached() {
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( THRESHOLD )
+				.fetch( 5 );
+
+		Assertions.assertThat( result.getHits() ).hasSize( 5 );
+		// Non-competitive hits were skipped: the hit count is only a lower bound
+		Assertions.assertThat( result.isTotalHitCountExact() ).isFalse();
+		Assertions.assertThat( result.getTotalHitCount() ).isBetween( (long) THRESHOLD, (long) DOCUMENT_COUNT - 1 );
+	}
+
+	@Test
+	public void thresholdReached_aggregation() {
+		AggregationKey<Map<Integer, Long>> aggregationKey = AggregationKey.of( "agg" );
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.terms().field( "integer", Integer.class ) )
+				.totalHitCountThreshold( THRESHOLD )
+				.fetch( 5 );
+
+		// Aggregations require going through all hits anyway, so the hit count is exact
+		Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.integer, value % 10 );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().aggregable( Aggregable.YES ) ).toReference();
+		}
+	}
+}
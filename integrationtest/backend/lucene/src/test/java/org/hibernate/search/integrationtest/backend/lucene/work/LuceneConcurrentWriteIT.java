@@ -0,0 +1,185 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that indexing plans and indexers work correctly when changes are applied concurrently to the index writer,
+ * in particular that changes to a given document are applied in order.
+ */
+@RunWith(Parameterized.class)
+public class LuceneConcurrentWriteIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 200;
+	private static final int UPDATE_COUNT = 5;
+
+	@Parameterized.Parameters(name = "Write thread pool size {0}")
+	public static Object[] params() {
+		return new Object[] { 0, 4 };
+	}
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final int threadPoolSize;
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	public LuceneConcurrentWriteIT(int threadPoolSize) {
+		this.threadPoolSize = threadPoolSize;
+	}
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndexDefaultsProperty( LuceneIndexSettings.INDEXING_WRITE_THREAD_POOL_SIZE, threadPoolSize )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void addThenUpdateWithoutCommitOrRefresh() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		// Execute plans without waiting, so that they end up in the same batches
+		futures.add( createPlan( plan -> {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				int value = i;
+				plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+					document.addValue( indexMapping.integer, value );
+				} );
+			}
+		} ) );
+		for ( int update = 1; update <= UPDATE_COUNT; update++ ) {
+			int offset = update * DOCUMENT_COUNT;
+			futures.add( createPlan( plan -> {
+				for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+					int value = i + offset;
+					plan.update( referenceProvider( String.valueOf( i ) ), document -> {
+						document.addValue( indexMapping.integer, value );
+					} );
+				}
+			} ) );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+
+		indexManager.createWorkspace().flush().join();
+		indexManager.createWorkspace().refresh().join();
+
+		// Only the last update of each document must remain
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expected.add( i + UPDATE_COUNT * DOCUMENT_COUNT );
+		}
+		Assertions.assertThat( indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactlyInAnyOrderElementsOf( expected );
+	}
+
+	@Test
+	public void mixedStrategies() {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> {
+			document.addValue( indexMapping.integer, 1 );
+		} );
+		CompletableFuture<?> future = plan.execute();
+
+		// This plan forces a refresh: it must see the changes of the previous plan
+		plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( "2" ), document -> {
+			document.addValue( indexMapping.integer, 2 );
+		} );
+		plan.execute().join();
+		future.join();
+
+		Assertions.assertThat( indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactlyInAnyOrder( 1, 2 );
+	}
+
+	@Test
+	public void indexer() {
+		IndexIndexer indexer = indexManager.createIndexer( DocumentCommitStrategy.NONE );
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		// Add documents without waiting, like the mass indexer does
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			futures.add( indexer.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.integer, value );
+			} ) );
+		}
+
+		// This plan forces a commit and a refresh: it must be applied after the changes of the indexer
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		plan.delete( referenceProvider( "0" ) );
+		plan.execute().join();
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = 1; i < DOCUMENT_COUNT; i++ ) {
+			expected.add( i );
+		}
+		Assertions.assertThat( indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactlyInAnyOrderElementsOf( expected );
+	}
+
+	private CompletableFuture<?> createPlan(Consumer<IndexIndexingPlan<?>> contributor) {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		contributor.accept( plan );
+		return plan.execute();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
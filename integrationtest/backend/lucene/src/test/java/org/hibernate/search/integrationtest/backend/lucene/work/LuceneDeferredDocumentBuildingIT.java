@@ -0,0 +1,157 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that indexing plans work correctly when document building is deferred,
+ * with or without a dedicated thread pool.
+ */
+@RunWith(Parameterized.class)
+public class LuceneDeferredDocumentBuildingIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int SHARD_COUNT = 3;
+	private static final int DOCUMENT_COUNT = 500;
+
+	@Parameterized.Parameters(name = "Thread pool size {0}")
+	public static Object[] params() {
+		return new Object[] { 0, 2 };
+	}
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final int threadPoolSize;
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	public LuceneDeferredDocumentBuildingIT(int threadPoolSize) {
+		this.threadPoolSize = threadPoolSize;
+	}
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withIndexDefaultsProperty( LuceneIndexSettings.INDEXING_DOCUMENT_BUILDING_DEFERRED, true )
+				.withIndexDefaultsProperty( LuceneIndexSettings.INDEXING_DOCUMENT_BUILDING_THREAD_POOL_SIZE,
+						threadPoolSize )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void addAndUpdate() {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.integer, value );
+			} );
+		}
+		plan.execute().join();
+
+		plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i += 2 ) {
+			int value = i;
+			plan.update( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.integer, value + DOCUMENT_COUNT );
+			} );
+		}
+		plan.execute().join();
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expected.add( i % 2 == 0 ? i + DOCUMENT_COUNT : i );
+		}
+		Assertions.assertThat( indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactlyInAnyOrderElementsOf( expected );
+	}
+
+	@Test
+	public void documentBuildingFailure() {
+		RuntimeException exception = new RuntimeException( "Simulated failure" );
+
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> {
+			document.addValue( indexMapping.integer, 1 );
+		} );
+		plan.add( referenceProvider( "2" ), document -> {
+			throw exception;
+		} );
+		// Document contributors are only called when the plan is executed
+		IndexIndexingPlanExecutionReport<?> report = plan.executeAndReport().join();
+
+		Assertions.assertThat( report.getThrowable() ).containsSame( exception );
+	}
+
+	@Test
+	public void mapperDoesNotSupportDeferral() {
+		StubBackendSessionContext sessionContext = new StubBackendSessionContext();
+		sessionContext.setDeferredDocumentBuildingSupported( false );
+		Thread addingThread = Thread.currentThread();
+		AtomicReference<Thread> buildingThread = new AtomicReference<>();
+
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan( sessionContext );
+		plan.add( referenceProvider( "1" ), document -> {
+			buildingThread.set( Thread.currentThread() );
+			document.addValue( indexMapping.integer, 1 );
+		} );
+		// The setting is ignored: the document is built immediately, in the thread adding the work
+		Assertions.assertThat( buildingThread.get() ).isSameAs( addingThread );
+		plan.execute().join();
+
+		Assertions.assertThat( indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactly( 1 );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
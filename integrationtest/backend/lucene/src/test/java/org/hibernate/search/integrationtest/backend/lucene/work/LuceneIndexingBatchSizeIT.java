@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Checks that setting only the maximum batch size is enough:
+ * the minimum batch size and the queue size default to the maximum batch size.
+ */
+@RunWith(Parameterized.class)
+public class LuceneIndexingBatchSizeIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Parameterized.Parameters(name = "Max batch size {0}")
+	public static Object[] params() {
+		// Below and above the default
+		return new Object[] { 10, 5000 };
+	}
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final int maxBatchSize;
+
+	private StubMappingIndexManager indexManager;
+
+	public LuceneIndexingBatchSizeIT(int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndexDefaultsProperty( LuceneIndexSettings.INDEXING_MAX_BATCH_SIZE, maxBatchSize )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> { }, // Nothing to do, we don't need any field in the mapping
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void indexAndSearch() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		// Execute plans without waiting, so that they end up in the same batches
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			IndexIndexingPlan<?> plan = indexManager.createIndexingPlan( new StubBackendSessionContext(),
+					DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> { } );
+			futures.add( plan.execute() );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+
+		indexManager.createWorkspace().refresh().join();
+
+		assertThat( indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+}
@@ -25,6 +25,9 @@
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
@@ -199,6 +202,83 @@ public void fetchTotalHitCount() {
 		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT / 2 );
 	}
 
+	@Test
+	public void fetchAsync() {
+		assertThat( matchAllQuery().fetchAsync( 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ) );
+
+		assertThat( matchFirstHalfQuery().fetchAsync( 1, 1 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ) );
+
+		// Fetch beyond the total hit count
+		assertThat( matchAllQuery().fetchAsync( DOCUMENT_COUNT + 1, null ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasNoHits();
+	}
+
+	@Test
+	public void fetchHitsAsync() {
+		assertThat( matchAllQuery().fetchHitsAsync( 2 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ) );
+
+		assertThat( matchFirstHalfQuery().fetchHitsAsync( 1, 1 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ) );
+	}
+
+	@Test
+	public void fetchTotalHitCountAsync() {
+		Assertions.assertThat( matchAllQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT );
+
+		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void totalHitCountThreshold() {
+		// Threshold above the actual count: the count must be exact
+		SearchResult<DocumentReference> result = matchAllQuery()
+				.totalHitCountThreshold( DOCUMENT_COUNT * 2 )
+				.fetch( 5 );
+		assertThat( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ), docId( 2 ), docId( 3 ), docId( 4 ) );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+
+		// Threshold below the actual count: the count may be a lower bound, but hits must be correct
+		result = matchAllQuery()
+				.totalHitCountThreshold( 10 )
+				.fetch( 5 );
+		assertThat( result )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ), docId( 2 ), docId( 3 ), docId( 4 ) );
+		assertTotalHitCountWithThreshold( result, 10, DOCUMENT_COUNT );
+
+		// Same, without a sort, which may allow backends to skip non-competitive hits
+		result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( 10 )
+				.fetch( 5 );
+		Assertions.assertThat( result.getHits() ).hasSize( 5 );
+		assertTotalHitCountWithThreshold( result, 10, DOCUMENT_COUNT );
+
+		// Threshold of zero
+		result = matchAllQuery()
+				.totalHitCountThreshold( 0 )
+				.fetch( 5 );
+		Assertions.assertThat( result.getHits() ).hasSize( 5 );
+		assertTotalHitCountWithThreshold( result, 0, DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void totalHitCountThreshold_invalid() {
+		SubTest.expectException( () -> matchAllQuery().totalHitCountThreshold( -1 ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'totalHitCountThreshold' must be positive or zero" );
+	}
+
 	@Test
 	public void fetchSingleHit() {
 		Optional<DocumentReference> result = matchOneQuery( 4 ).fetchSingleHit();
@@ -252,6 +332,102 @@ public void fetch_limitAndOffset_reuseQuery() {
 				} );
 	}
 
+	@Test
+	public void scroll() {
+		List<DocumentReference> scrolledHits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( 30 ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				Assertions.assertThat( chunk.getHits() ).hasSizeLessThanOrEqualTo( 30 );
+				Assertions.assertThat( chunk.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+				scrolledHits.addAll( chunk.getHits() );
+			}
+		}
+
+		assertThat( scrolledHits )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void scroll_concurrentChanges() {
+		List<DocumentReference> scrolledHits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( 30 ) ) {
+			SearchScrollResult<DocumentReference> chunk = scroll.next();
+			scrolledHits.addAll( chunk.getHits() );
+
+			// Add documents sorted before and after the hits of the first chunk, and make them searchable
+			IndexIndexer indexer = indexManager.createIndexer( DocumentCommitStrategy.NONE );
+			List<CompletableFuture<?>> futures = new ArrayList<>();
+			for ( int i = 1; i <= 50; i++ ) {
+				int intValue = -i;
+				futures.add( indexer.add( referenceProvider( "added_" + i ), document -> {
+					document.addValue( indexMapping.integer, intValue );
+				} ) );
+				int otherIntValue = DOCUMENT_COUNT + 10 + i;
+				futures.add( indexer.add( referenceProvider( "added_after_" + i ), document -> {
+					document.addValue( indexMapping.integer, otherIntValue );
+				} ) );
+			}
+			CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+			indexManager.createWorkspace().refresh().join();
+
+			// The scroll must not be affected by these changes
+			for ( chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				Assertions.assertThat( chunk.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+				scrolledHits.addAll( chunk.getHits() );
+			}
+		}
+
+		assertThat( scrolledHits )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void scroll_noSort() {
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<DocumentReference> query = scope.query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		List<DocumentReference> scrolledHits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 7 ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				scrolledHits.addAll( chunk.getHits() );
+			}
+		}
+
+		assertThat( scrolledHits )
+				.hasDocRefHitsAnyOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void scroll_noHits() {
+		try ( SearchScroll<DocumentReference> scroll = matchNoneQuery().scroll( 10 ) ) {
+			SearchScrollResult<DocumentReference> chunk = scroll.next();
+			Assertions.assertThat( chunk.hasHits() ).isFalse();
+			Assertions.assertThat( chunk.getHits() ).isEmpty();
+			Assertions.assertThat( chunk.getTotalHitCount() ).isEqualTo( 0L );
+		}
+	}
+
+	@Test
+	public void scroll_invalidChunkSize() {
+		SubTest.expectException( () -> matchAllQuery().scroll( 0 ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-3389")
 	public void maxResults_zero() {
@@ -260,6 +436,15 @@ public void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	private static void assertTotalHitCountWithThreshold(SearchResult<?> result, long threshold, long actualCount) {
+		if ( result.isTotalHitCountExact() ) {
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( actualCount );
+		}
+		else {
+			Assertions.assertThat( result.getTotalHitCount() ).isBetween( threshold, actualCount );
+		}
+	}
+
 	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchAllQuery() {
 		StubMappingScope scope = indexManager.createScope();
 		return scope.query()
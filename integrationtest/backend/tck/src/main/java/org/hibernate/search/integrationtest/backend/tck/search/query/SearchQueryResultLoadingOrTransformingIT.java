@@ -8,6 +8,7 @@
 
 import static org.easymock.EasyMock.expect;
 import static org.hibernate.search.util.impl.integrationtest.common.EasyMockUtils.projectionMatcher;
+import static org.hibernate.search.util.impl.integrationtest.common.EasyMockUtils.referenceMatcher;
 import static org.hibernate.search.util.impl.integrationtest.common.NormalizationUtils.reference;
 import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
@@ -15,6 +16,7 @@
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
@@ -44,6 +46,8 @@
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.GenericStubMappingScope;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
 
 import org.junit.Before;
@@ -246,6 +250,91 @@ public void selectEntity_referencesTransformer_entityLoading() {
 		verifyAll();
 	}
 
+	@Test
+	public void selectEntity_referencesTransformer_entityLoading_async() {
+		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
+		DocumentReference emptyReference = reference( INDEX_NAME, EMPTY_ID );
+		StubTransformedReference mainTransformedReference = new StubTransformedReference( mainReference );
+		StubTransformedReference emptyTransformedReference = new StubTransformedReference( emptyReference );
+		StubLoadedObject mainLoadedObject = new StubLoadedObject( mainReference );
+		StubLoadedObject emptyLoadedObject = new StubLoadedObject( emptyReference );
+
+		LoadingContext<StubTransformedReference, StubLoadedObject> loadingContextMock =
+				createMock( LoadingContext.class );
+		DocumentReferenceConverter<StubTransformedReference> documentReferenceConverterMock =
+				createMock( StubDocumentReferenceConverter.class );
+		EntityLoader<StubTransformedReference, StubLoadedObject> objectLoaderMock =
+				createMock( StubEntityLoader.class );
+
+		resetAll();
+		// No calls expected on the mocks
+		replayAll();
+		GenericStubMappingScope<StubTransformedReference, StubLoadedObject> scope =
+				indexManager.createGenericScope();
+		SearchQuery<StubLoadedObject> objectsQuery = scope.query( loadingContextMock )
+				.selectEntity()
+				.where( f -> f.matchAll() )
+				.toQuery();
+		verifyAll();
+
+		resetAll();
+		MapperEasyMockUtils.expectHitMapping(
+				loadingContextMock, documentReferenceConverterMock, objectLoaderMock,
+				c -> c
+						.load( mainReference, mainTransformedReference, mainLoadedObject )
+						.load( emptyReference, emptyTransformedReference, emptyLoadedObject )
+		);
+		expect( objectLoaderMock.isBlocking() ).andReturn( false );
+		replayAll();
+		assertThat( objectsQuery.fetchHitsAsync( null ).toCompletableFuture().join() )
+				.hasHitsExactOrder( mainLoadedObject, emptyLoadedObject );
+		verifyAll();
+	}
+
+	@Test
+	public void selectEntity_referencesTransformer_entityLoading_async_blockingLoader() {
+		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
+		DocumentReference emptyReference = reference( INDEX_NAME, EMPTY_ID );
+		StubTransformedReference mainTransformedReference = new StubTransformedReference( mainReference );
+		StubTransformedReference emptyTransformedReference = new StubTransformedReference( emptyReference );
+
+		LoadingContext<StubTransformedReference, StubLoadedObject> loadingContextMock =
+				createMock( LoadingContext.class );
+		DocumentReferenceConverter<StubTransformedReference> documentReferenceConverterMock =
+				createMock( StubDocumentReferenceConverter.class );
+		EntityLoader<StubTransformedReference, StubLoadedObject> objectLoaderMock =
+				createMock( StubEntityLoader.class );
+
+		resetAll();
+		// No calls expected on the mocks
+		replayAll();
+		GenericStubMappingScope<StubTransformedReference, StubLoadedObject> scope =
+				indexManager.createGenericScope();
+		SearchQuery<StubLoadedObject> objectsQuery = scope.query( loadingContextMock )
+				.selectEntity()
+				.where( f -> f.matchAll() )
+				.toQuery();
+		verifyAll();
+
+		resetAll();
+		expect( loadingContextMock.getProjectionHitMapper() )
+				.andReturn( new DefaultProjectionHitMapper<>( documentReferenceConverterMock, objectLoaderMock ) );
+		expect( documentReferenceConverterMock.fromDocumentReference( referenceMatcher( mainReference ) ) )
+				.andReturn( mainTransformedReference );
+		expect( documentReferenceConverterMock.fromDocumentReference( referenceMatcher( emptyReference ) ) )
+				.andReturn( emptyTransformedReference );
+		// The loader can only load by blocking the current thread: asynchronous loading should fail
+		expect( objectLoaderMock.isBlocking() ).andReturn( true );
+		replayAll();
+		SubTest.expectException( () -> objectsQuery.fetchHitsAsync( null ).toCompletableFuture().join() )
+				.assertThrown()
+				.isInstanceOf( CompletionException.class )
+				.extracting( Throwable::getCause ).isInstanceOf( SearchException.class )
+				.extracting( Throwable::getMessage ).asString()
+				.contains( "Unable to load entities asynchronously" );
+		verifyAll();
+	}
+
 	@Test
 	public void select_referencesTransformer_entityLoading() {
 		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
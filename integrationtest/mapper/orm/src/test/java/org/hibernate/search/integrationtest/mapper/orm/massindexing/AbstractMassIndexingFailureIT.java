@@ -316,6 +316,59 @@ public void refresh() {
 		assertMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
 	}
 
+	@Test
+	public void bulkLoadSettings_flush() {
+		SessionFactory sessionFactory = setup();
+
+		String exceptionMessage = "FLUSH failure";
+		String failingOperationAsString = "MassIndexer operation";
+
+		expectMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
+
+		doMassIndexingWithFailure(
+				Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+						.bulkLoadSettings( true ),
+				ThreadExpectation.CREATED_AND_TERMINATED,
+				throwable -> assertThat( throwable ).isInstanceOf( SimulatedFailure.class )
+						.hasMessageContaining( exceptionMessage ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.PURGE, ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.MERGE_SEGMENTS, ExecutionExpectation.SUCCEED ),
+				// The original settings must be restored even though mass indexing fails
+				expectSchemaManagementWork( StubSchemaManagementWork.Type.START_BULK_LOAD ),
+				expectSchemaManagementWork( StubSchemaManagementWork.Type.STOP_BULK_LOAD ),
+				expectIndexingWorks( ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.MERGE_SEGMENTS, ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.FLUSH, ExecutionExpectation.FAIL )
+		);
+
+		assertMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
+	}
+
+	@Test
+	public void shadowIndexing_flush() {
+		SessionFactory sessionFactory = setup();
+
+		String exceptionMessage = "FLUSH failure";
+		String failingOperationAsString = "MassIndexer operation";
+
+		expectMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
+
+		doMassIndexingWithFailure(
+				Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+						.shadowIndexing( true ),
+				ThreadExpectation.CREATED_AND_TERMINATED,
+				throwable -> assertThat( throwable ).isInstanceOf( SimulatedFailure.class )
+						.hasMessageContaining( exceptionMessage ),
+				// The incomplete shadow index must be dropped, and searches must not be switched to it
+				expectSchemaManagementWork( StubSchemaManagementWork.Type.CREATE_SHADOW ),
+				expectSchemaManagementWork( StubSchemaManagementWork.Type.DROP_SHADOW_IF_EXISTING ),
+				expectIndexingWorks( ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.FLUSH, ExecutionExpectation.FAIL )
+		);
+
+		assertMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
+	}
+
 	@Test
 	public void indexingAndFlush() {
 		SessionFactory sessionFactory = setup();
@@ -532,6 +585,11 @@ private void doMassIndexingWithFailure(MassIndexer massIndexer,
 		}
 	}
 
+	private Runnable expectSchemaManagementWork(StubSchemaManagementWork.Type type) {
+		return () -> backendMock.expectSchemaManagementWorks( Book.NAME )
+				.work( type );
+	}
+
 	private Runnable expectSchemaManagementWorkException(StubSchemaManagementWork.Type type) {
 		return () -> {
 			CompletableFuture<?> failingFuture = new CompletableFuture<>();
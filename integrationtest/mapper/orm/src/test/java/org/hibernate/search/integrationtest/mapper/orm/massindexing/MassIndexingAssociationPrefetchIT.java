@@ -0,0 +1,260 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Fail.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that the mass indexer loads associations accessed during indexing in bulk,
+ * instead of lazily loading them one entity at a time.
+ */
+public class MassIndexingAssociationPrefetchIT {
+
+	private static final int BOOK_COUNT = 20;
+	private static final int AUTHOR_COUNT = 5;
+	private static final int COUNTRY_COUNT = 3;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.NONE )
+				.setup( Book.class, Author.class, Country.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+	}
+
+	@Test
+	public void prefetchAssociations() {
+		Statistics statistics = massIndex( true );
+
+		// Associations were loaded in bulk when loading each batch: no lazy loading happened while indexing.
+		assertThat( statistics.getCollectionFetchCount() ).isZero();
+		assertThat( statistics.getEntityFetchCount() ).isZero();
+	}
+
+	@Test
+	public void prefetchAssociations_disabled() {
+		Statistics statistics = massIndex( false );
+
+		// Associations were loaded lazily, one entity at a time.
+		assertThat( statistics.getCollectionFetchCount() ).isEqualTo( BOOK_COUNT );
+		assertThat( statistics.getEntityFetchCount() ).isGreaterThan( 0 );
+	}
+
+	private Statistics massIndex(boolean prefetchAssociations) {
+		Statistics statistics = sessionFactory.getStatistics();
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.threadsToLoadObjects( 1 )
+					.batchSizeToLoadObjects( 10 )
+					.prefetchAssociations( prefetchAssociations );
+
+			BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			);
+			for ( int i = 0; i < BOOK_COUNT; i++ ) {
+				int bookId = i;
+				int authorId = i % AUTHOR_COUNT;
+				int countryId = authorId % COUNTRY_COUNT;
+				expectations.add( String.valueOf( bookId ), b -> b
+						.field( "title", "Title " + bookId )
+						.objectField( "authors", b2 -> b2
+								.field( "name", "Author " + authorId )
+								.objectField( "country", b3 -> b3
+										.field( "name", "Country " + countryId )
+								)
+						)
+				);
+			}
+			expectations.processedThenExecuted();
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			statistics.setStatisticsEnabled( true );
+			statistics.clear();
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+			finally {
+				statistics.setStatisticsEnabled( false );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+		return statistics;
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			List<Country> countries = new ArrayList<>();
+			for ( int i = 0; i < COUNTRY_COUNT; i++ ) {
+				Country country = new Country( i, "Country " + i );
+				session.persist( country );
+				countries.add( country );
+			}
+			List<Author> authors = new ArrayList<>();
+			for ( int i = 0; i < AUTHOR_COUNT; i++ ) {
+				Author author = new Author( i, "Author " + i, countries.get( i % COUNTRY_COUNT ) );
+				session.persist( author );
+				authors.add( author );
+			}
+			for ( int i = 0; i < BOOK_COUNT; i++ ) {
+				Book book = new Book( i, "Title " + i );
+				book.getAuthors().add( authors.get( i % AUTHOR_COUNT ) );
+				session.persist( book );
+			}
+		} );
+	}
+
+	@Entity(name = "Book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		@ManyToMany
+		@IndexedEmbedded
+		@IndexingDependency(reindexOnUpdate = ReindexOnUpdate.NO)
+		private List<Author> authors = new ArrayList<>();
+
+		protected Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public List<Author> getAuthors() {
+			return authors;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String name;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@IndexedEmbedded
+		@IndexingDependency(reindexOnUpdate = ReindexOnUpdate.NO)
+		private Country country;
+
+		protected Author() {
+		}
+
+		public Author(Integer id, String name, Country country) {
+			this.id = id;
+			this.name = name;
+			this.country = country;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Country getCountry() {
+			return country;
+		}
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String name;
+
+		protected Country() {
+		}
+
+		public Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -161,6 +161,104 @@ public void dropAndCreateSchemaOnStart() {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void shadowIndexing() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer().shadowIndexing( true );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.processedThenExecuted();
+
+			backendMock.expectSchemaManagementWorks( Book.INDEX )
+					.work( StubSchemaManagementWork.Type.CREATE_SHADOW )
+					.work( StubSchemaManagementWork.Type.SWITCH_TO_SHADOW );
+
+			// The shadow index is created empty,
+			// so we expect no purge and no optimize, just 1 flush before the switch:
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void bulkLoadSettings() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer().bulkLoadSettings( true );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.processedThenExecuted();
+
+			backendMock.expectSchemaManagementWorks( Book.INDEX )
+					.work( StubSchemaManagementWork.Type.START_BULK_LOAD )
+					.work( StubSchemaManagementWork.Type.STOP_BULK_LOAD );
+
+			// purgeAtStart and mergeSegmentsAfterPurge are enabled by default,
+			// and bulk loading always triggers a final mergeSegments,
+			// so we expect 1 purge, 2 mergeSegments, 1 flush and 1 refresh calls in this order:
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	public void mergeSegmentsOnFinish() {
 		OrmUtils.withinSession( sessionFactory, session -> {
@@ -208,6 +306,55 @@ public void mergeSegmentsOnFinish() {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void threadsToLoadIdentifiers() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			// More threads than identifiers, so that some ranges of identifiers are empty
+			MassIndexer indexer = searchSession.massIndexer()
+					.threadsToLoadIdentifiers( 4 )
+					.idQueueSize( 1 )
+					.batchSizeToLoadObjects( 1 );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.processedThenExecuted();
+
+			// purgeAtStart and mergeSegmentsAfterPurge are enabled by default,
+			// so we expect 1 purge, 1 mergeSegments and 1 flush calls in this order:
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	public void fromMappingWithoutSession() throws Exception {
 		SearchMapping searchMapping = Search.mapping( sessionFactory );
@@ -27,6 +27,7 @@
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
 import org.hibernate.search.util.impl.integrationtest.common.rule.ThreadSpy;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.StubSchemaManagementWork;
 import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
 import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
 
@@ -122,6 +123,49 @@ public void cancel() {
 		waitForMassIndexingThreadsToTerminate( expectedThreadCount );
 	}
 
+	@Test
+	public void interrupt_shadowIndexing() {
+		int expectedThreadCount = 1 // Workspace
+				+ 1 // ID loading
+				+ 1; // Entity loading
+
+		AtomicBoolean interrupted = new AtomicBoolean( false );
+
+		backendMock.expectSchemaManagementWorks( Book.INDEX )
+				.work( StubSchemaManagementWork.Type.CREATE_SHADOW );
+		MassIndexer massIndexer = Search.mapping( sessionFactory ).scope( Object.class )
+				.massIndexer()
+				.typesToIndexInParallel( 1 )
+				.threadsToLoadObjects( 1 )
+				.shadowIndexing( true );
+		expectIndexingThatWillNotTerminate();
+
+		Thread massIndexingThread = new Thread( () -> {
+			try {
+				massIndexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				interrupted.set( true );
+			}
+		} );
+
+		massIndexingThread.start();
+
+		waitForMassIndexingThreadsToSpawn( expectedThreadCount );
+
+		// The incomplete shadow index must be dropped, and searches must not be switched to it
+		backendMock.expectSchemaManagementWorks( Book.INDEX )
+				.work( StubSchemaManagementWork.Type.DROP_SHADOW_IF_EXISTING );
+
+		// Interrupt the thread that triggered mass indexing
+		massIndexingThread.interrupt();
+
+		waitForMassIndexingThreadsToTerminate( expectedThreadCount );
+
+		assertThat( interrupted ).isTrue();
+		backendMock.verifyExpectationsMet();
+	}
+
 	private MassIndexer prepareMassIndexingThatWillNotTerminate() {
 		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class )
 				.massIndexer()
@@ -132,6 +176,17 @@ private MassIndexer prepareMassIndexingThatWillNotTerminate() {
 				.purge()
 				.mergeSegments();
 
+		expectIndexingThatWillNotTerminate();
+
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh()
+				.mergeSegments();
+
+		return indexer;
+	}
+
+	private void expectIndexingThatWillNotTerminate() {
 		backendMock.expectWorksAnyOrder(
 				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
 		)
@@ -141,13 +196,6 @@ private MassIndexer prepareMassIndexingThatWillNotTerminate() {
 				)
 				// Return a CompletableFuture that will never complete
 				.processedThenExecuted( new CompletableFuture<>() );
-
-		backendMock.expectIndexScaleWorks( Book.INDEX )
-				.flush()
-				.refresh()
-				.mergeSegments();
-
-		return indexer;
 	}
 
 	private void waitForMassIndexingThreadsToSpawn(int expectedThreadCount) {
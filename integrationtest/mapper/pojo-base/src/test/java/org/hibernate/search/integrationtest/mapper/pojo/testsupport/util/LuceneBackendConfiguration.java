@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.testsupport.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.util.impl.integrationtest.backend.lucene.LuceneTestIndexesPathConfiguration;
+import org.hibernate.search.util.impl.integrationtest.common.TestConfigurationProvider;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendConfiguration;
+import org.hibernate.search.util.impl.integrationtest.common.rule.MappingSetupHelper;
+
+public class LuceneBackendConfiguration implements BackendConfiguration {
+
+	@Override
+	public String toString() {
+		return "lucene";
+	}
+
+	@Override
+	public <C extends MappingSetupHelper<C, ?, ?>.AbstractSetupContext> C setupWithName(C setupContext,
+			String backendName, TestConfigurationProvider configurationProvider) {
+		Map<String, Object> properties = new LinkedHashMap<>();
+		properties.put( "type", "lucene" );
+		properties.put(
+				"directory.root",
+				LuceneTestIndexesPathConfiguration.get().getPath()
+						+ "/test-indexes/#{tck.startup.timestamp}/#{tck.test.id}/"
+		);
+		return setupContext.withBackendProperties(
+				backendName,
+				configurationProvider.interpolateProperties( properties )
+		);
+	}
+
+}
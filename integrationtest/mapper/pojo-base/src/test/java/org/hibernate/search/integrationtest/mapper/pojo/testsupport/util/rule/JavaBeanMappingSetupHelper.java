@@ -15,6 +15,7 @@
 import org.hibernate.search.mapper.javabean.mapping.SearchMapping;
 import org.hibernate.search.mapper.javabean.mapping.SearchMappingBuilder;
 import org.hibernate.search.util.common.impl.CollectionHelper;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendConfiguration;
 import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
 import org.hibernate.search.util.impl.integrationtest.common.rule.BackendSetupStrategy;
 import org.hibernate.search.util.impl.integrationtest.common.rule.MappingSetupHelper;
@@ -22,6 +23,8 @@
 public final class JavaBeanMappingSetupHelper
 		extends MappingSetupHelper<JavaBeanMappingSetupHelper.SetupContext, SearchMappingBuilder, CloseableSearchMapping> {
 
+	private static final String DEFAULT_BACKEND_NAME = "backendName";
+
 	/**
 	 * @param lookup A {@link MethodHandles.Lookup} with private access to the test method,
 	 * to be passed to mapping builders created by {@link SetupContext#setup(Class[])} or {@link SetupContext#setup()}
@@ -40,6 +43,19 @@ public static JavaBeanMappingSetupHelper withBackendMocks(MethodHandles.Lookup l
 		);
 	}
 
+	public static JavaBeanMappingSetupHelper withSingleBackend(MethodHandles.Lookup lookup,
+			BackendConfiguration backendConfiguration) {
+		return withSingleBackend( lookup, DEFAULT_BACKEND_NAME, backendConfiguration );
+	}
+
+	public static JavaBeanMappingSetupHelper withSingleBackend(MethodHandles.Lookup lookup,
+			String backendName, BackendConfiguration backendConfiguration) {
+		return new JavaBeanMappingSetupHelper(
+				lookup,
+				BackendSetupStrategy.withSingleBackend( backendName, backendConfiguration )
+		);
+	}
+
 	private final MethodHandles.Lookup lookup;
 
 	private JavaBeanMappingSetupHelper(MethodHandles.Lookup lookup, BackendSetupStrategy backendSetupStrategy) {
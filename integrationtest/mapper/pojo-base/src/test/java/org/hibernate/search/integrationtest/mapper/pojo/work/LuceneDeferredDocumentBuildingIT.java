@@ -0,0 +1,166 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.util.LuceneBackendConfiguration;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.util.rule.JavaBeanMappingSetupHelper;
+import org.hibernate.search.mapper.javabean.common.EntityReference;
+import org.hibernate.search.mapper.javabean.mapping.SearchMapping;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that the JavaBean mapper allows the Lucene backend to defer document building,
+ * and that documents are still indexed correctly when deferred.
+ */
+public class LuceneDeferredDocumentBuildingIT {
+
+	private static final String BACKEND_NAME = "backendName";
+
+	private static final int ENTITY_COUNT = 50;
+
+	@Rule
+	public JavaBeanMappingSetupHelper setupHelper =
+			JavaBeanMappingSetupHelper.withSingleBackend( MethodHandles.lookup(), BACKEND_NAME,
+					new LuceneBackendConfiguration() );
+
+	private SearchMapping mapping;
+
+	@Before
+	public void clearBuildingThreads() {
+		IndexedEntity.BUILDING_THREADS.clear();
+	}
+
+	@Test
+	public void deferred() {
+		setup( true, 0 );
+
+		indexEntities();
+
+		// Documents were built in the indexing thread of the backend
+		assertThat( IndexedEntity.BUILDING_THREADS )
+				.isNotEmpty()
+				.doesNotContain( Thread.currentThread().getName() );
+		assertIndexed();
+	}
+
+	@Test
+	public void deferred_threadPool() {
+		setup( true, 2 );
+
+		indexEntities();
+
+		// Documents were built in the background, either in the thread pool or in the indexing thread
+		assertThat( IndexedEntity.BUILDING_THREADS )
+				.isNotEmpty()
+				.doesNotContain( Thread.currentThread().getName() );
+		assertIndexed();
+	}
+
+	@Test
+	public void notDeferred() {
+		setup( false, 0 );
+
+		indexEntities();
+
+		// Documents were built in the thread adding works to the indexing plan
+		assertThat( IndexedEntity.BUILDING_THREADS )
+				.containsExactly( Thread.currentThread().getName() );
+		assertIndexed();
+	}
+
+	private void setup(boolean deferred, int threadPoolSize) {
+		mapping = setupHelper.start()
+				.withIndexDefaultsProperty( BACKEND_NAME,
+						LuceneIndexSettings.INDEXING_DOCUMENT_BUILDING_DEFERRED, deferred )
+				.withIndexDefaultsProperty( BACKEND_NAME,
+						LuceneIndexSettings.INDEXING_DOCUMENT_BUILDING_THREAD_POOL_SIZE, threadPoolSize )
+				.setup( IndexedEntity.class );
+	}
+
+	private void indexEntities() {
+		try ( SearchSession session = mapping.createSessionWithOptions()
+				.refreshStrategy( DocumentRefreshStrategy.FORCE )
+				.build() ) {
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				IndexedEntity entity = new IndexedEntity();
+				entity.setId( i );
+				entity.setText( "text" + i );
+				session.indexingPlan().add( entity );
+			}
+		}
+	}
+
+	private void assertIndexed() {
+		List<Object> expectedIds = new ArrayList<>();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			expectedIds.add( i );
+		}
+		try ( SearchSession session = mapping.createSession() ) {
+			List<EntityReference> hits = session.search( IndexedEntity.class )
+					.selectEntityReference()
+					.where( f -> f.match().field( "text" ).matching( "text42" ) )
+					.fetchAllHits();
+			assertThat( hits ).extracting( EntityReference::getId ).containsExactly( 42 );
+
+			hits = session.search( IndexedEntity.class )
+					.selectEntityReference()
+					.where( f -> f.matchAll() )
+					.fetchAllHits();
+			assertThat( hits ).extracting( EntityReference::getId )
+					.containsExactlyInAnyOrderElementsOf( expectedIds );
+		}
+	}
+
+	@Indexed(index = IndexedEntity.INDEX)
+	public static final class IndexedEntity {
+
+		public static final String INDEX = "IndexedEntity";
+
+		static final Set<String> BUILDING_THREADS = ConcurrentHashMap.newKeySet();
+
+		private Integer id;
+
+		private String text;
+
+		@DocumentId
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@GenericField
+		public String getText() {
+			// Only called when building documents
+			BUILDING_THREADS.add( Thread.currentThread().getName() );
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+}
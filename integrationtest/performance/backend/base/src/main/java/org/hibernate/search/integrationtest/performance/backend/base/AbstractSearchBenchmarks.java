@@ -0,0 +1,217 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.SearchMappedIndex;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to searching,
+ * i.e. the read path of the backends: predicates, sorts, projections, aggregations and pagination.
+ * <p>
+ * Each thread queries a single index, which is initialized with the documents of the dataset
+ * before each iteration and is not modified during the iteration.
+ * <p>
+ * Implementations must use a backend holder that maps indexes with {@link SearchMappedIndex}.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractSearchBenchmarks extends AbstractBackendBenchmarks {
+
+	private static final AggregationKey<Map<String, Long>> TERMS_AGGREGATION_KEY = AggregationKey.of( "terms" );
+	private static final AggregationKey<Map<Range<Long>, Long>> RANGE_AGGREGATION_KEY = AggregationKey.of( "range" );
+
+	/**
+	 * The text to look for in the "match" benchmarks.
+	 */
+	@Param({ "hibernate search" })
+	private String matchText;
+
+	/**
+	 * The offset of the page to retrieve in the "deep pagination" benchmark.
+	 */
+	@Param({ "5000" })
+	private int deepPaginationOffset;
+
+	/**
+	 * The maximum number of terms to return in the "terms aggregation" benchmark.
+	 */
+	@Param({ "20" })
+	private int maxTermCount;
+
+	private StubMappingScope scope;
+
+	private long numericRangeLowerBound;
+	private long numericRangeMiddle;
+	private long numericRangeUpperBound;
+
+	@Setup(Level.Iteration)
+	public void prepareIteration() {
+		scope = getIndexPartition().getIndex().getIndexManager().createScope();
+
+		// Initial documents are assigned numeric values that are lower than the initial index size,
+		// so the range below should match a subset of the documents.
+		long initialIndexSize = getIndexInitializer().getInitialIndexSize();
+		numericRangeLowerBound = initialIndexSize / 4;
+		numericRangeMiddle = initialIndexSize / 2;
+		numericRangeUpperBound = 3 * initialIndexSize / 4;
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void matchPredicate(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( matchText ) )
+				.fetch( params.getQueryMaxResults() );
+		consumeHits( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void rangePredicate(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.range().field( MappedIndex.NUMERIC_FIELD_NAME )
+						.between( numericRangeLowerBound, numericRangeUpperBound ) )
+				.fetch( params.getQueryMaxResults() );
+		consumeHits( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void booleanPredicate(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.bool()
+						.must( f.range().field( MappedIndex.NUMERIC_FIELD_NAME )
+								.between( numericRangeLowerBound, numericRangeUpperBound ) )
+						.should( f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( matchText ) )
+						.mustNot( f.range().field( MappedIndex.NUMERIC_FIELD_NAME ).atLeast( numericRangeMiddle ) )
+				)
+				.fetch( params.getQueryMaxResults() );
+		consumeHits( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void sortByText(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( params.getQueryMaxResults() );
+		consumeHits( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void sortByNumeric(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( SearchMappedIndex.NUMERIC_DOC_VALUES_FIELD_NAME ).desc() )
+				.fetch( params.getQueryMaxResults() );
+		consumeHits( results, blackhole );
+	}
+
+	/**
+	 * Projects on a field that has doc values (it is sortable and aggregable).
+	 * <p>
+	 * Compare with {@link #projectionStored(QueryParams, Blackhole)}.
+	 */
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void projectionDocValues(QueryParams params, Blackhole blackhole) {
+		SearchResult<Long> results = scope.query()
+				.select( f -> f.field( SearchMappedIndex.NUMERIC_DOC_VALUES_FIELD_NAME, Long.class ) )
+				.where( f -> f.matchAll() )
+				.fetch( params.getQueryMaxResults() );
+		consumeHits( results, blackhole );
+	}
+
+	/**
+	 * Projects on a field that does not have doc values and can only be projected on through stored fields.
+	 * <p>
+	 * Compare with {@link #projectionDocValues(QueryParams, Blackhole)}.
+	 */
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void projectionStored(QueryParams params, Blackhole blackhole) {
+		SearchResult<Long> results = scope.query()
+				.select( f -> f.field( SearchMappedIndex.NUMERIC_STORED_FIELD_NAME, Long.class ) )
+				.where( f -> f.matchAll() )
+				.fetch( params.getQueryMaxResults() );
+		consumeHits( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void termsAggregation(Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.aggregation( TERMS_AGGREGATION_KEY, f -> f.terms()
+						.field( SearchMappedIndex.SHORT_TEXT_AGGREGABLE_FIELD_NAME, String.class )
+						.maxTermCount( maxTermCount ) )
+				.fetch( 0 );
+		blackhole.consume( results.getTotalHitCount() );
+		blackhole.consume( results.getAggregation( TERMS_AGGREGATION_KEY ) );
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void rangeAggregation(Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.aggregation( RANGE_AGGREGATION_KEY, f -> f.range()
+						.field( SearchMappedIndex.NUMERIC_DOC_VALUES_FIELD_NAME, Long.class )
+						.range( null, numericRangeLowerBound )
+						.range( numericRangeLowerBound, numericRangeMiddle )
+						.range( numericRangeMiddle, numericRangeUpperBound )
+						.range( numericRangeUpperBound, null ) )
+				.fetch( 0 );
+		blackhole.consume( results.getTotalHitCount() );
+		blackhole.consume( results.getAggregation( RANGE_AGGREGATION_KEY ) );
+	}
+
+	/**
+	 * Retrieves a page of sorted hits far from the first page,
+	 * which requires the backend to collect and sort {@code offset + limit} hits.
+	 */
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void deepPagination(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( SearchMappedIndex.NUMERIC_DOC_VALUES_FIELD_NAME ) )
+				.fetch( deepPaginationOffset, params.getQueryMaxResults() );
+		consumeHits( results, blackhole );
+	}
+
+	private static void consumeHits(SearchResult<?> results, Blackhole blackhole) {
+		blackhole.consume( results.getTotalHitCount() );
+		List<?> hits = results.getHits();
+		for ( Object hit : hits ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
@@ -84,6 +84,8 @@ public void addToIndex(MappedIndex index, LongStream idStream) {
 		} );
 		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
 		workspace.flush().join();
+		// Make sure the documents are visible to queries executed right after initialization
+		workspace.refresh().join();
 
 		log( index, " ... added " + futures.size() + " documents to the index." );
 	}
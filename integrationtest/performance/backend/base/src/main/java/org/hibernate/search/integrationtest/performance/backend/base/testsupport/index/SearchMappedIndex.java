@@ -0,0 +1,64 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base.testsupport.index;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.analysis.Analyzers;
+
+import org.openjdk.jmh.annotations.CompilerControl;
+
+/**
+ * A {@link MappedIndex} with additional fields for search benchmarks,
+ * holding the same values as the base fields, but with doc values or stored values.
+ * <p>
+ * Kept separate from {@link MappedIndex} so that indexing benchmarks are not affected.
+ */
+@CompilerControl(CompilerControl.Mode.INLINE)
+public class SearchMappedIndex extends MappedIndex {
+
+	public static final String SHORT_TEXT_AGGREGABLE_FIELD_NAME = "shortTextAggregable";
+	public static final String NUMERIC_DOC_VALUES_FIELD_NAME = "numericDocValues";
+	public static final String NUMERIC_STORED_FIELD_NAME = "numericStored";
+
+	private IndexFieldReference<String> shortTextAggregableField;
+	private IndexFieldReference<Long> numericDocValuesField;
+	private IndexFieldReference<Long> numericStoredField;
+
+	@Override
+	public void bind(IndexedEntityBindingContext context) {
+		super.bind( context );
+		IndexSchemaElement root = context.getSchemaElement();
+		shortTextAggregableField = root.field(
+				SHORT_TEXT_AGGREGABLE_FIELD_NAME,
+				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH ).aggregable( Aggregable.YES )
+		)
+				.toReference();
+		numericDocValuesField = root.field(
+				NUMERIC_DOC_VALUES_FIELD_NAME,
+				f -> f.asLong().projectable( Projectable.YES ).sortable( Sortable.YES ).aggregable( Aggregable.YES )
+		)
+				.toReference();
+		// Without doc values, so that projections have to rely on stored fields.
+		numericStoredField = root.field( NUMERIC_STORED_FIELD_NAME, f -> f.asLong().projectable( Projectable.YES ) )
+				.toReference();
+	}
+
+	@Override
+	public void populate(DocumentElement documentElement, String shortText, String longText, long numeric) {
+		super.populate( documentElement, shortText, longText, numeric );
+		documentElement.addValue( shortTextAggregableField, shortText );
+		documentElement.addValue( numericDocValuesField, numeric );
+		documentElement.addValue( numericStoredField, numeric );
+	}
+
+}
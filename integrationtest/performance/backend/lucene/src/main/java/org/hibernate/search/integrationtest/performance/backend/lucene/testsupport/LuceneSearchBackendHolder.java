@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene.testsupport;
+
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.SearchMappedIndex;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class LuceneSearchBackendHolder extends LuceneBackendHolder {
+
+	@Override
+	protected MappedIndex createIndex() {
+		return new SearchMappedIndex();
+	}
+}
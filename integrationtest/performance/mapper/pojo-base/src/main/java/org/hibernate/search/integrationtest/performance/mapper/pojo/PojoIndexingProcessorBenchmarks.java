@@ -0,0 +1,202 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.integrationtest.performance.mapper.pojo.model.BenchmarkEmbedded;
+import org.hibernate.search.integrationtest.performance.mapper.pojo.model.BenchmarkEntity;
+import org.hibernate.search.mapper.pojo.bridge.PropertyBridge;
+import org.hibernate.search.mapper.pojo.bridge.runtime.IdentifierBridgeFromDocumentIdentifierContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.PropertyBridgeWriteContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.RoutingKeyBridgeToRoutingKeyContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.TypeBridgeWriteContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeFromIndexedValueContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.spi.BridgeMappingContext;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorPropertyNode;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorTypeNode;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandleFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for the traversal of {@link PojoIndexingProcessorPropertyNode}s,
+ * i.e. the part of document building that reads property values from entities,
+ * with the various strategies available to read property values.
+ * <p>
+ * Bridges do nothing except consuming the property values,
+ * so that the cost of reading property values is not hidden by the cost of indexing.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public class PojoIndexingProcessorBenchmarks {
+
+	@Param({ "java-lang-reflect", "method-handle", "lambda-metafactory" })
+	private String reflectionStrategy;
+
+	@Param({ "1000" })
+	private int entityCount;
+
+	private PojoIndexingProcessor<BenchmarkEntity> processor;
+	private PojoIndexingProcessorSessionContext sessionContext;
+	private List<BenchmarkEntity> entities;
+
+	@Setup(Level.Trial)
+	public void setupTrial(Blackhole blackhole) throws ReflectiveOperationException {
+		ValueReadHandleFactory factory = createValueReadHandleFactory( reflectionStrategy );
+		BeanHolder<PropertyBridge> bridgeHolder = BeanHolder.of( new ConsumingPropertyBridge( blackhole ) );
+
+		PojoIndexingProcessor<BenchmarkEmbedded> embeddedProcessor = new PojoIndexingProcessorTypeNode<>(
+				Collections.emptyList(), Collections.emptyList(),
+				Arrays.asList(
+						propertyNode( factory, BenchmarkEmbedded.class, "getName", bridgeHolder ),
+						propertyNode( factory, BenchmarkEmbedded.class, "getCount", bridgeHolder ),
+						propertyNode( factory, BenchmarkEmbedded.class, "getTag", bridgeHolder )
+				)
+		);
+		processor = new PojoIndexingProcessorTypeNode<>(
+				Collections.emptyList(), Collections.emptyList(),
+				Arrays.asList(
+						propertyNode( factory, BenchmarkEntity.class, "getId", bridgeHolder ),
+						propertyNode( factory, BenchmarkEntity.class, "getTitle", bridgeHolder ),
+						propertyNode( factory, BenchmarkEntity.class, "getRating", bridgeHolder ),
+						new PojoIndexingProcessorPropertyNode<>(
+								this.<BenchmarkEmbedded>handle( factory, BenchmarkEntity.class, "getEmbedded" ),
+								Collections.emptyList(),
+								Collections.singletonList( embeddedProcessor )
+						)
+				)
+		);
+		sessionContext = new BenchmarkSessionContext();
+
+		entities = new ArrayList<>( entityCount );
+		for ( int i = 0; i < entityCount; i++ ) {
+			entities.add( new BenchmarkEntity(
+					i, "Title #" + i, i / 10.0,
+					new BenchmarkEmbedded( "Name #" + i, i, "Tag #" + ( i % 10 ) )
+			) );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		if ( processor != null ) {
+			processor.close();
+		}
+	}
+
+	@Benchmark
+	public void process() {
+		for ( BenchmarkEntity entity : entities ) {
+			processor.process( null, entity, sessionContext );
+		}
+	}
+
+	private static ValueReadHandleFactory createValueReadHandleFactory(String reflectionStrategy) {
+		// Same lookup as the one used by the Hibernate ORM mapper
+		MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+		switch ( reflectionStrategy ) {
+			case "java-lang-reflect":
+				return ValueReadHandleFactory.usingJavaLangReflect();
+			case "method-handle":
+				return ValueReadHandleFactory.usingMethodHandle( lookup );
+			case "lambda-metafactory":
+				return ValueReadHandleFactory.usingLambdaMetafactory( lookup );
+			default:
+				throw new IllegalArgumentException( "Unknown reflection strategy: " + reflectionStrategy );
+		}
+	}
+
+	private <T> PojoIndexingProcessorPropertyNode<T, Object> propertyNode(ValueReadHandleFactory factory,
+			Class<T> holderType, String getterName, BeanHolder<PropertyBridge> bridgeHolder)
+			throws ReflectiveOperationException {
+		Collection<BeanHolder<? extends PropertyBridge>> bridgeHolders = Collections.singletonList( bridgeHolder );
+		return new PojoIndexingProcessorPropertyNode<>(
+				handle( factory, holderType, getterName ), bridgeHolders, Collections.emptyList()
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <P> ValueReadHandle<P> handle(ValueReadHandleFactory factory, Class<?> holderType, String getterName)
+			throws ReflectiveOperationException {
+		return (ValueReadHandle<P>) factory.createForMethod( holderType.getMethod( getterName ) );
+	}
+
+	private static class ConsumingPropertyBridge implements PropertyBridge {
+		private final Blackhole blackhole;
+
+		private ConsumingPropertyBridge(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public void write(DocumentElement target, Object bridgedElement, PropertyBridgeWriteContext context) {
+			blackhole.consume( bridgedElement );
+		}
+	}
+
+	private static class BenchmarkSessionContext implements PojoIndexingProcessorSessionContext {
+		@Override
+		public PojoRuntimeIntrospector getRuntimeIntrospector() {
+			return PojoRuntimeIntrospector.simple();
+		}
+
+		@Override
+		public BridgeMappingContext getMappingContext() {
+			return null;
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+
+		@Override
+		public IdentifierBridgeFromDocumentIdentifierContext getIdentifierBridgeFromDocumentIdentifierContext() {
+			return null;
+		}
+
+		@Override
+		public RoutingKeyBridgeToRoutingKeyContext getRoutingKeyBridgeToRoutingKeyContext() {
+			return null;
+		}
+
+		@Override
+		public TypeBridgeWriteContext getTypeBridgeWriteContext() {
+			return null;
+		}
+
+		@Override
+		public PropertyBridgeWriteContext getPropertyBridgeWriteContext() {
+			return null;
+		}
+
+		@Override
+		public ValueBridgeFromIndexedValueContext getValueBridgeFromIndexedValueContext() {
+			return null;
+		}
+	}
+}
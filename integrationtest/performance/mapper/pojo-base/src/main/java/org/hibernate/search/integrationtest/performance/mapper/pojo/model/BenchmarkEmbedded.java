@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.model;
+
+public class BenchmarkEmbedded {
+
+	private final String name;
+	private final int count;
+	private final String tag;
+
+	public BenchmarkEmbedded(String name, int count, String tag) {
+		this.name = name;
+		this.count = count;
+		this.tag = tag;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public String getTag() {
+		return tag;
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.model;
+
+public class BenchmarkEntity {
+
+	private final Integer id;
+	private final String title;
+	private final double rating;
+	private final BenchmarkEmbedded embedded;
+
+	public BenchmarkEntity(Integer id, String title, double rating, BenchmarkEmbedded embedded) {
+		this.id = id;
+		this.title = title;
+		this.rating = rating;
+		this.embedded = embedded;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public double getRating() {
+		return rating;
+	}
+
+	public BenchmarkEmbedded getEmbedded() {
+		return embedded;
+	}
+}
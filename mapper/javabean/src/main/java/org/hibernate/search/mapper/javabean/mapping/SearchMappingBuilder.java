@@ -40,6 +40,7 @@ private static ConfigurationPropertySource getPropertySource(Map<String, Object>
 	private final Map<String, Object> properties = new HashMap<>();
 	private final ConfigurationPropertySource propertySource;
 	private final SearchIntegrationBuilder integrationBuilder;
+	private final JavaBeanBootstrapIntrospector introspector;
 	private final JavaBeanMappingKey mappingKey;
 	private final JavaBeanMappingInitiator mappingInitiator;
 
@@ -47,7 +48,7 @@ private static ConfigurationPropertySource getPropertySource(Map<String, Object>
 		propertyChecker = ConfigurationPropertyChecker.create();
 		propertySource = getPropertySource( properties, propertyChecker );
 		integrationBuilder = SearchIntegration.builder( propertySource, propertyChecker );
-		JavaBeanBootstrapIntrospector introspector = JavaBeanBootstrapIntrospector.create( lookup );
+		introspector = JavaBeanBootstrapIntrospector.create( lookup );
 		mappingKey = new JavaBeanMappingKey();
 		mappingInitiator = new JavaBeanMappingInitiator( introspector );
 		integrationBuilder.addMappingInitiator( mappingKey, mappingInitiator );
@@ -116,6 +117,20 @@ public SearchMappingBuilder setAnnotatedTypeDiscoveryEnabled(boolean annotatedTy
 		return this;
 	}
 
+	/**
+	 * @param generatedAccessorsEnabled {@code true} to read property values through accessor classes
+	 * generated at bootstrap, which can be fully inlined by the JIT compiler,
+	 * {@code false} to read property values through method handles.
+	 * Accessors cannot be generated for all properties,
+	 * in which case method handles will be used regardless of this setting.
+	 * Defaults to {@code false}.
+	 * @return {@code this}, for call chaining.
+	 */
+	public SearchMappingBuilder setGeneratedAccessorsEnabled(boolean generatedAccessorsEnabled) {
+		introspector.setGeneratedAccessorsEnabled( generatedAccessorsEnabled );
+		return this;
+	}
+
 	public SearchMappingBuilder setProperty(String name, Object value) {
 		properties.put( name, value );
 		return this;
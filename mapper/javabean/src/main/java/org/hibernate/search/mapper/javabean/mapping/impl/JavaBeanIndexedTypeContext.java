@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.mapper.javabean.mapping.impl;
 
+import java.util.List;
+import java.util.Set;
+
 import org.hibernate.search.mapper.javabean.session.impl.JavaBeanSessionIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexedTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
@@ -58,6 +62,16 @@ public void identifierMapping(IdentifierMapping identifierMapping) {
 			this.identifierMapping = identifierMapping;
 		}
 
+		@Override
+		public void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals) {
+			// Nothing to do
+		}
+
+		@Override
+		public void indexingAssociationPaths(Set<List<String>> associationPaths) {
+			// Nothing to do
+		}
+
 		JavaBeanIndexedTypeContext<E> build() {
 			return new JavaBeanIndexedTypeContext<>( this );
 		}
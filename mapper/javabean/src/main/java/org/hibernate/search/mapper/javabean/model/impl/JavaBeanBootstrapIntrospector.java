@@ -37,19 +37,20 @@ public class JavaBeanBootstrapIntrospector extends AbstractPojoHCAnnBootstrapInt
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	public static JavaBeanBootstrapIntrospector create(MethodHandles.Lookup lookup) {
-		ValueReadHandleFactory valueReadHandleFactory = ValueReadHandleFactory.usingMethodHandle( lookup );
-		return new JavaBeanBootstrapIntrospector( valueReadHandleFactory );
+		return new JavaBeanBootstrapIntrospector( lookup );
 	}
 
-	private final ValueReadHandleFactory valueReadHandleFactory;
+	private final MethodHandles.Lookup lookup;
+	private ValueReadHandleFactory valueReadHandleFactory;
 	private final JavaBeanGenericContextHelper genericContextHelper;
 	private final RawTypeDeclaringContext<?> missingRawTypeDeclaringContext;
 
 	private final Map<Class<?>, PojoRawTypeModel<?>> typeModelCache = new HashMap<>();
 
-	private JavaBeanBootstrapIntrospector(ValueReadHandleFactory valueReadHandleFactory) {
+	private JavaBeanBootstrapIntrospector(MethodHandles.Lookup lookup) {
 		super( new JavaReflectionManager() );
-		this.valueReadHandleFactory = valueReadHandleFactory;
+		this.lookup = lookup;
+		this.valueReadHandleFactory = ValueReadHandleFactory.usingMethodHandle( lookup );
 		this.genericContextHelper = new JavaBeanGenericContextHelper( this );
 		this.missingRawTypeDeclaringContext = new RawTypeDeclaringContext<>(
 				genericContextHelper, Object.class
@@ -79,6 +80,17 @@ public <T> PojoGenericTypeModel<T> getGenericTypeModel(Class<T> clazz) {
 		return missingRawTypeDeclaringContext.createGenericTypeModel( clazz );
 	}
 
+	/**
+	 * @param enabled {@code true} to read property values through accessor classes generated at bootstrap,
+	 * {@code false} to rely on method handles.
+	 * Only affects properties whose value read handle was not created yet.
+	 */
+	public void setGeneratedAccessorsEnabled(boolean enabled) {
+		this.valueReadHandleFactory = enabled
+				? ValueReadHandleFactory.usingLambdaMetafactory( lookup )
+				: ValueReadHandleFactory.usingMethodHandle( lookup );
+	}
+
 	@Override
 	public ValueReadHandleFactory getAnnotationValueReadHandleFactory() {
 		return valueReadHandleFactory;
@@ -63,6 +63,14 @@ public String getTenantIdentifier() {
 		return tenantId;
 	}
 
+	@Override
+	public boolean isDeferredDocumentBuildingSupported() {
+		// Entities are plain objects that do not depend on this session,
+		// and close() waits for the indexing plan to complete,
+		// so documents are always built before control returns to the application.
+		return true;
+	}
+
 	@Override
 	public PojoRuntimeIntrospector getRuntimeIntrospector() {
 		return PojoRuntimeIntrospector.simple();
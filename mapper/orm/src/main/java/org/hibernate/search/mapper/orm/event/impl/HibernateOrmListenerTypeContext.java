@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.event.impl;
 
+import java.util.BitSet;
+
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 public interface HibernateOrmListenerTypeContext {
@@ -14,4 +16,11 @@ public interface HibernateOrmListenerTypeContext {
 
 	Object toIndexingPlanProvidedId(Object entityId);
 
+	/**
+	 * @param dirtyProperties The indexes of dirty properties, as reported by Hibernate ORM in a post-update event.
+	 * @return The corresponding dirty paths, as ordinals of the path ordinals of this entity type.
+	 * Properties that cannot impact indexing are ignored.
+	 */
+	BitSet toDirtyPaths(int[] dirtyProperties);
+
 }
@@ -103,7 +103,15 @@ public void onPostUpdate(PostUpdateEvent event) {
 			PojoIndexingPlan<?> plan = getCurrentIndexingPlan( contextProvider, event.getSession() );
 			Object providedId = typeContext.toIndexingPlanProvidedId( event.getId() );
 			if ( dirtyCheckingEnabled ) {
-				plan.addOrUpdate( typeContext.getTypeIdentifier(), providedId, entity, getDirtyPropertyNames( event ) );
+				int[] dirtyProperties = event.getDirtyProperties();
+				if ( dirtyProperties != null && dirtyProperties.length > 0 ) {
+					plan.addOrUpdate( typeContext.getTypeIdentifier(), providedId, entity,
+							typeContext.toDirtyPaths( dirtyProperties ) );
+				}
+				else {
+					// No dirty property reported: behave as if no dirty path was passed
+					plan.addOrUpdate( typeContext.getTypeIdentifier(), providedId, entity, EMPTY_STRING_ARRAY );
+				}
 			}
 			else {
 				plan.addOrUpdate( typeContext.getTypeIdentifier(), providedId, entity );
@@ -246,23 +254,6 @@ private void processCollectionEvent(AbstractCollectionEvent event) {
 		}
 	}
 
-	private String[] getDirtyPropertyNames(PostUpdateEvent event) {
-		EntityPersister persister = event.getPersister();
-		final int[] dirtyProperties = event.getDirtyProperties();
-		if ( dirtyProperties != null && dirtyProperties.length > 0 ) {
-			String[] propertyNames = persister.getPropertyNames();
-			int length = dirtyProperties.length;
-			String[] dirtyPropertyNames = new String[length];
-			for ( int i = 0; i < length; i++ ) {
-				dirtyPropertyNames[i] = propertyNames[dirtyProperties[i]];
-			}
-			return dirtyPropertyNames;
-		}
-		else {
-			return EMPTY_STRING_ARRAY;
-		}
-	}
-
 	/**
 	 * Required since Hibernate ORM 4.3
 	 */
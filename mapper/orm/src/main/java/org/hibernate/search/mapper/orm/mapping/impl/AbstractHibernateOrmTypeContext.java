@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.mapping.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
@@ -16,6 +17,7 @@
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeTypeContext;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionTypeContext;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -28,14 +30,23 @@
 	private final String jpaEntityName;
 	private final EntityPersister entityPersister;
 	private final EntityTypeDescriptor<E> entityTypeDescriptor;
+	// Maps the index of each property in the entity persister to the ordinal of its path, or -1 if it's irrelevant
+	private final int[] propertyIndexToPathOrdinal;
 
 	AbstractHibernateOrmTypeContext(SessionFactoryImplementor sessionFactory,
-			PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName) {
+			PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName,
+			PojoPathOrdinals pathOrdinals) {
 		this.typeIdentifier = typeIdentifier;
 		this.jpaEntityName = jpaEntityName;
 		MetamodelImplementor metamodel = sessionFactory.getMetamodel();
 		this.entityPersister = metamodel.entityPersister( hibernateOrmEntityName );
 		this.entityTypeDescriptor = metamodel.entity( entityPersister.getEntityName() );
+		String[] propertyNames = entityPersister.getPropertyNames();
+		this.propertyIndexToPathOrdinal = new int[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			Integer ordinal = pathOrdinals.toExistingOrdinal( propertyNames[i] );
+			propertyIndexToPathOrdinal[i] = ordinal == null ? -1 : ordinal;
+		}
 	}
 
 	@Override
@@ -56,6 +67,18 @@ public EntityPersister getEntityPersister() {
 		return entityPersister;
 	}
 
+	@Override
+	public BitSet toDirtyPaths(int[] dirtyProperties) {
+		BitSet dirtyPaths = new BitSet();
+		for ( int dirtyProperty : dirtyProperties ) {
+			int ordinal = propertyIndexToPathOrdinal[dirtyProperty];
+			if ( ordinal >= 0 ) {
+				dirtyPaths.set( ordinal );
+			}
+		}
+		return dirtyPaths;
+	}
+
 	public EntityTypeDescriptor<E> getEntityTypeDescriptor() {
 		if ( entityTypeDescriptor == null ) {
 			// TODO HSEARCH-3771 Mass indexing for ORM's dynamic-map entity types
@@ -9,6 +9,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeContainedTypeContext;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoContainedTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 class HibernateOrmContainedTypeContext<E> extends AbstractHibernateOrmTypeContext<E>
@@ -16,7 +17,8 @@
 
 	private HibernateOrmContainedTypeContext(HibernateOrmContainedTypeContext.Builder<E> builder,
 			SessionFactoryImplementor sessionFactory) {
-		super( sessionFactory, builder.typeIdentifier, builder.jpaEntityName, builder.hibernateOrmEntityName );
+		super( sessionFactory, builder.typeIdentifier, builder.jpaEntityName, builder.hibernateOrmEntityName,
+				builder.pathOrdinals );
 	}
 
 	@Override
@@ -30,6 +32,7 @@ public Object toIndexingPlanProvidedId(Object entityId) {
 		private final PojoRawTypeIdentifier<E> typeIdentifier;
 		private final String jpaEntityName;
 		private final String hibernateOrmEntityName;
+		private PojoPathOrdinals pathOrdinals;
 
 		Builder(PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName) {
 			this.typeIdentifier = typeIdentifier;
@@ -37,6 +40,11 @@ public Object toIndexingPlanProvidedId(Object entityId) {
 			this.hibernateOrmEntityName = hibernateOrmEntityName;
 		}
 
+		@Override
+		public void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals) {
+			this.pathOrdinals = pathOrdinals;
+		}
+
 		HibernateOrmContainedTypeContext<E> build(SessionFactoryImplementor sessionFactory) {
 			return new HibernateOrmContainedTypeContext<>( this, sessionFactory );
 		}
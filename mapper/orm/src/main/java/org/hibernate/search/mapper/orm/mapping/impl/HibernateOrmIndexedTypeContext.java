@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import java.util.List;
+import java.util.Set;
 import javax.persistence.metamodel.SingularAttribute;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -18,6 +20,7 @@
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexedTypeExtendedMappingCollector;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
 
@@ -26,9 +29,11 @@
 	private final boolean documentIdIsEntityId;
 	private final EntityLoaderFactory loaderFactory;
 	private final IdentifierMapping identifierMapping;
+	private final Set<List<String>> indexingAssociationPaths;
 
 	private HibernateOrmIndexedTypeContext(Builder<E> builder, SessionFactoryImplementor sessionFactory) {
-		super( sessionFactory, builder.typeIdentifier, builder.jpaEntityName, builder.hibernateOrmEntityName );
+		super( sessionFactory, builder.typeIdentifier, builder.jpaEntityName, builder.hibernateOrmEntityName,
+				builder.pathOrdinals );
 
 		if ( getEntityPersister().getIdentifierPropertyName().equals( builder.documentIdSourcePropertyName ) ) {
 			documentIdIsEntityId = true;
@@ -49,6 +54,7 @@ sessionFactory, getEntityPersister()
 		}
 
 		this.identifierMapping = builder.identifierMapping;
+		this.indexingAssociationPaths = builder.indexingAssociationPaths;
 	}
 
 	@Override
@@ -73,15 +79,22 @@ public EntityLoaderFactory getLoaderFactory() {
 		return loaderFactory;
 	}
 
+	@Override
+	public Set<List<String>> getIndexingAssociationPaths() {
+		return indexingAssociationPaths;
+	}
+
 	static class Builder<E> implements PojoIndexedTypeExtendedMappingCollector {
 
 		private final PojoRawTypeIdentifier<E> typeIdentifier;
 		private final String jpaEntityName;
 		private final String hibernateOrmEntityName;
+		private PojoPathOrdinals pathOrdinals;
 
 		private String documentIdSourcePropertyName;
 		private ValueReadHandle<?> documentIdSourcePropertyHandle;
 		private IdentifierMapping identifierMapping;
+		private Set<List<String>> indexingAssociationPaths;
 
 		Builder(PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName) {
 			this.typeIdentifier = typeIdentifier;
@@ -100,6 +113,16 @@ public void identifierMapping(IdentifierMapping identifierMapping) {
 			this.identifierMapping = identifierMapping;
 		}
 
+		@Override
+		public void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals) {
+			this.pathOrdinals = pathOrdinals;
+		}
+
+		@Override
+		public void indexingAssociationPaths(Set<List<String>> associationPaths) {
+			this.indexingAssociationPaths = associationPaths;
+		}
+
 		public HibernateOrmIndexedTypeContext<E> build(SessionFactoryImplementor sessionFactory) {
 			return new HibernateOrmIndexedTypeContext<>( this, sessionFactory );
 		}
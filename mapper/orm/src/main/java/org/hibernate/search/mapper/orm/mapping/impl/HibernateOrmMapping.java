@@ -28,6 +28,7 @@
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingPreStopContext;
@@ -241,6 +242,11 @@ public FailureHandler getFailureHandler() {
 		return getDelegate().getFailureHandler();
 	}
 
+	@Override
+	public MetricsProvider getMetricsProvider() {
+		return getDelegate().getMetricsProvider();
+	}
+
 	@Override
 	public HibernateOrmScopeSessionContext getSessionContext(EntityManager entityManager) {
 		return HibernateOrmSearchSession.get( this, HibernateOrmUtils.toSessionImplementor( entityManager ) );
@@ -39,6 +39,37 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the number of threads to be used to load the identifiers of the root entities,
+	 * for each type indexed in parallel.
+	 * <p>
+	 * When set to a value higher than {@code 1}, the identifier space of each type
+	 * is split into ranges that are loaded in parallel, each in its own transaction.
+	 * This is only possible for types whose identifiers are integral numbers
+	 * ({@code long}, {@code int}, {@code short} or their wrappers),
+	 * and when the number of indexed objects is not {@link #limitIndexedObjectsTo(long) limited};
+	 * otherwise, a single thread is used.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
+	/**
+	 * Sets the maximum number of batches of identifiers waiting to be processed
+	 * by the threads loading the root entities, for each type indexed in parallel.
+	 * <p>
+	 * When this limit is reached, threads loading identifiers will wait
+	 * until threads loading entities catch up.
+	 * Each batch holds up to {@link #batchSizeToLoadObjects(int) batchSizeToLoadObjects} identifiers.
+	 * <p>
+	 * Defaults to {@code 1000}.
+	 * @param queueSize the maximum number of batches of identifiers waiting to be processed
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer idQueueSize(int queueSize);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -106,6 +137,70 @@ public interface MassIndexer {
 	 */
 	MassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Indexes into a new, empty shadow index, then switches searches to the shadow index once indexing is complete.
+	 * <p>
+	 * Searches keep targeting the existing indexes, with their full content, for the whole duration of mass indexing,
+	 * and only ever see the new content once it is complete.
+	 * This also avoids mass indexing competing with searches on the same index segments.
+	 * <p>
+	 * With the Elasticsearch backend, the shadow index is a new Elasticsearch index
+	 * that the write alias is moved to, and the read alias is moved atomically once indexing is complete.
+	 * With the Lucene backend, the shadow index lives in a sibling directory,
+	 * and its content replaces the content of the index in a single commit once indexing is complete.
+	 * <p>
+	 * Changes to entities while mass indexing is in progress (automatic indexing, ...)
+	 * are written to the shadow index and will only become visible to searches after the switch.
+	 * If mass indexing fails or is interrupted, the shadow index is dropped,
+	 * along with those changes, and the existing indexes are left untouched.
+	 * <p>
+	 * When enabled, {@link #purgeAllOnStart(boolean)}, {@link #mergeSegmentsAfterPurge(boolean)}
+	 * and {@link #dropAndCreateSchemaOnStart(boolean)} have no effect:
+	 * the shadow index is always created empty, with an up-to-date schema.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to index into a shadow index, {@code false} to index into the existing indexes.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer shadowIndexing(boolean enable);
+
+	/**
+	 * Temporarily tunes the configuration of indexes for bulk loading while mass indexing is in progress.
+	 * <p>
+	 * With the Elasticsearch backend, periodic refreshes are disabled, the number of replicas is set to zero
+	 * and translog durability is set to {@code async} on the indexes being written to.
+	 * The original settings are restored once mass indexing completes, fails or is interrupted,
+	 * then segments are merged and indexes are refreshed once.
+	 * Replicas are rebuilt by Elasticsearch after the original settings are restored.
+	 * With the Lucene backend, this has no effect besides merging segments after indexing.
+	 * <p>
+	 * While mass indexing is in progress, indexed documents, including changes to entities
+	 * (automatic indexing, ...), may not become visible to searches,
+	 * and data written to an index may be lost if an Elasticsearch node fails.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to tune indexes for bulk loading during mass indexing, {@code false} otherwise.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer bulkLoadSettings(boolean enable);
+
+	/**
+	 * Loads in bulk the associated entities that are accessed when indexing each batch of entities,
+	 * e.g. through {@code @IndexedEmbedded}.
+	 * <p>
+	 * When enabled, the mass indexer derives the associations to load from the indexing dependencies of each indexed type
+	 * and loads each association for a whole batch of entities with a single query,
+	 * instead of lazily loading associations one entity at a time while building documents.
+	 * <p>
+	 * Defaults to {@code true}.
+	 * @param enable {@code true} to load associations in bulk before indexing each batch, {@code false} otherwise.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer prefetchAssociations(boolean enable);
+
 	/**
 	 * Stops indexing after having indexed a set amount of objects.
 	 * <p>
@@ -0,0 +1,198 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.LockModeType;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Loads in bulk the entities that will be accessed through associations when indexing a batch of entities,
+ * so that indexing a batch does not trigger one query per association and per entity.
+ * <p>
+ * The associations to load are derived from the indexing dependencies of the indexed type:
+ * see {@link HibernateOrmMassIndexingIndexedTypeContext#getIndexingAssociationPaths()}.
+ * Each association is loaded with one query per batch, joining the association on the batch of entities
+ * holding it; associations that cannot be joined this way (non-persistent properties, ...) are ignored.
+ * Associations are loaded one at a time so as to avoid cartesian products between collections.
+ */
+public class AssociationPrefetcher {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String ENTITIES_PARAMETER = "entities";
+
+	static AssociationPrefetcher create(SessionFactoryImplementor sessionFactory,
+			HibernateOrmMassIndexingIndexedTypeContext<?> type) {
+		AssociationNode root = new AssociationNode( null, null, type.getEntityPersister().getEntityName() );
+		for ( List<String> associationPath : type.getIndexingAssociationPaths() ) {
+			AssociationNode current = root;
+			for ( String propertyPath : associationPath ) {
+				current = current.child( sessionFactory, propertyPath );
+				if ( current == null ) {
+					break;
+				}
+			}
+		}
+		return new AssociationPrefetcher( root.children.values(),
+				sessionFactory.getJdbcServices().getDialect().getInExpressionCountLimit() );
+	}
+
+	static AssociationPrefetcher noOp() {
+		return new AssociationPrefetcher( Collections.emptyList(), 0 );
+	}
+
+	private final Collection<AssociationNode> rootAssociations;
+	private final int maxEntitiesPerQuery;
+
+	private AssociationPrefetcher(Collection<AssociationNode> rootAssociations, int maxEntitiesPerQuery) {
+		this.rootAssociations = rootAssociations;
+		this.maxEntitiesPerQuery = maxEntitiesPerQuery;
+	}
+
+	/**
+	 * @param session The session the entities were loaded from.
+	 * @param entities A batch of entities of the indexed type.
+	 * @param cacheMode The cache mode to use when loading associated entities.
+	 */
+	void prefetch(SessionImplementor session, List<?> entities, CacheMode cacheMode) {
+		for ( AssociationNode association : rootAssociations ) {
+			association.prefetch( session, entities, cacheMode, maxEntitiesPerQuery );
+		}
+	}
+
+	private static final class AssociationNode {
+		private final String ownerEntityName;
+		private final String propertyPath;
+		private final String entityName;
+		private final Map<String, AssociationNode> children = new LinkedHashMap<>();
+
+		private AssociationNode(String ownerEntityName, String propertyPath, String entityName) {
+			this.ownerEntityName = ownerEntityName;
+			this.propertyPath = propertyPath;
+			this.entityName = entityName;
+		}
+
+		AssociationNode child(SessionFactoryImplementor sessionFactory, String childPropertyPath) {
+			AssociationNode child = children.get( childPropertyPath );
+			if ( child != null ) {
+				return child;
+			}
+			String childEntityName = getAssociatedEntityName( sessionFactory, childPropertyPath );
+			if ( childEntityName == null ) {
+				return null;
+			}
+			child = new AssociationNode( entityName, childPropertyPath, childEntityName );
+			children.put( childPropertyPath, child );
+			return child;
+		}
+
+		void prefetch(SessionImplementor session, Collection<?> owners, CacheMode cacheMode, int maxEntitiesPerQuery) {
+			List<Object> ownersToFetch = new ArrayList<>();
+			for ( Object owner : owners ) {
+				if ( !Hibernate.isInitialized( getPropertyValue( session, owner ) ) ) {
+					ownersToFetch.add( owner );
+				}
+			}
+			int chunkSize = maxEntitiesPerQuery > 0 ? maxEntitiesPerQuery : Math.max( 1, ownersToFetch.size() );
+			for ( int i = 0; i < ownersToFetch.size(); i += chunkSize ) {
+				List<Object> chunk = ownersToFetch.subList( i, Math.min( i + chunkSize, ownersToFetch.size() ) );
+				log.tracef( "Prefetching association '%s' of %s for %d entities", propertyPath, ownerEntityName,
+						chunk.size() );
+				session.createQuery( "select e from " + ownerEntityName + " e left join fetch e." + propertyPath
+								+ " where e in (:" + ENTITIES_PARAMETER + ")" )
+						.setParameterList( ENTITIES_PARAMETER, chunk )
+						.setCacheMode( cacheMode )
+						.setLockMode( LockModeType.NONE )
+						.setCacheable( false )
+						.setHibernateFlushMode( FlushMode.MANUAL )
+						.getResultList();
+			}
+
+			if ( children.isEmpty() ) {
+				return;
+			}
+			Set<Object> associatedEntities = Collections.newSetFromMap( new IdentityHashMap<>() );
+			for ( Object owner : owners ) {
+				addAssociatedEntities( associatedEntities, getPropertyValue( session, owner ) );
+			}
+			if ( associatedEntities.isEmpty() ) {
+				return;
+			}
+			List<Object> associatedEntityList = new ArrayList<>( associatedEntities );
+			for ( AssociationNode child : children.values() ) {
+				child.prefetch( session, associatedEntityList, cacheMode, maxEntitiesPerQuery );
+			}
+		}
+
+		private Object getPropertyValue(SessionImplementor session, Object owner) {
+			Object unproxied = Hibernate.unproxy( owner );
+			EntityPersister persister = session.getEntityPersister( null, unproxied );
+			return persister.getPropertyValue( unproxied, propertyPath );
+		}
+
+		private String getAssociatedEntityName(SessionFactoryImplementor sessionFactory, String childPropertyPath) {
+			Type type;
+			try {
+				type = sessionFactory.getMetamodel().entityPersister( entityName ).getPropertyType( childPropertyPath );
+			}
+			catch (HibernateException e) {
+				log.tracef( e, "Ignoring property '%s' of %s for association prefetching: not a persistent property",
+						childPropertyPath, entityName );
+				return null;
+			}
+			if ( type.isCollectionType() ) {
+				type = ( (CollectionType) type ).getElementType( sessionFactory );
+			}
+			if ( !type.isEntityType() ) {
+				log.tracef( "Ignoring property '%s' of %s for association prefetching: not an association to an entity",
+						childPropertyPath, entityName );
+				return null;
+			}
+			return ( (EntityType) type ).getAssociatedEntityName( sessionFactory );
+		}
+
+		private static void addAssociatedEntities(Set<Object> associatedEntities, Object value) {
+			if ( value == null ) {
+				return;
+			}
+			if ( value instanceof Map ) {
+				addAssociatedEntities( associatedEntities, ( (Map<?, ?>) value ).values() );
+			}
+			else if ( value instanceof Collection ) {
+				for ( Object element : (Collection<?>) value ) {
+					if ( element != null ) {
+						associatedEntities.add( element );
+					}
+				}
+			}
+			else {
+				associatedEntities.add( value );
+			}
+		}
+	}
+}
@@ -49,10 +49,16 @@ public class BatchCoordinator extends FailureHandledRunnable {
 	private final boolean dropAndCreateSchemaOnStart;
 	private final boolean purgeAtStart;
 	private final boolean mergeSegmentsAfterPurge;
+	private final boolean shadowIndexing;
+	private final boolean bulkLoadSettings;
+	private final boolean prefetchAssociations;
 	private final long objectsLimit;
 	private final int idFetchSize;
+	private final int idLoadingThreads;
+	private final int idQueueSize;
 	private final Integer transactionTimeout;
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
+	private boolean bulkLoadStarted = false;
 
 	BatchCoordinator(HibernateOrmMassIndexingMappingContext mappingContext,
 			DetachedBackendSessionContext sessionContext,
@@ -62,7 +68,8 @@ public class BatchCoordinator extends FailureHandledRunnable {
 			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
 			int objectLoadingBatchSize, long objectsLimit, boolean mergeSegmentsOnFinish,
 			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
-			int idFetchSize, Integer transactionTimeout) {
+			boolean shadowIndexing, boolean bulkLoadSettings, boolean prefetchAssociations,
+			int idFetchSize, int idLoadingThreads, int idQueueSize, Integer transactionTimeout) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
@@ -71,6 +78,8 @@ public class BatchCoordinator extends FailureHandledRunnable {
 		this.scopeWorkspace = scopeWorkspace;
 
 		this.idFetchSize = idFetchSize;
+		this.idLoadingThreads = idLoadingThreads;
+		this.idQueueSize = idQueueSize;
 		this.transactionTimeout = transactionTimeout;
 		this.typesToIndexInParallel = typesToIndexInParallel;
 		this.documentBuilderThreads = documentBuilderThreads;
@@ -80,6 +89,9 @@ public class BatchCoordinator extends FailureHandledRunnable {
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
 		this.purgeAtStart = purgeAtStart;
 		this.mergeSegmentsAfterPurge = mergeSegmentsAfterPurge;
+		this.shadowIndexing = shadowIndexing;
+		this.bulkLoadSettings = bulkLoadSettings;
+		this.prefetchAssociations = prefetchAssociations;
 		this.objectsLimit = objectsLimit;
 	}
 
@@ -97,14 +109,26 @@ public void runWithFailureHandler() throws InterruptedException {
 	@Override
 	protected void cleanUpOnInterruption() throws InterruptedException {
 		cancelPendingTasks();
+		// Restore the original settings before the shadow indexes, if any, are dropped
+		stopBulkLoad();
+		if ( shadowIndexing ) {
+			// The existing indexes were left untouched: just get rid of the incomplete shadow indexes
+			dropShadows();
+			return;
+		}
 		// Indexing performed before the exception must still be committed,
 		// in order to leave the index in a consistent state
 		afterBatchOnInterruption();
 	}
 
 	@Override
-	protected void cleanUpOnFailure() {
+	protected void cleanUpOnFailure() throws InterruptedException {
 		cancelPendingTasks();
+		stopBulkLoad();
+		if ( shadowIndexing ) {
+			// The existing indexes were left untouched: just get rid of the incomplete shadow indexes
+			dropShadows();
+		}
 	}
 
 	@Override
@@ -153,13 +177,16 @@ private void doBatchWork() throws InterruptedException {
 	private <E> BatchIndexingWorkspace<E, ?> createBatchIndexingWorkspace(HibernateOrmMassIndexingIndexedTypeContext<E> type) {
 		EntityType<E> typeDescriptor = type.getEntityTypeDescriptor();
 		SingularAttribute<? super E, ?> idAttributeOfType = typeDescriptor.getId( typeDescriptor.getIdType().getJavaType() );
+		AssociationPrefetcher associationPrefetcher = prefetchAssociations
+				? AssociationPrefetcher.create( mappingContext.getSessionFactory(), type )
+				: AssociationPrefetcher.noOp();
 
 		return new BatchIndexingWorkspace<>(
 				mappingContext, sessionContext, getNotifier(),
-				type, idAttributeOfType,
+				type, idAttributeOfType, associationPrefetcher,
 				documentBuilderThreads, cacheMode,
 				objectLoadingBatchSize,
-				objectsLimit, idFetchSize, transactionTimeout
+				objectsLimit, idFetchSize, idLoadingThreads, idQueueSize, transactionTimeout
 		);
 	}
 
@@ -167,10 +194,20 @@ mappingContext, sessionContext, getNotifier(),
 	 * Operations to do after all subthreads finished their work on index
 	 */
 	private void afterBatch() throws InterruptedException {
-		if ( this.mergeSegmentsOnFinish ) {
+		// Bulk loading leaves many small segments behind: always merge them in that case
+		if ( this.mergeSegmentsOnFinish || this.bulkLoadSettings ) {
 			Futures.unwrappedExceptionGet( scopeWorkspace.mergeSegments() );
 		}
 		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
+		// Restore replicas and refreshes only after merging, so that replicas are built from merged segments
+		stopBulkLoad();
+		if ( shadowIndexing ) {
+			RootFailureCollector failureCollector = new RootFailureCollector(
+					HibernateOrmEventContextMessages.INSTANCE.schemaManagement()
+			);
+			Futures.unwrappedExceptionGet( scopeSchemaManager.switchToShadow( failureCollector ) );
+			failureCollector.checkNoFailure();
+		}
 		Futures.unwrappedExceptionGet( scopeWorkspace.refresh() );
 	}
 
@@ -182,10 +219,59 @@ private void afterBatchOnInterruption() throws InterruptedException {
 		Futures.unwrappedExceptionGet( scopeWorkspace.refresh() );
 	}
 
+	private void startBulkLoad() throws InterruptedException {
+		// Even if starting fails, the backend must be told to stop, as it counts concurrent bulk loads
+		bulkLoadStarted = true;
+		RootFailureCollector failureCollector = new RootFailureCollector(
+				HibernateOrmEventContextMessages.INSTANCE.schemaManagement()
+		);
+		Futures.unwrappedExceptionGet( scopeSchemaManager.startBulkLoad( failureCollector ) );
+		failureCollector.checkNoFailure();
+	}
+
+	private void stopBulkLoad() throws InterruptedException {
+		if ( !bulkLoadStarted ) {
+			return;
+		}
+		// Never stop twice, e.g. when switching to shadow indexes fails after the bulk load stopped
+		bulkLoadStarted = false;
+		RootFailureCollector failureCollector = new RootFailureCollector(
+				HibernateOrmEventContextMessages.INSTANCE.schemaManagement()
+		);
+		Futures.unwrappedExceptionGet( scopeSchemaManager.stopBulkLoad( failureCollector ) );
+		failureCollector.checkNoFailure();
+	}
+
+	private void dropShadows() throws InterruptedException {
+		RootFailureCollector failureCollector = new RootFailureCollector(
+				HibernateOrmEventContextMessages.INSTANCE.schemaManagement()
+		);
+		Futures.unwrappedExceptionGet( scopeSchemaManager.dropShadowIfExisting( failureCollector ) );
+		failureCollector.checkNoFailure();
+	}
+
 	/**
 	 * Optional operations to do before the multiple-threads start indexing
 	 */
 	private void beforeBatch() throws InterruptedException {
+		if ( this.shadowIndexing ) {
+			// The shadow indexes are created empty, with an up-to-date schema: no need to purge or re-create.
+			RootFailureCollector failureCollector = new RootFailureCollector(
+					HibernateOrmEventContextMessages.INSTANCE.schemaManagement()
+			);
+			Futures.unwrappedExceptionGet( scopeSchemaManager.createShadow( failureCollector ) );
+			failureCollector.checkNoFailure();
+		}
+		else {
+			prepareExistingIndexes();
+		}
+
+		if ( this.bulkLoadSettings ) {
+			startBulkLoad();
+		}
+	}
+
+	private void prepareExistingIndexes() throws InterruptedException {
 		if ( this.dropAndCreateSchemaOnStart ) {
 			RootFailureCollector failureCollector = new RootFailureCollector(
 					HibernateOrmEventContextMessages.INSTANCE.schemaManagement()
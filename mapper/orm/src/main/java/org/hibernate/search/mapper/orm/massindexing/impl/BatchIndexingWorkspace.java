@@ -40,6 +40,7 @@
 
 	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
 	private final SingularAttribute<? super E, I> idAttributeOfType;
+	private final AssociationPrefetcher associationPrefetcher;
 
 	private final ProducerConsumerQueue<List<I>> primaryKeyStream;
 
@@ -52,6 +53,7 @@
 	private final long objectsLimit;
 
 	private final int idFetchSize;
+	private final int idLoadingThreads;
 	private final Integer transactionTimeout;
 
 	private final List<CompletableFuture<?>> identifierProducingFutures = new ArrayList<>();
@@ -61,27 +63,30 @@
 			DetachedBackendSessionContext sessionContext,
 			MassIndexingNotifier notifier,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
+			AssociationPrefetcher associationPrefetcher,
 			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
 			long objectsLimit,
-			int idFetchSize, Integer transactionTimeout) {
+			int idFetchSize, int idLoadingThreads, int idQueueSize, Integer transactionTimeout) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
 
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
+		this.associationPrefetcher = associationPrefetcher;
 		this.idFetchSize = idFetchSize;
 		this.transactionTimeout = transactionTimeout;
 
 		//thread pool sizing:
 		this.documentBuilderThreads = objectLoadingThreads;
+		this.idLoadingThreads = getIdLoadingThreads( idLoadingThreads, idAttributeOfType, objectsLimit );
 
 		//loading options:
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
 
 		//pipelining queues:
-		this.primaryKeyStream = new ProducerConsumerQueue<>( 1 );
+		this.primaryKeyStream = new ProducerConsumerQueue<>( idQueueSize, this.idLoadingThreads );
 
 		this.objectsLimit = objectsLimit;
 	}
@@ -125,38 +130,63 @@ private void cancelPendingTasks() {
 	}
 
 	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext) {
-		final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
-				transactionalContext,
-				getNotifier(),
-				new IdentifierProducer<>(
-						mappingContext.getSessionFactory(), sessionContext.getTenantIdentifier(),
-						getNotifier(),
-						primaryKeyStream,
-						objectLoadingBatchSize,
-						type, idAttributeOfType,
-						objectsLimit,
-						idFetchSize
-				),
-				transactionTimeout, sessionContext.getTenantIdentifier()
-		);
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
+		IdentifierPartitioner<E, I> partitioner = null;
+		if ( idLoadingThreads > 1 ) {
+			partitioner = new IdentifierPartitioner<>(
+					mappingContext.getSessionFactory(), type, idAttributeOfType, idLoadingThreads
+			);
+		}
 		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.getThreadPoolProvider().newFixedThreadPool(
-				1,
+				idLoadingThreads,
 				MassIndexerImpl.THREAD_NAME_PREFIX + type.getJpaEntityName() + " - ID loading"
 		);
 		try {
-			identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			for ( int i = 0; i < idLoadingThreads; i++ ) {
+				final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
+						transactionalContext,
+						getNotifier(),
+						new IdentifierProducer<>(
+								mappingContext.getSessionFactory(), sessionContext.getTenantIdentifier(),
+								getNotifier(),
+								primaryKeyStream,
+								objectLoadingBatchSize,
+								type, idAttributeOfType,
+								objectsLimit,
+								idFetchSize,
+								partitioner, i
+						),
+						transactionTimeout, sessionContext.getTenantIdentifier()
+				);
+				identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			}
 		}
 		finally {
 			identifierProducingExecutor.shutdown();
 		}
 	}
 
+	private static int getIdLoadingThreads(int requestedIdLoadingThreads, SingularAttribute<?, ?> idAttributeOfType,
+			long objectsLimit) {
+		if ( requestedIdLoadingThreads <= 1 ) {
+			return 1;
+		}
+		// Loading identifiers in parallel requires splitting the identifier space into ranges,
+		// which we can only do for integral identifiers.
+		// We also need to count all identifiers in a single query to apply a limit.
+		if ( !IdentifierPartitioner.supports( idAttributeOfType.getJavaType() ) || objectsLimit != 0 ) {
+			log.debugf( "Identifiers of type %s cannot be loaded in parallel; using a single thread",
+					idAttributeOfType.getDeclaringType().getJavaType() );
+			return 1;
+		}
+		return requestedIdLoadingThreads;
+	}
+
 	private void startIndexing() {
 		final Runnable documentOutputter = new IdentifierConsumerDocumentProducer<>(
 				mappingContext, sessionContext.getTenantIdentifier(),
 				getNotifier(),
 				type, idAttributeOfType,
+				associationPrefetcher,
 				primaryKeyStream,
 				cacheMode,
 				transactionTimeout
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
+import java.util.List;
+import java.util.Set;
+
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
@@ -33,4 +36,10 @@
 	 */
 	EntityTypeDescriptor<E> getEntityTypeDescriptor();
 
+	/**
+	 * @return The paths to entities that may be accessed through associations when indexing this type.
+	 * See {@link org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexedTypeExtendedMappingCollector#indexingAssociationPaths(Set)}.
+	 */
+	Set<List<String>> getIndexingAssociationPaths();
+
 }
@@ -11,6 +11,7 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 
 public interface HibernateOrmMassIndexingMappingContext {
@@ -21,6 +22,8 @@ public interface HibernateOrmMassIndexingMappingContext {
 
 	FailureHandler getFailureHandler();
 
+	MetricsProvider getMetricsProvider();
+
 	PojoIndexer createIndexer(SessionImplementor sessionImplementor,
 			DocumentCommitStrategy commitStrategy);
 
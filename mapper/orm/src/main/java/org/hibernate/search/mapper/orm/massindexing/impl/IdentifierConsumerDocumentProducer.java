@@ -52,6 +52,7 @@
 
 	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
 	private final SingularAttribute<? super E, I> idAttributeOfType;
+	private final AssociationPrefetcher associationPrefetcher;
 
 	private final ProducerConsumerQueue<List<I>> source;
 	private final CacheMode cacheMode;
@@ -66,6 +67,7 @@
 			HibernateOrmMassIndexingMappingContext mappingContext, String tenantId,
 			MassIndexingNotifier notifier,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
+			AssociationPrefetcher associationPrefetcher,
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
 			CacheMode cacheMode,
 			Integer transactionTimeout
@@ -77,6 +79,7 @@
 		this.cacheMode = cacheMode;
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
+		this.associationPrefetcher = associationPrefetcher;
 		this.transactionTimeout = transactionTimeout;
 		this.transactionManager = mappingContext.getSessionFactory()
 				.getServiceRegistry()
@@ -130,7 +133,8 @@ private void loadAllFromQueue(SessionImplementor session) throws SystemException
 	}
 
 	/**
-	 * Loads a list of entities of defined type using their identifiers.
+	 * Loads a list of entities of defined type using their identifiers,
+	 * along with the associated entities accessed when indexing them.
 	 * entities are then transformed into Lucene Documents
 	 * and forwarded to the indexing backend.
 	 *
@@ -156,7 +160,10 @@ private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer i
 					.setHibernateFlushMode( FlushMode.MANUAL )
 					.setFetchSize( listIds.size() );
 
-			indexAllQueue( session, indexer, query.getResultList() );
+			List<E> entities = query.getResultList();
+			associationPrefetcher.prefetch( session, entities, cacheMode );
+
+			indexAllQueue( session, indexer, entities );
 			session.clear();
 		}
 		finally {
@@ -0,0 +1,195 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Splits the identifier space of an entity type into contiguous ranges,
+ * so that identifiers can be loaded by multiple {@link IdentifierProducer}s in parallel.
+ * <p>
+ * Ranges are computed once, by the first producer to request its range,
+ * from the minimum and maximum identifiers found in the database.
+ * The first and last ranges are unbounded,
+ * so that entities persisted after the ranges were computed are not ignored.
+ * <p>
+ * Only integral identifiers are supported: see {@link #supports(Class)}.
+ *
+ * @param <E> The entity type
+ * @param <I> The identifier type
+ */
+public class IdentifierPartitioner<E, I> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactory sessionFactory;
+	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
+	private final SingularAttribute<? super E, I> idAttributeOfType;
+	private final int partitionCount;
+
+	private List<IdentifierRange<I>> ranges;
+	private boolean failed = false;
+
+	IdentifierPartitioner(SessionFactory sessionFactory,
+			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
+			int partitionCount) {
+		this.sessionFactory = sessionFactory;
+		this.type = type;
+		this.idAttributeOfType = idAttributeOfType;
+		this.partitionCount = partitionCount;
+	}
+
+	static boolean supports(Class<?> idJavaType) {
+		return Long.class.equals( idJavaType ) || long.class.equals( idJavaType )
+				|| Integer.class.equals( idJavaType ) || int.class.equals( idJavaType )
+				|| Short.class.equals( idJavaType ) || short.class.equals( idJavaType );
+	}
+
+	/**
+	 * @param session The session to use to compute the ranges, if they haven't been computed yet.
+	 * @param partitionIndex The index of the partition, between 0 (inclusive) and the partition count (exclusive).
+	 * @return The range of identifiers for the given partition,
+	 * or {@code null} if there is nothing to load for that partition.
+	 */
+	synchronized IdentifierRange<I> getRange(StatelessSession session, int partitionIndex) {
+		if ( failed ) {
+			// Another producer failed to compute the ranges and already reported the failure.
+			return null;
+		}
+		if ( ranges == null ) {
+			try {
+				ranges = computeRanges( session );
+			}
+			catch (RuntimeException e) {
+				failed = true;
+				throw e;
+			}
+		}
+		return partitionIndex < ranges.size() ? ranges.get( partitionIndex ) : null;
+	}
+
+	private List<IdentifierRange<I>> computeRanges(StatelessSession session) {
+		Object[] minAndMax = createMinAndMaxQuery( session ).uniqueResult();
+		List<IdentifierRange<I>> result = new ArrayList<>( partitionCount );
+		Number min = (Number) minAndMax[0];
+		Number max = (Number) minAndMax[1];
+		if ( min == null || max == null ) {
+			// No entity: a single, unbounded range will do.
+			result.add( new IdentifierRange<>( null, null ) );
+			return result;
+		}
+
+		long minValue = min.longValue();
+		long maxValue = max.longValue();
+		// Divide first to avoid overflows
+		long step = maxValue / partitionCount - minValue / partitionCount + 1;
+		I lowerBound = null;
+		for ( int i = 1; i < partitionCount; i++ ) {
+			long bound = minValue + step * i;
+			if ( bound > maxValue || bound < minValue /* overflow */ ) {
+				break;
+			}
+			I upperBound = fromLong( bound );
+			result.add( new IdentifierRange<>( lowerBound, upperBound ) );
+			lowerBound = upperBound;
+		}
+		result.add( new IdentifierRange<>( lowerBound, null ) );
+
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Identifiers of %s will be loaded in the following ranges: %s",
+					type.getJpaEntityName(), result );
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private org.hibernate.query.Query<Object[]> createMinAndMaxQuery(StatelessSession session) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<Object[]> criteriaQuery = criteriaBuilder.createQuery( Object[].class );
+
+		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
+		// Checked through supports()
+		Path<Number> idPath = (Path<Number>) root.get( idAttributeOfType );
+		criteriaQuery.multiselect( criteriaBuilder.min( idPath ), criteriaBuilder.max( idPath ) );
+
+		return session.createQuery( criteriaQuery )
+				.setCacheable( false );
+	}
+
+	@SuppressWarnings("unchecked")
+	private I fromLong(long value) {
+		Class<I> idJavaType = idAttributeOfType.getJavaType();
+		if ( Integer.class.equals( idJavaType ) || int.class.equals( idJavaType ) ) {
+			return (I) Integer.valueOf( (int) value );
+		}
+		else if ( Short.class.equals( idJavaType ) || short.class.equals( idJavaType ) ) {
+			return (I) Short.valueOf( (short) value );
+		}
+		else {
+			return (I) Long.valueOf( value );
+		}
+	}
+
+	/**
+	 * A range of identifiers.
+	 *
+	 * @param <I> The identifier type
+	 */
+	static final class IdentifierRange<I> {
+
+		private final I lowerBoundInclusive;
+		private final I upperBoundExclusive;
+
+		IdentifierRange(I lowerBoundInclusive, I upperBoundExclusive) {
+			this.lowerBoundInclusive = lowerBoundInclusive;
+			this.upperBoundExclusive = upperBoundExclusive;
+		}
+
+		@Override
+		public String toString() {
+			return "[" + ( lowerBoundInclusive == null ? "" : lowerBoundInclusive )
+					+ ", " + ( upperBoundExclusive == null ? "" : upperBoundExclusive ) + ")";
+		}
+
+		/**
+		 * @param criteriaBuilder A criteria builder.
+		 * @param idPath The path to the identifier.
+		 * @return A predicate matching identifiers in this range, or {@code null} if this range is unbounded.
+		 */
+		@SuppressWarnings({ "unchecked", "rawtypes" }) // Identifiers are checked to be comparable through supports()
+		Predicate toPredicate(CriteriaBuilder criteriaBuilder, Path<I> idPath) {
+			Expression<Comparable> comparableIdPath = (Expression) idPath;
+			List<Predicate> predicates = new ArrayList<>( 2 );
+			if ( lowerBoundInclusive != null ) {
+				predicates.add( criteriaBuilder.greaterThanOrEqualTo(
+						comparableIdPath, (Comparable) lowerBoundInclusive ) );
+			}
+			if ( upperBoundExclusive != null ) {
+				predicates.add( criteriaBuilder.lessThan(
+						comparableIdPath, (Comparable) upperBoundExclusive ) );
+			}
+			if ( predicates.isEmpty() ) {
+				return null;
+			}
+			return criteriaBuilder.and( predicates.toArray( new Predicate[0] ) );
+		}
+	}
+}
@@ -12,6 +12,7 @@
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import javax.persistence.metamodel.SingularAttribute;
 
@@ -28,9 +29,10 @@
 /**
  * This Runnable is going to feed the indexing queue
  * with the identifiers of all the entities going to be indexed.
- * This step in the indexing process is not parallel (should be
- * done by one thread per type) so that a single transaction is used
- * to define the group of entities to be indexed.
+ * This step in the indexing process is not parallel by default (one thread per type)
+ * so that a single transaction is used to define the group of entities to be indexed.
+ * When an {@link IdentifierPartitioner} is provided, the identifier space is split into ranges
+ * and each producer loads the identifiers of a single range, in its own transaction.
  * Produced identifiers are put in the destination queue grouped in List
  * instances: the reason for this is to load them in batches
  * in the next step and reduce contention on the queue.
@@ -55,6 +57,8 @@
 	private final int batchSize;
 	private final long objectsLimit;
 	private final int idFetchSize;
+	private final IdentifierPartitioner<E, I> partitioner;
+	private final int partitionIndex;
 
 	/**
 	 * @param sessionFactory the Hibernate SessionFactory to use to load entities
@@ -66,13 +70,16 @@
 	 * @param idAttributeOfType the id attribute to be loaded
 	 * @param objectsLimit if not zero
 	 * @param idFetchSize the fetch size
+	 * @param partitioner the partitioner splitting the identifier space into ranges, or {@code null} to load all identifiers
+	 * @param partitionIndex the index of the range of identifiers to load; ignored if {@code partitioner} is {@code null}
 	 */
 	IdentifierProducer(SessionFactory sessionFactory, String tenantId,
 			MassIndexingNotifier notifier,
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
 			int objectLoadingBatchSize,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
-			long objectsLimit, int idFetchSize) {
+			long objectsLimit, int idFetchSize,
+			IdentifierPartitioner<E, I> partitioner, int partitionIndex) {
 		this.sessionFactory = sessionFactory;
 		this.tenantId = tenantId;
 		this.notifier = notifier;
@@ -82,6 +89,8 @@
 		this.batchSize = objectLoadingBatchSize;
 		this.objectsLimit = objectsLimit;
 		this.idFetchSize = idFetchSize;
+		this.partitioner = partitioner;
+		this.partitionIndex = partitionIndex;
 		log.trace( "created" );
 	}
 
@@ -137,7 +146,16 @@ private void inTransactionWrapper(StatelessSession upperSession) {
 	}
 
 	private void loadAllIdentifiers(final StatelessSession session) throws InterruptedException {
-		long totalCount = createTotalCountQuery( session ).uniqueResult();
+		IdentifierPartitioner.IdentifierRange<I> range = null;
+		if ( partitioner != null ) {
+			range = partitioner.getRange( session, partitionIndex );
+			if ( range == null ) {
+				// Nothing to load for this partition
+				return;
+			}
+		}
+
+		long totalCount = createTotalCountQuery( session, range ).uniqueResult();
 		if ( objectsLimit != 0 && objectsLimit < totalCount ) {
 			totalCount = objectsLimit;
 		}
@@ -148,7 +166,7 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 
 		ArrayList<I> destinationList = new ArrayList<>( batchSize );
 		long counter = 0;
-		try ( ScrollableResults results = createIdentifiersQuery( session ).scroll( ScrollMode.FORWARD_ONLY ) ) {
+		try ( ScrollableResults results = createIdentifiersQuery( session, range ).scroll( ScrollMode.FORWARD_ONLY ) ) {
 			while ( results.next() ) {
 				@SuppressWarnings("unchecked")
 				I id = (I) results.get( 0 );
@@ -175,30 +193,43 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 		enqueueList( destinationList );
 	}
 
-	private Query<Long> createTotalCountQuery(StatelessSession session) {
+	private Query<Long> createTotalCountQuery(StatelessSession session, IdentifierPartitioner.IdentifierRange<I> range) {
 		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
 		CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery( Long.class );
 
 		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
 		criteriaQuery.select( criteriaBuilder.count( root ) );
+		restrictToRange( criteriaBuilder, criteriaQuery, root, range );
 
 		return session.createQuery( criteriaQuery )
 				.setCacheable( false );
 	}
 
-	private Query<I> createIdentifiersQuery(StatelessSession session) {
+	private Query<I> createIdentifiersQuery(StatelessSession session, IdentifierPartitioner.IdentifierRange<I> range) {
 		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
 		CriteriaQuery<I> criteriaQuery = criteriaBuilder.createQuery( idAttributeOfType.getJavaType() );
 
 		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
 		Path<I> idPath = root.get( idAttributeOfType );
 		criteriaQuery.select( idPath );
+		restrictToRange( criteriaBuilder, criteriaQuery, root, range );
 
 		return session.createQuery( criteriaQuery )
 				.setCacheable( false )
 				.setFetchSize( idFetchSize );
 	}
 
+	private void restrictToRange(CriteriaBuilder criteriaBuilder, CriteriaQuery<?> criteriaQuery, Root<E> root,
+			IdentifierPartitioner.IdentifierRange<I> range) {
+		if ( range == null ) {
+			return;
+		}
+		Predicate predicate = range.toPredicate( criteriaBuilder, root.get( idAttributeOfType ) );
+		if ( predicate != null ) {
+			criteriaQuery.where( predicate );
+		}
+	}
+
 	private void enqueueList(final List<I> idsList) throws InterruptedException {
 		if ( ! idsList.isEmpty() ) {
 			destination.put( idsList );
@@ -57,7 +57,12 @@ public class MassIndexerImpl implements MassIndexer {
 	private boolean dropAndCreateSchemaOnStart = false;
 	private boolean purgeAtStart = true;
 	private boolean mergeSegmentsAfterPurge = true;
+	private boolean shadowIndexing = false;
+	private boolean bulkLoadSettings = false;
+	private boolean prefetchAssociations = true;
 	private int idFetchSize = 100; //reasonable default as we only load IDs
+	private int idLoadingThreads = 1;
+	private int idQueueSize = 1000;
 	private Integer idLoadingTransactionTimeout;
 
 	private MassIndexingFailureHandler failureHandler;
@@ -132,6 +137,24 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		if ( numberOfThreads < 1 ) {
+			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
+		}
+		this.idLoadingThreads = numberOfThreads;
+		return this;
+	}
+
+	@Override
+	public MassIndexer idQueueSize(int queueSize) {
+		if ( queueSize < 1 ) {
+			throw new IllegalArgumentException( "queueSize must be at least 1" );
+		}
+		this.idQueueSize = queueSize;
+		return this;
+	}
+
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		if ( batchSize < 1 ) {
@@ -165,6 +188,24 @@ public MassIndexer purgeAllOnStart(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer shadowIndexing(boolean enable) {
+		this.shadowIndexing = enable;
+		return this;
+	}
+
+	@Override
+	public MassIndexer bulkLoadSettings(boolean enable) {
+		this.bulkLoadSettings = enable;
+		return this;
+	}
+
+	@Override
+	public MassIndexer prefetchAssociations(boolean enable) {
+		this.prefetchAssociations = enable;
+		return this;
+	}
+
 	@Override
 	public MassIndexer transactionTimeout(int timeoutInSeconds) {
 		this.idLoadingTransactionTimeout = timeoutInSeconds;
@@ -203,7 +244,8 @@ public void startAndWait() throws InterruptedException {
 	protected BatchCoordinator createCoordinator() {
 		MassIndexingNotifier notifier = new MassIndexingNotifier(
 				getOrCreateFailureHandler(),
-				getOrCreateMonitor()
+				getOrCreateMonitor(),
+				mappingContext.getMetricsProvider()
 		);
 		return new BatchCoordinator(
 				mappingContext, sessionContext,
@@ -212,7 +254,8 @@ protected BatchCoordinator createCoordinator() {
 				typesToIndexInParallel, documentBuilderThreads,
 				cacheMode, objectLoadingBatchSize, objectsLimit,
 				mergeSegmentsOnFinish, dropAndCreateSchemaOnStart, purgeAtStart, mergeSegmentsAfterPurge,
-				idFetchSize, idLoadingTransactionTimeout
+				shadowIndexing, bulkLoadSettings, prefetchAssociations,
+				idFetchSize, idLoadingThreads, idQueueSize, idLoadingTransactionTimeout
 		);
 	}
 
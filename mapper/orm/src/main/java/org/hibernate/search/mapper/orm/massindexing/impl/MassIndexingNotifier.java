@@ -7,10 +7,14 @@
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.Session;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
@@ -25,16 +29,33 @@ class MassIndexingNotifier {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final String METRICS_PREFIX = "hibernate.search.mass_indexing.";
+
+	static final String ENTITIES_LOADED = METRICS_PREFIX + "entities.loaded";
+	static final String DOCUMENTS_BUILT = METRICS_PREFIX + "documents.built";
+	static final String DOCUMENTS_ADDED = METRICS_PREFIX + "documents.added";
+	static final String ENTITY_FAILURES = METRICS_PREFIX + "entity_failures";
+
 	private final MassIndexingFailureHandler failureHandler;
 	private final MassIndexingMonitor monitor;
+	private final Counter entitiesLoadedCounter;
+	private final Counter documentsBuiltCounter;
+	private final Counter documentsAddedCounter;
+	private final Counter entityFailuresCounter;
 
 	private final AtomicReference<RecordedEntityIndexingFailure> entityIndexingFirstFailure =
 			new AtomicReference<>( null );
 	private final LongAdder entityIndexingFailureCount = new LongAdder();
 
-	MassIndexingNotifier(MassIndexingFailureHandler failureHandler, MassIndexingMonitor monitor) {
+	MassIndexingNotifier(MassIndexingFailureHandler failureHandler, MassIndexingMonitor monitor,
+			MetricsProvider metricsProvider) {
 		this.failureHandler = failureHandler;
 		this.monitor = monitor;
+		Map<String, String> tags = Collections.emptyMap();
+		this.entitiesLoadedCounter = metricsProvider.counter( ENTITIES_LOADED, tags );
+		this.documentsBuiltCounter = metricsProvider.counter( DOCUMENTS_BUILT, tags );
+		this.documentsAddedCounter = metricsProvider.counter( DOCUMENTS_ADDED, tags );
+		this.entityFailuresCounter = metricsProvider.counter( ENTITY_FAILURES, tags );
 	}
 
 	void notifyAddedTotalCount(long totalCount) {
@@ -50,14 +71,17 @@ void notifyRunnableFailure(Exception exception, String operation) {
 
 	void notifyEntitiesLoaded(int size) {
 		monitor.entitiesLoaded( size );
+		entitiesLoadedCounter.increment( size );
 	}
 
 	void notifyDocumentBuilt() {
 		monitor.documentsBuilt( 1 );
+		documentsBuiltCounter.increment();
 	}
 
 	void notifyDocumentsAdded(int size) {
 		monitor.documentsAdded( size );
+		documentsAddedCounter.increment( size );
 	}
 
 	<T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<T> type,
@@ -65,6 +89,7 @@ <T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<
 		RecordedEntityIndexingFailure recordedFailure = new RecordedEntityIndexingFailure( throwable );
 		entityIndexingFirstFailure.compareAndSet( null, recordedFailure );
 		entityIndexingFailureCount.increment();
+		entityFailuresCounter.increment();
 
 		MassIndexingEntityFailureContext.Builder contextBuilder = MassIndexingEntityFailureContext.builder();
 		contextBuilder.throwable( throwable );
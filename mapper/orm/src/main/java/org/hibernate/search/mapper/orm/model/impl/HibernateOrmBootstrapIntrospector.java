@@ -63,6 +63,9 @@ public static HibernateOrmBootstrapIntrospector create(
 			case METHOD_HANDLE:
 				valueReadHandleFactory = ValueReadHandleFactory.usingMethodHandle( lookup );
 				break;
+			case LAMBDA_METAFACTORY:
+				valueReadHandleFactory = ValueReadHandleFactory.usingLambdaMetafactory( lookup );
+				break;
 			default:
 				throw new AssertionFailure( "Unexpected reflection strategy name: " + reflectionStrategyName );
 		}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.expect;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.hibernate.Session;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.Gauge;
+import org.hibernate.search.engine.environment.metrics.spi.Histogram;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingEntityFailureContext;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureHandler;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+
+import org.junit.Test;
+
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+
+public class MassIndexingNotifierTest extends EasyMockSupport {
+
+	private final MassIndexingFailureHandler failureHandlerMock = createMock( MassIndexingFailureHandler.class );
+	private final MassIndexingMonitor monitorMock = createMock( MassIndexingMonitor.class );
+	private final StubMetricsProvider metricsProvider = new StubMetricsProvider();
+
+	private final MassIndexingNotifier notifier =
+			new MassIndexingNotifier( failureHandlerMock, monitorMock, metricsProvider );
+
+	@Test
+	public void counters() {
+		assertThat( metricsProvider.counts ).containsOnlyKeys(
+				MassIndexingNotifier.ENTITIES_LOADED, MassIndexingNotifier.DOCUMENTS_BUILT,
+				MassIndexingNotifier.DOCUMENTS_ADDED, MassIndexingNotifier.ENTITY_FAILURES
+		);
+
+		resetAll();
+		monitorMock.entitiesLoaded( 10 );
+		monitorMock.documentsBuilt( 1 );
+		monitorMock.documentsBuilt( 1 );
+		monitorMock.documentsAdded( 2 );
+		replayAll();
+		notifier.notifyEntitiesLoaded( 10 );
+		notifier.notifyDocumentBuilt();
+		notifier.notifyDocumentBuilt();
+		notifier.notifyDocumentsAdded( 2 );
+		verifyAll();
+
+		assertThat( metricsProvider.count( MassIndexingNotifier.ENTITIES_LOADED ) ).isEqualTo( 10L );
+		assertThat( metricsProvider.count( MassIndexingNotifier.DOCUMENTS_BUILT ) ).isEqualTo( 2L );
+		assertThat( metricsProvider.count( MassIndexingNotifier.DOCUMENTS_ADDED ) ).isEqualTo( 2L );
+		assertThat( metricsProvider.count( MassIndexingNotifier.ENTITY_FAILURES ) ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void entityFailures() {
+		@SuppressWarnings("unchecked")
+		HibernateOrmMassIndexingIndexedTypeContext<Object> typeMock =
+				createMock( HibernateOrmMassIndexingIndexedTypeContext.class );
+		Session sessionMock = createMock( Session.class );
+		Object entity = new Object();
+
+		resetAll();
+		expect( typeMock.getJpaEntityName() ).andStubReturn( "SomeEntity" );
+		expect( typeMock.getTypeIdentifier() ).andStubReturn( null );
+		expect( sessionMock.getIdentifier( entity ) ).andStubReturn( 1L );
+		failureHandlerMock.handle( EasyMock.anyObject( MassIndexingEntityFailureContext.class ) );
+		EasyMock.expectLastCall().times( 2 );
+		replayAll();
+		notifier.notifyEntityIndexingFailure( typeMock, sessionMock, entity, new RuntimeException( "Simulated failure" ) );
+		notifier.notifyEntityIndexingFailure( typeMock, sessionMock, entity, new RuntimeException( "Simulated failure" ) );
+		verifyAll();
+
+		assertThat( metricsProvider.count( MassIndexingNotifier.ENTITY_FAILURES ) ).isEqualTo( 2L );
+	}
+
+	private static class StubMetricsProvider implements MetricsProvider {
+		private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+		@Override
+		public Counter counter(String name, Map<String, String> tags) {
+			return counts.computeIfAbsent( name, ignored -> new LongAdder() )::add;
+		}
+
+		@Override
+		public Histogram histogram(String name, Map<String, String> tags) {
+			throw new UnsupportedOperationException( "Unexpected histogram: " + name );
+		}
+
+		@Override
+		public Timer timer(String name, Map<String, String> tags) {
+			throw new UnsupportedOperationException( "Unexpected timer: " + name );
+		}
+
+		@Override
+		public Gauge gauge(String name, Map<String, String> tags, LongSupplier valueSupplier) {
+			throw new UnsupportedOperationException( "Unexpected gauge: " + name );
+		}
+
+		long count(String name) {
+			return counts.get( name ).sum();
+		}
+	}
+}
@@ -37,7 +37,8 @@ public static List<Object[]> data() {
 		return Arrays.asList( new Object[][] {
 				{ null },
 				{ "method-handle" },
-				{ "java-lang-reflect" }
+				{ "java-lang-reflect" },
+				{ "lambda-metafactory" }
 		} );
 	}
 
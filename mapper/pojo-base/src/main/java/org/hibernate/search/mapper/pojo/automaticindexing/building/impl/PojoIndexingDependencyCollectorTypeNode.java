@@ -7,6 +7,10 @@
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
@@ -42,6 +46,18 @@
 	 */
 	private final PojoIndexingDependencyCollectorTypeNode<?> lastEntityNode;
 	private final BoundPojoModelPathTypeNode<T> modelPathFromLastEntityNode;
+	/**
+	 * The associations to follow from the root (indexed) entity node to reach the last entity node,
+	 * each association being represented by a property path from one entity to the next,
+	 * or {@code null} if the root entity node is not reachable by following associations
+	 * (disjoint nodes).
+	 */
+	private final List<String> associationPathFromRootEntityNode;
+	/**
+	 * The association paths collected so far for the root entity node,
+	 * shared by all nodes of the same tree.
+	 */
+	private final Set<List<String>> rootEntityNodeAssociationPaths;
 
 	PojoIndexingDependencyCollectorTypeNode(PojoRawTypeModel<T> typeModel,
 			PojoImplicitReindexingResolverBuildingHelper buildingHelper) {
@@ -50,6 +66,8 @@
 		this.modelPathFromCurrentNode = BoundPojoModelPath.root( typeModel );
 		this.lastEntityNode = this;
 		this.modelPathFromLastEntityNode = modelPathFromCurrentNode;
+		this.associationPathFromRootEntityNode = Collections.emptyList();
+		this.rootEntityNodeAssociationPaths = new LinkedHashSet<>();
 	}
 
 	PojoIndexingDependencyCollectorTypeNode(PojoIndexingDependencyCollectorValueNode<?, T> parentNode,
@@ -60,13 +78,24 @@
 		this.parentNode = parentNode;
 		PojoTypeModel<T> typeModel = modelPathFromLastEntityNode.getTypeModel();
 		this.modelPathFromCurrentNode = BoundPojoModelPath.root( typeModel );
+		this.rootEntityNodeAssociationPaths = lastEntityNode.rootEntityNodeAssociationPaths;
 		if ( buildingHelper.isEntity( typeModel.getRawType() ) ) {
 			this.lastEntityNode = this;
 			this.modelPathFromLastEntityNode = modelPathFromCurrentNode;
+			if ( lastEntityNode.associationPathFromRootEntityNode != null ) {
+				List<String> associationPath = new ArrayList<>( lastEntityNode.associationPathFromRootEntityNode );
+				associationPath.add( modelPathFromLastEntityNode.toUnboundPath().getParent().toPropertyString() );
+				this.associationPathFromRootEntityNode = Collections.unmodifiableList( associationPath );
+				rootEntityNodeAssociationPaths.add( associationPathFromRootEntityNode );
+			}
+			else {
+				this.associationPathFromRootEntityNode = null;
+			}
 		}
 		else {
 			this.lastEntityNode = lastEntityNode;
 			this.modelPathFromLastEntityNode = modelPathFromLastEntityNode;
+			this.associationPathFromRootEntityNode = lastEntityNode.associationPathFromRootEntityNode;
 		}
 	}
 
@@ -78,6 +107,9 @@
 		this.modelPathFromCurrentNode = BoundPojoModelPath.root( typeModel );
 		this.lastEntityNode = this;
 		this.modelPathFromLastEntityNode = modelPathFromCurrentNode;
+		this.associationPathFromRootEntityNode = null;
+		// This node cannot be reached from the root entity node by following associations
+		this.rootEntityNodeAssociationPaths = Collections.emptySet();
 	}
 
 	/*
@@ -117,6 +149,15 @@ public PojoIndexingDependencyCollectorDisjointValueNode<?> disjointValue(
 		);
 	}
 
+	/**
+	 * @return The paths to the entities reached through associations from the root entity node,
+	 * each path being expressed as a list of property paths, one for each association to follow.
+	 * Only takes into account nodes created so far.
+	 */
+	public Set<List<String>> getAssociationPathsFromRootEntityNode() {
+		return Collections.unmodifiableSet( rootEntityNodeAssociationPaths );
+	}
+
 	@Override
 	ReindexOnUpdate getReindexOnUpdate() {
 		return parentNode == null ? ReindexOnUpdate.DEFAULT : parentNode.getReindexOnUpdate();
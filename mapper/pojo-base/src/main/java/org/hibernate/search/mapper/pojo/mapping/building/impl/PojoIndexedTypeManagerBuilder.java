@@ -7,7 +7,9 @@
 package org.hibernate.search.mapper.pojo.mapping.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -27,6 +29,7 @@
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPath;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.processing.building.impl.PojoIndexingProcessorTypeNodeBuilder;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
@@ -45,6 +48,7 @@
 	private final PojoIndexingProcessorTypeNodeBuilder<E> processorBuilder;
 
 	private PojoIndexingProcessor<E> preBuiltIndexingProcessor;
+	private Set<List<String>> indexingAssociationPaths;
 
 	private boolean closed = false;
 
@@ -99,6 +103,7 @@ void preBuild(PojoImplicitReindexingResolverBuildingHelper reindexingResolverBui
 				reindexingResolverBuildingHelper.createDependencyCollector( typeModel );
 		preBuiltIndexingProcessor = processorBuilder.build( dependencyCollector )
 				.orElseGet( PojoIndexingProcessor::noOp );
+		indexingAssociationPaths = dependencyCollector.getAssociationPathsFromRootEntityNode();
 	}
 
 	void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
@@ -122,18 +127,23 @@ void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
 		 * TODO offer more flexibility to mapper implementations, allowing them to define their own dirtiness state?
 		 * Note this will require to allow them to define their own indexing plan APIs.
 		 */
-		PojoPathFilterFactory<Set<String>> pathFilterFactory = typeAdditionalMetadata
-				.getEntityTypeMetadata().orElseThrow( () -> log.missingEntityTypeMetadata( typeModel ) )
-				.getPathFilterFactory();
-		Optional<PojoImplicitReindexingResolver<E, Set<String>>> reindexingResolverOptional =
+		PojoEntityTypeAdditionalMetadata entityTypeMetadata = typeAdditionalMetadata
+				.getEntityTypeMetadata().orElseThrow( () -> log.missingEntityTypeMetadata( typeModel ) );
+		PojoPathOrdinals pathOrdinals = entityTypeMetadata.getPathOrdinals();
+		PojoPathFilterFactory<BitSet> pathFilterFactory = entityTypeMetadata.getPathFilterFactory();
+		Optional<PojoImplicitReindexingResolver<E, BitSet>> reindexingResolverOptional =
 				reindexingResolverBuildingHelper.build( typeModel, pathFilterFactory );
 
+		extendedMappingCollector.dirtyPathOrdinals( pathOrdinals );
+		extendedMappingCollector.indexingAssociationPaths( indexingAssociationPaths );
+
 		PojoIndexedTypeManager<?, E> typeManager = new PojoIndexedTypeManager<>(
 				typeModel.getTypeIdentifier(), typeModel.getCaster(),
 				identityMappingCollector.identifierMapping,
 				identityMappingCollector.routingKeyProvider,
 				preBuiltIndexingProcessor,
 				indexManagerBuilder.build(),
+				pathOrdinals,
 				reindexingResolverOptional.orElseGet( PojoImplicitReindexingResolver::noOp )
 		);
 		log.createdPojoIndexedTypeManager( typeManager );
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.mapping.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -39,6 +40,7 @@
 import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorBinder;
 import org.hibernate.search.mapper.pojo.extractor.spi.ContainerExtractorRegistry;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoContainedTypeExtendedMappingCollector;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoMapperDelegate;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoMappingCollectorTypeNode;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
@@ -52,11 +54,13 @@
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoIndexedTypeAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoBootstrapIntrospector;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.model.typepattern.impl.TypePatternMatcherFactory;
 import org.hibernate.search.mapper.pojo.reporting.impl.PojoEventContexts;
 import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -75,6 +79,7 @@
 
 	private final FailureHandler failureHandler;
 	private final ThreadPoolProvider threadPoolProvider;
+	private final MetricsProvider metricsProvider;
 
 	private final PojoMapperDelegate<MPBS> delegate;
 	private final PojoTypeAdditionalMetadataProvider typeAdditionalMetadataProvider;
@@ -105,6 +110,7 @@ public PojoMapper(MappingBuildContext buildContext,
 
 		this.failureHandler = buildContext.getFailureHandler();
 		this.threadPoolProvider = buildContext.getThreadPoolProvider();
+		this.metricsProvider = buildContext.getMetricsProvider();
 
 		this.delegate = delegate;
 
@@ -290,7 +296,7 @@ public MPBS prepareBuild() throws MappingAbortedException {
 			}
 
 			mappingDelegate = new PojoMappingDelegateImpl(
-					threadPoolProvider, failureHandler,
+					threadPoolProvider, failureHandler, metricsProvider,
 					indexedTypeManagerContainerBuilder.build(),
 					containedTypeManagerContainerBuilder.build()
 			);
@@ -354,16 +360,18 @@ private <T> void buildAndAddContainedTypeManagerTo(
 		 */
 		PojoEntityTypeAdditionalMetadata entityTypeMetadata = typeAdditionalMetadataProvider.get( entityType )
 				.getEntityTypeMetadata().orElseThrow( () -> log.missingEntityTypeMetadata( entityType ) );
-		PojoPathFilterFactory<Set<String>> pathFilterFactory = entityTypeMetadata.getPathFilterFactory();
-		Optional<? extends PojoImplicitReindexingResolver<T, Set<String>>> reindexingResolverOptional =
+		PojoPathOrdinals pathOrdinals = entityTypeMetadata.getPathOrdinals();
+		PojoPathFilterFactory<BitSet> pathFilterFactory = entityTypeMetadata.getPathFilterFactory();
+		Optional<? extends PojoImplicitReindexingResolver<T, BitSet>> reindexingResolverOptional =
 				reindexingResolverBuildingHelper.build( entityType, pathFilterFactory );
 		if ( reindexingResolverOptional.isPresent() ) {
-			// Nothing to contribute to contained types at the moment,
-			// but create the collector just so the mapper knows the type is contained
-			delegate.createContainedTypeExtendedMappingCollector( entityType, entityTypeMetadata.getEntityName() );
+			PojoContainedTypeExtendedMappingCollector extendedMappingCollector =
+					delegate.createContainedTypeExtendedMappingCollector( entityType, entityTypeMetadata.getEntityName() );
+			extendedMappingCollector.dirtyPathOrdinals( pathOrdinals );
 
 			PojoContainedTypeManager<T> typeManager = new PojoContainedTypeManager<>(
 					entityType.getTypeIdentifier(), entityType.getCaster(),
+					pathOrdinals,
 					reindexingResolverOptional.get()
 			);
 			log.createdPojoContainedTypeManager( typeManager );
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.building.spi;
 
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+
 /**
  * A collector of extended mapping information.
  * <p>
@@ -14,4 +17,12 @@
  */
 public interface PojoContainedTypeExtendedMappingCollector {
 
+	/**
+	 * @param pathOrdinals The ordinals of dirty paths for this type,
+	 * to be used when passing dirty paths as a {@link java.util.BitSet}
+	 * to {@link org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan#addOrUpdate(PojoRawTypeIdentifier, Object, Object, java.util.BitSet)}.
+	 * Ordinals may still be added after this call, until the end of bootstrap.
+	 */
+	void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals);
+
 }
@@ -6,8 +6,13 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.building.spi;
 
+import java.util.List;
+import java.util.Set;
+
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 /**
  * A collector of extended mapping information.
@@ -21,4 +26,23 @@ public interface PojoIndexedTypeExtendedMappingCollector {
 
 	void identifierMapping(IdentifierMapping identifierMapping);
 
+	/**
+	 * @param pathOrdinals The ordinals of dirty paths for this type,
+	 * to be used when passing dirty paths as a {@link java.util.BitSet}
+	 * to {@link org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan#addOrUpdate(PojoRawTypeIdentifier, Object, Object, java.util.BitSet)}.
+	 * Ordinals may still be added after this call, until the end of bootstrap.
+	 */
+	void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals);
+
+	/**
+	 * @param associationPaths The paths to entities that may be accessed through associations
+	 * when indexing this type.
+	 * Each path is expressed as a list of property paths, one for each association to follow from one entity to the next,
+	 * starting from this type.
+	 * Each property path is in the form {@code propertyA.propertyB.propertyC},
+	 * where all properties except the last one are properties of non-entity, embedded objects.
+	 * Mapper implementors may use this information to load associated entities in bulk before indexing.
+	 */
+	void indexingAssociationPaths(Set<List<String>> associationPaths);
+
 }
@@ -6,11 +6,12 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
-import java.util.Set;
+import java.util.BitSet;
 import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoCaster;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -31,13 +32,16 @@
 
 	private final PojoRawTypeIdentifier<E> typeIdentifier;
 	private final PojoCaster<E> caster;
-	private final PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver;
+	private final PojoPathOrdinals pathOrdinals;
+	private final PojoImplicitReindexingResolver<E, BitSet> reindexingResolver;
 
 	public PojoContainedTypeManager(PojoRawTypeIdentifier<E> typeIdentifier,
 			PojoCaster<E> caster,
-			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver) {
+			PojoPathOrdinals pathOrdinals,
+			PojoImplicitReindexingResolver<E, BitSet> reindexingResolver) {
 		this.typeIdentifier = typeIdentifier;
 		this.caster = caster;
+		this.pathOrdinals = pathOrdinals;
 		this.reindexingResolver = reindexingResolver;
 	}
 
@@ -62,6 +66,11 @@ public PojoRawTypeIdentifier<E> getTypeIdentifier() {
 		return typeIdentifier;
 	}
 
+	@Override
+	public PojoPathOrdinals getPathOrdinals() {
+		return pathOrdinals;
+	}
+
 	@Override
 	public Supplier<E> toEntitySupplier(PojoWorkSessionContext<?> sessionContext, Object entity) {
 		PojoRuntimeIntrospector introspector = sessionContext.getRuntimeIntrospector();
@@ -70,7 +79,7 @@ public Supplier<E> toEntitySupplier(PojoWorkSessionContext<?> sessionContext, Ob
 
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoWorkSessionContext<?> sessionContext,
-			Supplier<E> entitySupplier, Set<String> dirtyPaths) {
+			Supplier<E> entitySupplier, BitSet dirtyPaths) {
 		PojoRuntimeIntrospector introspector = sessionContext.getRuntimeIntrospector();
 		reindexingResolver.resolveEntitiesToReindex(
 				collector, introspector, entitySupplier.get(), dirtyPaths
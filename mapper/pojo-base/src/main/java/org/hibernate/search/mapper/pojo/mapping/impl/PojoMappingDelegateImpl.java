@@ -13,6 +13,7 @@
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
@@ -33,15 +34,18 @@ public class PojoMappingDelegateImpl implements PojoMappingDelegate {
 
 	private final ThreadPoolProvider threadPoolProvider;
 	private final FailureHandler failureHandler;
+	private final MetricsProvider metricsProvider;
 	private final PojoIndexedTypeManagerContainer indexedTypeManagers;
 	private final PojoContainedTypeManagerContainer containedTypeManagers;
 
 	public PojoMappingDelegateImpl(ThreadPoolProvider threadPoolProvider,
 			FailureHandler failureHandler,
+			MetricsProvider metricsProvider,
 			PojoIndexedTypeManagerContainer indexedTypeManagers,
 			PojoContainedTypeManagerContainer containedTypeManagers) {
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
+		this.metricsProvider = metricsProvider;
 		this.indexedTypeManagers = indexedTypeManagers;
 		this.containedTypeManagers = containedTypeManagers;
 	}
@@ -64,6 +68,11 @@ public FailureHandler getFailureHandler() {
 		return failureHandler;
 	}
 
+	@Override
+	public MetricsProvider getMetricsProvider() {
+		return metricsProvider;
+	}
+
 	@Override
 	public <R, E, E2, C> PojoScopeDelegate<R, E2, C> createPojoScope(
 			PojoScopeMappingContext mappingContext,
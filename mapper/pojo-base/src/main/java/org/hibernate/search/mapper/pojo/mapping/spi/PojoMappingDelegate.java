@@ -11,6 +11,7 @@
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
@@ -30,6 +31,8 @@ public interface PojoMappingDelegate extends AutoCloseable {
 
 	FailureHandler getFailureHandler();
 
+	MetricsProvider getMetricsProvider();
+
 	<R, E, E2, C> PojoScopeDelegate<R, E2, C> createPojoScope(
 			PojoScopeMappingContext mappingContext,
 			Collection<? extends PojoRawTypeIdentifier<? extends E>> targetedTypes,
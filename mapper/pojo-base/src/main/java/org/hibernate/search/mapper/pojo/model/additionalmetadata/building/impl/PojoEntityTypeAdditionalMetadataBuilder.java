@@ -7,13 +7,14 @@
 package org.hibernate.search.mapper.pojo.model.additionalmetadata.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Optional;
-import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi.PojoAdditionalMetadataCollectorEntityTypeNode;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoEntityTypeAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -23,14 +24,17 @@ class PojoEntityTypeAdditionalMetadataBuilder implements PojoAdditionalMetadataC
 
 	private final PojoTypeAdditionalMetadataBuilder rootBuilder;
 	private final String entityName;
-	private final PojoPathFilterFactory<Set<String>> pathFilterFactory;
+	private final PojoPathOrdinals pathOrdinals;
+	private final PojoPathFilterFactory<BitSet> pathFilterFactory;
 	private String entityIdPropertyName;
 
 	PojoEntityTypeAdditionalMetadataBuilder(PojoTypeAdditionalMetadataBuilder rootBuilder,
 			String entityName,
-			PojoPathFilterFactory<Set<String>> pathFilterFactory) {
+			PojoPathOrdinals pathOrdinals,
+			PojoPathFilterFactory<BitSet> pathFilterFactory) {
 		this.rootBuilder = rootBuilder;
 		this.entityName = entityName;
+		this.pathOrdinals = pathOrdinals;
 		this.pathFilterFactory = pathFilterFactory;
 	}
 
@@ -58,6 +62,7 @@ public void entityIdPropertyName(String propertyName) {
 	public PojoEntityTypeAdditionalMetadata build() {
 		return new PojoEntityTypeAdditionalMetadata(
 				entityName,
+				pathOrdinals,
 				pathFilterFactory,
 				Optional.ofNullable( entityIdPropertyName )
 		);
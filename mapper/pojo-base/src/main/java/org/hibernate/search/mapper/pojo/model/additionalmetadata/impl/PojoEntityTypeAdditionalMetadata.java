@@ -6,20 +6,24 @@
  */
 package org.hibernate.search.mapper.pojo.model.additionalmetadata.impl;
 
+import java.util.BitSet;
 import java.util.Optional;
-import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 public class PojoEntityTypeAdditionalMetadata {
 	private final String entityName;
-	private final PojoPathFilterFactory<Set<String>> pathFilterFactory;
+	private final PojoPathOrdinals pathOrdinals;
+	private final PojoPathFilterFactory<BitSet> pathFilterFactory;
 	private final Optional<String> entityIdPropertyName;
 
 	public PojoEntityTypeAdditionalMetadata(String entityName,
-			PojoPathFilterFactory<Set<String>> pathFilterFactory,
+			PojoPathOrdinals pathOrdinals,
+			PojoPathFilterFactory<BitSet> pathFilterFactory,
 			Optional<String> entityIdPropertyName) {
 		this.entityName = entityName;
+		this.pathOrdinals = pathOrdinals;
 		this.pathFilterFactory = pathFilterFactory;
 		this.entityIdPropertyName = entityIdPropertyName;
 	}
@@ -28,10 +32,17 @@ public String getEntityName() {
 		return entityName;
 	}
 
+	/**
+	 * @return The ordinals of dirty paths for this type.
+	 */
+	public PojoPathOrdinals getPathOrdinals() {
+		return pathOrdinals;
+	}
+
 	/**
 	 * @return A path filter factory for this type.
 	 */
-	public PojoPathFilterFactory<Set<String>> getPathFilterFactory() {
+	public PojoPathFilterFactory<BitSet> getPathFilterFactory() {
 		return pathFilterFactory;
 	}
 
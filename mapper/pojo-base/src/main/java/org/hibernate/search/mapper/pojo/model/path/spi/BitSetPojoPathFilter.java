@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.BitSet;
+
+/**
+ * A filter expecting dirty paths to be represented as a {@link BitSet} of {@link PojoPathOrdinals ordinals}.
+ * <p>
+ * Testing the filter does not allocate anything:
+ * it's just a matter of intersecting two bitsets.
+ */
+public final class BitSetPojoPathFilter implements PojoPathFilter<BitSet> {
+
+	private final PojoPathOrdinals ordinals;
+	private final BitSet acceptedPaths;
+
+	/**
+	 * @param ordinals The ordinals used to represent paths.
+	 * @param acceptedPaths The accepted paths, represented as ordinals.
+	 * Must not be mutated after this call.
+	 */
+	public BitSetPojoPathFilter(PojoPathOrdinals ordinals, BitSet acceptedPaths) {
+		this.ordinals = ordinals;
+		this.acceptedPaths = acceptedPaths;
+	}
+
+	@Override
+	public boolean test(BitSet paths) {
+		return acceptedPaths.intersects( paths );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + ordinals.toPaths( acceptedPaths ) + "]";
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A registry of ordinals for the string representation of dirty paths of a given entity type.
+ * <p>
+ * Ordinals allow to represent a set of dirty paths as a {@link BitSet},
+ * so that checking whether dirty paths are relevant to a {@link BitSetPojoPathFilter}
+ * does not require any allocation or hashing.
+ * <p>
+ * Ordinals are assigned during bootstrap, when path filters are created;
+ * afterwards, this object must no longer be mutated and can safely be read from multiple threads.
+ */
+public final class PojoPathOrdinals {
+
+	private final Map<String, Integer> ordinalsByPath = new HashMap<>();
+	private final List<String> pathsByOrdinal = new ArrayList<>();
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal assigned to that path, assigned by this call if necessary.
+	 */
+	public int toExistingOrNewOrdinal(String path) {
+		Integer ordinal = ordinalsByPath.get( path );
+		if ( ordinal == null ) {
+			ordinal = pathsByOrdinal.size();
+			ordinalsByPath.put( path, ordinal );
+			pathsByOrdinal.add( path );
+		}
+		return ordinal;
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal assigned to that path, or {@code null} if no ordinal was assigned,
+	 * meaning no path filter could ever accept that path.
+	 */
+	public Integer toExistingOrdinal(String path) {
+		return ordinalsByPath.get( path );
+	}
+
+	/**
+	 * @param ordinal An ordinal.
+	 * @return The string representation of the path with that ordinal.
+	 */
+	public String toPath(int ordinal) {
+		return pathsByOrdinal.get( ordinal );
+	}
+
+	/**
+	 * @param paths A set of paths represented as ordinals.
+	 * @return The string representation of each path in the set.
+	 */
+	public List<String> toPaths(BitSet paths) {
+		List<String> result = new ArrayList<>( paths.cardinality() );
+		for ( int i = paths.nextSetBit( 0 ); i >= 0; i = paths.nextSetBit( i + 1 ) ) {
+			result.add( toPath( i ) );
+		}
+		return result;
+	}
+
+}
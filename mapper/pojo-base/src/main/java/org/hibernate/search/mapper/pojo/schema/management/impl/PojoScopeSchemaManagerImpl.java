@@ -59,6 +59,31 @@ public CompletableFuture<?> validate(FailureCollector failureCollector) {
 		return doOperationOnTypes( IndexSchemaManager::validate, failureCollector );
 	}
 
+	@Override
+	public CompletableFuture<?> createShadow(FailureCollector failureCollector) {
+		return doOperationOnTypes( IndexSchemaManager::createShadow, failureCollector );
+	}
+
+	@Override
+	public CompletableFuture<?> switchToShadow(FailureCollector failureCollector) {
+		return doOperationOnTypes( IndexSchemaManager::switchToShadow, failureCollector );
+	}
+
+	@Override
+	public CompletableFuture<?> dropShadowIfExisting(FailureCollector failureCollector) {
+		return doOperationOnTypes( IndexSchemaManager::dropShadowIfExisting, failureCollector );
+	}
+
+	@Override
+	public CompletableFuture<?> startBulkLoad(FailureCollector failureCollector) {
+		return doOperationOnTypes( IndexSchemaManager::startBulkLoad, failureCollector );
+	}
+
+	@Override
+	public CompletableFuture<?> stopBulkLoad(FailureCollector failureCollector) {
+		return doOperationOnTypes( IndexSchemaManager::stopBulkLoad, failureCollector );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(
 			Function<IndexSchemaManager, CompletableFuture<?>> operation,
 			FailureCollector failureCollector) {
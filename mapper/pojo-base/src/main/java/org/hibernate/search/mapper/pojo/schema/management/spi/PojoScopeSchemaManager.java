@@ -30,4 +30,14 @@ public interface PojoScopeSchemaManager {
 
 	CompletableFuture<?> validate(FailureCollector failureCollector);
 
+	CompletableFuture<?> createShadow(FailureCollector failureCollector);
+
+	CompletableFuture<?> switchToShadow(FailureCollector failureCollector);
+
+	CompletableFuture<?> dropShadowIfExisting(FailureCollector failureCollector);
+
+	CompletableFuture<?> startBulkLoad(FailureCollector failureCollector);
+
+	CompletableFuture<?> stopBulkLoad(FailureCollector failureCollector);
+
 }
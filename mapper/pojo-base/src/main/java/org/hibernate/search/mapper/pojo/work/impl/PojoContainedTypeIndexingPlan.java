@@ -7,10 +7,9 @@
 package org.hibernate.search.mapper.pojo.work.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
@@ -54,6 +53,12 @@ void update(Object providedId, Object entity, String... dirtyPaths) {
 		getPlan( providedId ).update( entitySupplier, dirtyPaths );
 	}
 
+	@Override
+	void update(Object providedId, Object entity, BitSet dirtyPaths) {
+		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
+		getPlan( providedId ).update( entitySupplier, dirtyPaths );
+	}
+
 	@Override
 	void delete(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
@@ -87,7 +92,7 @@ private class ContainedEntityIndexingPlan {
 
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		void add(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
@@ -115,6 +120,14 @@ void update(Supplier<E> entitySupplier, String... dirtyPaths) {
 			}
 		}
 
+		void update(Supplier<E> entitySupplier, BitSet dirtyPaths) {
+			doUpdate( entitySupplier );
+			shouldResolveToReindex = true;
+			if ( !considerAllDirty ) {
+				getOrCreateDirtyPaths().or( dirtyPaths );
+			}
+		}
+
 		void delete(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
 			if ( createdInThisPlan == null ) {
@@ -153,10 +166,19 @@ private void doUpdate(Supplier<E> entitySupplier) {
 		}
 
 		private void addDirtyPath(String dirtyPath) {
+			BitSet paths = getOrCreateDirtyPaths();
+			Integer ordinal = typeContext.getPathOrdinals().toExistingOrdinal( dirtyPath );
+			if ( ordinal != null ) {
+				paths.set( ordinal );
+			}
+			// else: the path is not used in any filter of this type, so it cannot trigger reindexing.
+		}
+
+		private BitSet getOrCreateDirtyPaths() {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			return dirtyPaths;
 		}
 	}
 
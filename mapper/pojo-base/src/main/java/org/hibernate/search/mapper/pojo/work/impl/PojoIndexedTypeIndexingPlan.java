@@ -6,10 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.work.impl;
 
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
@@ -61,6 +60,13 @@ void update(Object providedId, Object entity, String... dirtyPaths) {
 		getPlan( identifier ).update( entitySupplier, dirtyPaths );
 	}
 
+	@Override
+	void update(Object providedId, Object entity, BitSet dirtyPaths) {
+		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
+		I identifier = typeContext.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
+		getPlan( identifier ).update( entitySupplier, dirtyPaths );
+	}
+
 	@Override
 	void delete(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
@@ -144,7 +150,7 @@ private class IndexedEntityIndexingPlan {
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
 		private boolean updatedBecauseOfContained;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		private IndexedEntityIndexingPlan(I identifier) {
 			this.identifier = identifier;
@@ -174,6 +180,14 @@ void update(Supplier<E> entitySupplier, String... dirtyPaths) {
 			}
 		}
 
+		void update(Supplier<E> entitySupplier, BitSet dirtyPaths) {
+			doUpdate( entitySupplier );
+			shouldResolveToReindex = true;
+			if ( !considerAllDirty ) {
+				getOrCreateDirtyPaths().or( dirtyPaths );
+			}
+		}
+
 		void updateBecauseOfContained(Supplier<E> entitySupplier) {
 			doUpdate( entitySupplier );
 			updatedBecauseOfContained = true;
@@ -267,10 +281,19 @@ private void doUpdate(Supplier<E> entitySupplier) {
 		}
 
 		private void addDirtyPath(String dirtyPath) {
+			BitSet paths = getOrCreateDirtyPaths();
+			Integer ordinal = typeContext.getPathOrdinals().toExistingOrdinal( dirtyPath );
+			if ( ordinal != null ) {
+				paths.set( ordinal );
+			}
+			// else: the path is not used in any filter of this type, so it cannot trigger reindexing.
+		}
+
+		private BitSet getOrCreateDirtyPaths() {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			return dirtyPaths;
 		}
 	}
 
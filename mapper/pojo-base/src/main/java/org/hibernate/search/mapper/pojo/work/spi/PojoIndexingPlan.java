@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.work.spi;
 
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
@@ -71,6 +72,25 @@
 	 */
 	void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity, String... dirtyPaths);
 
+	/**
+	 * Update an entity in the index, or add it if it's absent from the index,
+	 * but try to avoid reindexing if the given dirty paths
+	 * are known not to impact the indexed form of that entity.
+	 * <p>
+	 * Equivalent to {@link #addOrUpdate(PojoRawTypeIdentifier, Object, Object, String...)},
+	 * but avoids any path lookup when checking dirtiness.
+	 *
+	 * @param typeIdentifier The identifier of the entity type.
+	 * @param providedId A value to extract the document ID from.
+	 * Generally the expected value is the entity ID, but a different value may be expected depending on the mapping.
+	 * If {@code null}, Hibernate Search will attempt to extract the ID from the entity.
+	 * @param entity The entity to update in the index.
+	 * @param dirtyPaths The paths to consider dirty, as a set of ordinals
+	 * from the {@link org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals path ordinals} of the entity type.
+	 * Will not be mutated nor retained.
+	 */
+	void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity, BitSet dirtyPaths);
+
 	/**
 	 * Delete an entity from the index.
 	 * <p>
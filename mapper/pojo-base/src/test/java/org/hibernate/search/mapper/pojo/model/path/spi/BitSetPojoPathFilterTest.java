@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+public class BitSetPojoPathFilterTest {
+
+	@Test
+	public void ordinals() {
+		PojoPathOrdinals ordinals = new PojoPathOrdinals();
+		int foo = ordinals.toExistingOrNewOrdinal( "foo" );
+		int bar = ordinals.toExistingOrNewOrdinal( "bar.baz" );
+
+		assertThat( foo ).isNotEqualTo( bar );
+		assertThat( ordinals.toExistingOrNewOrdinal( "foo" ) ).isEqualTo( foo );
+		assertThat( ordinals.toExistingOrdinal( "bar.baz" ) ).isEqualTo( bar );
+		assertThat( ordinals.toExistingOrdinal( "unknown" ) ).isNull();
+		assertThat( ordinals.toPath( bar ) ).isEqualTo( "bar.baz" );
+
+		BitSet paths = new BitSet();
+		paths.set( bar );
+		paths.set( foo );
+		assertThat( ordinals.toPaths( paths ) ).containsExactlyInAnyOrder( "foo", "bar.baz" );
+	}
+
+	@Test
+	public void test() {
+		PojoPathOrdinals ordinals = new PojoPathOrdinals();
+		int foo = ordinals.toExistingOrNewOrdinal( "foo" );
+		int bar = ordinals.toExistingOrNewOrdinal( "bar" );
+		int baz = ordinals.toExistingOrNewOrdinal( "baz" );
+
+		BitSet acceptedPaths = new BitSet();
+		acceptedPaths.set( foo );
+		acceptedPaths.set( baz );
+		BitSetPojoPathFilter filter = new BitSetPojoPathFilter( ordinals, acceptedPaths );
+
+		assertThat( filter.test( new BitSet() ) ).isFalse();
+		assertThat( filter.test( bitSet( bar ) ) ).isFalse();
+		assertThat( filter.test( bitSet( foo ) ) ).isTrue();
+		assertThat( filter.test( bitSet( bar, baz ) ) ).isTrue();
+		assertThat( filter.toString() ).contains( "foo", "baz" ).doesNotContain( "bar" );
+	}
+
+	private static BitSet bitSet(int... ordinals) {
+		BitSet result = new BitSet();
+		for ( int ordinal : ordinals ) {
+			result.set( ordinal );
+		}
+		return result;
+	}
+}
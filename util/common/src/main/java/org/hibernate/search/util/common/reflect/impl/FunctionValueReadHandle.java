@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.reflect.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Member;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.impl.Throwables;
+import org.hibernate.search.util.common.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+/**
+ * A value read handle relying on a {@link Function} that directly calls the underlying member,
+ * typically an instance of a class generated at bootstrap.
+ * <p>
+ * Contrary to a {@link java.lang.invoke.MethodHandle} stored in an instance field,
+ * such a function will be treated by the JIT compiler as any other class,
+ * and thus can be fully inlined.
+ */
+public final class FunctionValueReadHandle<T> implements ValueReadHandle<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Member member;
+	private final Function<Object, T> getter;
+
+	public FunctionValueReadHandle(Member member, Function<Object, T> getter) {
+		this.member = member;
+		this.getter = getter;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + member + "]";
+	}
+
+	@Override
+	public T get(Object thiz) {
+		try {
+			return getter.apply( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			// Generated getters may throw checked exceptions, even though Function does not declare them
+			if ( e instanceof InterruptedException ) {
+				Thread.currentThread().interrupt();
+			}
+			throw log.errorInvokingMember( member, Throwables.safeToString( e, thiz ), e );
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return member.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		FunctionValueReadHandle<?> other = (FunctionValueReadHandle) obj;
+		return member.equals( other.member );
+	}
+
+}
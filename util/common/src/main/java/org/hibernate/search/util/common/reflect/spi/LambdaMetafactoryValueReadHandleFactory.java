@@ -0,0 +1,155 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.reflect.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.impl.ReflectionHelper;
+import org.hibernate.search.util.common.impl.Throwables;
+import org.hibernate.search.util.common.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reflect.impl.FunctionValueReadHandle;
+import org.hibernate.search.util.common.reflect.impl.MethodHandleValueReadHandle;
+
+/**
+ * A factory generating a dedicated accessor class for each method at bootstrap,
+ * using {@link LambdaMetafactory}.
+ * <p>
+ * {@link LambdaMetafactory} only supports methods that are accessible from the class the accessor is generated in,
+ * i.e. the lookup class if the lookup has private access, or this class otherwise,
+ * and does not support fields at all.
+ * When an accessor cannot be generated, this factory falls back to a {@link MethodHandle}.
+ */
+final class LambdaMetafactoryValueReadHandleFactory implements ValueReadHandleFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final MethodType FACTORY_TYPE = MethodType.methodType( Function.class );
+	private static final MethodType FUNCTION_ERASED_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final MethodHandles.Lookup lookup;
+	private final MethodHandles.Lookup callerLookup;
+
+	LambdaMetafactoryValueReadHandleFactory(MethodHandles.Lookup lookup) {
+		this.lookup = lookup;
+		/*
+		 * Accessor classes are generated in the same package (and class loader) as the lookup class,
+		 * which requires private access.
+		 * If the given lookup doesn't have private access (e.g. publicLookup()),
+		 * generate accessors next to this class: they will only be able to call public methods.
+		 */
+		this.callerLookup = ( lookup.lookupModes() & MethodHandles.Lookup.PRIVATE ) != 0
+				? lookup : MethodHandles.lookup();
+	}
+
+	@Override
+	public ValueReadHandle<?> createForField(Field field) throws IllegalAccessException {
+		// LambdaMetafactory doesn't support field getters
+		return new MethodHandleValueReadHandle<>( field, lookup.unreflectGetter( field ) );
+	}
+
+	@Override
+	public ValueReadHandle<?> createForMethod(Method method) throws IllegalAccessException {
+		MethodHandle getter = lookup.unreflect( method );
+		if ( canGenerateAccessor( method ) ) {
+			try {
+				return new FunctionValueReadHandle<>( method, generateAccessor( method, getter ) );
+			}
+			catch (Throwable e) {
+				if ( e instanceof Error && !( e instanceof LinkageError ) ) {
+					throw (Error) e;
+				}
+				log.debugf( "Could not generate an accessor for '%s', falling back to a method handle: %s",
+						method, Throwables.safeToString( e, method ) );
+			}
+		}
+		return new MethodHandleValueReadHandle<>( method, getter );
+	}
+
+	/*
+	 * Access checks for the generated accessor may only be performed when it's first called,
+	 * resulting in an IllegalAccessError that we can't recover from.
+	 * So we only generate accessors when we know for sure the method can be called from the generated class,
+	 * i.e. from the lookup class.
+	 */
+	private boolean canGenerateAccessor(Method method) {
+		if ( Modifier.isStatic( method.getModifiers() ) ) {
+			return false;
+		}
+		Class<?> callerClass = callerLookup.lookupClass();
+		Class<?> declaringClass = method.getDeclaringClass();
+		// The generated accessor references these types, so they must be visible from its class loader
+		ClassLoader callerClassLoader = callerClass.getClassLoader();
+		if ( !isVisible( declaringClass, callerClassLoader )
+				|| !isVisible( method.getReturnType(), callerClassLoader ) ) {
+			return false;
+		}
+		for ( Class<?> current = declaringClass; current != null; current = current.getEnclosingClass() ) {
+			if ( !isAccessible( current.getModifiers(), current, callerClass ) ) {
+				return false;
+			}
+		}
+		return isAccessible( method.getModifiers(), declaringClass, callerClass );
+	}
+
+	private static boolean isAccessible(int modifiers, Class<?> declaringClass, Class<?> callerClass) {
+		if ( Modifier.isPublic( modifiers ) ) {
+			return true;
+		}
+		else if ( Modifier.isPrivate( modifiers ) ) {
+			// Generated accessors are not nestmates in every JDK version
+			return declaringClass.equals( callerClass );
+		}
+		else {
+			// Package-private or protected: the accessor can only call the method from the same package
+			return declaringClass.getClassLoader() == callerClass.getClassLoader()
+					&& getPackageName( declaringClass ).equals( getPackageName( callerClass ) );
+		}
+	}
+
+	private static String getPackageName(Class<?> clazz) {
+		String className = clazz.getName();
+		int lastDotIndex = className.lastIndexOf( '.' );
+		return lastDotIndex < 0 ? "" : className.substring( 0, lastDotIndex );
+	}
+
+	@SuppressWarnings("unchecked")
+	private Function<Object, Object> generateAccessor(Method method, MethodHandle getter) throws Throwable {
+		Class<?> returnType = method.getReturnType();
+		if ( returnType.isPrimitive() ) {
+			returnType = ReflectionHelper.getPrimitiveWrapperType( returnType );
+		}
+		MethodType instantiatedType = MethodType.methodType( returnType, method.getDeclaringClass() );
+		CallSite callSite = LambdaMetafactory.metafactory(
+				callerLookup, "apply", FACTORY_TYPE, FUNCTION_ERASED_TYPE, getter, instantiatedType
+		);
+		return (Function<Object, Object>) callSite.getTarget().invoke();
+	}
+
+	private static boolean isVisible(Class<?> clazz, ClassLoader classLoader) {
+		while ( clazz.isArray() ) {
+			clazz = clazz.getComponentType();
+		}
+		if ( clazz.isPrimitive() ) {
+			return true;
+		}
+		try {
+			return Class.forName( clazz.getName(), false, classLoader ) == clazz;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
@@ -34,4 +34,17 @@ static ValueReadHandleFactory usingMethodHandle(MethodHandles.Lookup lookup) {
 		return new MethodHandleValueReadHandleFactory( lookup );
 	}
 
+	/**
+	 * @param lookup A lookup with sufficient access rights to access all relevant fields and methods.
+	 * If the lookup has private access, accessors will be generated in the lookup class' package,
+	 * so that they can access package-private methods in that package.
+	 * @return A factory producing value handles that rely on accessor classes generated at bootstrap
+	 * through {@link java.lang.invoke.LambdaMetafactory} to get the value of a method,
+	 * falling back to {@link java.lang.invoke.MethodHandle} for fields
+	 * and for methods that generated accessors cannot access.
+	 */
+	static ValueReadHandleFactory usingLambdaMetafactory(MethodHandles.Lookup lookup) {
+		return new LambdaMetafactoryValueReadHandleFactory( lookup );
+	}
+
 }
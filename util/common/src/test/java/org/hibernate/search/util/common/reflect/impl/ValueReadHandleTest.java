@@ -39,6 +39,7 @@ public static List<Object[]> data() {
 		MethodHandles.Lookup lookup = MethodHandles.lookup();
 		return Arrays.asList( new Object[][] {
 				{ ValueReadHandleFactory.usingMethodHandle( lookup ) },
+				{ ValueReadHandleFactory.usingLambdaMetafactory( lookup ) },
 				{ ValueReadHandleFactory.usingJavaLangReflect() }
 		} );
 	}
@@ -149,6 +150,7 @@ public void failure_method_illegalAccessException() throws Exception {
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
 				factory.getClass().getSimpleName().contains( "MethodHandle" )
+						|| factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
 		);
 
 		Method method = EntityType.class.getDeclaredMethod( "illegalAccessExceptionThrowingMethod" );
@@ -172,6 +174,7 @@ public void failure_field_illegalAccessException() throws Exception {
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
 				factory.getClass().getSimpleName().contains( "MethodHandle" )
+						|| factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
 		);
 
 		Field field = EntityType.class.getDeclaredField( "illegalAccessExceptionThrowingField" );
@@ -231,6 +234,74 @@ private void testFieldValueReadHandleSuccess(String fieldName) throws IllegalAcc
 		assertThat( valueReadHandle ).isNotEqualTo( differentFieldValueReadHandle );
 	}
 
+	@Test
+	public void generatedAccessor() throws Exception {
+		Assume.assumeTrue(
+				"Only relevant when generating accessors",
+				factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
+		);
+
+		Method method = GeneratedAccessorEntityType.class.getDeclaredMethod( "publicMethod" );
+		ValueReadHandle<?> valueReadHandle = factory.createForMethod( method );
+		assertThat( valueReadHandle ).isInstanceOf( FunctionValueReadHandle.class );
+		assertThat( valueReadHandle.get( new GeneratedAccessorEntityType() ) ).isEqualTo( "publicMethodValue" );
+		assertThat( valueReadHandle ).isEqualTo( factory.createForMethod( method ) );
+
+		Method primitiveMethod = GeneratedAccessorEntityType.class.getDeclaredMethod( "primitiveMethod" );
+		ValueReadHandle<?> primitiveValueReadHandle = factory.createForMethod( primitiveMethod );
+		assertThat( primitiveValueReadHandle ).isInstanceOf( FunctionValueReadHandle.class );
+		assertThat( primitiveValueReadHandle.get( new GeneratedAccessorEntityType() ) ).isEqualTo( 42 );
+
+		Method throwingMethod = GeneratedAccessorEntityType.class.getDeclaredMethod( "runtimeExceptionThrowingMethod" );
+		ValueReadHandle<?> throwingValueReadHandle = factory.createForMethod( throwingMethod );
+		assertThat( throwingValueReadHandle ).isInstanceOf( FunctionValueReadHandle.class );
+		SubTest.expectThrowable( () -> throwingValueReadHandle.get( new GeneratedAccessorEntityType() ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining(
+						"Exception while invoking '" + throwingMethod.toString() + "' on 'GeneratedAccessorEntityType'"
+				)
+				.extracting( Throwable::getCause ).asInstanceOf( InstanceOfAssertFactories.THROWABLE )
+				.isInstanceOf( SimulatedRuntimeException.class );
+
+		// Generated accessors do not wrap checked exceptions, even though Function does not declare them
+		Method checkedThrowingMethod =
+				GeneratedAccessorEntityType.class.getDeclaredMethod( "checkedExceptionThrowingMethod" );
+		ValueReadHandle<?> checkedThrowingValueReadHandle = factory.createForMethod( checkedThrowingMethod );
+		assertThat( checkedThrowingValueReadHandle ).isInstanceOf( FunctionValueReadHandle.class );
+		SubTest.expectThrowable( () -> checkedThrowingValueReadHandle.get( new GeneratedAccessorEntityType() ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining(
+						"Exception while invoking '" + checkedThrowingMethod.toString() + "' on 'GeneratedAccessorEntityType'"
+				)
+				.extracting( Throwable::getCause ).asInstanceOf( InstanceOfAssertFactories.THROWABLE )
+				.isInstanceOf( SimulatedCheckedException.class );
+
+		Method errorThrowingMethod = GeneratedAccessorEntityType.class.getDeclaredMethod( "errorThrowingMethod" );
+		ValueReadHandle<?> errorThrowingValueReadHandle = factory.createForMethod( errorThrowingMethod );
+		assertThat( errorThrowingValueReadHandle ).isInstanceOf( FunctionValueReadHandle.class );
+		SubTest.expectThrowable( () -> errorThrowingValueReadHandle.get( new GeneratedAccessorEntityType() ) )
+				.assertThrown()
+				.isInstanceOf( SimulatedError.class )
+				.hasMessageContaining( "errorThrowingMethod" );
+	}
+
+	@Test
+	public void generatedAccessor_publicLookup() throws Exception {
+		Assume.assumeTrue(
+				"Only relevant when generating accessors",
+				factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
+		);
+
+		ValueReadHandleFactory publicLookupFactory =
+				ValueReadHandleFactory.usingLambdaMetafactory( MethodHandles.publicLookup() );
+		Method method = GeneratedAccessorEntityType.class.getDeclaredMethod( "publicMethod" );
+		ValueReadHandle<?> valueReadHandle = publicLookupFactory.createForMethod( method );
+		assertThat( valueReadHandle ).isInstanceOf( FunctionValueReadHandle.class );
+		assertThat( valueReadHandle.get( new GeneratedAccessorEntityType() ) ).isEqualTo( "publicMethodValue" );
+	}
+
 	private void testMethodValueReadHandleSuccess(String methodName) throws IllegalAccessException, NoSuchMethodException {
 		String expectedValue = methodName + "Value";
 		Method method = EntityType.class.getDeclaredMethod( methodName );
@@ -311,6 +382,35 @@ private String illegalAccessExceptionThrowingMethod() {
 		}
 	}
 
+	public static class GeneratedAccessorEntityType {
+		@Override
+		public String toString() {
+			return "GeneratedAccessorEntityType";
+		}
+
+		public String publicMethod() {
+			return "publicMethodValue";
+		}
+		public int primitiveMethod() {
+			return 42;
+		}
+		public String runtimeExceptionThrowingMethod() {
+			throw new SimulatedRuntimeException( "runtimeExceptionThrowingMethod" );
+		}
+		public String checkedExceptionThrowingMethod() throws SimulatedCheckedException {
+			throw new SimulatedCheckedException( "checkedExceptionThrowingMethod" );
+		}
+		public String errorThrowingMethod() {
+			throw new SimulatedError( "errorThrowingMethod" );
+		}
+	}
+
+	private static class SimulatedCheckedException extends Exception {
+		public SimulatedCheckedException(String message) {
+			super( message );
+		}
+	}
+
 	private static class SimulatedRuntimeException extends RuntimeException {
 		public SimulatedRuntimeException(String message) {
 			super( message );
@@ -14,7 +14,12 @@ public enum Type {
 		CREATE_OR_UPDATE,
 		DROP_IF_EXISTING,
 		DROP_AND_CREATE,
-		VALIDATE
+		VALIDATE,
+		CREATE_SHADOW,
+		SWITCH_TO_SHADOW,
+		DROP_SHADOW_IF_EXISTING,
+		START_BULK_LOAD,
+		STOP_BULK_LOAD
 	}
 
 	public static Builder builder(Type type) {
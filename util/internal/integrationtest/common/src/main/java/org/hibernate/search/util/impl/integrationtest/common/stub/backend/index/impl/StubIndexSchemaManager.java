@@ -53,6 +53,36 @@ public CompletableFuture<?> dropAndCreate() {
 		return behavior.executeSchemaManagementWork( indexName, work, null );
 	}
 
+	@Override
+	public CompletableFuture<?> createShadow() {
+		StubSchemaManagementWork work = StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.CREATE_SHADOW ).build();
+		return behavior.executeSchemaManagementWork( indexName, work, null );
+	}
+
+	@Override
+	public CompletableFuture<?> switchToShadow() {
+		StubSchemaManagementWork work = StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.SWITCH_TO_SHADOW ).build();
+		return behavior.executeSchemaManagementWork( indexName, work, null );
+	}
+
+	@Override
+	public CompletableFuture<?> dropShadowIfExisting() {
+		StubSchemaManagementWork work = StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.DROP_SHADOW_IF_EXISTING ).build();
+		return behavior.executeSchemaManagementWork( indexName, work, null );
+	}
+
+	@Override
+	public CompletableFuture<?> startBulkLoad() {
+		StubSchemaManagementWork work = StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.START_BULK_LOAD ).build();
+		return behavior.executeSchemaManagementWork( indexName, work, null );
+	}
+
+	@Override
+	public CompletableFuture<?> stopBulkLoad() {
+		StubSchemaManagementWork work = StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.STOP_BULK_LOAD ).build();
+		return behavior.executeSchemaManagementWork( indexName, work, null );
+	}
+
 	@Override
 	public CompletableFuture<?> validate(ContextualFailureCollector failureCollector) {
 		StubSchemaManagementWork work = StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.VALIDATE ).build();
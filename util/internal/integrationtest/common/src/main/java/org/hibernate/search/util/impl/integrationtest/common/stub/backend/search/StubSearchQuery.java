@@ -7,6 +7,7 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
@@ -15,6 +16,7 @@
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjectionContext;
@@ -65,6 +67,21 @@ public long fetchTotalHitCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
 
+	@Override
+	public CompletableFuture<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return CompletableFuture.completedFuture( fetch( offset, limit ) );
+	}
+
+	@Override
+	public CompletableFuture<Long> fetchTotalHitCountAsync() {
+		return CompletableFuture.completedFuture( fetchTotalHitCount() );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		return new StubSearchScroll<>( this, chunkSize );
+	}
+
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
 		workBuilder.failAfter( timeout, timeUnit );
@@ -13,6 +13,8 @@ public class StubBackendSessionContext implements BackendSessionContext {
 
 	private final StubBackendMappingContext mappingContext;
 	private final String tenantIdentifier;
+	// Stub document contributors don't depend on any session: they can be called from any thread
+	private boolean deferredDocumentBuildingSupported = true;
 
 	public StubBackendSessionContext() {
 		this( new StubBackendMappingContext(), null );
@@ -36,4 +38,13 @@ public BackendMappingContext getMappingContext() {
 	public String getTenantIdentifier() {
 		return tenantIdentifier;
 	}
+
+	@Override
+	public boolean isDeferredDocumentBuildingSupported() {
+		return deferredDocumentBuildingSupported;
+	}
+
+	public void setDeferredDocumentBuildingSupported(boolean deferredDocumentBuildingSupported) {
+		this.deferredDocumentBuildingSupported = deferredDocumentBuildingSupported;
+	}
 }